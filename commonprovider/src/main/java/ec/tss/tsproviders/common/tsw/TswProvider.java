@@ -98,6 +98,11 @@ public class TswProvider extends AbstractFileLoader<TswSource, TswBean> {
         return TswFactory.getDefault().load(getRealFile(bean.getFile()).toPath());
     }
 
+    @Override
+    protected int getWeight(TswSource data) {
+        return getWeight(data.items.stream().map(o -> o.data));
+    }
+
     @Override
     protected void fillCollection(TsCollectionInformation info, DataSource dataSource) throws IOException {
         DataSet.Builder builder = DataSet.builder(dataSource, DataSet.Kind.SERIES);
@@ -26,6 +26,7 @@ import ec.tss.tsproviders.utils.IParser;
 import ec.tss.tsproviders.utils.ObsGathering;
 import ec.tss.tsproviders.utils.OptionalTsData;
 import ec.tss.tsproviders.utils.Parsers;
+import ec.tstoolkit.algorithm.ParallelProcessingNode;
 import ec.tstoolkit.utilities.CheckedIterator;
 import java.io.File;
 import java.io.IOException;
@@ -34,6 +35,10 @@ import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.file.Files;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -74,43 +79,201 @@ final class TxtLoader {
 
     private static TxtSource load(CheckedIterator<String[], IOException> iterator, DataFormat obsFormat, ObsGathering obsGathering, boolean header) throws IOException {
         int nbrRows = 0;
-        int nbrUselessRows = 0;
         String[] titles = new String[0];
-        IParser<Date> dateParser = obsFormat.dateParser().orElse(FALLBACK_PARSER.get());
-        Parsers.Parser<Number> numberParser = obsFormat.numberParser();
-        GregorianCalendar cal = new GregorianCalendar();
-        List<OptionalTsData.Builder2<Date>> dataCollectors = new ArrayList<>();
+        List<String[]> rows = new ArrayList<>();
+
+        if (iterator.hasNext()) {
+            String[] line = iterator.next();
+            if (line == null) {
+                throw new RuntimeException("Not possible");
+            }
+            titles = header ? line : generateTitles(line.length);
+            if (!header) {
+                rows.add(line);
+            }
+            nbrRows++;
+        }
+
+        int nbrColumns = titles.length - 1;
+        int chunkSize = getChunkSize(titles.length);
+        ChunkCollector collector = new ChunkCollector(nbrColumns, obsGathering);
+        Deque<PendingChunk> pendings = new ArrayDeque<>();
+        ExecutorService executor = ParallelProcessingNode.getExecutor();
 
         while (iterator.hasNext()) {
             String[] line = iterator.next();
             if (line == null) {
                 throw new RuntimeException("Not possible");
             }
-            if (nbrRows == 0) {
-                titles = header ? line : generateTitles(line.length);
-                for (int i = 1; i < titles.length; i++) {
-                    dataCollectors.add(OptionalTsData.builderByDate(cal, obsGathering));
+            rows.add(line);
+            nbrRows++;
+            if (rows.size() >= chunkSize) {
+                if (pendings.size() == MAX_PENDING_CHUNKS) {
+                    collector.add(pendings.removeFirst().get());
                 }
+                pendings.addLast(new PendingChunk(new ChunkParser(rows, nbrColumns, obsFormat), executor));
+                rows = new ArrayList<>(chunkSize);
             }
-            if (!(nbrRows == 0 && header)) {
+        }
+
+        while (!pendings.isEmpty()) {
+            collector.add(pendings.removeFirst().get());
+        }
+        // the last chunk is parsed by the current thread; small files never use the executor
+        collector.add(new ChunkParser(rows, nbrColumns, obsFormat).call());
+
+        TxtSeries[] data = new TxtSeries[nbrColumns];
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = new TxtSeries(i, titles[i + 1], collector.build(i));
+        }
+        return new TxtSource(nbrRows, collector.nbrUselessRows, Arrays.asList(data));
+    }
+
+    // number of cells (period and values) parsed by a single task
+    private static final int CHUNK_CELLS = 1 << 16;
+    // at most (MAX_PENDING_CHUNKS + 1) * CHUNK_CELLS cells of the file are held
+    // at once, unparsed or parsed, whatever the width of the file (besides the
+    // cells of the lines that are longer than the titles)
+    private static final int MAX_PENDING_CHUNKS = 2 * Runtime.getRuntime().availableProcessors();
+
+    private static int getChunkSize(int nbrCells) {
+        return Math.max(1, CHUNK_CELLS / Math.max(1, nbrCells));
+    }
+
+    /**
+     * Rows of a chunk after parsing, stored in primitive arrays.
+     */
+    private static final class ParsedChunk {
+
+        // number of columns of each row; -1 if the row has no valid period
+        final int[] widths;
+        final long[] periods;
+        // row-major values; the missing values are flagged in nulls
+        final double[] values;
+        final BitSet nulls;
+
+        ParsedChunk(int nbrRows, int nbrColumns) {
+            this.widths = new int[nbrRows];
+            this.periods = new long[nbrRows];
+            this.values = new double[nbrRows * nbrColumns];
+            this.nulls = new BitSet();
+        }
+    }
+
+    /**
+     * Parses the periods and the values of some rows. The parsers of the data
+     * format are not thread-safe, so that each task creates its own parsers.
+     */
+    private static final class ChunkParser implements Callable<ParsedChunk> {
+
+        private final List<String[]> rows;
+        private final int nbrColumns;
+        private final DataFormat obsFormat;
+
+        ChunkParser(List<String[]> rows, int nbrColumns, DataFormat obsFormat) {
+            this.rows = rows;
+            this.nbrColumns = nbrColumns;
+            this.obsFormat = obsFormat;
+        }
+
+        @Override
+        public ParsedChunk call() {
+            IParser<Date> dateParser = obsFormat.dateParser().orElse(FALLBACK_PARSER.get());
+            Parsers.Parser<Number> numberParser = obsFormat.numberParser();
+            ParsedChunk result = new ParsedChunk(rows.size(), nbrColumns);
+            for (int i = 0; i < rows.size(); ++i) {
+                String[] line = rows.get(i);
                 Date period = line.length > 0 ? dateParser.parse(line[0]) : null;
                 if (period != null) {
-                    int max = Math.min(titles.length, line.length);
-                    for (int i = 1; i < max; i++) {
-                        dataCollectors.get(i - 1).add(period, numberParser.parse(line[i]));
+                    int width = Math.max(0, Math.min(nbrColumns, line.length - 1));
+                    result.widths[i] = width;
+                    result.periods[i] = period.getTime();
+                    int offset = i * nbrColumns;
+                    for (int j = 0; j < width; ++j) {
+                        Number value = numberParser.parse(line[j + 1]);
+                        if (value != null) {
+                            result.values[offset + j] = value.doubleValue();
+                        } else {
+                            result.nulls.set(offset + j);
+                        }
+                    }
+                } else {
+                    result.widths[i] = -1;
+                }
+            }
+            return result;
+        }
+    }
+
+    private static final class PendingChunk {
+
+        private final ChunkParser parser;
+        private final Future<ParsedChunk> future;
+
+        PendingChunk(ChunkParser parser, ExecutorService executor) {
+            this.parser = parser;
+            this.future = executor.submit(parser);
+        }
+
+        ParsedChunk get() throws IOException {
+            try {
+                return future.get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                future.cancel(false);
+                return parser.call();
+            } catch (ExecutionException ex) {
+                Throwable cause = ex.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                } else {
+                    throw new IOException(cause);
+                }
+            }
+        }
+    }
+
+    /**
+     * Feeds the parsed chunks, in the order of the file, to the series
+     * builders.
+     */
+    private static final class ChunkCollector {
+
+        private final int nbrColumns;
+        private final List<OptionalTsData.Builder2<Date>> dataCollectors;
+        // the builders don't keep the dates; a single instance is enough
+        private final Date period = new Date();
+        private int nbrUselessRows = 0;
+
+        ChunkCollector(int nbrColumns, ObsGathering obsGathering) {
+            this.nbrColumns = nbrColumns;
+            this.dataCollectors = new ArrayList<>();
+            GregorianCalendar cal = new GregorianCalendar();
+            for (int i = 0; i < nbrColumns; i++) {
+                dataCollectors.add(OptionalTsData.builderByDate(cal, obsGathering));
+            }
+        }
+
+        void add(ParsedChunk chunk) {
+            for (int i = 0; i < chunk.widths.length; ++i) {
+                int width = chunk.widths[i];
+                if (width >= 0) {
+                    period.setTime(chunk.periods[i]);
+                    int offset = i * nbrColumns;
+                    for (int j = 0; j < width; ++j) {
+                        dataCollectors.get(j).add(period, chunk.nulls.get(offset + j) ? null : chunk.values[offset + j]);
                     }
                 } else {
                     nbrUselessRows++;
                 }
             }
-            nbrRows++;
         }
 
-        TxtSeries[] data = new TxtSeries[titles.length - 1];
-        for (int i = 0; i < data.length; ++i) {
-            data[i] = new TxtSeries(i, titles[i + 1], dataCollectors.get(i).build());
+        OptionalTsData build(int column) {
+            return dataCollectors.get(column).build();
         }
-        return new TxtSource(nbrRows, nbrUselessRows, Arrays.asList(data));
     }
 
     static String[] generateTitles(int size) {
@@ -173,6 +336,7 @@ final class TxtLoader {
     }
 
     // needed by the use of SimpleDateFormat in the subparsers
+    // (the chunks are parsed by several threads)
     private static final ThreadLocal<IParser<Date>> FALLBACK_PARSER = new ThreadLocal<IParser<Date>>() {
         @Override
         protected IParser<Date> initialValue() {
@@ -87,6 +87,11 @@ public class TxtProvider extends AbstractFileLoader<TxtSource, TxtBean> {
         return TxtLoader.load(realFile, bean);
     }
 
+    @Override
+    protected int getWeight(TxtSource data) {
+        return getWeight(data.items.stream().map(o -> o.data));
+    }
+
     @Override
     public String getDisplayName() {
         return "Txt files";
@@ -17,13 +17,20 @@
 package ec.tss.tsproviders.common.txt;
 
 import ec.tss.tsproviders.utils.DataFormat;
+import ec.tss.tsproviders.utils.ObsGathering;
+import ec.tss.tsproviders.utils.OptionalTsData;
 import ec.tstoolkit.timeseries.TsAggregationType;
 import ec.tstoolkit.timeseries.simplets.TsData;
 import ec.tstoolkit.timeseries.simplets.TsFrequency;
 import ec.tstoolkit.timeseries.simplets.TsPeriod;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
 import java.util.Locale;
 import static org.junit.Assert.*;
 import org.junit.Test;
@@ -146,4 +153,64 @@ public class TxtLoaderTest {
         assertEquals(97, data7.get(0), 0);
         assertEquals(96.4, data7.get(1), 0);
     }
+
+    @Test
+    public void testManyChunks() throws IOException, java.text.ParseException {
+        TxtBean bean = new TxtBean();
+        bean.setCharset(StandardCharsets.UTF_8);
+        bean.setDataFormat(DataFormat.of(Locale.ROOT, "yyyy-MM-dd", null));
+        bean.setDelimiter(TxtBean.Delimiter.COMMA);
+        bean.setFrequency(TsFrequency.Monthly);
+        bean.setAggregationType(TsAggregationType.Average);
+
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd", Locale.ROOT);
+        Calendar cal = new GregorianCalendar(1950, 0, 1);
+        StringBuilder text = new StringBuilder("date,a,b,c\n");
+        int nbrRows = 20000;
+        for (int i = 0; i < nbrRows; ++i) {
+            if (i % 997 == 0) {
+                text.append("invalid,1,2,3\n");
+            }
+            text.append(dateFormat.format(cal.getTime())).append(',').append(i);
+            if (i % 3 != 0) {
+                text.append(',').append(i % 100 == 0 ? "" : String.valueOf(i / 10.0));
+                if (i % 5 != 0) {
+                    text.append(',').append(-i);
+                }
+            }
+            text.append('\n');
+            cal.add(Calendar.DAY_OF_MONTH, 1);
+        }
+
+        TxtSource source;
+        try (InputStream stream = new ByteArrayInputStream(text.toString().getBytes(StandardCharsets.UTF_8))) {
+            source = TxtLoader.load(stream, bean);
+        }
+
+        assertEquals(3, source.items.size());
+        assertEquals(nbrRows + nbrRows / 997 + 2, source.readLines);
+        assertEquals(nbrRows / 997 + 1, source.invalidLines);
+
+        // same rows collected sequentially
+        ObsGathering gathering = ObsGathering.includingMissingValues(TsFrequency.Monthly, TsAggregationType.Average);
+        Calendar resource = new GregorianCalendar();
+        OptionalTsData.Builder2<Date> a = OptionalTsData.builderByDate(resource, gathering);
+        OptionalTsData.Builder2<Date> b = OptionalTsData.builderByDate(resource, gathering);
+        OptionalTsData.Builder2<Date> c = OptionalTsData.builderByDate(resource, gathering);
+        cal = new GregorianCalendar(1950, 0, 1);
+        for (int i = 0; i < nbrRows; ++i) {
+            Date date = dateFormat.parse(dateFormat.format(cal.getTime()));
+            a.add(date, i);
+            if (i % 3 != 0) {
+                b.add(date, i % 100 == 0 ? null : i / 10.0);
+                if (i % 5 != 0) {
+                    c.add(date, -i);
+                }
+            }
+            cal.add(Calendar.DAY_OF_MONTH, 1);
+        }
+        assertEquals(a.build(), source.items.get(0).data);
+        assertEquals(b.build(), source.items.get(1).data);
+        assertEquals(c.build(), source.items.get(2).data);
+    }
 }
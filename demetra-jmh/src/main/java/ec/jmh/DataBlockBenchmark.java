@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved 
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and 
+ * limitations under the Licence.
+ */
+package ec.jmh;
+
+import ec.tstoolkit.data.DataBlock;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Elementary operations on DataBlock, for contiguous blocks and for blocks
+ * with a stride (rows of a column-major matrix).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DataBlockBenchmark {
+
+    @Param({"12", "120", "1000", "4096"})
+    public int length;
+
+    @Param({"1", "4"})
+    public int stride;
+
+    private DataBlock x, y, z;
+
+    @Setup
+    public void setup() {
+        Random rnd = new Random(0);
+        double[] dx = new double[length * stride], dy = new double[length * stride],
+                dz = new double[length * stride];
+        for (int i = 0; i < dx.length; ++i) {
+            dx[i] = rnd.nextDouble();
+            dy[i] = rnd.nextDouble();
+            dz[i] = 1 + rnd.nextDouble() * 1e-6;
+        }
+        x = new DataBlock(dx, 0, dx.length, stride);
+        y = new DataBlock(dy, 0, dy.length, stride);
+        z = new DataBlock(dz, 0, dz.length, stride);
+    }
+
+    @Benchmark
+    public double dot() {
+        return x.dot(y);
+    }
+
+    @Benchmark
+    public double ssq() {
+        return x.ssq();
+    }
+
+    @Benchmark
+    public double sum() {
+        return x.sum();
+    }
+
+    @Benchmark
+    public double product() {
+        return z.product();
+    }
+
+    @Benchmark
+    public double dotReverse() {
+        return x.dotReverse(y);
+    }
+
+    @Benchmark
+    public DataBlock addAY() {
+        y.addAY(1e-9, x);
+        return y;
+    }
+
+    @Benchmark
+    public DataBlock addAXY() {
+        y.addAXY(1e-9, x, z);
+        return y;
+    }
+
+    @Benchmark
+    public DataBlock difference() {
+        y.difference(x, z);
+        return y;
+    }
+
+    @Benchmark
+    public DataBlock copy() {
+        y.copy(x);
+        return y;
+    }
+}
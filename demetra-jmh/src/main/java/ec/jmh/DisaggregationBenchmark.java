@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved 
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and 
+ * limitations under the Licence.
+ */
+package ec.jmh;
+
+import ec.benchmarking.DisaggregationModel;
+import ec.benchmarking.DisaggregationType;
+import ec.benchmarking.simplets.TsDisaggregation;
+import ec.tstoolkit.ssf.arima.SsfAr1;
+import ec.tstoolkit.timeseries.TsAggregationType;
+import ec.tstoolkit.timeseries.regression.TsVariable;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Temporal disaggregation (Chow-Lin, estimated by maximum likelihood) of a
+ * yearly series with a quarterly indicator.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DisaggregationBenchmark {
+
+    private DisaggregationModel model;
+
+    @Setup
+    public void setup() {
+        model = new DisaggregationModel(TestSeries.Q.getFrequency());
+        model.getX().add(new TsVariable(TestSeries.Q));
+        model.setY(TestSeries.Y);
+        model.setAggregationType(TsAggregationType.Sum);
+        model.setDisaggregationType(DisaggregationType.Level);
+    }
+
+    @Benchmark
+    public TsData chowLin() {
+        TsDisaggregation<SsfAr1> disagg = new TsDisaggregation<>();
+        disagg.setSsf(new SsfAr1());
+        disagg.setMapping(new SsfAr1.Mapping(false));
+        disagg.process(model, TestSeries.Q.getDomain());
+        return disagg.getSmoothedSeries();
+    }
+}
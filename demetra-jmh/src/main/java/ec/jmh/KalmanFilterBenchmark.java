@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved 
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and 
+ * limitations under the Licence.
+ */
+package ec.jmh;
+
+import ec.tstoolkit.arima.estimation.ArmaKF;
+import ec.tstoolkit.data.DataBlock;
+import ec.tstoolkit.eco.Likelihood;
+import ec.tstoolkit.sarima.SarimaModel;
+import ec.tstoolkit.sarima.SarmaSpecification;
+import ec.tstoolkit.ssf.Filter;
+import ec.tstoolkit.ssf.FilteringResults;
+import ec.tstoolkit.ssf.ISsf;
+import ec.tstoolkit.ssf.SsfData;
+import ec.tstoolkit.ssf.arima.SsfArima;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Likelihood of the stationary part of an airline model, computed by the
+ * fast Arma Kalman filter and by the general state space filter.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class KalmanFilterBenchmark {
+
+    @Param({"P", "X", "UNEMPLOY"})
+    public String series;
+
+    private SarimaModel arma;
+    private DataBlock y;
+
+    @Setup
+    public void setup() {
+        SarmaSpecification spec = new SarmaSpecification(12);
+        spec.setQ(1);
+        spec.setBQ(1);
+        arma = new SarimaModel(spec);
+        arma.setTheta(1, -.6);
+        arma.setBTheta(1, -.4);
+        y = new DataBlock(TestSeries.get(series).log().delta(1).delta(12).internalStorage());
+    }
+
+    @Benchmark
+    public Likelihood armaKF() {
+        Likelihood ll = new Likelihood();
+        new ArmaKF(arma).process(y, ll);
+        return ll;
+    }
+
+    @Benchmark
+    public FilteringResults ssfFilter() {
+        Filter<ISsf> filter = new Filter<>();
+        filter.setSsf(new SsfArima(arma));
+        FilteringResults rslts = new FilteringResults();
+        filter.process(new SsfData(y, null), rslts);
+        return rslts;
+    }
+}
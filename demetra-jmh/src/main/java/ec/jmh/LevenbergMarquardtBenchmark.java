@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved 
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and 
+ * limitations under the Licence.
+ */
+package ec.jmh;
+
+import ec.tstoolkit.arima.estimation.RegArimaEstimation;
+import ec.tstoolkit.arima.estimation.RegArimaModel;
+import ec.tstoolkit.data.DataBlock;
+import ec.tstoolkit.maths.realfunctions.ProxyMinimizer;
+import ec.tstoolkit.maths.realfunctions.minpack.LevenbergMarquardtMinimizer;
+import ec.tstoolkit.sarima.SarimaModel;
+import ec.tstoolkit.sarima.SarimaSpecification;
+import ec.tstoolkit.sarima.estimation.GlsSarimaMonitor;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Exact maximum likelihood estimation of an airline model, using the
+ * Levenberg-Marquardt estimator (minpack).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LevenbergMarquardtBenchmark {
+
+    @Param({"P", "X", "UNEMPLOY"})
+    public String series;
+
+    private DataBlock y;
+
+    @Setup
+    public void setup() {
+        y = new DataBlock(TestSeries.get(series).log().internalStorage());
+    }
+
+    @Benchmark
+    public RegArimaEstimation<SarimaModel> airline() {
+        SarimaSpecification spec = new SarimaSpecification(12);
+        spec.airline();
+        GlsSarimaMonitor monitor = new GlsSarimaMonitor();
+        monitor.setMinimizer(new ProxyMinimizer(new LevenbergMarquardtMinimizer()));
+        return monitor.process(new RegArimaModel<>(new SarimaModel(spec), y));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.jmh;
+
+import ec.tstoolkit.maths.matrices.Matrix;
+import ec.tstoolkit.maths.matrices.SymmetricMatrix;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Dense matrix kernels, on the dimensions of a regression model: nobs x nvars
+ * regression matrices and nobs x nobs covariance matrices.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MatrixBenchmark {
+
+    @Param({"120", "360"})
+    public int nobs;
+
+    @Param({"8", "32"})
+    public int nvars;
+
+    private Matrix x, xt, cov;
+
+    @Setup
+    public void setup() {
+        x = new Matrix(nobs, nvars);
+        x.randomize(0);
+        xt = x.transpose();
+        // positive definite covariance matrix
+        Matrix z = new Matrix(nobs, nobs);
+        z.randomize(1);
+        cov = SymmetricMatrix.XXt(z);
+        cov.diagonal().add(nobs);
+    }
+
+    @Benchmark
+    public Matrix times() {
+        return xt.times(x);
+    }
+
+    @Benchmark
+    public Matrix product() {
+        Matrix p = new Matrix(nobs, nvars);
+        p.subMatrix().product(cov.subMatrix(), x.subMatrix());
+        return p;
+    }
+
+    @Benchmark
+    public Matrix XtX() {
+        return SymmetricMatrix.XtX(x);
+    }
+
+    @Benchmark
+    public Matrix XXt() {
+        return SymmetricMatrix.XXt(xt);
+    }
+
+    @Benchmark
+    public Matrix lcholesky() {
+        Matrix l = cov.clone();
+        SymmetricMatrix.lcholesky(l);
+        return l;
+    }
+}
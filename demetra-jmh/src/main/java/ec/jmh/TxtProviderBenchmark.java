@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved 
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and 
+ * limitations under the Licence.
+ */
+package ec.jmh;
+
+import ec.tss.TsCollectionInformation;
+import ec.tss.TsInformationType;
+import ec.tss.tsproviders.DataSource;
+import ec.tss.tsproviders.common.txt.TxtBean;
+import ec.tss.tsproviders.common.txt.TxtProvider;
+import ec.tss.tsproviders.utils.DataFormat;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import ec.tstoolkit.timeseries.simplets.TsPeriod;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Loading of all the series of a text file by the Txt provider (parsing
+ * included; the cache of the provider is not used).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TxtProviderBenchmark {
+
+    @Param({"10", "100"})
+    public int seriesCount;
+
+    private File file;
+    private TxtBean bean;
+
+    @Setup
+    public void setup() throws IOException {
+        file = File.createTempFile("jmh", ".txt");
+        TsData s = TestSeries.get("P");
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8))) {
+            for (int j = 0; j < seriesCount; ++j) {
+                writer.print('\t');
+                writer.print("S" + j);
+            }
+            writer.println();
+            for (int i = 0; i < s.getLength(); ++i) {
+                TsPeriod p = s.getDomain().get(i);
+                writer.printf(Locale.ROOT, "%04d-%02d-01", p.getYear(), p.getPosition() + 1);
+                for (int j = 0; j < seriesCount; ++j) {
+                    writer.print('\t');
+                    writer.print(s.get(i) + j);
+                }
+                writer.println();
+            }
+        }
+        bean = new TxtBean();
+        bean.setFile(file);
+        bean.setDataFormat(DataFormat.of(Locale.ROOT, "yyyy-MM-dd", null));
+    }
+
+    @TearDown
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Benchmark
+    public TsCollectionInformation load() {
+        try (TxtProvider provider = new TxtProvider()) {
+            DataSource dataSource = provider.encodeBean(bean);
+            provider.open(dataSource);
+            TsCollectionInformation info = new TsCollectionInformation(provider.toMoniker(dataSource), TsInformationType.All);
+            provider.get(info);
+            return info;
+        }
+    }
+}
@@ -16,11 +16,14 @@
  */
 package internal.workspace.file;
 
+import ec.demetra.workspace.Workspace;
 import ec.demetra.workspace.WorkspaceFamily;
 import ec.demetra.workspace.WorkspaceItem;
 import ec.demetra.workspace.file.FileWorkspace;
+import ec.tstoolkit.utilities.IModifiable;
 import ec.tstoolkit.utilities.Paths;
 import java.io.IOException;
+import java.lang.ref.WeakReference;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collection;
@@ -30,7 +33,11 @@ import ec.demetra.workspace.file.FileFormat;
 import ec.demetra.workspace.file.spi.FamilyHandler;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import nbbrd.io.Resource;
@@ -94,6 +101,17 @@ public final class FileWorkspaceImpl implements FileWorkspace {
         return of(file, format, rootFolder, indexer, logger, handlers);
     }
 
+    private static final class Snapshot {
+
+        private final WeakReference<Object> value;
+        private final FileTime lastModified;
+
+        private Snapshot(Object value, FileTime lastModified) {
+            this.value = new WeakReference<>(value);
+            this.lastModified = lastModified;
+        }
+    }
+
     private static FileWorkspaceImpl of(Path indexFile, FileFormat format, Path rootFolder, Indexer indexer, Logger logger, Supplier<Iterable<FamilyHandler>> handlers) throws IOException {
         try {
             return new FileWorkspaceImpl(indexFile, format, rootFolder, indexer, SafeHandler.create(logger, handlers, format));
@@ -108,6 +126,7 @@ public final class FileWorkspaceImpl implements FileWorkspace {
     private final Path rootFolder;
     private final Indexer indexer;
     private final SafeHandler handlers;
+    private final Map<Index.Key, Snapshot> snapshots;
 
     private FileWorkspaceImpl(Path indexFile, FileFormat fileFormat, Path rootFolder, Indexer indexer, SafeHandler handlers) {
         this.indexFile = indexFile;
@@ -115,6 +134,7 @@ public final class FileWorkspaceImpl implements FileWorkspace {
         this.rootFolder = rootFolder;
         this.indexer = indexer;
         this.handlers = handlers;
+        this.snapshots = new HashMap<>();
     }
 
     @Override
@@ -144,7 +164,13 @@ public final class FileWorkspaceImpl implements FileWorkspace {
     public Object load(WorkspaceItem item) throws IOException {
         Index.Key key = toKey(item);
 
-        return handlers.loadValue(key.getFamily(), rootFolder, key.getId());
+        Object result = handlers.loadValue(key.getFamily(), rootFolder, key.getId());
+        if (result instanceof IModifiable) {
+            // the loaded value is in sync with its file
+            ((IModifiable) result).resetDirty();
+            snapshots.put(key, new Snapshot(result, getLastModifiedTime(key)));
+        }
+        return result;
     }
 
     @Override
@@ -154,7 +180,12 @@ public final class FileWorkspaceImpl implements FileWorkspace {
         Index.Key key = toKey(item);
         indexer.checkId(key);
 
-        handlers.storeValue(key.getFamily(), rootFolder, key.getId(), value);
+        if (!isUnchanged(key, value)) {
+            handlers.storeValue(key.getFamily(), rootFolder, key.getId(), value);
+            if (value instanceof IModifiable) {
+                snapshots.put(key, new Snapshot(value, getLastModifiedTime(key)));
+            }
+        }
         indexer.storeIndex(indexer.loadIndex().withItem(key, toValue(item)));
     }
 
@@ -162,10 +193,65 @@ public final class FileWorkspaceImpl implements FileWorkspace {
     public void delete(WorkspaceItem item) throws IOException {
         Index.Key key = toKey(item);
 
+        snapshots.remove(key);
         handlers.deleteValue(key.getFamily(), rootFolder, key.getId());
         indexer.storeIndex(indexer.loadIndex().withoutItem(key));
     }
 
+    /**
+     * Copies the files of the items as they are when the target workspace uses
+     * the same format, instead of loading and storing their values.
+     *
+     * @param target
+     * @throws IOException
+     */
+    @Override
+    public void copyTo(Workspace target) throws IOException {
+        if (!(target instanceof FileWorkspaceImpl) || ((FileWorkspaceImpl) target).fileFormat != fileFormat) {
+            FileWorkspace.super.copyTo(target);
+            return;
+        }
+        FileWorkspaceImpl other = (FileWorkspaceImpl) target;
+        other.setName(getName());
+        Collection<WorkspaceFamily> families = other.getSupportedFamilies();
+        for (WorkspaceItem o : getItems()) {
+            if (families.contains(o.getFamily())) {
+                other.storeFile(o, getFile(o));
+            }
+        }
+    }
+
+    private void storeFile(WorkspaceItem item, Path source) throws IOException {
+        Index.Key key = toKey(item);
+        indexer.checkId(key);
+
+        Path file = handlers.resolveFile(key.getFamily(), rootFolder, key.getId());
+        if (!source.toAbsolutePath().normalize().equals(file.toAbsolutePath().normalize())) {
+            Files.createDirectories(file.getParent());
+            Files.copy(source, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        snapshots.remove(key);
+        indexer.storeIndex(indexer.loadIndex().withItem(key, toValue(item)));
+    }
+
+    /**
+     * Checks that a value is the unmodified value loaded (or stored) from a
+     * file that hasn't changed since
+     */
+    private boolean isUnchanged(Index.Key key, Object value) throws IOException {
+        Snapshot snapshot = snapshots.get(key);
+        return snapshot != null
+                && snapshot.value.get() == value
+                && !((IModifiable) value).isDirty()
+                && snapshot.lastModified != null
+                && snapshot.lastModified.equals(getLastModifiedTime(key));
+    }
+
+    private FileTime getLastModifiedTime(Index.Key key) throws IOException {
+        Path file = handlers.resolveFile(key.getFamily(), rootFolder, key.getId());
+        return Files.exists(file) ? Files.getLastModifiedTime(file) : null;
+    }
+
     @Override
     public void close() throws IOException {
         indexer.close();
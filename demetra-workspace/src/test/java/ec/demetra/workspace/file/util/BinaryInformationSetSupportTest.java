@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.demetra.workspace.file.util;
+
+import ec.tss.sa.SaProcessing;
+import static internal.test.TestResources.GENERIC_ROOT;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.Test;
+
+public class BinaryInformationSetSupportTest {
+
+    @Test
+    public void testWriteRead() throws IOException {
+        SaProcessing expected = (SaProcessing) InformationSetSupport.of(SaProcessing::new, "SAProcessing").read(GENERIC_ROOT, "SAProcessing-1.xml");
+
+        Path root = Files.createTempDirectory("binary");
+        FileSupport support = BinaryInformationSetSupport.of(SaProcessing::new, "SAProcessing");
+        Path file = support.resolveFile(root, "SAProcessing-1.xml");
+        assertThat(file).isEqualTo(root.resolve("SAProcessing").resolve("SAProcessing-1.dbin"));
+        try {
+            support.write(root, "SAProcessing-1.xml", expected);
+            assertThat(file).exists();
+            assertThat(Files.size(file)).isLessThan(Files.size(GENERIC_ROOT.resolve("SAProcessing").resolve("SAProcessing-1.xml")));
+
+            SaProcessing value = (SaProcessing) support.read(root, "SAProcessing-1.xml");
+            assertThat(value.size()).isEqualTo(expected.size());
+            for (int i = 0; i < value.size(); ++i) {
+                assertThat(value.get(i).getTs().getMetaData()).isEqualTo(expected.get(i).getTs().getMetaData());
+                assertThat(value.get(i).getTs().getTsData()).isEqualTo(expected.get(i).getTs().getTsData());
+                assertThat(value.get(i).getDomainSpecification()).isEqualTo(expected.get(i).getDomainSpecification());
+            }
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(file.getParent());
+            Files.deleteIfExists(root);
+        }
+    }
+}
@@ -24,6 +24,7 @@ import ec.satoolkit.tramoseats.TramoSeatsSpecification;
 import ec.satoolkit.x13.X13Specification;
 import ec.tss.modelling.documents.RegArimaDocument;
 import ec.tss.modelling.documents.TramoDocument;
+import ec.tss.sa.SaItem;
 import ec.tss.sa.SaProcessing;
 import ec.tss.sa.documents.TramoSeatsDocument;
 import ec.tss.sa.documents.X13Document;
@@ -207,6 +208,62 @@ public class FileWorkspaceImplTest {
         }
     }
 
+    @Test
+    public void testStoreUnchangedItem(@TempDir Path temp) throws IOException {
+        Path copyOfGeneric = newGenericSample(temp);
+
+        try (FileWorkspace ws = openGenericUsingServiceLoader(copyOfGeneric)) {
+            Path file = ws.getFile(GENERIC_SA_MULTI);
+            byte[] original = Files.readAllBytes(file);
+            SaProcessing processing = (SaProcessing) ws.load(GENERIC_SA_MULTI);
+            assertThat(processing.isDirty()).isFalse();
+            // unchanged values are not written again
+            ws.store(GENERIC_SA_MULTI, processing);
+            assertThat(Files.readAllBytes(file)).isEqualTo(original);
+            processing.get(0).setPriority(5);
+            ws.store(GENERIC_SA_MULTI, processing);
+            assertThat(Files.readAllBytes(file)).isNotEqualTo(original);
+            assertThat(((SaProcessing) ws.load(GENERIC_SA_MULTI)).get(0).getPriority()).isEqualTo(5);
+        }
+    }
+
+    @Test
+    public void testStoreProcessedItem(@TempDir Path temp) throws IOException {
+        Path copyOfGeneric = newGenericSample(temp);
+
+        SaItem processed;
+        try (FileWorkspace ws = openGenericUsingServiceLoader(copyOfGeneric)) {
+            SaProcessing processing = (SaProcessing) ws.load(GENERIC_SA_MULTI);
+            processed = processing.get(0);
+            assertThat(processed.process()).isNotNull();
+            assertThat(processing.isDirty()).isTrue();
+            ws.store(GENERIC_SA_MULTI, processing);
+        }
+        try (FileWorkspace ws = openGenericUsingServiceLoader(copyOfGeneric)) {
+            SaItem reloaded = ((SaProcessing) ws.load(GENERIC_SA_MULTI)).get(0);
+            assertThat(reloaded.getQuality()).isEqualTo(processed.getQuality());
+            assertThat(reloaded.getPointSpecification()).isEqualTo(processed.getPointSpecification());
+            assertThat(reloaded.getTsData()).isEqualTo(processed.getTsData());
+        }
+    }
+
+    @Test
+    public void testCopyTo(@TempDir Path temp) throws IOException {
+        Path target = temp.resolve("copy.xml");
+
+        try (FileWorkspace ws = openGenericUsingServiceLoader(GENERIC_INDEX);
+                FileWorkspace copy = FileWorkspaceImpl.create(target, FileFormat.GENERIC, new FamilyHandlerLoader()::get)) {
+            ws.copyTo(copy);
+            assertThat(copy.getName()).isEqualTo(ws.getName());
+            assertThat(copy.getItems()).containsExactlyInAnyOrder(ws.getItems().toArray(new WorkspaceItem[0]));
+            // the files are copied as they are
+            for (WorkspaceItem item : ws.getItems()) {
+                assertThat(Files.readAllBytes(copy.getFile(item))).isEqualTo(Files.readAllBytes(ws.getFile(item)));
+            }
+            assertThat(((SaProcessing) copy.load(GENERIC_SA_MULTI)).size()).isEqualTo(15);
+        }
+    }
+
     @Test
     public void testItemWithoutFile(@TempDir Path temp) throws IOException {
         Path copyOfGeneric = newGenericSample(temp);
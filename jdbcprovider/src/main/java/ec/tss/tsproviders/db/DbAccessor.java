@@ -20,15 +20,21 @@ import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import com.google.common.cache.Cache;
+import ec.tss.tsproviders.cube.CubeId;
+import ec.tss.tsproviders.cube.CubeStore;
+import ec.tss.tsproviders.cursor.TsCursor;
 import ec.tss.tsproviders.utils.IConstraint;
 import ec.tss.tsproviders.utils.Parsers;
 import ec.tss.tsproviders.utils.StrangeParsers;
 import ec.tstoolkit.utilities.GuavaCaches;
+import java.io.IOException;
 import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.Callable;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  *
@@ -100,6 +106,19 @@ public abstract class DbAccessor<BEAN extends DbBean> {
     @NonNull
     abstract protected List<String> getChildren(@NonNull DbSetId ref) throws Exception;
 
+    /**
+     * Gets the version of the data, such as a last-modified time or a
+     * checksum. It is used to validate the persistent caches.
+     *
+     * @return a version; null if unknown
+     * @throws Exception
+     * @since 2.2.4
+     */
+    @Nullable
+    public String getVersion() throws Exception {
+        return null;
+    }
+
     @NonNull
     abstract public DbAccessor<BEAN> memoize();
 
@@ -232,13 +251,36 @@ public abstract class DbAccessor<BEAN extends DbBean> {
         protected List<String> getChildren(DbSetId ref) throws Exception {
             return getDelegate().getChildren(ref);
         }
+
+        @Override
+        public String getVersion() throws Exception {
+            return getDelegate().getVersion();
+        }
     }
 
     public static abstract class BulkAccessor<BEAN extends DbBean> extends Forwarding<BEAN> {
 
         @NonNull
         public static <X extends DbBean> BulkAccessor<X> from(@NonNull final DbAccessor<X> delegate, int depth, @NonNull Cache<DbSetId, List<DbSeries>> cache) {
-            return new BulkAccessor(depth, cache) {
+            return from(delegate, depth, cache, null);
+        }
+
+        /**
+         * Creates an accessor that caches the series of a level of the
+         * hierarchy in a memory cache and, if the delegate has a version, in a
+         * persistent store.
+         *
+         * @param <X>
+         * @param delegate
+         * @param depth
+         * @param cache the memory cache
+         * @param store the persistent store; null if none
+         * @return
+         * @since 2.2.4
+         */
+        @NonNull
+        public static <X extends DbBean> BulkAccessor<X> from(@NonNull final DbAccessor<X> delegate, int depth, @NonNull Cache<DbSetId, List<DbSeries>> cache, @Nullable CubeStore store) {
+            return new BulkAccessor(depth, cache, store) {
                 @Override
                 protected DbAccessor<X> getDelegate() {
                     return delegate;
@@ -257,13 +299,21 @@ public abstract class DbAccessor<BEAN extends DbBean> {
             return GuavaCaches.ttlCache(Duration.ofMillis(ttlInMillis));
         }
 
+        private static final Logger LOGGER = LoggerFactory.getLogger(DbAccessor.class);
+
         protected final Cache<DbSetId, List<DbSeries>> cache;
+        protected final CubeStore store;
         protected final int cacheLevel;
         protected final int depth;
 
         public BulkAccessor(int depth, @NonNull Cache<DbSetId, List<DbSeries>> cache) {
+            this(depth, cache, null);
+        }
+
+        public BulkAccessor(int depth, @NonNull Cache<DbSetId, List<DbSeries>> cache, @Nullable CubeStore store) {
             this.cacheLevel = Math.max(0, getRoot().getMaxLevel() - depth);
             this.cache = cache;
+            this.store = store;
             this.depth = depth;
         }
 
@@ -289,7 +339,7 @@ public abstract class DbAccessor<BEAN extends DbBean> {
                 if (ref.getLevel() == cacheLevel) {
                     List<DbSeries> value = cache.getIfPresent(ref);
                     if (value == null) {
-                        value = getDelegate().getAllSeriesWithData(ref);
+                        value = store != null ? getAllSeriesWithDataFromStore(ref) : getDelegate().getAllSeriesWithData(ref);
                         cache.put(ref, value);
                     }
                     return value;
@@ -313,5 +363,48 @@ public abstract class DbAccessor<BEAN extends DbBean> {
             }
             return getDelegate().getSeriesWithData(ref);
         }
+
+        /**
+         * Reads the series from the store if it has them for the current
+         * version; otherwise, fetches them and writes them in the store. A
+         * failing store is bypassed.
+         */
+        private List<DbSeries> getAllSeriesWithDataFromStore(DbSetId ref) throws Exception {
+            String version = getDelegate().getVersion();
+            if (version == null) {
+                return getDelegate().getAllSeriesWithData(ref);
+            }
+            CubeId id = toCubeId(ref);
+            try (TsCursor<CubeId> cursor = store.get(id, version)) {
+                if (cursor != null) {
+                    List<DbSeries> result = new ArrayList<>();
+                    while (cursor.nextSeries()) {
+                        result.add(new DbSeries(getRoot().child(cursor.getSeriesId().getDimensionValueStream().toArray(String[]::new)), cursor.getSeriesData()));
+                    }
+                    return result;
+                }
+            } catch (IOException ex) {
+                LOGGER.warn("Cannot read '{}' from the store", ref, ex);
+            }
+            List<DbSeries> result = getDelegate().getAllSeriesWithData(ref);
+            try {
+                store.put(id, version, TsCursor.from(result.iterator(), DbSeries::getData).transform(o -> toCubeId(o.getId())));
+            } catch (IOException ex) {
+                LOGGER.warn("Cannot write '{}' in the store", ref, ex);
+            }
+            return result;
+        }
+
+        private static CubeId toCubeId(DbSetId ref) {
+            String[] columns = new String[ref.getMaxLevel()];
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = ref.getColumn(i);
+            }
+            String[] values = new String[ref.getLevel()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = ref.getValue(i);
+            }
+            return CubeId.root(columns).child(values);
+        }
     }
 }
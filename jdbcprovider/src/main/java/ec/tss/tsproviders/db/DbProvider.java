@@ -29,9 +29,12 @@ import ec.tss.tsproviders.utils.OptionalTsData;
 import ec.tstoolkit.timeseries.simplets.TsFrequency;
 import ec.tstoolkit.utilities.Arrays2;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.slf4j.Logger;
 
@@ -43,6 +46,8 @@ import org.slf4j.Logger;
 public abstract class DbProvider<BEAN extends DbBean> extends AbstractDataSourceLoader<DbAccessor<BEAN>, BEAN> {
 
     private static final IParam<DataSet, Dims> DIM_MAP = new DimsParam();
+    // the series of an ancestor are retrieved at once if at least 1/n of them are requested
+    private static final int BULK_FRACTION = 4;
 
     public DbProvider(Logger logger, String providerName, TsAsyncMode asyncMode) {
         super(logger, providerName, asyncMode);
@@ -171,6 +176,84 @@ public abstract class DbProvider<BEAN extends DbBean> extends AbstractDataSource
         }
     }
 
+    @Override
+    protected boolean fillSeries(Map<DataSet, List<TsInformation>> requests, DataSource dataSource) throws IOException {
+        if (requests.size() == 1) {
+            // a single series: targeted query
+            return super.fillSeries(requests, dataSource);
+        }
+        Map<List<String>, List<TsInformation>> missing = new HashMap<>();
+        for (Map.Entry<DataSet, List<TsInformation>> request : requests.entrySet()) {
+            String name = getDisplayName(request.getKey());
+            List<TsInformation> infos = null;
+            for (TsInformation info : request.getValue()) {
+                if (info.type.intValue() >= TsInformationType.Data.intValue()) {
+                    info.name = name;
+                    info.type = TsInformationType.All;
+                    if (infos == null) {
+                        infos = missing.computeIfAbsent(Arrays.asList(DIM_MAP.get(request.getKey()).dimValues), o -> new ArrayList<>());
+                    }
+                    infos.add(info);
+                }
+            }
+        }
+        if (missing.isEmpty()) {
+            return true;
+        }
+        if (missing.size() == 1) {
+            return super.fillSeries(requests, dataSource);
+        }
+        DbAccessor<BEAN> acc = getAccessor(dataSource);
+        // one query for the deepest common ancestor of the series, unless
+        // they are a small part of it (the ids are cheaper than the data and
+        // are cached by the accessor)
+        String[] ancestor = commonAncestor(missing.keySet());
+        try {
+            if (missing.size() * BULK_FRACTION < acc.getAllSeries(ancestor).size()) {
+                return super.fillSeries(requests, dataSource);
+            }
+            for (DbSeries o : acc.getAllSeriesWithData(ancestor)) {
+                List<TsInformation> infos = missing.remove(dimValues(o.getId()));
+                if (infos != null) {
+                    infos.forEach(info -> support.fillSeries(info, o.getData(), true));
+                }
+            }
+        } catch (Exception ex) {
+            throw new IOException("Cannot retrieve DataSource data", ex);
+        }
+        missing.values().forEach(o -> o.forEach(info -> {
+            info.data = null;
+            info.invalidDataCause = "Missing time series";
+        }));
+        return missing.isEmpty();
+    }
+
+    @NonNull
+    private static String[] commonAncestor(@NonNull Iterable<List<String>> dimValues) {
+        List<String> result = null;
+        for (List<String> o : dimValues) {
+            if (result == null) {
+                result = o;
+            } else {
+                int n = 0;
+                while (n < result.size() && n < o.size() && result.get(n).equals(o.get(n))) {
+                    n++;
+                }
+                result = result.subList(0, n);
+            }
+        }
+        return result == null ? new String[0] : result.toArray(new String[result.size()]);
+    }
+
+    @NonNull
+    private static List<String> dimValues(@NonNull DbSetId id) {
+        String[] result = new String[id.getLevel()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = id.getValue(i);
+        }
+        return Arrays.asList(result);
+    }
+
     @NonNull
     private List<TsInformation> getAll(@NonNull DataSource dataSource, @NonNull List<DbSetId> list, @NonNull TsInformationType type) {
         if (list.isEmpty()) {
@@ -0,0 +1,432 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.tsproviders.jdbc;
+
+import com.google.common.base.Preconditions;
+import ec.tstoolkit.design.VisibleForTesting;
+import ec.util.jdbc.ForwardingConnection;
+import java.io.Closeable;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A bounded pool of connections that also caches the prepared statements of
+ * each connection.
+ * <p>
+ * Closing a connection of this pool returns it to the pool, and closing one
+ * of its prepared statements returns the statement to the cache of the
+ * connection. This class is thread-safe. Idle connections are checked with
+ * {@link Connection#isValid(int)} before being reused and are closed once they
+ * have been idle for too long.
+ *
+ * @since 2.2.4
+ */
+public final class ConnectionPool implements Closeable {
+
+    @FunctionalInterface
+    public interface Factory {
+
+        @NonNull
+        Connection open() throws SQLException;
+    }
+
+    public static final int DEFAULT_MAX_SIZE = 8;
+    public static final int DEFAULT_STATEMENT_CACHE_SIZE = 32;
+    public static final Duration DEFAULT_MAX_IDLE = Duration.ofMinutes(5);
+    public static final Duration DEFAULT_BORROW_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final int VALIDATION_TIMEOUT_IN_SECONDS = 5;
+
+    @NonNull
+    public static ConnectionPool of(@NonNull Factory factory) {
+        return of(factory, DEFAULT_MAX_SIZE, DEFAULT_STATEMENT_CACHE_SIZE, DEFAULT_MAX_IDLE, DEFAULT_BORROW_TIMEOUT);
+    }
+
+    /**
+     * Creates a new pool.
+     *
+     * @param factory a function that opens new connections
+     * @param maxSize the maximum number of connections opened at once
+     * @param statementCacheSize the maximum number of prepared statements
+     * cached per connection; zero to disable the cache
+     * @param maxIdle the time after which an idle connection is closed
+     * @param borrowTimeout the maximum time to wait for a connection when the
+     * pool is exhausted
+     * @return a non-null pool
+     */
+    @NonNull
+    public static ConnectionPool of(@NonNull Factory factory, int maxSize, int statementCacheSize, @NonNull Duration maxIdle, @NonNull Duration borrowTimeout) {
+        Preconditions.checkArgument(maxSize > 0, "maxSize must be positive");
+        Preconditions.checkArgument(statementCacheSize >= 0, "statementCacheSize must be non-negative");
+        return new ConnectionPool(factory, maxSize, statementCacheSize, maxIdle.toNanos(), borrowTimeout.toNanos());
+    }
+
+    private final Factory factory;
+    private final int statementCacheSize;
+    private final long maxIdleInNanos;
+    private final long borrowTimeoutInNanos;
+    private final Semaphore permits;
+    // guarded by this
+    private final Deque<PhysicalConnection> idle;
+    // guarded by this
+    private boolean closed;
+
+    private ConnectionPool(Factory factory, int maxSize, int statementCacheSize, long maxIdleInNanos, long borrowTimeoutInNanos) {
+        this.factory = factory;
+        this.statementCacheSize = statementCacheSize;
+        this.maxIdleInNanos = maxIdleInNanos;
+        this.borrowTimeoutInNanos = borrowTimeoutInNanos;
+        this.permits = new Semaphore(maxSize, true);
+        this.idle = new ArrayDeque<>();
+        this.closed = false;
+    }
+
+    /**
+     * Borrows a connection from this pool. The connection must be closed after
+     * use in order to return it to the pool.
+     *
+     * @return a non-null connection
+     * @throws SQLException if the pool is closed, if no connection could be
+     * opened or if the pool is still exhausted after the borrow timeout
+     */
+    @NonNull
+    public Connection getConnection() throws SQLException {
+        acquirePermit();
+        try {
+            PhysicalConnection result;
+            while ((result = pollIdle()) != null) {
+                if (isValid(result.connection)) {
+                    return new PooledConnection(result);
+                }
+                result.closeQuietly();
+            }
+            return new PooledConnection(new PhysicalConnection(factory.open(), statementCacheSize));
+        } catch (SQLException | RuntimeException | Error ex) {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    /**
+     * Closes the idle connections and prevents new borrowings. Borrowed
+     * connections are closed when they are returned.
+     */
+    @Override
+    public void close() {
+        List<PhysicalConnection> list;
+        synchronized (this) {
+            closed = true;
+            list = new ArrayList<>(idle);
+            idle.clear();
+        }
+        list.forEach(PhysicalConnection::closeQuietly);
+    }
+
+    /**
+     * Closes the connections that have been idle for too long.
+     */
+    void evictIdle() {
+        List<PhysicalConnection> expired = new ArrayList<>();
+        synchronized (this) {
+            pollExpired(expired, System.nanoTime());
+        }
+        expired.forEach(PhysicalConnection::closeQuietly);
+    }
+
+    @VisibleForTesting
+    synchronized int getIdleCount() {
+        return idle.size();
+    }
+
+    private void acquirePermit() throws SQLException {
+        try {
+            if (!permits.tryAcquire(borrowTimeoutInNanos, TimeUnit.NANOSECONDS)) {
+                throw new SQLTransientConnectionException("Timeout while waiting for a connection");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a connection", ex);
+        }
+    }
+
+    private PhysicalConnection pollIdle() throws SQLException {
+        List<PhysicalConnection> expired = new ArrayList<>();
+        PhysicalConnection result;
+        synchronized (this) {
+            if (closed) {
+                throw new SQLException("Connection pool closed");
+            }
+            pollExpired(expired, System.nanoTime());
+            // last in, first out, so that the least used connections expire
+            result = idle.pollFirst();
+        }
+        expired.forEach(PhysicalConnection::closeQuietly);
+        return result;
+    }
+
+    // must be called while holding the lock
+    private void pollExpired(List<PhysicalConnection> expired, long now) {
+        PhysicalConnection oldest;
+        while ((oldest = idle.peekLast()) != null && now - oldest.lastUsed > maxIdleInNanos) {
+            expired.add(idle.pollLast());
+        }
+    }
+
+    private void release(PhysicalConnection physical) {
+        try {
+            if (reset(physical.connection)) {
+                physical.lastUsed = System.nanoTime();
+                synchronized (this) {
+                    if (!closed) {
+                        idle.addFirst(physical);
+                        return;
+                    }
+                }
+            }
+            physical.closeQuietly();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private static boolean reset(Connection connection) {
+        try {
+            if (connection.isClosed()) {
+                return false;
+            }
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+            connection.clearWarnings();
+            return true;
+        } catch (SQLException ex) {
+            return false;
+        }
+    }
+
+    private static boolean isValid(Connection connection) {
+        try {
+            return connection.isValid(VALIDATION_TIMEOUT_IN_SECONDS);
+        } catch (SQLFeatureNotSupportedException | AbstractMethodError ex) {
+            // old drivers
+            try {
+                return !connection.isClosed();
+            } catch (SQLException other) {
+                return false;
+            }
+        } catch (SQLException ex) {
+            return false;
+        }
+    }
+
+    private static final class PhysicalConnection {
+
+        private final Connection connection;
+        private final Map<String, PreparedStatement> statements;
+        private long lastUsed;
+
+        PhysicalConnection(Connection connection, int statementCacheSize) {
+            this.connection = connection;
+            this.statements = new LinkedHashMap<String, PreparedStatement>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                    if (size() > statementCacheSize) {
+                        closeQuietly(eldest.getValue());
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        // a physical connection is used by one thread at a time
+        PreparedStatement prepare(PooledConnection owner, String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+            String key = resultSetType + ":" + resultSetConcurrency + ":" + sql;
+            PreparedStatement result = statements.remove(key);
+            if (result == null || result.isClosed()) {
+                result = connection.prepareStatement(sql, resultSetType, resultSetConcurrency);
+            }
+            return CachedStatement.create(owner, result, this, key);
+        }
+
+        void recycle(String key, PreparedStatement statement) {
+            try {
+                statement.clearParameters();
+                statement.clearWarnings();
+                PreparedStatement old = statements.put(key, statement);
+                if (old != null) {
+                    closeQuietly(old);
+                }
+            } catch (SQLException ex) {
+                closeQuietly(statement);
+            }
+        }
+
+        void closeQuietly() {
+            for (Iterator<PreparedStatement> iter = statements.values().iterator(); iter.hasNext();) {
+                closeQuietly(iter.next());
+                iter.remove();
+            }
+            try {
+                connection.close();
+            } catch (SQLException ex) {
+                // do nothing
+            }
+        }
+
+        static void closeQuietly(PreparedStatement statement) {
+            try {
+                statement.close();
+            } catch (SQLException ex) {
+                // do nothing
+            }
+        }
+    }
+
+    private final class PooledConnection extends ForwardingConnection {
+
+        private PhysicalConnection physical;
+
+        PooledConnection(PhysicalConnection physical) {
+            this.physical = physical;
+        }
+
+        @Override
+        protected Connection getConnection() {
+            return getPhysical().connection;
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(String sql) throws SQLException {
+            return prepareStatement(sql, java.sql.ResultSet.TYPE_FORWARD_ONLY, java.sql.ResultSet.CONCUR_READ_ONLY);
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+            return statementCacheSize > 0
+                    ? getPhysical().prepare(this, sql, resultSetType, resultSetConcurrency)
+                    : super.prepareStatement(sql, resultSetType, resultSetConcurrency);
+        }
+
+        @Override
+        public synchronized boolean isClosed() throws SQLException {
+            return physical == null || physical.connection.isClosed();
+        }
+
+        @Override
+        public void close() throws SQLException {
+            PhysicalConnection tmp;
+            synchronized (this) {
+                tmp = physical;
+                physical = null;
+            }
+            if (tmp != null) {
+                release(tmp);
+            }
+        }
+
+        private synchronized PhysicalConnection getPhysical() {
+            if (physical == null) {
+                throw new IllegalStateException("Connection closed");
+            }
+            return physical;
+        }
+    }
+
+    private static final class CachedStatement implements InvocationHandler {
+
+        static PreparedStatement create(Connection owner, PreparedStatement delegate, PhysicalConnection physical, String key) throws SQLException {
+            return (PreparedStatement) Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    new CachedStatement(owner, delegate, physical, key, delegate.getFetchSize()));
+        }
+
+        private final Connection owner;
+        private final PreparedStatement delegate;
+        private final PhysicalConnection physical;
+        private final String key;
+        private final int defaultFetchSize;
+        private boolean closed;
+
+        private CachedStatement(Connection owner, PreparedStatement delegate, PhysicalConnection physical, String key, int defaultFetchSize) {
+            this.owner = owner;
+            this.delegate = delegate;
+            this.physical = physical;
+            this.key = key;
+            this.defaultFetchSize = defaultFetchSize;
+            this.closed = false;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        if (owner.isClosed()) {
+                            // the connection may already be used by another thread
+                            PhysicalConnection.closeQuietly(delegate);
+                        } else {
+                            if (delegate.getFetchSize() != defaultFetchSize) {
+                                delegate.setFetchSize(defaultFetchSize);
+                            }
+                            physical.recycle(key, delegate);
+                        }
+                    }
+                    return null;
+                case "isClosed":
+                    return closed || delegate.isClosed();
+                case "getConnection":
+                    return owner;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "CachedStatement[" + delegate + "]";
+            }
+            if (closed) {
+                throw new SQLException("Statement closed");
+            }
+            try {
+                return method.invoke(delegate, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+        }
+    }
+}
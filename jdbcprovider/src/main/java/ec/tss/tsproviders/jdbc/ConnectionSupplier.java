@@ -17,10 +17,14 @@
 package ec.tss.tsproviders.jdbc;
 
 import com.google.common.base.Preconditions;
+import java.io.Closeable;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * A class that supplies opened connections to databases. The parameters needed
@@ -42,16 +46,46 @@ public interface ConnectionSupplier {
     Connection getConnection(@NonNull JdbcBean bean) throws SQLException;
 
     /**
-     * A connection supplier that uses {@link DriverManager}.
+     * A connection supplier that uses {@link DriverManager}. The connections
+     * are pooled by url; see {@link #newPool(java.lang.String)}.
      */
-    public static abstract class DriverBasedSupplier implements ConnectionSupplier {
+    public static abstract class DriverBasedSupplier implements ConnectionSupplier, Closeable {
 
         final boolean driverAvailable = loadDriver();
+        private final ConcurrentMap<String, ConnectionPool> pools = new ConcurrentHashMap<>();
 
         @Override
         public Connection getConnection(JdbcBean bean) throws SQLException {
             Preconditions.checkState(driverAvailable, "Driver not available");
-            return DriverManager.getConnection(getUrl(bean));
+            String url = getUrl(bean);
+            // pools of stale urls (changed credentials, ...) must not keep their connections
+            pools.values().forEach(ConnectionPool::evictIdle);
+            ConnectionPool pool = pools.computeIfAbsent(url, this::newPool);
+            return pool != null ? pool.getConnection() : DriverManager.getConnection(url);
+        }
+
+        /**
+         * Creates the pool of connections of a database. Override this method
+         * to tune the pool or to disable it.
+         *
+         * @param url
+         * @return a new pool; null to open a new connection on each call
+         * @since 2.2.4
+         */
+        @Nullable
+        protected ConnectionPool newPool(@NonNull String url) {
+            return ConnectionPool.of(() -> DriverManager.getConnection(url));
+        }
+
+        /**
+         * Closes the idle connections of all the pools.
+         *
+         * @since 2.2.4
+         */
+        @Override
+        public void close() {
+            pools.values().forEach(ConnectionPool::close);
+            pools.clear();
         }
 
         public boolean isDriverAvailable() {
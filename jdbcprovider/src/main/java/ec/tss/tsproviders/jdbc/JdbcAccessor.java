@@ -16,10 +16,14 @@
  */
 package ec.tss.tsproviders.jdbc;
 
+import com.google.common.base.Strings;
+import ec.tss.tsproviders.cube.CubeStore;
 import ec.tss.tsproviders.db.DbAccessor;
 import ec.tss.tsproviders.db.DbSeries;
 import ec.tss.tsproviders.db.DbSetId;
 import ec.tss.tsproviders.db.DbUtil;
+import ec.tstoolkit.timeseries.TsAggregationType;
+import ec.tstoolkit.timeseries.simplets.TsFrequency;
 import ec.tstoolkit.utilities.GuavaCaches;
 import java.sql.*;
 import java.time.Duration;
@@ -41,6 +45,7 @@ public class JdbcAccessor<BEAN extends JdbcBean> extends DbAccessor.Commander<BE
 
     protected final Logger logger;
     protected final ConnectionSupplier supplier;
+    private volatile SqlIdentifierQuoter identifierQuoter;
 
     public JdbcAccessor(@NonNull Logger logger, @NonNull BEAN dbBean, @NonNull ConnectionSupplier supplier) {
         super(dbBean);
@@ -66,6 +71,25 @@ public class JdbcAccessor<BEAN extends JdbcBean> extends DbAccessor.Commander<BE
         }
     }
 
+    /**
+     * Gets the quoter of the identifiers of the database. It is created once
+     * per accessor since it requires several calls to the metadata.
+     *
+     * @param metaData
+     * @return
+     * @throws SQLException
+     * @since 2.2.4
+     */
+    @NonNull
+    protected SqlIdentifierQuoter getIdentifierQuoter(@NonNull DatabaseMetaData metaData) throws SQLException {
+        SqlIdentifierQuoter result = identifierQuoter;
+        if (result == null) {
+            result = SqlIdentifierQuoter.of(metaData);
+            identifierQuoter = result;
+        }
+        return result;
+    }
+
     /**
      * Creates a function that returns a child id from the current record of a
      * ResultSet.
@@ -123,6 +147,69 @@ public class JdbcAccessor<BEAN extends JdbcBean> extends DbAccessor.Commander<BE
         return ResultSetFunc.onNumber(metaData, columnIndex, numberParser);
     }
 
+    /**
+     * Creates an SQL expression that truncates a date column to the first day
+     * of its period in the specified frequency. The default implementation
+     * returns null since there is no standard function for it; vendor-specific
+     * accessors override it to allow the aggregation pushdown.
+     *
+     * @param column the quoted period column
+     * @param frequency the target frequency
+     * @return an SQL expression that returns a date; null if not supported
+     * @since 2.2.4
+     */
+    @Nullable
+    protected String getPeriodTruncation(@NonNull String column, @NonNull TsFrequency frequency) {
+        return null;
+    }
+
+    /**
+     * Gets the SQL aggregate function that matches an aggregation type.
+     *
+     * @param aggregationType
+     * @return a function name; null if there is no such function
+     * @since 2.2.4
+     */
+    @Nullable
+    protected String getAggregateFunction(@NonNull TsAggregationType aggregationType) {
+        switch (aggregationType) {
+            case Sum:
+                return "SUM";
+            case Average:
+                return "AVG";
+            case Min:
+                return "MIN";
+            case Max:
+                return "MAX";
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Groups the observations by period of the target frequency in the
+     * database if the bean asks for it and if the database supports it.
+     * Otherwise, the observations are aggregated by the client as usual.
+     * Versioned tables are always aggregated by the client since the versions
+     * must be filtered before the aggregation.
+     */
+    @NonNull
+    private SelectBuilder withAggregationPushdown(@NonNull SelectBuilder builder, @NonNull String... dimColumns) {
+        JdbcBean bean = getDbBean();
+        if (!bean.isAggregationPushdown() || !Strings.isNullOrEmpty(bean.getVersionColumn())) {
+            return builder;
+        }
+        TsFrequency frequency = bean.getFrequency();
+        String function = getAggregateFunction(bean.getAggregationType());
+        if (function == null || getPeriodTruncation(bean.getPeriodColumn(), frequency) == null) {
+            return builder;
+        }
+        return builder
+                .groupBy(dimColumns).groupBy(bean.getPeriodColumn())
+                .withExpression(bean.getPeriodColumn(), o -> getPeriodTruncation(o, frequency))
+                .withExpression(bean.getValueColumn(), o -> function + "(" + o + ")");
+    }
+
     @Override
     protected Callable<List<DbSetId>> getAllSeriesQuery(DbSetId ref) {
         return new JdbcQuery<List<DbSetId>>(ref) {
@@ -133,7 +220,7 @@ public class JdbcAccessor<BEAN extends JdbcBean> extends DbAccessor.Commander<BE
                         .select(ref.selectColumns())
                         .filter(ref.filterColumns())
                         .orderBy(ref.selectColumns())
-                        .withQuoter(SqlIdentifierQuoter.of(metaData))
+                        .withQuoter(getIdentifierQuoter(metaData))
                         .build();
             }
 
@@ -163,12 +250,12 @@ public class JdbcAccessor<BEAN extends JdbcBean> extends DbAccessor.Commander<BE
             @Override
             protected String getQueryString(DatabaseMetaData metaData) throws SQLException {
                 JdbcBean dbBean = getDbBean();
-                return SelectBuilder.from(dbBean.getTableName())
+                SelectBuilder result = SelectBuilder.from(dbBean.getTableName())
                         .select(ref.selectColumns()).select(dbBean.getPeriodColumn(), dbBean.getValueColumn())
                         .filter(ref.filterColumns())
                         .orderBy(ref.selectColumns()).orderBy(dbBean.getPeriodColumn(), dbBean.getVersionColumn())
-                        .withQuoter(SqlIdentifierQuoter.of(metaData))
-                        .build();
+                        .withQuoter(getIdentifierQuoter(metaData));
+                return withAggregationPushdown(result, ref.selectColumns()).build();
             }
 
             @Override
@@ -206,12 +293,12 @@ public class JdbcAccessor<BEAN extends JdbcBean> extends DbAccessor.Commander<BE
             @Override
             protected String getQueryString(DatabaseMetaData metaData) throws SQLException {
                 JdbcBean dbBean = getDbBean();
-                return SelectBuilder.from(dbBean.getTableName())
+                SelectBuilder result = SelectBuilder.from(dbBean.getTableName())
                         .select(dbBean.getPeriodColumn(), dbBean.getValueColumn())
                         .filter(ref.filterColumns())
                         .orderBy(dbBean.getPeriodColumn(), dbBean.getVersionColumn())
-                        .withQuoter(SqlIdentifierQuoter.of(metaData))
-                        .build();
+                        .withQuoter(getIdentifierQuoter(metaData));
+                return withAggregationPushdown(result).build();
             }
 
             @Override
@@ -252,7 +339,7 @@ public class JdbcAccessor<BEAN extends JdbcBean> extends DbAccessor.Commander<BE
                         .select(column)
                         .filter(ref.filterColumns())
                         .orderBy(column)
-                        .withQuoter(SqlIdentifierQuoter.of(metaData))
+                        .withQuoter(getIdentifierQuoter(metaData))
                         .build();
             }
 
@@ -276,10 +363,43 @@ public class JdbcAccessor<BEAN extends JdbcBean> extends DbAccessor.Commander<BE
         };
     }
 
+    /**
+     * Runs the version query of the bean, if any.
+     *
+     * @return the first value returned by the query; null if there is no
+     * query or no value
+     * @throws SQLException
+     */
+    @Override
+    public String getVersion() throws SQLException {
+        String query = dbBean.getVersionQuery();
+        if (Strings.isNullOrEmpty(query)) {
+            return null;
+        }
+        try (Connection conn = supplier.getConnection(dbBean);
+                PreparedStatement stmt = conn.prepareStatement(query, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ResultSet rs = stmt.executeQuery()) {
+            return rs.next() ? rs.getString(1) : null;
+        }
+    }
+
     @Override
     public DbAccessor<BEAN> memoize() {
+        return memoize(null);
+    }
+
+    /**
+     * Creates an accessor that caches the series in memory and, if the bean
+     * has a version query, in a persistent store.
+     *
+     * @param store the persistent store; null if none
+     * @return
+     * @since 2.2.4
+     */
+    @NonNull
+    public DbAccessor<BEAN> memoize(@Nullable CubeStore store) {
         Duration duration = Duration.ofMillis(dbBean.getCacheTtl());
-        return DbAccessor.BulkAccessor.from(this, dbBean.getCacheDepth(), GuavaCaches.ttlCache(duration));
+        return DbAccessor.BulkAccessor.from(this, dbBean.getCacheDepth(), GuavaCaches.ttlCache(duration), store);
     }
 
     /**
@@ -336,7 +456,10 @@ public class JdbcAccessor<BEAN extends JdbcBean> extends DbAccessor.Commander<BE
                 try (Connection conn = supplier.getConnection(dbBean)) {
                     String queryString = getQueryString(conn.getMetaData());
                     logger.debug(queryString);
-                    try (PreparedStatement cmd = conn.prepareStatement(queryString)) {
+                    try (PreparedStatement cmd = conn.prepareStatement(queryString, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                        if (dbBean.getFetchSize() > 0) {
+                            cmd.setFetchSize(dbBean.getFetchSize());
+                        }
                         setParameters(cmd);
                         try (ResultSet rs = cmd.executeQuery()) {
                             return process(rs);
@@ -18,6 +18,10 @@ package ec.tss.tsproviders.jdbc;
 
 import ec.tss.tsproviders.DataSource;
 import ec.tss.tsproviders.db.DbBean;
+import ec.tss.tsproviders.utils.IParam;
+import static ec.tss.tsproviders.utils.Params.onBoolean;
+import static ec.tss.tsproviders.utils.Params.onInteger;
+import static ec.tss.tsproviders.utils.Params.onString;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 /**
@@ -26,11 +30,83 @@ import org.checkerframework.checker.nullness.qual.NonNull;
  */
 public class JdbcBean extends DbBean.BulkBean {
 
+    /**
+     * Number of rows fetched at once from the server; zero to use the default
+     * of the driver.
+     *
+     * @since 2.2.4
+     */
+    public static final IParam<DataSource, Integer> X_FETCH_SIZE = onInteger(0, "fetchSize");
+    /**
+     * Aggregates the observations to the target frequency in the database
+     * instead of the client. It requires a date period column and a vendor
+     * that supports it; otherwise, it is ignored. Note that the database
+     * aggregates all the observations of a period, so incomplete periods at
+     * the edges of a series are kept instead of being dropped.
+     *
+     * @since 2.2.4
+     */
+    public static final IParam<DataSource, Boolean> X_AGGREGATION_PUSHDOWN = onBoolean(false, "aggregationPushdown");
+    /**
+     * Query that returns a single value that changes with the data of the
+     * table, such as a last-modified time or a checksum (e.g. "SELECT
+     * MAX(LAST_UPDATE) FROM MYTABLE"). It enables the persistent cache of the
+     * provider; empty if none.
+     *
+     * @since 2.2.4
+     */
+    public static final IParam<DataSource, String> X_VERSION_QUERY = onString("", "versionQuery");
+    //
+    protected int fetchSize;
+    protected boolean aggregationPushdown;
+    protected String versionQuery;
+
     public JdbcBean() {
         super();
+        this.fetchSize = X_FETCH_SIZE.defaultValue();
+        this.aggregationPushdown = X_AGGREGATION_PUSHDOWN.defaultValue();
+        this.versionQuery = X_VERSION_QUERY.defaultValue();
     }
 
     public JdbcBean(@NonNull DataSource id) {
         super(id);
+        this.fetchSize = X_FETCH_SIZE.get(id);
+        this.aggregationPushdown = X_AGGREGATION_PUSHDOWN.get(id);
+        this.versionQuery = X_VERSION_QUERY.get(id);
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Getters/Setters">
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize >= 0 ? fetchSize : 0;
+    }
+
+    public boolean isAggregationPushdown() {
+        return aggregationPushdown;
+    }
+
+    public void setAggregationPushdown(boolean aggregationPushdown) {
+        this.aggregationPushdown = aggregationPushdown;
+    }
+
+    public String getVersionQuery() {
+        return versionQuery;
+    }
+
+    public void setVersionQuery(String versionQuery) {
+        this.versionQuery = versionQuery != null ? versionQuery : "";
+    }
+    //</editor-fold>
+
+    @Override
+    public DataSource toDataSource(String providerName, String version) {
+        DataSource.Builder builder = super.toDataSource(providerName, version).toBuilder();
+        X_FETCH_SIZE.set(builder, fetchSize);
+        X_AGGREGATION_PUSHDOWN.set(builder, aggregationPushdown);
+        X_VERSION_QUERY.set(builder, versionQuery);
+        return builder.build();
     }
 }
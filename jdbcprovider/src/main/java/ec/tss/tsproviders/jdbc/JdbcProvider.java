@@ -16,13 +16,19 @@
 */
 package ec.tss.tsproviders.jdbc;
 
+import com.google.common.base.Strings;
+import com.google.common.hash.Hashing;
 import ec.tss.TsAsyncMode;
 import ec.tss.TsMoniker;
 import ec.tss.tsproviders.*;
+import ec.tss.tsproviders.cube.CubeStore;
 import ec.tss.tsproviders.db.DbProvider;
 import ec.tss.tsproviders.utils.Parsers;
 import ec.tstoolkit.design.VisibleForTesting;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.slf4j.Logger;
 
 /**
@@ -34,6 +40,7 @@ public abstract class JdbcProvider<BEAN extends JdbcBean> extends DbProvider<BEA
     protected final String version;
     protected final Parsers.Parser<DataSource> legacyDataSourceParser;
     protected final Parsers.Parser<DataSet> legacyDataSetParser;
+    private volatile Path storeFolder;
 
     protected JdbcProvider(@NonNull String source, @NonNull String version, @NonNull Logger logger, @NonNull TsAsyncMode asyncMode) {
         this(source, version, logger, asyncMode, JdbcLegacy.dbParser(source, version));
@@ -67,4 +74,46 @@ public abstract class JdbcProvider<BEAN extends JdbcBean> extends DbProvider<BEA
     public DataSource encodeBean(Object bean) throws IllegalArgumentException {
         return support.checkBean(bean, JdbcBean.class).toDataSource(getSource(), version);
     }
+
+    /**
+     * Gets the folder of the persistent cache.
+     *
+     * @return a folder; null if there is no persistent cache
+     * @since 2.2.4
+     */
+    @Nullable
+    public Path getStoreFolder() {
+        return storeFolder;
+    }
+
+    /**
+     * Sets the folder of the persistent cache. The series fetched in bulk are
+     * kept in this folder for the beans that have a version query, until the
+     * version returned by this query changes. It applies to the data sources
+     * opened afterwards.
+     *
+     * @param storeFolder a folder; null to disable the persistent cache
+     * @since 2.2.4
+     * @see JdbcBean#X_VERSION_QUERY
+     */
+    public void setStoreFolder(@Nullable Path storeFolder) {
+        this.storeFolder = storeFolder;
+    }
+
+    /**
+     * Gets the persistent store of a bean, in its own sub-folder.
+     *
+     * @param bean
+     * @return a store; null if there is no store folder or no version query
+     * @since 2.2.4
+     */
+    @Nullable
+    protected CubeStore getStore(@NonNull BEAN bean) {
+        Path folder = storeFolder;
+        if (folder == null || Strings.isNullOrEmpty(bean.getVersionQuery())) {
+            return null;
+        }
+        String key = DataSource.uriFormatter().formatAsString(encodeBean(bean));
+        return CubeStore.onFolder(folder.resolve(Hashing.sha256().hashString(key, StandardCharsets.UTF_8).toString()));
+    }
 }
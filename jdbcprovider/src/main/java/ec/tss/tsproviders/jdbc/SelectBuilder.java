@@ -20,9 +20,12 @@ import com.google.common.base.Joiner;
 import com.google.common.base.Strings;
 import ec.tstoolkit.design.IBuilder;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import nbbrd.sql.jdbc.SqlIdentifierQuoter;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
@@ -41,7 +44,9 @@ final class SelectBuilder implements IBuilder<String> {
     private final String table;
     private final List<String> select;
     private final List<String> filter;
+    private final List<String> group;
     private final List<String> order;
+    private final Map<String, UnaryOperator<String>> expressions;
     private boolean distinct;
     private SqlIdentifierQuoter identifierQuoter;
 
@@ -49,7 +54,9 @@ final class SelectBuilder implements IBuilder<String> {
         this.table = table;
         this.select = new ArrayList<>();
         this.filter = new ArrayList<>();
+        this.group = new ArrayList<>();
         this.order = new ArrayList<>();
+        this.expressions = new HashMap<>();
         this.distinct = false;
         this.identifierQuoter = null;
     }
@@ -80,11 +87,31 @@ final class SelectBuilder implements IBuilder<String> {
         return addIfNotNullOrEmpty(this.filter, filter);
     }
 
+    @NonNull
+    SelectBuilder groupBy(@NonNull String... group) {
+        return addIfNotNullOrEmpty(this.group, group);
+    }
+
     @NonNull
     SelectBuilder orderBy(@NonNull String... order) {
         return addIfNotNullOrEmpty(this.order, order);
     }
 
+    /**
+     * Replaces a column by an SQL expression in the SELECT, GROUP BY and ORDER
+     * BY clauses.
+     *
+     * @param column the column to replace
+     * @param expression a function that creates the expression from the
+     * quoted column
+     * @return this builder
+     */
+    @NonNull
+    SelectBuilder withExpression(@NonNull String column, @NonNull UnaryOperator<String> expression) {
+        this.expressions.put(column, expression);
+        return this;
+    }
+
     @NonNull
     SelectBuilder withQuoter(@NonNull SqlIdentifierQuoter identifierQuoter) {
         this.identifierQuoter = identifierQuoter;
@@ -96,13 +123,14 @@ final class SelectBuilder implements IBuilder<String> {
         Function<String, String> toQuotedIdentifier = identifierQuoter != null
                 ? (o -> identifierQuoter.quote(o, false))
                 : (o -> o);
+        Function<String, String> toExpression = o -> expressions.getOrDefault(o, UnaryOperator.identity()).apply(toQuotedIdentifier.apply(o));
         StringBuilder result = new StringBuilder();
         // SELECT
         result.append("SELECT ");
         if (distinct) {
             result.append("DISTINCT ");
         }
-        COMMA_JOINER.appendTo(result, select.stream().map(toQuotedIdentifier).iterator());
+        COMMA_JOINER.appendTo(result, select.stream().map(toExpression).iterator());
         // FROM
         result.append(" FROM ").append(toQuotedIdentifier.apply(table));
         // WHERE
@@ -114,10 +142,15 @@ final class SelectBuilder implements IBuilder<String> {
                 result.append(" AND ").append(iter.next()).append("=?");
             }
         }
+        // GROUP BY
+        if (!group.isEmpty()) {
+            result.append(" GROUP BY ");
+            COMMA_JOINER.appendTo(result, group.stream().map(toExpression).iterator());
+        }
         // ORDER BY
         if (!order.isEmpty()) {
             result.append(" ORDER BY ");
-            COMMA_JOINER.appendTo(result, order.stream().map(toQuotedIdentifier).iterator());
+            COMMA_JOINER.appendTo(result, order.stream().map(toExpression).iterator());
         }
         return result.toString();
     }
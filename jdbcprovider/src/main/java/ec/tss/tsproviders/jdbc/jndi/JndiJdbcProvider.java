@@ -63,7 +63,7 @@ public class JndiJdbcProvider extends JdbcProvider<JdbcBean> {
 
     @Override
     protected DbAccessor<JdbcBean> loadFromBean(JdbcBean bean) throws Exception {
-        return new JdbcAccessor(logger, bean, connectionSupplier).memoize();
+        return new JdbcAccessor(logger, bean, connectionSupplier).memoize(getStore(bean));
     }
 
     @Override
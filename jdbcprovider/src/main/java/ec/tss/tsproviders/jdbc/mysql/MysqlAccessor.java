@@ -0,0 +1,45 @@
+/*
+* Copyright 2026 National Bank of Belgium
+*
+* Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+* by the European Commission - subsequent versions of the EUPL (the "Licence");
+* You may not use this work except in compliance with the Licence.
+* You may obtain a copy of the Licence at:
+*
+* http://ec.europa.eu/idabc/eupl
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the Licence is distributed on an "AS IS" basis,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the Licence for the specific language governing permissions and
+* limitations under the Licence.
+*/
+package ec.tss.tsproviders.jdbc.mysql;
+
+import ec.tss.tsproviders.jdbc.ConnectionSupplier;
+import ec.tss.tsproviders.jdbc.JdbcAccessor;
+import ec.tss.tsproviders.jdbc.JdbcBean;
+import ec.tstoolkit.timeseries.simplets.TsFrequency;
+import org.slf4j.Logger;
+
+/**
+ * MySql flavor of the accessor that truncates the periods with MAKEDATE and
+ * date arithmetic.
+ *
+ * @since 2.2.4
+ */
+final class MysqlAccessor extends JdbcAccessor<JdbcBean> {
+
+    MysqlAccessor(Logger logger, JdbcBean dbBean, ConnectionSupplier supplier) {
+        super(logger, dbBean, supplier);
+    }
+
+    @Override
+    protected String getPeriodTruncation(String column, TsFrequency frequency) {
+        if (frequency == TsFrequency.Undefined) {
+            return null;
+        }
+        int months = 12 / frequency.intValue();
+        return "MAKEDATE(YEAR(" + column + "), 1) + INTERVAL ((MONTH(" + column + ") - 1) DIV " + months + " * " + months + ") MONTH";
+    }
+}
@@ -21,7 +21,6 @@ import ec.tss.TsAsyncMode;
 import ec.tss.tsproviders.DataSource;
 import ec.tss.tsproviders.db.DbAccessor;
 import ec.tss.tsproviders.jdbc.ConnectionSupplier.DriverBasedSupplier;
-import ec.tss.tsproviders.jdbc.JdbcAccessor;
 import ec.tss.tsproviders.jdbc.JdbcBean;
 import ec.tss.tsproviders.jdbc.JdbcProvider;
 import ec.tss.tsproviders.jdbc.dsm.datasource.DataSourceManager;
@@ -57,6 +56,12 @@ public class MysqlProvider extends JdbcProvider<JdbcBean> {
         return connectionSupplier.isDriverAvailable();
     }
 
+    @Override
+    public void dispose() {
+        super.dispose();
+        connectionSupplier.close();
+    }
+
     @Override
     public String getDisplayName() {
         return "MySql databases";
@@ -64,7 +69,7 @@ public class MysqlProvider extends JdbcProvider<JdbcBean> {
 
     @Override
     protected DbAccessor<JdbcBean> loadFromBean(JdbcBean bean) throws Exception {
-        return new JdbcAccessor(logger, bean, connectionSupplier).memoize();
+        return new MysqlAccessor(logger, bean, connectionSupplier).memoize(getStore(bean));
     }
 
     @Override
@@ -85,9 +90,11 @@ public class MysqlProvider extends JdbcProvider<JdbcBean> {
                 Account acc = AccountManager.INSTANCE.getAccount(DataSourceType.MYSQL.getSourceQualifier(), bean.getDbName());
                 IManagedDataSource mngDataSource = DataSourceManager.INSTANCE.getManagedDataSource(DataSourceType.MYSQL.getSourceQualifier(), bean.getDbName());
                 if (acc != null && mngDataSource != null) {
-                    return String.format("jdbc:mysql://%s/%s?user=%s&password=%s",
+                    String result = String.format("jdbc:mysql://%s/%s?user=%s&password=%s",
                             mngDataSource.getProperty("Server"), mngDataSource.getProperty("Database"),
                             acc.getLogin(), acc.getPassword());
+                    // the fetch size is ignored unless server-side cursors are enabled
+                    return bean.getFetchSize() > 0 ? result + "&useCursorFetch=true" : result;
                 }
                 LOGGER.warn("Unable to retrieve either the account or the datasource information");
                 return "";
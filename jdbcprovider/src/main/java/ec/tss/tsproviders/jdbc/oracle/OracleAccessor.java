@@ -0,0 +1,54 @@
+/*
+* Copyright 2026 National Bank of Belgium
+*
+* Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+* by the European Commission - subsequent versions of the EUPL (the "Licence");
+* You may not use this work except in compliance with the Licence.
+* You may obtain a copy of the Licence at:
+*
+* http://ec.europa.eu/idabc/eupl
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the Licence is distributed on an "AS IS" basis,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the Licence for the specific language governing permissions and
+* limitations under the Licence.
+*/
+package ec.tss.tsproviders.jdbc.oracle;
+
+import ec.tss.tsproviders.jdbc.ConnectionSupplier;
+import ec.tss.tsproviders.jdbc.JdbcAccessor;
+import ec.tss.tsproviders.jdbc.JdbcBean;
+import ec.tstoolkit.timeseries.simplets.TsFrequency;
+import org.slf4j.Logger;
+
+/**
+ * Oracle flavor of the accessor that truncates the periods with TRUNC and
+ * ADD_MONTHS.
+ *
+ * @since 2.2.4
+ */
+final class OracleAccessor extends JdbcAccessor<JdbcBean> {
+
+    OracleAccessor(Logger logger, JdbcBean dbBean, ConnectionSupplier supplier) {
+        super(logger, dbBean, supplier);
+    }
+
+    @Override
+    protected String getPeriodTruncation(String column, TsFrequency frequency) {
+        switch (frequency) {
+            case Yearly:
+                return "TRUNC(" + column + ", 'YYYY')";
+            case Monthly:
+                return "TRUNC(" + column + ", 'MM')";
+            case HalfYearly:
+            case QuadriMonthly:
+            case Quarterly:
+            case BiMonthly:
+                int months = 12 / frequency.intValue();
+                return "ADD_MONTHS(TRUNC(" + column + ", 'YYYY'), " + months + " * FLOOR((EXTRACT(MONTH FROM " + column + ") - 1) / " + months + "))";
+            default:
+                return null;
+        }
+    }
+}
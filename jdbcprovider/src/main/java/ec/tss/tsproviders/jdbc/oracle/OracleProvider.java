@@ -22,7 +22,6 @@ import ec.tss.tsproviders.DataSource;
 import ec.tss.tsproviders.db.DbAccessor;
 import ec.tss.tsproviders.jdbc.ConnectionSupplier;
 import ec.tss.tsproviders.jdbc.ConnectionSupplier.DriverBasedSupplier;
-import ec.tss.tsproviders.jdbc.JdbcAccessor;
 import ec.tss.tsproviders.jdbc.JdbcBean;
 import ec.tss.tsproviders.jdbc.JdbcProvider;
 import ec.tss.tsproviders.jdbc.dsm.datasource.DataSourceManager;
@@ -58,6 +57,12 @@ public class OracleProvider extends JdbcProvider<JdbcBean> {
         return connectionSupplier.isDriverAvailable();
     }
 
+    @Override
+    public void dispose() {
+        super.dispose();
+        connectionSupplier.close();
+    }
+
     @Override
     public String getDisplayName() {
         return "Oracle databases";
@@ -65,7 +70,7 @@ public class OracleProvider extends JdbcProvider<JdbcBean> {
 
     @Override
     protected DbAccessor<JdbcBean> loadFromBean(JdbcBean bean) throws Exception {
-        return new JdbcAccessor(logger, bean, connectionSupplier).memoize();
+        return new OracleAccessor(logger, bean, connectionSupplier).memoize(getStore(bean));
     }
 
     @Override
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.tsproviders.jdbc;
+
+import ec.util.jdbc.ForwardingConnection;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.Test;
+
+public class ConnectionPoolTest {
+
+    static final String QUERY = "SELECT COUNT(*) FROM INFORMATION_SCHEMA.SYSTEM_USERS WHERE USER_NAME=?";
+
+    @Test
+    public void testReuse() throws SQLException {
+        MockFactory factory = new MockFactory();
+        ConnectionPool pool = ConnectionPool.of(factory);
+
+        for (int i = 0; i < 3; i++) {
+            try (Connection conn = pool.getConnection()) {
+                assertThat(conn.isClosed()).isFalse();
+                assertThat(query(conn)).isEqualTo(1);
+            }
+        }
+
+        assertThat(factory.opened).hasSize(1);
+        assertThat(factory.opened.get(0).isClosed()).isFalse();
+        assertThat(pool.getIdleCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testStatementCache() throws SQLException {
+        MockFactory factory = new MockFactory();
+        ConnectionPool pool = ConnectionPool.of(factory, 2, 1, ConnectionPool.DEFAULT_MAX_IDLE, ConnectionPool.DEFAULT_BORROW_TIMEOUT);
+
+        try (Connection conn = pool.getConnection()) {
+            assertThat(query(conn)).isEqualTo(1);
+            assertThat(query(conn)).isEqualTo(1);
+            try (PreparedStatement stmt = conn.prepareStatement(QUERY)) {
+                assertThat(stmt.getConnection()).isSameAs(conn);
+            }
+        }
+        try (Connection conn = pool.getConnection()) {
+            assertThat(query(conn)).isEqualTo(1);
+        }
+        assertThat(factory.prepared.get()).isEqualTo(1);
+
+        try (Connection conn = pool.getConnection()) {
+            // evicts the first statement from the cache
+            conn.prepareStatement("SELECT 1 FROM INFORMATION_SCHEMA.SYSTEM_USERS").close();
+            assertThat(query(conn)).isEqualTo(1);
+        }
+        assertThat(factory.prepared.get()).isEqualTo(3);
+
+        PreparedStatement stmt;
+        try (Connection conn = pool.getConnection()) {
+            stmt = conn.prepareStatement(QUERY);
+            stmt.close();
+        }
+        assertThat(stmt.isClosed()).isTrue();
+        assertThatThrownBy(() -> stmt.executeQuery()).isInstanceOf(SQLException.class);
+    }
+
+    @Test
+    public void testMaxSize() throws SQLException {
+        MockFactory factory = new MockFactory();
+        ConnectionPool pool = ConnectionPool.of(factory, 2, 0, ConnectionPool.DEFAULT_MAX_IDLE, Duration.ofMillis(10));
+
+        Connection first = pool.getConnection();
+        Connection second = pool.getConnection();
+        assertThatThrownBy(() -> pool.getConnection()).isInstanceOf(SQLTransientConnectionException.class);
+
+        first.close();
+        first.close();
+        try (Connection third = pool.getConnection()) {
+            assertThat(query(third)).isEqualTo(1);
+        }
+        assertThatThrownBy(() -> first.createStatement()).isInstanceOf(IllegalStateException.class);
+        second.close();
+
+        assertThat(factory.opened).hasSize(2);
+        assertThat(pool.getIdleCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testHealthCheck() throws SQLException {
+        MockFactory factory = new MockFactory();
+        ConnectionPool pool = ConnectionPool.of(factory);
+
+        pool.getConnection().close();
+        factory.invalid.add(factory.opened.get(0));
+        try (Connection conn = pool.getConnection()) {
+            assertThat(query(conn)).isEqualTo(1);
+        }
+
+        assertThat(factory.opened).hasSize(2);
+        assertThat(factory.opened.get(0).isClosed()).isTrue();
+
+        // broken connections are not returned to the pool
+        Connection conn = pool.getConnection();
+        factory.opened.get(1).close();
+        conn.close();
+        assertThat(pool.getIdleCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void testMaxIdle() throws Exception {
+        MockFactory factory = new MockFactory();
+        ConnectionPool pool = ConnectionPool.of(factory, 2, 2, Duration.ofMillis(1), ConnectionPool.DEFAULT_BORROW_TIMEOUT);
+
+        pool.getConnection().close();
+        Thread.sleep(10);
+        pool.evictIdle();
+
+        assertThat(pool.getIdleCount()).isEqualTo(0);
+        assertThat(factory.opened.get(0).isClosed()).isTrue();
+    }
+
+    @Test
+    public void testClose() throws SQLException {
+        MockFactory factory = new MockFactory();
+        ConnectionPool pool = ConnectionPool.of(factory);
+
+        Connection borrowed = pool.getConnection();
+        pool.getConnection().close();
+        pool.close();
+
+        assertThat(factory.opened.get(1).isClosed()).isTrue();
+        assertThat(factory.opened.get(0).isClosed()).isFalse();
+        assertThatThrownBy(() -> pool.getConnection()).isInstanceOf(SQLException.class);
+
+        borrowed.close();
+        assertThat(factory.opened.get(0).isClosed()).isTrue();
+    }
+
+    @Test
+    public void testDriverBasedSupplier() throws SQLException {
+        AtomicInteger pools = new AtomicInteger();
+        ConnectionSupplier.DriverBasedSupplier supplier = new ConnectionSupplier.DriverBasedSupplier() {
+            @Override
+            protected String getUrl(JdbcBean bean) {
+                return "jdbc:hsqldb:mem:" + bean.getDbName() + ";user=SA";
+            }
+
+            @Override
+            protected boolean loadDriver() {
+                return true;
+            }
+
+            @Override
+            protected ConnectionPool newPool(String url) {
+                pools.incrementAndGet();
+                return super.newPool(url);
+            }
+        };
+
+        JdbcBean bean = new JdbcBean();
+        bean.setDbName("pool1");
+        for (int i = 0; i < 3; i++) {
+            try (Connection conn = supplier.getConnection(bean)) {
+                assertThat(query(conn)).isEqualTo(1);
+            }
+        }
+        assertThat(pools.get()).isEqualTo(1);
+
+        bean.setDbName("pool2");
+        supplier.getConnection(bean).close();
+        assertThat(pools.get()).isEqualTo(2);
+
+        supplier.close();
+    }
+
+    private static int query(Connection conn) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(QUERY)) {
+            stmt.setString(1, "SA");
+            try (ResultSet rs = stmt.executeQuery()) {
+                rs.next();
+                return rs.getInt(1);
+            }
+        }
+    }
+
+    private static final class MockFactory implements ConnectionPool.Factory {
+
+        final List<Connection> opened = new ArrayList<>();
+        final AtomicInteger prepared = new AtomicInteger();
+        final Set<Connection> invalid = new HashSet<>();
+
+        @Override
+        public Connection open() throws SQLException {
+            Connection conn = DriverManager.getConnection("jdbc:hsqldb:mem:pool", "SA", "");
+            opened.add(conn);
+            return new ForwardingConnection() {
+                @Override
+                protected Connection getConnection() {
+                    return conn;
+                }
+
+                @Override
+                public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+                    prepared.incrementAndGet();
+                    return super.prepareStatement(sql, resultSetType, resultSetConcurrency);
+                }
+
+                @Override
+                public boolean isValid(int timeout) throws SQLException {
+                    return !invalid.contains(conn) && super.isValid(timeout);
+                }
+            };
+        }
+    }
+}
@@ -16,10 +16,26 @@
  */
 package ec.tss.tsproviders.jdbc.jndi;
 
+import ec.tss.TsInformation;
+import ec.tss.TsInformationType;
+import ec.tss.tsproviders.DataSet;
+import ec.tss.tsproviders.DataSource;
 import ec.tss.tsproviders.IDataSourceLoaderAssert;
+import ec.tss.tsproviders.jdbc.ConnectionSupplier;
+import ec.tss.tsproviders.jdbc.JdbcBean;
 import static ec.tss.tsproviders.jdbc.JdbcSamples.mydbConnectionSupplier;
 import static ec.tss.tsproviders.jdbc.JdbcSamples.mydbTwoDimsBean;
+import ec.util.jdbc.ForwardingConnection;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 /**
  *
@@ -27,11 +43,100 @@ import org.junit.Test;
  */
 public class JndiJdbcProviderTest {
 
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
     @Test
     public void testCompliance() {
         IDataSourceLoaderAssert.assertCompliance(JndiJdbcProviderTest::newProvider, o -> mydbTwoDimsBean());
     }
 
+    @Test
+    public void testGetAll() throws IOException {
+        try (JndiJdbcProvider provider = newProvider()) {
+            DataSource dataSource = provider.encodeBean(mydbTwoDimsBean());
+            List<TsInformation> expected = new ArrayList<>(), actual = new ArrayList<>();
+            for (DataSet collection : provider.children(dataSource)) {
+                for (DataSet series : provider.children(collection)) {
+                    TsInformation info = new TsInformation(null, provider.toMoniker(series), TsInformationType.All);
+                    assertThat(provider.get(info)).isTrue();
+                    expected.add(info);
+                    actual.add(new TsInformation(null, provider.toMoniker(series), TsInformationType.All));
+                }
+            }
+            assertThat(actual.size()).isGreaterThan(1);
+            assertThat(provider.getAll(actual)).isTrue();
+            assertThat(actual).usingFieldByFieldElementComparator().containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    public void testGetAllOfAncestor() throws IOException {
+        List<String> queries = new ArrayList<>();
+        try (JndiJdbcProvider provider = newProvider()) {
+            provider.setConnectionSupplier(recording(queries));
+            DataSource dataSource = provider.encodeBean(mydbTwoDimsBean());
+            DataSet industry = provider.children(dataSource).get(0);
+            List<TsInformation> actual = new ArrayList<>();
+            for (DataSet series : provider.children(industry)) {
+                actual.add(new TsInformation(null, provider.toMoniker(series), TsInformationType.All));
+            }
+            queries.clear();
+            assertThat(provider.getAll(actual)).isTrue();
+            assertThat(actual).hasSize(2).allMatch(o -> o.data != null && o.data.getLength() == 2);
+            // the series of the common ancestor only
+            assertThat(queries).isNotEmpty().allMatch(o -> o.contains("WHERE"));
+        }
+    }
+
+    @Test
+    public void testStore() throws IOException {
+        JdbcBean bean = mydbTwoDimsBean();
+        bean.setVersionQuery("SELECT COUNT(*) FROM Table2");
+
+        List<TsInformation> expected = new ArrayList<>();
+        try (JndiJdbcProvider provider = newProvider()) {
+            provider.setStoreFolder(temp.getRoot().toPath());
+            for (DataSet series : provider.children(provider.children(provider.encodeBean(bean)).get(0))) {
+                TsInformation info = new TsInformation(null, provider.toMoniker(series), TsInformationType.All);
+                assertThat(provider.get(info)).isTrue();
+                expected.add(info);
+            }
+        }
+
+        List<String> queries = new ArrayList<>();
+        try (JndiJdbcProvider provider = newProvider()) {
+            provider.setStoreFolder(temp.getRoot().toPath());
+            provider.setConnectionSupplier(recording(queries));
+            for (TsInformation o : expected) {
+                TsInformation info = new TsInformation(null, o.moniker, TsInformationType.All);
+                assertThat(provider.get(info)).isTrue();
+                assertThat(info.data).isEqualTo(o.data);
+            }
+        }
+        // the series come from the store
+        assertThat(queries).containsExactly(bean.getVersionQuery());
+    }
+
+    private static ConnectionSupplier recording(List<String> queries) {
+        ConnectionSupplier delegate = mydbConnectionSupplier();
+        return o -> {
+            Connection conn = delegate.getConnection(o);
+            return new ForwardingConnection() {
+                @Override
+                protected Connection getConnection() {
+                    return conn;
+                }
+
+                @Override
+                public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+                    queries.add(sql);
+                    return super.prepareStatement(sql, resultSetType, resultSetConcurrency);
+                }
+            };
+        };
+    }
+
     private static JndiJdbcProvider newProvider() {
         JndiJdbcProvider result = new JndiJdbcProvider();
         result.setConnectionSupplier(mydbConnectionSupplier());
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.tsproviders.jdbc.oracle;
+
+import ec.tss.tsproviders.db.DbSeries;
+import ec.tss.tsproviders.jdbc.ConnectionSupplier;
+import ec.tss.tsproviders.jdbc.JdbcAccessor;
+import ec.tss.tsproviders.jdbc.JdbcBean;
+import static ec.tss.tsproviders.jdbc.JdbcSamples.mydbConnectionSupplier;
+import static ec.tss.tsproviders.jdbc.JdbcSamples.mydbTwoDimsBean;
+import ec.tstoolkit.timeseries.TsAggregationType;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import ec.tstoolkit.timeseries.simplets.TsFrequency;
+import ec.tstoolkit.timeseries.simplets.TsPeriod;
+import ec.util.jdbc.ForwardingConnection;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.Assert.*;
+import org.junit.Test;
+import static org.slf4j.helpers.NOPLogger.NOP_LOGGER;
+
+public class OracleAccessorTest {
+
+    static final double[][] D2 = {{1.2, 2.3}, {3.4, 4.5}, {5.6, 6.7}, {7.8, 8.9}};
+
+    @Test
+    public void testAggregationPushdown() throws Exception {
+        for (TsFrequency freq : new TsFrequency[]{TsFrequency.Yearly, TsFrequency.HalfYearly, TsFrequency.QuadriMonthly, TsFrequency.Quarterly, TsFrequency.BiMonthly}) {
+            List<String> queries = new ArrayList<>();
+
+            List<DbSeries> sum = new OracleAccessor(NOP_LOGGER, bean(freq, TsAggregationType.Sum, true), recording(queries)).getAllSeriesWithData();
+            List<DbSeries> avg = new OracleAccessor(NOP_LOGGER, bean(freq, TsAggregationType.Average, true), recording(queries)).getAllSeriesWithData();
+            List<DbSeries> max = new OracleAccessor(NOP_LOGGER, bean(freq, TsAggregationType.Max, true), recording(queries)).getAllSeriesWithData();
+
+            for (int i = 0; i < D2.length; i++) {
+                TsData data = sum.get(i).getData().get();
+                assertEquals(new TsPeriod(freq, 2012, 0), data.getStart());
+                assertEquals(1, data.getLength());
+                assertEquals(D2[i][0] + D2[i][1], data.get(0), 1e-9);
+                assertEquals((D2[i][0] + D2[i][1]) / 2, avg.get(i).getData().get().get(0), 1e-9);
+                assertEquals(D2[i][1], max.get(i).getData().get().get(0), 1e-9);
+            }
+
+            assertEquals(3, queries.size());
+            queries.forEach(o -> assertTrue(o, o.contains(" GROUP BY ")));
+        }
+    }
+
+    @Test
+    public void testSameAsClient() throws Exception {
+        for (TsAggregationType aggregation : new TsAggregationType[]{TsAggregationType.Sum, TsAggregationType.Average, TsAggregationType.Min, TsAggregationType.Max}) {
+            List<String> queries = new ArrayList<>();
+
+            JdbcAccessor<JdbcBean> expected = new JdbcAccessor<>(NOP_LOGGER, bean(TsFrequency.Monthly, aggregation, false), mydbConnectionSupplier());
+            OracleAccessor actual = new OracleAccessor(NOP_LOGGER, bean(TsFrequency.Monthly, aggregation, true), recording(queries));
+
+            assertEquals(toData(expected.getAllSeriesWithData()), toData(actual.getAllSeriesWithData()));
+            assertEquals(toData(expected.getAllSeriesWithData("Other")), toData(actual.getAllSeriesWithData("Other")));
+            assertEquals(expected.getSeriesWithData("Industry", "Europe").getData(), actual.getSeriesWithData("Industry", "Europe").getData());
+
+            assertEquals(3, queries.size());
+            queries.forEach(o -> assertTrue(o, o.contains(" GROUP BY ")));
+        }
+    }
+
+    @Test
+    public void testNoAggregationPushdown() throws Exception {
+        List<String> queries = new ArrayList<>();
+
+        JdbcBean versioned = bean(TsFrequency.Yearly, TsAggregationType.Sum, true);
+        versioned.setVersionColumn("Volume");
+        new OracleAccessor(NOP_LOGGER, versioned, recording(queries)).getAllSeriesWithData();
+        new OracleAccessor(NOP_LOGGER, bean(TsFrequency.Yearly, TsAggregationType.Last, true), recording(queries)).getAllSeriesWithData();
+        new OracleAccessor(NOP_LOGGER, bean(TsFrequency.Undefined, TsAggregationType.None, true), recording(queries)).getAllSeriesWithData();
+
+        assertEquals(3, queries.size());
+        queries.forEach(o -> assertFalse(o, o.contains(" GROUP BY ")));
+    }
+
+    private static JdbcBean bean(TsFrequency freq, TsAggregationType aggregation, boolean pushdown) {
+        JdbcBean result = mydbTwoDimsBean();
+        result.setFrequency(freq);
+        result.setAggregationType(aggregation);
+        result.setAggregationPushdown(pushdown);
+        result.setFetchSize(100);
+        return result;
+    }
+
+    private static List<Object> toData(List<DbSeries> list) {
+        List<Object> result = new ArrayList<>();
+        list.forEach(o -> {
+            result.add(o.getId());
+            result.add(o.getData());
+        });
+        return result;
+    }
+
+    private static ConnectionSupplier recording(List<String> queries) {
+        ConnectionSupplier delegate = mydbConnectionSupplier();
+        return o -> {
+            Connection conn = delegate.getConnection(o);
+            return new ForwardingConnection() {
+                @Override
+                protected Connection getConnection() {
+                    return conn;
+                }
+
+                @Override
+                public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+                    queries.add(sql);
+                    return super.prepareStatement(sql, resultSetType, resultSetConcurrency);
+                }
+            };
+        };
+    }
+}
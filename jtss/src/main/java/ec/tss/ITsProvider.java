@@ -17,6 +17,7 @@
 package ec.tss;
 
 import ec.tstoolkit.design.Development;
+import java.util.List;
 import nbbrd.service.Quantifier;
 import nbbrd.service.ServiceDefinition;
 import net.jcip.annotations.ThreadSafe;
@@ -74,6 +75,27 @@ public interface ITsProvider extends AutoCloseable {
      */
     boolean get(@NonNull TsInformation info);
 
+    /**
+     * Synchronous query of the information about several ts (with or without
+     * data). Each item is filled as by {@link #get(TsInformation)}. The default
+     * implementation queries the series one by one; providers that are able to
+     * retrieve many series in a single pass (databases, spreadsheets...) should
+     * override it.
+     *
+     * @param infos The requested information
+     * @return true if all the queries run without exception, false otherwise
+     * @since 2.2.4
+     */
+    default boolean getAll(@NonNull List<TsInformation> infos) {
+        boolean result = true;
+        for (TsInformation info : infos) {
+            if (!get(info)) {
+                result = false;
+            }
+        }
+        return result;
+    }
+
     /**
      * Gets the asynchronous mode of the provider.
      *
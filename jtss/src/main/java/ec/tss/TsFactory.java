@@ -28,12 +28,11 @@ import ec.tstoolkit.design.Internal;
 import ec.tstoolkit.design.NewObject;
 import ec.tstoolkit.design.Singleton;
 import ec.tstoolkit.timeseries.simplets.TsData;
-import java.lang.ref.WeakReference;
 import java.util.*;
-import java.util.Map.Entry;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import java.util.stream.Collector;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -130,7 +129,7 @@ public class TsFactory {
                 }
                 cleanTS();
                 cleanTSCollection();
-                LockSupport.parkNanos(10000000000l);
+                LockSupport.parkNanos(1000000000l);
             }
         }
     }
@@ -146,9 +145,9 @@ public class TsFactory {
     }
 
     private final HashMap<String, ITsProvider> m_providers = new HashMap<>();
-    private final HashMap<TsMoniker, WeakReference<TsCollection>> m_collections = new HashMap<>();
-    private final HashMap<TsMoniker, WeakReference<Ts.Master>> m_ts = new HashMap<>();
-    private boolean m_close;
+    private final TsRegistry<TsCollection> m_collections = new TsRegistry<>();
+    private final TsRegistry<Ts.Master> m_ts = new TsRegistry<>();
+    private volatile boolean m_close;
     private final long m_threadID;
     private boolean m_useSynchronousNotifications = true;
     NotificationsQueue notifications = new NotificationsQueue();
@@ -204,32 +203,11 @@ public class TsFactory {
     }
 
     private void cleanTS() {
-        synchronized (m_ts) {
-            HashMap<TsMoniker, WeakReference<Ts.Master>> tmp = new HashMap<>();
-            int n = 0;
-            for (Entry<TsMoniker, WeakReference<Ts.Master>> r : m_ts.entrySet()) {
-                if (r.getValue().get() != null) {
-                    tmp.put(r.getKey(), r.getValue());
-                } else {
-                    ++n;
-                }
-            }
-            m_ts.clear();
-            m_ts.putAll(tmp);
-        }
+        m_ts.expunge();
     }
 
     private void cleanTSCollection() {
-        synchronized (m_collections) {
-            HashMap<TsMoniker, WeakReference<TsCollection>> tmp = new HashMap<>();
-            m_collections.forEach((k, v) -> {
-                if (v.get() != null) {
-                    tmp.put(k, v);
-                }
-            });
-            m_collections.clear();
-            m_collections.putAll(tmp);
-        }
+        m_collections.expunge();
     }
 
     /**
@@ -269,27 +247,18 @@ public class TsFactory {
     @NonNull
     @NewObject
     public Ts createTs(@Nullable String name) {
-        synchronized (m_ts) {
-            Ts.Master ts = new Ts.Master(tsCallback, name);
-            m_ts.put(ts.getMoniker(), new WeakReference<>(ts));
-            return ts;
-        }
+        Ts.Master ts = new Ts.Master(tsCallback, name);
+        m_ts.put(ts.getMoniker(), ts);
+        return ts;
     }
 
     Ts createTs(TsInformation info) {
-        synchronized (m_ts) {
-            Ts.Master ts = null;
-            WeakReference<Ts.Master> wref = m_ts.get(info.moniker);
-            if (wref != null) {
-                ts = wref.get();
-            }
-            if (ts == null) {
-                ts = new Ts.Master(tsCallback, info.name, info.moniker);
-            }
-            ts.update(info);
-            m_ts.put(ts.getMoniker(), new WeakReference<>(ts));
-            return ts;
+        Ts.Master ts = m_ts.get(info.moniker);
+        if (ts == null) {
+            ts = m_ts.putIfAbsent(info.moniker, new Ts.Master(tsCallback, info.name, info.moniker));
         }
+        ts.update(info);
+        return ts;
     }
 
     /**
@@ -318,29 +287,18 @@ public class TsFactory {
      */
     @NonNull
     public Ts createTs(@Nullable String name, @Nullable TsMoniker moniker, @Nullable MetaData md, @Nullable TsData d) {
-        synchronized (m_ts) {
-            WeakReference<Ts.Master> wref = null;
-            if (moniker != null) {
-                wref = m_ts.get(moniker);
-            }
-            if (wref != null) {
-                Ts.Master ts = wref.get();
-                if (ts != null) {
-                    return ts.rename(name);
-                } else {
-                    ts = new Ts.Master(tsCallback, name, moniker, md, d);
-                    m_ts.put(moniker, new WeakReference<>(ts));
-                    return ts;
-                }
-            } else {
-                if (moniker == null) {
-                    moniker = new TsMoniker();
-                }
-                Ts.Master ts = new Ts.Master(tsCallback, name, moniker, md, d);
-                m_ts.put(ts.getMoniker(), new WeakReference<>(ts));
-                return ts;
-            }
+        if (moniker == null) {
+            Ts.Master ts = new Ts.Master(tsCallback, name, new TsMoniker(), md, d);
+            m_ts.put(ts.getMoniker(), ts);
+            return ts;
+        }
+        Ts.Master ts = m_ts.get(moniker);
+        if (ts != null) {
+            return ts.rename(name);
         }
+        Ts.Master nts = new Ts.Master(tsCallback, name, moniker, md, d);
+        ts = m_ts.putIfAbsent(moniker, nts);
+        return ts == nts ? ts : ts.rename(name);
     }
 
     /**
@@ -354,23 +312,28 @@ public class TsFactory {
      */
     @NonNull
     public Ts createTs(@Nullable String name, @NonNull TsMoniker moniker, @NonNull TsInformationType type) {
-        synchronized (m_ts) {
-            Ts.Master result = (Ts.Master) getTs(moniker);
+        return m_ts.locked(moniker, () -> {
+            Ts.Master result = m_ts.get(moniker);
             if (result == null) {
+                Ts.Master nts;
                 if (type != TsInformationType.None) {
                     TsInformation info = new TsInformation(name, moniker, type);
                     fill(info);
-                    result = new Ts.Master(tsCallback, name != null ? name : info.name, moniker);
-                    result.update(info);
+                    nts = new Ts.Master(tsCallback, name != null ? name : info.name, moniker);
+                    nts.update(info);
                 } else {
-                    result = new Ts.Master(tsCallback, name, moniker);
+                    nts = new Ts.Master(tsCallback, name, moniker);
+                }
+                // the creations without loading don't take the lock
+                result = m_ts.putIfAbsent(moniker, nts);
+                if (result != nts) {
+                    result.load(type);
                 }
-                m_ts.put(moniker, new WeakReference<>(result));
             } else {
                 result.load(type);
             }
             return result;
-        }
+        });
     }
 
     private boolean fill(TsInformation info) {
@@ -388,6 +351,21 @@ public class TsFactory {
         return true;
     }
 
+    private void fill(String source, List<TsInformation> infos) {
+        ITsProvider provider = getProvider(source);
+        if (provider == null) {
+            infos.forEach(o -> o.invalidDataCause = "Missing provider");
+            return;
+        }
+        provider.getAll(infos);
+        // the result of getAll doesn't tell which series failed
+        for (TsInformation info : infos) {
+            if (info.invalidDataCause == null && info.type.needsData() && info.data == null) {
+                info.invalidDataCause = "Unknown error";
+            }
+        }
+    }
+
     /**
      * Creates a new collection with the specified name.
      *
@@ -408,12 +386,9 @@ public class TsFactory {
     @NonNull
     @NewObject
     public TsCollection createTsCollection(@Nullable String name) {
-        synchronized (m_collections) {
-            TsCollection coll = new TsCollection(tsCollectionCallback, name);
-            m_collections.put(coll.getMoniker(),
-                    new WeakReference<>(coll));
-            return coll;
-        }
+        TsCollection coll = new TsCollection(tsCollectionCallback, name);
+        m_collections.put(coll.getMoniker(), coll);
+        return coll;
     }
 
     /**
@@ -429,29 +404,16 @@ public class TsFactory {
     @NonNull
     public TsCollection createTsCollection(@Nullable String name, @Nullable TsMoniker moniker, @Nullable MetaData md,
             @Nullable Iterable<Ts> ts) {
-        synchronized (m_collections) {
-            if (moniker == null) {
-                TsCollection c = new TsCollection(tsCollectionCallback, name, new TsMoniker(), md, ts);
-                m_collections.put(c.getMoniker(), new WeakReference<>(c));
-                return c;
-            } else {
-                WeakReference<TsCollection> wref = m_collections.get(moniker);
-                if (wref != null) {
-                    TsCollection c = wref.get();
-                    if (c != null) {
-                        return c;
-                    } else {
-                        c = new TsCollection(tsCollectionCallback, name, moniker, md, ts);
-                        m_collections.put(c.getMoniker(), new WeakReference<>(c));
-                        return c;
-                    }
-                } else {
-                    TsCollection c = new TsCollection(tsCollectionCallback, name, moniker, md, ts);
-                    m_collections.put(c.getMoniker(), new WeakReference<>(c));
-                    return c;
-                }
-            }
+        if (moniker == null) {
+            TsCollection c = new TsCollection(tsCollectionCallback, name, new TsMoniker(), md, ts);
+            m_collections.put(c.getMoniker(), c);
+            return c;
         }
+        TsCollection c = m_collections.get(moniker);
+        if (c != null) {
+            return c;
+        }
+        return m_collections.putIfAbsent(moniker, new TsCollection(tsCollectionCallback, name, moniker, md, ts));
     }
 
     /**
@@ -467,26 +429,29 @@ public class TsFactory {
     public TsCollection createTsCollection(@Nullable String name, @NonNull TsMoniker moniker,
             @NonNull TsInformationType type) {
         // Search collection
-        synchronized (m_collections) {
-            TsCollection result = getTsCollection(moniker);
+        return m_collections.locked(moniker, () -> {
+            TsCollection result = m_collections.get(moniker);
             if (result == null) {
-                result = new TsCollection(tsCollectionCallback, name, moniker);
+                TsCollection ncoll = new TsCollection(tsCollectionCallback, name, moniker);
                 if (type != TsInformationType.None) {
                     TsCollectionInformation info = new TsCollectionInformation(moniker, type);
                     fill(info);
                     // set data
-                    List<Ts> updated = result.update(info);
+                    List<Ts> updated = ncoll.update(info);
                     for (Ts s : updated) {
-                        notify(s, type, result);
+                        notify(s, type, ncoll);
                     }
                 }
-                // add collection
-                m_collections.put(moniker, new WeakReference<>(result));
+                // add collection; the creations without loading don't take the lock
+                result = m_collections.putIfAbsent(moniker, ncoll);
+                if (result != ncoll) {
+                    result.load(type);
+                }
             } else {
                 result.load(type);
             }
             return result;
-        }
+        });
     }
 
     private boolean fill(TsCollectionInformation info) {
@@ -554,19 +519,7 @@ public class TsFactory {
      */
     @Nullable
     public Ts getTs(@Nullable TsMoniker moniker) {
-        synchronized (m_ts) {
-            WeakReference<Ts.Master> wref = m_ts.get(moniker);
-            if (wref != null) {
-                Ts ts = wref.get();
-                if (ts == null) {
-                    m_ts.remove(moniker);
-                }
-                // cleanTS();
-                return ts;
-            } else {
-                return null;
-            }
-        }
+        return m_ts.get(moniker);
     }
 
     /**
@@ -578,19 +531,7 @@ public class TsFactory {
      */
     @Nullable
     public TsCollection getTsCollection(@Nullable TsMoniker moniker) {
-        synchronized (m_collections) {
-            WeakReference<TsCollection> wref = m_collections.get(moniker);
-            if (wref != null) {
-                TsCollection collection = wref.get();
-                if (collection == null) {
-                    m_collections.remove(moniker);
-                }
-                // cleanTSCollection();
-                return collection;
-            } else {
-                return null;
-            }
-        }
+        return m_collections.get(moniker);
     }
 
     /**
@@ -611,13 +552,7 @@ public class TsFactory {
         if (m_close) {
             return false;
         }
-        synchronized (m_ts) {
-            WeakReference<Ts.Master> wref = m_ts.get(moniker);
-            if (wref == null) {
-                return false;
-            }
-            return wref.get() != null;
-        }
+        return m_ts.isAlive(moniker);
     }
 
     /**
@@ -630,13 +565,47 @@ public class TsFactory {
         if (m_close) {
             return false;
         }
-        synchronized (m_collections) {
-            WeakReference<TsCollection> wref = m_collections.get(moniker);
-            if (wref == null) {
-                return false;
-            }
-            return wref.get() != null;
-        }
+        return m_collections.isAlive(moniker);
+    }
+
+    /**
+     * Statistics on the registry of the time series and on the registry of the
+     * collections
+     */
+    @lombok.Value
+    public static class RegistryStats {
+
+        /**
+         * Number of entries, including the objects that have been garbage
+         * collected but that are not yet removed
+         */
+        int size;
+        long lookups;
+        long hits;
+        /**
+         * Number of objects created concurrently by several threads (only one
+         * of them is registered)
+         */
+        long conflicts;
+        /**
+         * Number of operations that had to wait for the lock of their stripe
+         */
+        long contentions;
+        /**
+         * Number of entries removed after the garbage collection of their
+         * object
+         */
+        long expunged;
+    }
+
+    @NonNull
+    public RegistryStats getTsRegistryStats() {
+        return m_ts.getStats();
+    }
+
+    @NonNull
+    public RegistryStats getTsCollectionRegistryStats() {
+        return m_collections.getStats();
     }
 
     /**
@@ -658,6 +627,36 @@ public class TsFactory {
         return result;
     }
 
+    private boolean doLoad(Ts.@NonNull Master[] list, @NonNull TsInformationType type) {
+        boolean ok = false;
+        // groups the series by provider, so that each provider is queried once
+        Map<String, List<Ts.Master>> requests = new LinkedHashMap<>();
+        for (Ts.Master s : list) {
+            if (s.getMoniker().isAnonymous()) {
+                ok = true;
+            } else {
+                requests.computeIfAbsent(s.getMoniker().getSource(), o -> new ArrayList<>()).add(s);
+            }
+        }
+        for (Map.Entry<String, List<Ts.Master>> request : requests.entrySet()) {
+            List<Ts.Master> series = request.getValue();
+            List<TsInformation> infos = series.stream()
+                    .map(s -> new TsInformation(s.getName(), s.getMoniker(), type))
+                    .collect(Collectors.toList());
+            fill(request.getKey(), infos);
+            for (int i = 0; i < infos.size(); ++i) {
+                Ts.Master s = series.get(i);
+                TsInformation info = infos.get(i);
+                s.update(info);
+                notify(s, info.type, this);
+                if (info.invalidDataCause == null) {
+                    ok = true;
+                }
+            }
+        }
+        return ok;
+    }
+
     private boolean doLoad(@NonNull TsCollection c, @NonNull TsInformationType type) {
         if (c.getMoniker().isAnonymous()) {
             return true;
@@ -684,19 +683,18 @@ public class TsFactory {
     }
 
     /**
+     * Loads information for the corresponding time series. The series are
+     * grouped by provider and each provider is queried once, through
+     * {@link ITsProvider#getAll(java.util.List)}. An event is automatically
+     * dispatched for each series.
      *
      * @param list
      * @param type
-     * @return
+     * @return true if the data of at least one series is loaded; false
+     * otherwise
      */
     public boolean load(Ts[] list, TsInformationType type) {
-        boolean ok = false;
-        for (Ts s : list) {
-            if (load(s, type)) {
-                ok = true;
-            }
-        }
-        return ok;
+        return doLoad(Stream.of(list).map(Ts::getMaster).toArray(Ts.Master[]::new), type);
     }
 
     /**
@@ -777,11 +775,9 @@ public class TsFactory {
         if (provider == null) {
             return false;
         }
-        synchronized (m_ts) {
-            return provider.getAsyncMode() == TsAsyncMode.None
-                    ? doLoad(s.getMaster(), type)
-                    : provider.queryTs(s.getMoniker(), type);
-        }
+        return m_ts.locked(s.getMoniker(), () -> provider.getAsyncMode() == TsAsyncMode.None
+                ? doLoad(s.getMaster(), type)
+                : provider.queryTs(s.getMoniker(), type));
     }
 
     /**
@@ -807,11 +803,9 @@ public class TsFactory {
             }
             return true;
         }
-        synchronized (m_collections) {
-            return provider.getAsyncMode() == TsAsyncMode.None
-                    ? doLoad(c, type)
-                    : provider.queryTsCollection(c.getMoniker(), type);
-        }
+        return m_collections.locked(c.getMoniker(), () -> provider.getAsyncMode() == TsAsyncMode.None
+                ? doLoad(c, type)
+                : provider.queryTsCollection(c.getMoniker(), type));
     }
 
     /**
@@ -877,7 +871,7 @@ public class TsFactory {
      * @param info
      */
     public void update(@NonNull TsCollectionInformation info) {
-        synchronized (m_collections) {
+        m_collections.locked(info.moniker, () -> {
             TsCollection c = getTsCollection(info.moniker);
             if (c != null) {
                 List<Ts> updated = c.update(info);
@@ -887,7 +881,8 @@ public class TsFactory {
                 // the collection has been destroyed, but the series could be alive...
                 info.items.forEach(sinfo -> update(sinfo));
             }
-        }
+            return null;
+        });
     }
 
     /**
@@ -896,15 +891,16 @@ public class TsFactory {
      * @param info
      */
     public void update(@NonNull TsInformation info) {
-        synchronized (m_ts) {
-            Ts.Master s = (Ts.Master) getTs(info.moniker);
+        m_ts.locked(info.moniker, () -> {
+            Ts.Master s = m_ts.get(info.moniker);
             if (s == null) // the series has been destroyed
             {
-                return;
+                return null;
             }
             s.update(info);
             notify(s, info.type, null);
-        }
+            return null;
+        });
     }
 
     /**
@@ -940,27 +936,24 @@ public class TsFactory {
         }
 
         private void reloadTS(IDataSourceProvider p, DataSource dataSource) {
-            Stream.of(lookupTs(p, dataSource)).forEach(getTsReloader(p));
+            if (p.getAsyncMode() == TsAsyncMode.None) {
+                // bulk reload, by type of information
+                Stream.of(lookupTs(p, dataSource))
+                        .collect(Collectors.groupingBy(Ts.Master::getInformationType))
+                        .forEach((type, list) -> doLoad(list.toArray(new Ts.Master[list.size()]), type));
+            } else {
+                Stream.of(lookupTs(p, dataSource)).forEach(getTsReloader(p));
+            }
         }
 
         private TsCollection[] lookupTsCollection(IDataSourceProvider p, DataSource dataSource) {
-            synchronized (m_collections) {
-                return m_collections.entrySet().stream()
-                        .filter(o -> isRelatedTo(p, dataSource, o.getKey()))
-                        .map(o -> o.getValue().get())
-                        .filter(Objects::nonNull)
-                        .toArray(TsCollection[]::new);
-            }
+            return m_collections.select(o -> isRelatedTo(p, dataSource, o))
+                    .toArray(TsCollection[]::new);
         }
 
         private Ts.Master[] lookupTs(IDataSourceProvider p, DataSource dataSource) {
-            synchronized (m_collections) {
-                return m_ts.entrySet().stream()
-                        .filter(o -> isRelatedTo(p, dataSource, o.getKey()))
-                        .map(o -> o.getValue().get())
-                        .filter(Objects::nonNull)
-                        .toArray(Ts.Master[]::new);
-            }
+            return m_ts.select(o -> isRelatedTo(p, dataSource, o))
+                    .toArray(Ts.Master[]::new);
         }
 
         private boolean isRelatedTo(IDataSourceProvider p, DataSource dataSource, TsMoniker moniker) {
@@ -978,9 +971,7 @@ public class TsFactory {
         }
 
         private Consumer<Ts.Master> getTsReloader(IDataSourceProvider p) {
-            return p.getAsyncMode() == TsAsyncMode.None
-                    ? o -> doLoad(o, o.getInformationType())
-                    : o -> p.queryTs(o.getMoniker(), o.getInformationType());
+            return o -> p.queryTs(o.getMoniker(), o.getInformationType());
         }
     }
 
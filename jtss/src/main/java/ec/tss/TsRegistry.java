@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss;
+
+import ec.tstoolkit.design.Development;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Concurrent registry of weakly referenced objects, identified by their
+ * monikers. The entries of the objects that have been garbage collected are
+ * removed incrementally, through a reference queue.
+ *
+ * Compound operations on a given moniker (get or create, then load) can be
+ * serialized by means of striped locks: operations on monikers that belong to
+ * different stripes don't block each other.
+ *
+ * @param <T> Type of the registered objects
+ */
+@Development(status = Development.Status.Alpha)
+final class TsRegistry<T> {
+
+    private static final int STRIPES = 64;
+
+    private final ConcurrentHashMap<TsMoniker, Ref<T>> map = new ConcurrentHashMap<>();
+    private final ReferenceQueue<T> queue = new ReferenceQueue<>();
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+    private final LongAdder lookups = new LongAdder(), hits = new LongAdder(),
+            conflicts = new LongAdder(), contentions = new LongAdder(), expunged = new LongAdder();
+
+    TsRegistry() {
+        for (int i = 0; i < STRIPES; ++i) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Gets a registered object
+     *
+     * @param moniker
+     * @return The object or null if it is not registered (or no longer
+     * alive)
+     */
+    T get(TsMoniker moniker) {
+        if (moniker == null) {
+            return null;
+        }
+        lookups.increment();
+        Ref<T> ref = map.get(moniker);
+        if (ref == null) {
+            return null;
+        }
+        T t = ref.get();
+        if (t == null) {
+            map.remove(moniker, ref);
+        } else {
+            hits.increment();
+        }
+        return t;
+    }
+
+    boolean isAlive(TsMoniker moniker) {
+        if (moniker == null) {
+            return false;
+        }
+        Ref<T> ref = map.get(moniker);
+        return ref != null && ref.get() != null;
+    }
+
+    /**
+     * Registers an object, replacing the current one (if any)
+     *
+     * @param moniker
+     * @param t
+     */
+    void put(TsMoniker moniker, T t) {
+        expunge();
+        if (moniker != null) {
+            map.put(moniker, new Ref<>(moniker, t, queue));
+        }
+    }
+
+    /**
+     * Registers an object, except if another object is already alive for the
+     * same moniker
+     *
+     * @param moniker
+     * @param t
+     * @return The registered object (t or the existing one)
+     */
+    T putIfAbsent(TsMoniker moniker, T t) {
+        expunge();
+        if (moniker == null) {
+            return t;
+        }
+        Ref<T> nref = new Ref<>(moniker, t, queue);
+        while (true) {
+            Ref<T> ref = map.putIfAbsent(moniker, nref);
+            if (ref == null) {
+                return t;
+            }
+            T cur = ref.get();
+            if (cur != null) {
+                conflicts.increment();
+                return cur;
+            }
+            if (map.replace(moniker, ref, nref)) {
+                return t;
+            }
+        }
+    }
+
+    /**
+     * Executes an action while holding the lock of the stripe of a given
+     * moniker. The locks are reentrant.
+     *
+     * @param <R>
+     * @param moniker
+     * @param action
+     * @return The result of the action
+     */
+    <R> R locked(TsMoniker moniker, Supplier<R> action) {
+        ReentrantLock lock = locks[moniker == null ? 0 : (spread(moniker.hashCode()) & (STRIPES - 1))];
+        if (!lock.tryLock()) {
+            contentions.increment();
+            lock.lock();
+        }
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Alive objects whose monikers satisfy a given condition
+     *
+     * @param pred
+     * @return
+     */
+    Stream<T> select(Predicate<TsMoniker> pred) {
+        return map.entrySet().stream()
+                .filter(o -> pred.test(o.getKey()))
+                .map(o -> o.getValue().get())
+                .filter(Objects::nonNull);
+    }
+
+    /**
+     * Removes the entries of the objects that have been garbage collected.
+     */
+    void expunge() {
+        Reference<? extends T> r;
+        while ((r = queue.poll()) != null) {
+            Ref<?> ref = (Ref<?>) r;
+            if (map.remove(ref.moniker, ref)) {
+                expunged.increment();
+            }
+        }
+    }
+
+    int size() {
+        return map.size();
+    }
+
+    TsFactory.RegistryStats getStats() {
+        return new TsFactory.RegistryStats(map.size(), lookups.sum(), hits.sum(),
+                conflicts.sum(), contentions.sum(), expunged.sum());
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    private static final class Ref<T> extends WeakReference<T> {
+
+        final TsMoniker moniker;
+
+        Ref(TsMoniker moniker, T t, ReferenceQueue<T> queue) {
+            super(t, queue);
+            this.moniker = moniker;
+        }
+    }
+}
@@ -31,6 +31,8 @@ import ec.tstoolkit.maths.Complex;
 import ec.tstoolkit.sarima.SarimaModel;
 import ec.tstoolkit.timeseries.simplets.TsPeriod;
 import ec.tstoolkit.utilities.NamedObject;
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.IOException;
 import java.io.Writer;
 import java.lang.reflect.Type;
@@ -372,6 +374,232 @@ public class CsvInformationFormatter {
 
     }
 
+    /**
+     * Pre-formatted record. Records can be formatted one by one, as soon as
+     * they are available, and written later, when the layout of the matrix
+     * (which depends on all the records) is known. The output is the same as
+     * the one of formatResults.
+     *
+     * @since 2.2.4
+     */
+    public static final class FormattedRecord {
+
+        private final String name;
+        private final int[] lengths;
+        private final String[][] items;
+        // cells[col][item][j] contains format(obj, j), for j in [0, max length]
+        private final String[][][] cells;
+
+        private FormattedRecord(String name, int[] lengths, String[][] items, String[][][] cells) {
+            this.name = name;
+            this.lengths = lengths;
+            this.items = items;
+            this.cells = cells;
+        }
+
+        String[] search(int col, String id) {
+            String[] citems = items[col];
+            for (int i = 0; i < citems.length; ++i) {
+                if (citems[i].equals(id)) {
+                    return cells[col][i];
+                }
+            }
+            return null;
+        }
+
+        public void write(DataOutput output) throws IOException {
+            writeString(output, name);
+            output.writeInt(items.length);
+            for (int col = 0; col < items.length; ++col) {
+                output.writeInt(lengths[col]);
+                output.writeInt(items[col].length);
+                for (int i = 0; i < items[col].length; ++i) {
+                    writeString(output, items[col][i]);
+                    String[] c = cells[col][i];
+                    output.writeInt(c == null ? -1 : c.length);
+                    if (c != null) {
+                        for (int j = 0; j < c.length; ++j) {
+                            writeString(output, c[j]);
+                        }
+                    }
+                }
+            }
+        }
+
+        public static FormattedRecord read(DataInput input) throws IOException {
+            String name = readString(input);
+            int ncols = input.readInt();
+            int[] lengths = new int[ncols];
+            String[][] items = new String[ncols][];
+            String[][][] cells = new String[ncols][][];
+            for (int col = 0; col < ncols; ++col) {
+                lengths[col] = input.readInt();
+                int n = input.readInt();
+                items[col] = new String[n];
+                cells[col] = new String[n][];
+                for (int i = 0; i < n; ++i) {
+                    items[col][i] = readString(input);
+                    int nc = input.readInt();
+                    if (nc >= 0) {
+                        String[] c = new String[nc];
+                        for (int j = 0; j < nc; ++j) {
+                            c[j] = readString(input);
+                        }
+                        cells[col][i] = c;
+                    }
+                }
+            }
+            return new FormattedRecord(name, lengths, items, cells);
+        }
+
+        private static void writeString(DataOutput output, String s) throws IOException {
+            output.writeInt(s == null ? -1 : s.length());
+            if (s != null) {
+                output.writeChars(s);
+            }
+        }
+
+        private static String readString(DataInput input) throws IOException {
+            int n = input.readInt();
+            if (n < 0) {
+                return null;
+            }
+            char[] chars = new char[n];
+            for (int i = 0; i < n; ++i) {
+                chars[i] = input.readChar();
+            }
+            return new String(chars);
+        }
+    }
+
+    /**
+     * Formats a record. The formatters are not thread-safe: the records
+     * should be formatted one at a time.
+     *
+     * @param name The row header
+     * @param record
+     * @param names
+     * @param shortname
+     * @return
+     * @since 2.2.4
+     */
+    public FormattedRecord formatRecord(String name, IProcResults record, List<String> names, boolean shortname) {
+        int nmax = maxLength(names);
+        int ncols = names.size();
+        int[] lengths = new int[ncols];
+        String[][] items = new String[ncols][];
+        String[][][] cells = new String[ncols][][];
+        for (int col = 0; col < ncols; ++col) {
+            MatrixItem m = new MatrixItem();
+            m.fill(names.get(col), record, shortname);
+            lengths[col] = m.length;
+            items[col] = m.items;
+            cells[col] = new String[m.items.length][];
+            for (int i = 0; i < m.items.length; ++i) {
+                Object obj = m.results[i];
+                if (obj != null) {
+                    String[] c = new String[nmax + 1];
+                    for (int j = 0; j <= nmax; ++j) {
+                        c[j] = format(obj, j);
+                    }
+                    cells[col][i] = c;
+                }
+            }
+        }
+        return new FormattedRecord(name, lengths, items, cells);
+    }
+
+    /**
+     * Writes pre-formatted records. The records are iterated twice (to
+     * compute the layout of the matrix, then to write it)
+     *
+     * @param writer
+     * @param nnames The number of names used to format the records
+     * @param records
+     * @throws IOException
+     * @since 2.2.4
+     */
+    public void formatRecords(Writer writer, int nnames, Iterable<FormattedRecord> records) throws IOException {
+        List<LinkedHashMap<String, Integer>> wnames = new ArrayList<>();
+        for (int cur = 0; cur < nnames; ++cur) {
+            wnames.add(new LinkedHashMap<>());
+        }
+        for (FormattedRecord record : records) {
+            for (int cur = 0; cur < nnames; ++cur) {
+                LinkedHashMap<String, Integer> map = wnames.get(cur);
+                String[] items = record.items[cur];
+                for (int j = 0; j < items.length; ++j) {
+                    Integer l = map.get(items[j]);
+                    if (l == null || l < record.lengths[cur]) {
+                        map.put(items[j], record.lengths[cur]);
+                    }
+                }
+            }
+        }
+        writer.write(comma);
+        writeColumnsHeaders(writer, wnames, nnames);
+        for (FormattedRecord record : records) {
+            if (record.name != null) {
+                writeHeader(writer, record.name);
+            }
+            writer.write(comma);
+            writeLine(writer, record, wnames);
+        }
+    }
+
+    private void writeLine(Writer writer, FormattedRecord record, List<LinkedHashMap<String, Integer>> wnames) throws IOException {
+        for (int k = 0; k < wnames.size();) {
+            LinkedHashMap<String, Integer> map = wnames.get(k);
+            int nmax = map.size();
+            int i = 0;
+            for (Entry<String, Integer> ccur : map.entrySet()) {
+                int n = ccur.getValue();
+                String[] cells = record.search(k, ccur.getKey());
+                if (cells != null) {
+                    if (n == 1) {
+                        write(writer, cells[0]);
+                    } else {
+                        for (int j = 1; j <= n; ++j) {
+                            write(writer, cells[j]);
+                            if (j < n) {
+                                writer.write(comma);
+                            }
+                        }
+                    }
+                } else {
+                    for (int j = 1; j < n; ++j) {
+                        writer.write(comma);
+                    }
+                }
+                if (++i < nmax) {
+                    writer.write(comma);
+                }
+            }
+            if (++k < wnames.size()) {
+                writer.write(comma);
+            } else {
+                writer.write(NEWLINE);
+            }
+        }
+    }
+
+    private static int maxLength(List<String> names) {
+        int n = 1;
+        for (IStringFormatter fmt : DICTIONARY.values()) {
+            n = Math.max(n, fmt.getDefaultRepresentationLength());
+        }
+        for (String id : names) {
+            int l = id.indexOf(':');
+            if (l >= 0) {
+                try {
+                    n = Math.max(n, Integer.parseInt(id.substring(l + 1)));
+                } catch (NumberFormatException ex) {
+                }
+            }
+        }
+        return n;
+    }
+
     public void formatResults(Writer writer, List<NamedObject<IProcResults>> records, List<String> names, boolean shortname) {
         // STEP 1: we retrieve all information for all records/names
         List<MatrixItem[]> items = new ArrayList<>();
@@ -0,0 +1,672 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.information;
+
+import ec.tss.TsCollectionInformation;
+import ec.tss.TsInformation;
+import ec.tss.TsInformationType;
+import ec.tss.TsMoniker;
+import ec.tstoolkit.MetaData;
+import ec.tstoolkit.Parameter;
+import ec.tstoolkit.ParameterType;
+import ec.tstoolkit.algorithm.AlgorithmDescriptor;
+import ec.tstoolkit.design.Development;
+import ec.tstoolkit.information.Information;
+import ec.tstoolkit.information.InformationSet;
+import ec.tstoolkit.information.RegressionItem;
+import ec.tstoolkit.information.StatisticalTest;
+import ec.tstoolkit.maths.matrices.Matrix;
+import ec.tstoolkit.timeseries.Day;
+import ec.tstoolkit.timeseries.PeriodSelectorType;
+import ec.tstoolkit.timeseries.TsPeriodSelector;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import ec.tstoolkit.timeseries.simplets.TsFrequency;
+import ec.tstoolkit.timeseries.simplets.TsPeriod;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary format for information sets. It handles the same types as
+ * the xml format (XmlInformationSet); enums are stored as strings and the
+ * items of unsupported types are skipped.
+ *
+ * A stream starts with a header (magic number, version) and contains a
+ * sequence of information sets, which are written and read one by one. The
+ * strings (mainly the names of the items) are written once per stream and
+ * referenced by their index afterwards. Lengths and integers are written as
+ * variable-length quantities and the arrays of doubles in bulk.
+ *
+ * @since 2.2.4
+ */
+@Development(status = Development.Status.Alpha)
+public final class BinaryInformationSet {
+
+    public static final int MAGIC = 0x44494E53, VERSION = 1;
+
+    private BinaryInformationSet() {
+        // static class
+    }
+
+    /**
+     * Writes a single information set in a stream. The stream is not closed.
+     *
+     * @param info
+     * @param stream
+     * @throws IOException
+     */
+    public static void write(InformationSet info, OutputStream stream) throws IOException {
+        Writer writer = new Writer(stream);
+        writer.write(info);
+        writer.flush();
+    }
+
+    /**
+     * Reads the first information set of a stream. The stream is not closed.
+     *
+     * @param stream
+     * @return
+     * @throws IOException
+     */
+    public static InformationSet read(InputStream stream) throws IOException {
+        InformationSet info = new Reader(stream).read();
+        if (info == null) {
+            throw new EOFException("No information set");
+        }
+        return info;
+    }
+
+    public static byte[] toBytes(InformationSet info) throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        write(info, stream);
+        return stream.toByteArray();
+    }
+
+    public static InformationSet fromBytes(byte[] bytes) throws IOException {
+        return read(new ByteArrayInputStream(bytes));
+    }
+
+    // tags
+    private static final int END = 0, SET = 1, BOOLEAN = 2, INTEGER = 3, DOUBLE = 4, STRING = 5,
+            BOOLEANS = 6, INTEGERS = 7, DOUBLES = 8, STRINGS = 9, SUBSET = 10, METHOD = 11,
+            TSDATA = 12, MONIKER = 13, TS = 14, TSCOLLECTION = 15, SPAN = 16, TEST = 17,
+            REGITEM = 18, PARAM = 19, PARAMS = 20, MATRIX = 21;
+
+    /**
+     * Writes information sets in a stream
+     */
+    public static final class Writer implements Closeable, Flushable {
+
+        private final DataOutputStream out;
+        private final Map<String, Integer> strings = new HashMap<>();
+        private final byte[] buffer = new byte[8 * 1024];
+
+        public Writer(OutputStream stream) throws IOException {
+            out = new DataOutputStream(new BufferedOutputStream(stream));
+            out.writeInt(MAGIC);
+            writeVarInt(VERSION);
+        }
+
+        public void write(InformationSet info) throws IOException {
+            out.writeByte(SET);
+            writeSet(info);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+
+        private void writeSet(InformationSet info) throws IOException {
+            for (Information<Object> item : info.select(Object.class)) {
+                if (item.value != null) {
+                    writeItem(item.name, item.value);
+                }
+            }
+            out.writeByte(END);
+        }
+
+        private void writeItem(String name, Object value) throws IOException {
+            if (value instanceof Boolean) {
+                writeHeader(BOOLEAN, name);
+                out.writeBoolean((Boolean) value);
+            } else if (value instanceof Integer) {
+                writeHeader(INTEGER, name);
+                writeSignedVarInt((Integer) value);
+            } else if (value instanceof Double) {
+                writeHeader(DOUBLE, name);
+                out.writeDouble((Double) value);
+            } else if (value instanceof String) {
+                writeHeader(STRING, name);
+                writeString((String) value);
+            } else if (value instanceof boolean[]) {
+                writeHeader(BOOLEANS, name);
+                boolean[] b = (boolean[]) value;
+                writeVarInt(b.length);
+                for (int i = 0; i < b.length; ++i) {
+                    out.writeBoolean(b[i]);
+                }
+            } else if (value instanceof int[]) {
+                writeHeader(INTEGERS, name);
+                int[] n = (int[]) value;
+                writeVarInt(n.length);
+                for (int i = 0; i < n.length; ++i) {
+                    writeSignedVarInt(n[i]);
+                }
+            } else if (value instanceof double[]) {
+                writeHeader(DOUBLES, name);
+                writeDoubles((double[]) value);
+            } else if (value instanceof String[]) {
+                writeHeader(STRINGS, name);
+                String[] s = (String[]) value;
+                writeVarInt(s.length);
+                for (int i = 0; i < s.length; ++i) {
+                    writeString(s[i]);
+                }
+            } else if (value instanceof InformationSet) {
+                writeHeader(SUBSET, name);
+                writeSet((InformationSet) value);
+            } else if (value instanceof AlgorithmDescriptor) {
+                writeHeader(METHOD, name);
+                AlgorithmDescriptor desc = (AlgorithmDescriptor) value;
+                writeString(desc.family);
+                writeString(desc.name);
+                writeString(desc.version);
+            } else if (value instanceof TsData) {
+                writeHeader(TSDATA, name);
+                writeTsData((TsData) value);
+            } else if (value instanceof TsMoniker) {
+                writeHeader(MONIKER, name);
+                writeMoniker((TsMoniker) value);
+            } else if (value instanceof TsInformation) {
+                writeHeader(TS, name);
+                writeTs((TsInformation) value);
+            } else if (value instanceof TsCollectionInformation) {
+                writeHeader(TSCOLLECTION, name);
+                TsCollectionInformation coll = (TsCollectionInformation) value;
+                writeString(coll.name);
+                writeMoniker(coll.moniker);
+                writeMetaData(coll.metaData);
+                writeVarInt(coll.items.size());
+                for (TsInformation ts : coll.items) {
+                    writeTs(ts);
+                }
+            } else if (value instanceof TsPeriodSelector) {
+                writeHeader(SPAN, name);
+                writeSelector((TsPeriodSelector) value);
+            } else if (value instanceof StatisticalTest) {
+                writeHeader(TEST, name);
+                StatisticalTest test = (StatisticalTest) value;
+                writeString(test.description);
+                out.writeDouble(test.value);
+                out.writeDouble(test.pvalue);
+            } else if (value instanceof RegressionItem) {
+                writeHeader(REGITEM, name);
+                RegressionItem reg = (RegressionItem) value;
+                writeString(reg.description);
+                out.writeDouble(reg.coefficient);
+                out.writeDouble(reg.stdError);
+                out.writeDouble(reg.pValue);
+            } else if (value instanceof Parameter) {
+                writeHeader(PARAM, name);
+                writeParameter((Parameter) value);
+            } else if (value instanceof Parameter[]) {
+                writeHeader(PARAMS, name);
+                Parameter[] p = (Parameter[]) value;
+                writeVarInt(p.length);
+                for (int i = 0; i < p.length; ++i) {
+                    writeParameter(p[i]);
+                }
+            } else if (value instanceof Matrix) {
+                writeHeader(MATRIX, name);
+                Matrix m = (Matrix) value;
+                writeVarInt(m.getRowsCount());
+                writeVarInt(m.getColumnsCount());
+                writeDoubles(m.internalStorage());
+            } else if (value instanceof Enum) {
+                writeHeader(STRING, name);
+                writeString(value.toString());
+            }
+        }
+
+        private void writeHeader(int tag, String name) throws IOException {
+            out.writeByte(tag);
+            writeString(name);
+        }
+
+        private void writeTsData(TsData s) throws IOException {
+            TsPeriod start = s.getStart();
+            writeVarInt(start.getFrequency().intValue());
+            writeSignedVarInt(start.getYear());
+            writeVarInt(start.getPosition());
+            writeDoubles(s.internalStorage());
+        }
+
+        private void writeMoniker(TsMoniker moniker) throws IOException {
+            writeString(moniker == null ? null : moniker.getSource());
+            writeString(moniker == null ? null : moniker.getId());
+        }
+
+        private void writeTs(TsInformation ts) throws IOException {
+            writeString(ts.name);
+            writeMoniker(ts.moniker);
+            writeMetaData(ts.metaData);
+            out.writeBoolean(ts.data != null);
+            if (ts.data != null) {
+                writeTsData(ts.data);
+            }
+        }
+
+        private void writeMetaData(MetaData md) throws IOException {
+            if (md == null || md.isEmpty()) {
+                writeVarInt(0);
+            } else {
+                writeVarInt(md.size());
+                for (Map.Entry<String, String> entry : md.entrySet()) {
+                    writeString(entry.getKey());
+                    writeString(entry.getValue());
+                }
+            }
+        }
+
+        private void writeSelector(TsPeriodSelector sel) throws IOException {
+            PeriodSelectorType type = sel.getType();
+            writeString(type.name());
+            switch (type) {
+                case Between:
+                    writeSignedVarInt(sel.getD0().getId());
+                    writeSignedVarInt(sel.getD1().getId());
+                    break;
+                case From:
+                    writeSignedVarInt(sel.getD0().getId());
+                    break;
+                case To:
+                    writeSignedVarInt(sel.getD1().getId());
+                    break;
+                case First:
+                    writeVarInt(sel.getN0());
+                    break;
+                case Last:
+                    writeVarInt(sel.getN1());
+                    break;
+                case Excluding:
+                    writeVarInt(sel.getN0());
+                    writeVarInt(sel.getN1());
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private void writeParameter(Parameter p) throws IOException {
+            out.writeBoolean(p != null);
+            if (p != null) {
+                writeString(p.getType().name());
+                out.writeDouble(p.getValue());
+                out.writeDouble(p.getStde());
+            }
+        }
+
+        private void writeDoubles(double[] data) throws IOException {
+            writeVarInt(data.length);
+            ByteBuffer bb = ByteBuffer.wrap(buffer);
+            for (int i = 0; i < data.length;) {
+                int n = Math.min(data.length - i, buffer.length / 8);
+                bb.clear();
+                bb.asDoubleBuffer().put(data, i, n);
+                out.write(buffer, 0, n * 8);
+                i += n;
+            }
+        }
+
+        /**
+         * Null strings are written as 0, new strings as 1 followed by their
+         * utf-8 encoding, and the strings already written as their index + 2
+         */
+        private void writeString(String s) throws IOException {
+            if (s == null) {
+                writeVarInt(0);
+                return;
+            }
+            Integer idx = strings.get(s);
+            if (idx != null) {
+                writeVarInt(idx + 2);
+            } else {
+                strings.put(s, strings.size());
+                writeVarInt(1);
+                byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+                writeVarInt(bytes.length);
+                out.write(bytes);
+            }
+        }
+
+        private void writeSignedVarInt(int i) throws IOException {
+            writeVarInt((i << 1) ^ (i >> 31));
+        }
+
+        private void writeVarInt(int i) throws IOException {
+            while ((i & ~0x7F) != 0) {
+                out.writeByte((i & 0x7F) | 0x80);
+                i >>>= 7;
+            }
+            out.writeByte(i);
+        }
+    }
+
+    /**
+     * Reads information sets from a stream
+     */
+    public static final class Reader implements Closeable {
+
+        private final DataInputStream in;
+        private final List<String> strings = new ArrayList<>();
+        private final byte[] buffer = new byte[8 * 1024];
+        private final int version;
+
+        public Reader(InputStream stream) throws IOException {
+            in = new DataInputStream(new BufferedInputStream(stream));
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Invalid binary information set");
+            }
+            version = readVarInt();
+            if (version > VERSION) {
+                throw new IOException("Unsupported version of binary information set: " + version);
+            }
+        }
+
+        public int getVersion() {
+            return version;
+        }
+
+        /**
+         * Reads the next information set
+         *
+         * @return The information set or null at the end of the stream
+         * @throws IOException
+         */
+        public InformationSet read() throws IOException {
+            int tag = in.read();
+            if (tag < 0) {
+                return null;
+            }
+            if (tag != SET) {
+                throw new IOException("Invalid binary information set");
+            }
+            return readSet();
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+
+        private InformationSet readSet() throws IOException {
+            InformationSet info = new InformationSet();
+            int tag;
+            while ((tag = in.readUnsignedByte()) != END) {
+                String name = readString();
+                Object value = readValue(tag);
+                if (name.indexOf(InformationSet.SEP) >= 0) {
+                    info.add(InformationSet.split(name), value);
+                } else {
+                    info.add(name, value);
+                }
+            }
+            return info;
+        }
+
+        private Object readValue(int tag) throws IOException {
+            switch (tag) {
+                case BOOLEAN:
+                    return in.readBoolean();
+                case INTEGER:
+                    return readSignedVarInt();
+                case DOUBLE:
+                    return in.readDouble();
+                case STRING:
+                    return readString();
+                case BOOLEANS: {
+                    boolean[] b = new boolean[readVarInt()];
+                    for (int i = 0; i < b.length; ++i) {
+                        b[i] = in.readBoolean();
+                    }
+                    return b;
+                }
+                case INTEGERS: {
+                    int[] n = new int[readVarInt()];
+                    for (int i = 0; i < n.length; ++i) {
+                        n[i] = readSignedVarInt();
+                    }
+                    return n;
+                }
+                case DOUBLES:
+                    return readDoubles();
+                case STRINGS: {
+                    String[] s = new String[readVarInt()];
+                    for (int i = 0; i < s.length; ++i) {
+                        s[i] = readString();
+                    }
+                    return s;
+                }
+                case SUBSET:
+                    return readSet();
+                case METHOD: {
+                    String family = readString(), name = readString(), version = readString();
+                    return new AlgorithmDescriptor(family, name, version);
+                }
+                case TSDATA:
+                    return readTsData();
+                case MONIKER:
+                    return readMoniker();
+                case TS:
+                    return readTs();
+                case TSCOLLECTION: {
+                    String name = readString();
+                    TsCollectionInformation coll = new TsCollectionInformation(readMoniker(), TsInformationType.UserDefined);
+                    coll.name = name;
+                    coll.metaData = readMetaData();
+                    int n = readVarInt();
+                    for (int i = 0; i < n; ++i) {
+                        coll.items.add(readTs());
+                    }
+                    return coll;
+                }
+                case SPAN:
+                    return readSelector();
+                case TEST: {
+                    String desc = readString();
+                    double val = in.readDouble(), pval = in.readDouble();
+                    return new StatisticalTest(desc, val, pval);
+                }
+                case REGITEM: {
+                    String desc = readString();
+                    double coeff = in.readDouble(), stde = in.readDouble(), pval = in.readDouble();
+                    return new RegressionItem(desc, coeff, stde, pval);
+                }
+                case PARAM:
+                    return readParameter();
+                case PARAMS: {
+                    Parameter[] p = new Parameter[readVarInt()];
+                    for (int i = 0; i < p.length; ++i) {
+                        p[i] = readParameter();
+                    }
+                    return p;
+                }
+                case MATRIX: {
+                    int nrows = readVarInt(), ncols = readVarInt();
+                    return new Matrix(readDoubles(), nrows, ncols);
+                }
+                default:
+                    throw new IOException("Invalid tag in binary information set: " + tag);
+            }
+        }
+
+        private TsData readTsData() throws IOException {
+            TsFrequency freq = TsFrequency.valueOf(readVarInt());
+            int year = readSignedVarInt(), pos = readVarInt();
+            return new TsData(freq, year, pos, readDoubles(), false);
+        }
+
+        private TsMoniker readMoniker() throws IOException {
+            String source = readString(), id = readString();
+            return TsMoniker.create(source, id);
+        }
+
+        private TsInformation readTs() throws IOException {
+            String name = readString();
+            TsMoniker moniker = readMoniker();
+            MetaData md = readMetaData();
+            TsData data = in.readBoolean() ? readTsData() : null;
+            TsInformation ts = new TsInformation(name, moniker, data != null
+                    ? TsInformationType.UserDefined : TsInformationType.None);
+            ts.metaData = md;
+            ts.data = data;
+            return ts;
+        }
+
+        private MetaData readMetaData() throws IOException {
+            int n = readVarInt();
+            if (n == 0) {
+                return null;
+            }
+            MetaData md = new MetaData();
+            for (int i = 0; i < n; ++i) {
+                String key = readString();
+                md.put(key, readString());
+            }
+            return md;
+        }
+
+        private TsPeriodSelector readSelector() throws IOException {
+            TsPeriodSelector sel = new TsPeriodSelector();
+            switch (PeriodSelectorType.valueOf(readString())) {
+                case Between: {
+                    Day d0 = readDay();
+                    sel.between(d0, readDay());
+                    break;
+                }
+                case From:
+                    sel.from(readDay());
+                    break;
+                case To:
+                    sel.to(readDay());
+                    break;
+                case First:
+                    sel.first(readVarInt());
+                    break;
+                case Last:
+                    sel.last(readVarInt());
+                    break;
+                case Excluding: {
+                    int n0 = readVarInt();
+                    sel.excluding(n0, readVarInt());
+                    break;
+                }
+                case None:
+                    sel.none();
+                    break;
+                default:
+                    sel.all();
+                    break;
+            }
+            return sel;
+        }
+
+        private Day readDay() throws IOException {
+            return Day.BEG.plus(readSignedVarInt() - Day.BEG.getId());
+        }
+
+        private Parameter readParameter() throws IOException {
+            if (!in.readBoolean()) {
+                return null;
+            }
+            ParameterType type = ParameterType.valueOf(readString());
+            Parameter p = new Parameter(in.readDouble(), type);
+            p.setStde(in.readDouble());
+            return p;
+        }
+
+        private double[] readDoubles() throws IOException {
+            double[] data = new double[readVarInt()];
+            ByteBuffer bb = ByteBuffer.wrap(buffer);
+            for (int i = 0; i < data.length;) {
+                int n = Math.min(data.length - i, buffer.length / 8);
+                in.readFully(buffer, 0, n * 8);
+                bb.clear();
+                bb.asDoubleBuffer().get(data, i, n);
+                i += n;
+            }
+            return data;
+        }
+
+        private String readString() throws IOException {
+            int idx = readVarInt();
+            if (idx == 0) {
+                return null;
+            } else if (idx == 1) {
+                byte[] bytes = new byte[readVarInt()];
+                in.readFully(bytes);
+                String s = new String(bytes, StandardCharsets.UTF_8);
+                strings.add(s);
+                return s;
+            } else {
+                idx -= 2;
+                if (idx >= strings.size()) {
+                    throw new IOException("Invalid string reference in binary information set");
+                }
+                return strings.get(idx);
+            }
+        }
+
+        private int readSignedVarInt() throws IOException {
+            int i = readVarInt();
+            return (i >>> 1) ^ -(i & 1);
+        }
+
+        private int readVarInt() throws IOException {
+            int i = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                int b = in.readUnsignedByte();
+                i |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return i;
+                }
+            }
+            throw new IOException("Invalid variable-length integer");
+        }
+    }
+}
@@ -83,8 +83,13 @@ public class SaItem {
     private MetaData metaData_;
     private String name = "";
     private boolean locked_;
+    // parts of a read item that are only created when they are used (see read)
+    private volatile TsInformation lazyTs_;
+    private volatile InformationSet lazySpecs_;
 
     public SaItem makeCopy() {
+        loadTs();
+        loadSpecifications();
         synchronized (id_) {
             SaItem n = new SaItem();
             n.dspec_ = dspec_;
@@ -143,7 +148,7 @@ public class SaItem {
     }
 
     public SaItem newSpecification(ISaSpecification espec, EstimationPolicyType policy) {
-        return newSpecification(ts_, espec, policy);
+        return newSpecification(getTs(), espec, policy);
     }
 
     @Override
@@ -187,6 +192,7 @@ public class SaItem {
     }
 
     public String getName() {
+        loadTs();
         return !name.isEmpty()
                 ? (ts_ != null && ts_.isFrozen() ? name + " [frozen]" : name)
                 : (ts_ != null ? ts_.getName() : "");
@@ -258,12 +264,12 @@ public class SaItem {
     }
 
     public Ts getTs() {
-
+        loadTs();
         return ts_;
     }
 
     public TsMoniker getMoniker() {
-        return ts_.getMoniker();
+        return getTs().getMoniker();
     }
 
     public Status getStatus() {
@@ -274,7 +280,10 @@ public class SaItem {
 
     public void setStatus(Status value) {
         synchronized (id_) {
-            status_ = value;
+            if (status_ != value) {
+                status_ = value;
+                dirty_ = true;
+            }
         }
     }
 
@@ -288,11 +297,13 @@ public class SaItem {
     }
 
     public ISaSpecification getEstimationSpecification() {
+        loadSpecifications();
         return espec_ != null ? espec_ : dspec_;
     }
 
     @Deprecated
     public ISaSpecification getActiveSpecification() {
+        loadSpecifications();
         synchronized (id_) {
             if (pspec_ == null) {
                 return getEstimationSpecification();
@@ -310,13 +321,16 @@ public class SaItem {
     }
 
     public ISaSpecification getPointSpecification() {
+        loadSpecifications();
         synchronized (id_) {
             return pspec_;
         }
     }
 
     public void setPointSpecification(ISaSpecification pspec) {
+        loadSpecifications();
         pspec_ = pspec;
+        dirty_ = true;
     }
 
     public EstimationPolicyType getEstimationPolicy() {
@@ -337,7 +351,7 @@ public class SaItem {
 //        if (ts_.hasData() == TsStatus.Undefined) {
 //            ts_.load(TsInformationType.Data);
 //        }
-        return ts_.getTsData();
+        return getTs().getTsData();
     }
 
     public void compress() {
@@ -345,6 +359,9 @@ public class SaItem {
     }
 
     private void update() {
+        loadSpecifications();
+        // the status, the quality and the point specification are written
+        dirty_ = true;
         if (rslts_ != null && rslts_.get(GenericSaProcessingFactory.DECOMPOSITION) != null) {
             status_ = Status.Valid;
             if (pspec_ == null) {
@@ -362,6 +379,8 @@ public class SaItem {
     }
 
     public CompositeResults process() {
+        loadTs();
+        loadSpecifications();
         synchronized (id_) {
             if (rslts_ != null || status_.isError()) {
                 return rslts_;
@@ -369,9 +388,8 @@ public class SaItem {
             if (status_ == Status.Pending) {
                 return null;
             }
-            if (quality_ == ProcQuality.Undefined) { // never processed
-                dirty_ = true;
-            }
+            // the status is written (frozen series when processed)
+            dirty_ = true;
             if (espec_ == null && dspec_ == null) {
                 status_ = Status.NoSpec;
                 return null;
@@ -403,7 +421,7 @@ public class SaItem {
     }
 
     public boolean isDirty() {
-        return dirty_;
+        return dirty_ || (metaData_ != null && metaData_.isDirty());
     }
 
     public boolean isLocked() {
@@ -419,6 +437,9 @@ public class SaItem {
 
     public void resetDirty() {
         dirty_ = false;
+        if (metaData_ != null) {
+            metaData_.resetDirty();
+        }
     }
 
     public int getKey() {
@@ -465,7 +486,6 @@ public class SaItem {
         if (tsinfo == null) {
             return false;
         }
-        ts_ = TsFactory.instance.createTs(tsinfo.name, tsinfo.moniker, tsinfo.metaData, tsinfo.data);
         String dname = info.get(DOMAIN_SPEC, String.class);
         if (dname == null) {
             return false;
@@ -481,13 +501,10 @@ public class SaItem {
                 return false;
             }
         }
-        InformationSet pspec = info.getSubSet(POINT_SPEC);
-        if (pspec != null) {
-            pspec_ = SaManager.instance.createSpecification(pspec);
-        }
-        InformationSet espec = info.getSubSet(ESTIMATION_SPEC);
-        if (espec != null) {
-            espec_ = SaManager.instance.createSpecification(espec);
+        // the series and the specifications are created on demand
+        lazyTs_ = tsinfo;
+        if (info.getSubSet(POINT_SPEC) != null || info.getSubSet(ESTIMATION_SPEC) != null) {
+            lazySpecs_ = info;
         }
         Integer p = info.get(PRIORITY, Integer.class);
         if (p != null) {
@@ -514,13 +531,17 @@ public class SaItem {
         if (!name.isEmpty()) {
             info.set(NAME, name);
         }
-        TsInformation tsinfo;
-        if (ts_.getMoniker().isAnonymous()) {
-            tsinfo = ts_.toInfo(TsInformationType.All);
-        } else if (status_ == SaItem.Status.Unprocessed) {
-            tsinfo = ts_.toInfo(TsInformationType.Definition);
-        } else {
-            tsinfo = ts_.freeze().toInfo(TsInformationType.All);
+        // unused series are written back as they were read
+        TsInformation tsinfo = status_ == SaItem.Status.Unprocessed ? lazyTs_ : null;
+        if (tsinfo == null) {
+            Ts ts = getTs();
+            if (ts.getMoniker().isAnonymous()) {
+                tsinfo = ts.toInfo(TsInformationType.All);
+            } else if (status_ == SaItem.Status.Unprocessed) {
+                tsinfo = ts.toInfo(TsInformationType.Definition);
+            } else {
+                tsinfo = ts.freeze().toInfo(TsInformationType.All);
+            }
         }
         info.set(TS, tsinfo);
         String dname = defaults.get(dspec_);
@@ -530,11 +551,25 @@ public class SaItem {
         }
         info.set(DOMAIN_SPEC, dname);
 
-        if (pspec_ != null) {
-            info.set(POINT_SPEC, pspec_.write(verbose));
-        }
-        if (espec_ != null) {
-            info.set(ESTIMATION_SPEC, espec_.write(verbose));
+        InformationSet specs = lazySpecs_;
+        if (specs != null && !verbose) {
+            // unused specifications are written back as they were read
+            InformationSet pspec = specs.getSubSet(POINT_SPEC);
+            if (pspec != null) {
+                info.set(POINT_SPEC, pspec);
+            }
+            InformationSet espec = specs.getSubSet(ESTIMATION_SPEC);
+            if (espec != null) {
+                info.set(ESTIMATION_SPEC, espec);
+            }
+        } else {
+            loadSpecifications();
+            if (pspec_ != null) {
+                info.set(POINT_SPEC, pspec_.write(verbose));
+            }
+            if (espec_ != null) {
+                info.set(ESTIMATION_SPEC, espec_.write(verbose));
+            }
         }
         if (priority_ >= 0 || verbose) {
             info.set(PRIORITY, priority_);
@@ -550,4 +585,35 @@ public class SaItem {
         }
         return true;
     }
+
+    private void loadTs() {
+        if (lazyTs_ != null) {
+            synchronized (id_) {
+                TsInformation tsinfo = lazyTs_;
+                if (tsinfo != null) {
+                    ts_ = TsFactory.instance.createTs(tsinfo.name, tsinfo.moniker, tsinfo.metaData, tsinfo.data);
+                    lazyTs_ = null;
+                }
+            }
+        }
+    }
+
+    private void loadSpecifications() {
+        if (lazySpecs_ != null) {
+            synchronized (id_) {
+                InformationSet info = lazySpecs_;
+                if (info != null) {
+                    InformationSet pspec = info.getSubSet(POINT_SPEC);
+                    if (pspec != null) {
+                        pspec_ = SaManager.instance.createSpecification(pspec);
+                    }
+                    InformationSet espec = info.getSubSet(ESTIMATION_SPEC);
+                    if (espec != null) {
+                        espec_ = SaManager.instance.createSpecification(espec);
+                    }
+                    lazySpecs_ = null;
+                }
+            }
+        }
+    }
 }
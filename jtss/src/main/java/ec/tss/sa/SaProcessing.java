@@ -31,6 +31,7 @@ import ec.tstoolkit.information.InformationSetHelper;
 import ec.tstoolkit.information.InformationSetSerializable;
 import ec.tstoolkit.timeseries.TsPeriodSelector;
 import ec.tstoolkit.timeseries.simplets.TsDomain;
+import ec.tstoolkit.utilities.IModifiable;
 import ec.tstoolkit.utilities.NameManager;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -44,7 +45,7 @@ import java.util.concurrent.atomic.AtomicInteger;
  *
  * @author Jean Palate
  */
-public final class SaProcessing extends ForwardingList<SaItem> implements IDocumented, InformationSetSerializable {
+public final class SaProcessing extends ForwardingList<SaItem> implements IDocumented, InformationSetSerializable, IModifiable {
 
     public static final String METADATA = "metadata", DOMAIN_SPECS = "domainspecs", TIMESTAMP = "TimeStamp", OWNER = "Owner";
     private static final AtomicInteger g_id = new AtomicInteger(0);
@@ -374,8 +375,9 @@ public final class SaProcessing extends ForwardingList<SaItem> implements IDocum
         return ts == null;
     }
 
+    @Override
     public boolean isDirty() {
-        if (dirty_) {
+        if (dirty_ || metadata_.isDirty()) {
             return true;
         }
         for (SaItem item : items_) {
@@ -387,8 +389,10 @@ public final class SaProcessing extends ForwardingList<SaItem> implements IDocum
 
     }
 
+    @Override
     public void resetDirty() {
         dirty_ = false;
+        metadata_.resetDirty();
         for (SaItem item : items_) {
             item.resetDirty();
         }
@@ -18,17 +18,37 @@
 
 package ec.tss.sa;
 
+import ec.tstoolkit.algorithm.ParallelProcessingNode;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.swing.event.EventListenerList;
 
 /**
+ * Processes the items of a SaProcessing in the background, on the executor
+ * shared by the parallel processing nodes (see
+ * {@link ParallelProcessingNode#getExecutor()}). At most "parallelism" items
+ * of a run are submitted at the same time, so that concurrent runs share the
+ * workers instead of oversubscribing the machine.
+ * Results are stored in the items themselves, so that they don't depend on
+ * the order in which the items are completed. An item that fails is marked
+ * as invalid; the other items are not affected. Listeners are notified from a
+ * single thread, each time an item is completed and at the end of the run.
  *
  * @author Kristof Bayens
  */
 public class SaProcessingMonitor {
     private SaProcessing processing_;
     private SaItem[] items_;
-    private boolean closing_, stop_;
-    private Thread hRun_;
+    private volatile boolean closing_, stop_;
+    private volatile Thread hRun_;
+    private final int parallelism_;
+    private final AtomicInteger processed_ = new AtomicInteger();
 
     protected EventListenerList list = new EventListenerList();
 
@@ -41,7 +61,19 @@ public class SaProcessingMonitor {
     }
 
     public SaProcessingMonitor() {
-        
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     *
+     * @param parallelism The maximum number of items of a run that are
+     * processed concurrently
+     */
+    public SaProcessingMonitor(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism should be strictly positive");
+        }
+        parallelism_ = parallelism;
     }
 
     public SaProcessing getProcessing() {
@@ -53,22 +85,148 @@ public class SaProcessingMonitor {
         processing_ = value;
     }
 
+    public int getParallelism() {
+        return parallelism_;
+    }
+
+    /**
+     * Number of items completed in the current (or last) run
+     * @return
+     */
+    public int getProcessedCount() {
+        return processed_.get();
+    }
+
+    /**
+     * Number of items handled by the current (or last) run
+     * @return
+     */
+    public int getItemsCount() {
+        SaItem[] items = items_;
+        return items == null ? 0 : items.length;
+    }
+
     public boolean isRunning() {
         return hRun_ != null;
     }
 
-    public void start() {
-
+    /**
+     * Starts the processing of the items that are not yet processed.
+     * Does nothing if a run is already active or if the monitor is closed.
+     */
+    public synchronized void start() {
+        if (closing_ || processing_ == null || hRun_ != null) {
+            return;
+        }
+        stop_ = false;
+        processed_.set(0);
+        items_ = processing_.stream()
+                .filter(item -> item.getStatus() == SaItem.Status.Unprocessed)
+                .toArray(SaItem[]::new);
+        Thread run = new Thread(this::run, "SaProcessingMonitor-" + processing_.getDocumentId());
+        run.setDaemon(true);
+        hRun_ = run;
+        run.start();
     }
 
+    /**
+     * Cancels the items that are not yet started and waits for the end of
+     * the current run. Items that are being processed are completed.
+     */
     public void stop() {
-
+        Thread run = hRun_;
+        if (run == null) {
+            return;
+        }
+        stop_ = true;
+        if (run != Thread.currentThread()) {
+            try {
+                run.join();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
     }
 
-    public void close() {
+    /**
+     * Stops the current run (without waiting for the items that are being
+     * processed) and prevents any further run. The shared executor is not
+     * shut down.
+     */
+    public synchronized void close() {
         closing_ = true;
-        if (hRun_ != null && hRun_.isAlive()) {
-            hRun_.interrupt();
+        Thread run = hRun_;
+        if (run != null && run.isAlive()) {
+            stop_ = true;
+            run.interrupt();
+        }
+    }
+
+    private void run() {
+        SaItem[] items = items_;
+        CompletionService<SaItem> service = new ExecutorCompletionService<>(ParallelProcessingNode.getExecutor());
+        Map<Future<SaItem>, SaItem> pending = new HashMap<>();
+        try {
+            int next = 0;
+            while (!stop_) {
+                while (next < items.length && pending.size() < parallelism_) {
+                    Future<SaItem> future = submit(service, items[next]);
+                    if (future == null) {
+                        // the executor is no longer available; the remaining
+                        // items are left unprocessed
+                        next = items.length;
+                    } else {
+                        pending.put(future, items[next++]);
+                    }
+                }
+                if (pending.isEmpty()) {
+                    break;
+                }
+                Future<SaItem> done = service.take();
+                SaItem item = pending.remove(done);
+                try {
+                    done.get();
+                } catch (ExecutionException ex) {
+                    item.setStatus(SaItem.Status.Invalid);
+                }
+                processed_.incrementAndGet();
+                fireProcessed(item);
+            }
+        } catch (InterruptedException ex) {
+            // close() was called
+        } finally {
+            for (Future<SaItem> future : pending.keySet()) {
+                future.cancel(false);
+            }
+            hRun_ = null;
+            fireCompleted();
+        }
+    }
+
+    private Future<SaItem> submit(CompletionService<SaItem> service, SaItem item) {
+        try {
+            return service.submit(() -> {
+                if (!stop_) {
+                    item.process();
+                }
+                return item;
+            });
+        } catch (RejectedExecutionException ex) {
+            return null;
+        }
+    }
+
+    private void fireProcessed(SaItem item) {
+        SaItemEvent evt = new SaItemEvent(item);
+        for (SaEventListener listener : list.getListeners(SaEventListener.class)) {
+            listener.Processed(evt);
+        }
+    }
+
+    private void fireCompleted() {
+        SaProcessingEvent evt = new SaProcessingEvent(processing_);
+        for (SaEventListener listener : list.getListeners(SaEventListener.class)) {
+            listener.Completed(evt);
         }
     }
 }
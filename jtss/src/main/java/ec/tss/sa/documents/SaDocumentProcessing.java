@@ -37,8 +37,12 @@ import ec.tstoolkit.timeseries.simplets.TsDomain;
 public class SaDocumentProcessing<S extends ISaSpecification> implements ITsProcessing<CompositeResults> {
     private final IProcessing<TsData, CompositeResults> processing_;
     private final TsData data_;
+    private final SaDocument<S> doc_;
+    private final EstimationPolicyType policy_;
 
     public SaDocumentProcessing(SaDocument<S> doc, EstimationPolicyType policy) {
+        doc_ = doc;
+        policy_ = policy;
         ISaProcessingFactory<S> factory=(ISaProcessingFactory<S>) doc.getProcessor();
         SaItem item=new SaItem(doc.getSpecification(), doc.getInput());
         item.unsafeFill(doc.getResults());
@@ -55,5 +59,32 @@ public class SaDocumentProcessing<S extends ISaSpecification> implements ITsProc
         }
         return processing_.process(data_.fittoDomain(domain));
     }
+
+    /**
+     * The specification used for the given domain is derived (following the
+     * estimation policy) from the results of the previous span, instead of
+     * the results of the document.
+     *
+     * @param domain
+     * @param previous
+     * @return
+     */
+    @Override
+    public CompositeResults process(TsDomain domain, CompositeResults previous) {
+        if (data_ == null) {
+            return null;
+        }
+        if (previous == null) {
+            return process(domain);
+        }
+        ISaProcessingFactory<S> factory = (ISaProcessingFactory<S>) doc_.getProcessor();
+        SaItem item = new SaItem(doc_.getSpecification(), doc_.getInput());
+        item.unsafeFill(previous);
+        if (!factory.updatePointSpecification(item)) {
+            return process(domain);
+        }
+        S spec = (S) factory.createSpecification(item, null, policy_, true);
+        return factory.generateProcessing(spec, null).process(data_.fittoDomain(domain));
+    }
    
 }
@@ -18,28 +18,37 @@ package ec.tss.sa.output;
 
 import ec.satoolkit.ISaSpecification;
 import ec.tss.formatters.CsvInformationFormatter;
+import ec.tss.formatters.CsvInformationFormatter.FormattedRecord;
 import ec.tss.sa.documents.SaDocument;
 import ec.tstoolkit.algorithm.IOutput;
 import ec.tstoolkit.algorithm.IProcResults;
-import ec.tstoolkit.utilities.NamedObject;
 import ec.tstoolkit.utilities.Paths;
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
+ * Writes the requested information of all the documents in a single csv
+ * file. Each document is formatted (on a background thread) as soon as it is
+ * processed and spooled to a temporary file; the matrix is written at the
+ * end, in the order of the positions of the documents.
  *
  * @author Kristof Bayens
  */
 public class CsvMatrixOutput implements IOutput<SaDocument<ISaSpecification>> {
 
     CsvMatrixOutputConfiguration config_;
-    List<NamedObject<IProcResults>> infos_;
     private File folder_;
     private boolean fullName;
+    private CsvInformationFormatter fmt_;
+    private OutputSpool spool_;
+    private final AtomicInteger next_ = new AtomicInteger();
 
     public CsvMatrixOutput(CsvMatrixOutputConfiguration config) {
         config_ = (CsvMatrixOutputConfiguration) config.clone();
@@ -58,24 +67,42 @@ public class CsvMatrixOutput implements IOutput<SaDocument<ISaSpecification>> {
 
     @Override
     public void start(Object context) {
-        infos_ = new ArrayList<>();
+        fmt_ = new CsvInformationFormatter();
+        fmt_.setFullName(fullName);
+        spool_ = new OutputSpool(getName());
+        next_.set(0);
         folder_ = BasicConfiguration.folderFromContext(config_.getFolder(), context);
     }
 
     @Override
     public void end(Object context) throws Exception {
-        CsvInformationFormatter fmt = new CsvInformationFormatter();
-        fmt.setFullName(fullName);
-        String file = Paths.concatenate(folder_.getAbsolutePath(), config_.getFileName());
-        file = Paths.changeExtension(file, "csv");
-        FileOutputStream matrix = new FileOutputStream(file);
-        OutputStreamWriter writer = new OutputStreamWriter(matrix, StandardCharsets.ISO_8859_1);
-        fmt.formatResults(writer, infos_, config_.getItems(), true);
-        infos_ = null;
+        try {
+            spool_.finish();
+            String file = Paths.concatenate(folder_.getAbsolutePath(), config_.getFileName());
+            file = Paths.changeExtension(file, "csv");
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.ISO_8859_1))) {
+                fmt_.formatRecords(writer, config_.getItems().size(), spool_.records("", FormattedRecord::read));
+            }
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        } finally {
+            spool_.close();
+            spool_ = null;
+            fmt_ = null;
+        }
     }
 
     @Override
-    public void process(SaDocument<ISaSpecification> document) {
-        infos_.add(new NamedObject<>(document.getInput().getRawName(), document.getResults()));
+    public void process(SaDocument<ISaSpecification> document) throws Exception {
+        process(document, next_.getAndIncrement());
+    }
+
+    @Override
+    public void process(SaDocument<ISaSpecification> document, int pos) throws Exception {
+        String name = document.getInput().getRawName();
+        IProcResults results = document.getResults();
+        List<String> items = config_.getItems();
+        // the formatters are not thread-safe; they are used on the I/O thread
+        spool_.put("", pos, output -> fmt_.formatRecord(name, results, items, true).write(output));
     }
 }
@@ -26,12 +26,22 @@ import ec.tstoolkit.utilities.Paths;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Writes, for each requested series, a csv file with the results of all the
+ * documents. The series are spooled to a temporary file (on a background
+ * thread) as soon as the documents are processed; the csv files are generated
+ * at the end, one at a time, in the order of the positions of the documents.
  *
  * @author Kristof Bayens
  */
@@ -39,33 +49,86 @@ public class CsvOutput implements IOutput<SaDocument<ISaSpecification>> {
 
     public static final Logger LOGGER = LoggerFactory.getLogger(CsvOutputFactory.class);
     CsvOutputConfiguration config_;
-    DefaultCollectionSummary summary_;
     private File folder_;
+    private OutputSpool spool_;
+    private ConcurrentSkipListMap<Integer, Head> heads_;
+    private final AtomicInteger next_ = new AtomicInteger();
 
     public CsvOutput(CsvOutputConfiguration config) {
         config_ = (CsvOutputConfiguration) config.clone();
     }
 
     @Override
-    public void process(SaDocument<ISaSpecification> document) {
-        summary_.add(Jdk6.Collections.toArray(config_.getSeries(), String.class), document);
+    public void process(SaDocument<ISaSpecification> document) throws Exception {
+        process(document, next_.getAndIncrement());
+    }
+
+    @Override
+    public void process(SaDocument<ISaSpecification> document, int pos) throws Exception {
+        String name = document.getInput().getRawName();
+        if (name == null) {
+            name = "series" + Integer.toString(pos + 1);
+        }
+        SeriesSummary summary = new SeriesSummary(Jdk6.Collections.toArray(config_.getSeries(), String.class), name, document);
+        LinkedHashSet<String> items = new LinkedHashSet<>();
+        summary.fill(items);
+        for (String item : items) {
+            TsData s = summary.getSeries(item);
+            spool_.put(item, pos, output -> OutputSpool.writeTsData(output, s));
+        }
+        heads_.put(pos, new Head(name, items.toArray(new String[items.size()])));
     }
 
     @Override
     public void start(Object context) {
-        summary_ = new DefaultCollectionSummary();
+        spool_ = new OutputSpool(getName());
+        heads_ = new ConcurrentSkipListMap<>();
+        next_.set(0);
         folder_ = BasicConfiguration.folderFromContext(config_.getFolder(), context);
     }
 
     @Override
     public void end(Object context) throws Exception {
-        for (String item : summary_.getItems()) {
-            String nfile = config_.getFilePrefix();
-            nfile += "_" + StringFormatter.cleanup(item.replace('.', '_'));
-            nfile = Paths.changeExtension(nfile, "csv");
-            write(new File(BasicConfiguration.folder(folder_), nfile), summary_.getNames(), summary_.getSeries(item));
+        try {
+            spool_.finish();
+            // same layout as the one obtained by accumulating the documents
+            List<String> names = new ArrayList<>();
+            LinkedHashSet<String> items = new LinkedHashSet<>();
+            for (Head head : heads_.values()) {
+                names.add(head.name);
+                for (String item : head.items) {
+                    items.add(item);
+                }
+            }
+            for (String item : items) {
+                String nfile = config_.getFilePrefix();
+                nfile += "_" + StringFormatter.cleanup(item.replace('.', '_'));
+                nfile = Paths.changeExtension(nfile, "csv");
+                write(new File(BasicConfiguration.folder(folder_), nfile), names, series(item));
+            }
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        } finally {
+            spool_.close();
+            spool_ = null;
+            heads_ = null;
+        }
+    }
+
+    private List<TsData> series(String item) {
+        List<TsData> s = new ArrayList<>(heads_.size());
+        Iterator<Integer> positions = spool_.positions(item).iterator();
+        Iterator<TsData> data = spool_.records(item, OutputSpool::readTsData).iterator();
+        int next = positions.hasNext() ? positions.next() : -1;
+        for (int pos : heads_.keySet()) {
+            if (pos == next) {
+                s.add(data.next());
+                next = positions.hasNext() ? positions.next() : -1;
+            } else {
+                s.add(null);
+            }
         }
-        summary_ = null;
+        return s;
     }
 
     @Override
@@ -88,4 +151,15 @@ public class CsvOutput implements IOutput<SaDocument<ISaSpecification>> {
             }
         }
     }
+
+    private static final class Head {
+
+        final String name;
+        final String[] items;
+
+        Head(String name, String[] items) {
+            this.name = name;
+            this.items = items;
+        }
+    }
 }
@@ -0,0 +1,333 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.sa.output;
+
+import ec.tstoolkit.timeseries.simplets.TsData;
+import ec.tstoolkit.timeseries.simplets.TsFrequency;
+import ec.tstoolkit.timeseries.simplets.TsPeriod;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background writer used by the batch outputs. The tasks are executed in
+ * order on a single I/O thread; they can be submitted from any thread (for
+ * instance from the workers of a parallel processing). The submission blocks
+ * when the I/O thread is too far behind, to keep the memory bounded.
+ *
+ * Records can be spooled to a temporary file, in sections identified by a
+ * name. The records of a section are identified by their position in the
+ * processing (not by their arrival order); once the spool is finished, they
+ * can be read back in the order of their positions.
+ *
+ * The first error raised by a task is reported by the next submission or by
+ * finish.
+ */
+final class OutputSpool implements Closeable {
+
+    @FunctionalInterface
+    static interface Task {
+
+        void run() throws Exception;
+    }
+
+    @FunctionalInterface
+    static interface RecordWriter {
+
+        void write(DataOutput output) throws IOException;
+    }
+
+    @FunctionalInterface
+    static interface RecordReader<T> {
+
+        T read(DataInput input) throws IOException;
+    }
+
+    private static final int QUEUE_SIZE = 256;
+
+    private final ThreadPoolExecutor executor;
+    // the following fields are only used by the I/O thread, until the spool is finished
+    private final Map<String, TreeMap<Integer, long[]>> index = new HashMap<>();
+    private Path file;
+    private CountingOutputStream counter;
+    private DataOutputStream output;
+    //
+    private volatile Exception error;
+    private FileChannel channel;
+
+    OutputSpool(String name) {
+        executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(QUEUE_SIZE),
+                r -> {
+                    Thread t = new Thread(r, name + "-output");
+                    t.setDaemon(true);
+                    return t;
+                },
+                (r, e) -> {
+                    if (e.isShutdown()) {
+                        throw new RejectedExecutionException("Output already finished");
+                    }
+                    try {
+                        e.getQueue().put(r);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        throw new RejectedExecutionException(ex);
+                    }
+                });
+    }
+
+    /**
+     * Executes a task on the I/O thread
+     *
+     * @param task
+     * @throws Exception The error raised by a previous task (if any)
+     */
+    void submit(Task task) throws Exception {
+        check();
+        executor.execute(() -> {
+            if (error == null) {
+                try {
+                    task.run();
+                } catch (Exception err) {
+                    error = err;
+                }
+            }
+        });
+    }
+
+    /**
+     * Spools a record
+     *
+     * @param section The section of the record
+     * @param pos The position of the record in its section. A record replaces
+     * the previous one at the same position
+     * @param writer
+     * @throws Exception
+     */
+    void put(String section, int pos, RecordWriter writer) throws Exception {
+        submit(() -> {
+            if (output == null) {
+                file = Files.createTempFile("demetra", ".spool");
+                counter = new CountingOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+                output = new DataOutputStream(counter);
+            }
+            long start = counter.count;
+            writer.write(output);
+            index.computeIfAbsent(section, s -> new TreeMap<>()).put(pos, new long[]{start, counter.count - start});
+        });
+    }
+
+    /**
+     * Waits for the end of all the submitted tasks. No task can be submitted
+     * after this call.
+     *
+     * @throws Exception The error raised by a task (if any)
+     */
+    void finish() throws Exception {
+        executor.shutdown();
+        while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+        }
+        if (output != null) {
+            output.close();
+            output = null;
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+        }
+        check();
+    }
+
+    /**
+     * The records of a section, in the order of their positions. Should only be
+     * used once the spool is finished. I/O errors are reported as unchecked
+     * exceptions.
+     *
+     * @param <T>
+     * @param section
+     * @param reader
+     * @return
+     */
+    <T> Iterable<T> records(String section, RecordReader<T> reader) {
+        TreeMap<Integer, long[]> map = index.get(section);
+        if (map == null) {
+            return Collections.emptyList();
+        }
+        return () -> new Iterator<T>() {
+            final Iterator<long[]> iter = map.values().iterator();
+
+            @Override
+            public boolean hasNext() {
+                return iter.hasNext();
+            }
+
+            @Override
+            public T next() {
+                if (!iter.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                try {
+                    return reader.read(read(iter.next()));
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }
+        };
+    }
+
+    /**
+     * The positions of the records of a section, in increasing order
+     *
+     * @param section
+     * @return
+     */
+    Iterable<Integer> positions(String section) {
+        TreeMap<Integer, long[]> map = index.get(section);
+        return map == null ? Collections.emptyList() : map.keySet();
+    }
+
+    private DataInput read(long[] entry) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) entry[1]);
+        long pos = entry[0];
+        while (buffer.hasRemaining()) {
+            int n = channel.read(buffer, pos);
+            if (n < 0) {
+                throw new IOException("Unexpected end of spool");
+            }
+            pos += n;
+        }
+        return new DataInputStream(new ByteArrayInputStream(buffer.array()));
+    }
+
+    /**
+     * Stops the I/O thread and removes the temporary file
+     *
+     * @throws IOException
+     */
+    @Override
+    public void close() throws IOException {
+        executor.shutdownNow();
+        try {
+            if (channel != null) {
+                channel.close();
+                channel = null;
+            }
+            if (output != null) {
+                output.close();
+                output = null;
+            }
+        } finally {
+            if (file != null) {
+                Files.deleteIfExists(file);
+                file = null;
+            }
+        }
+    }
+
+    private void check() throws Exception {
+        Exception err = error;
+        if (err != null) {
+            throw err;
+        }
+    }
+
+    static void writeTsData(DataOutput output, TsData s) throws IOException {
+        output.writeBoolean(s != null);
+        if (s != null) {
+            TsPeriod start = s.getStart();
+            output.writeInt(start.getFrequency().intValue());
+            output.writeInt(start.getYear());
+            output.writeInt(start.getPosition());
+            output.writeInt(s.getLength());
+            for (int i = 0; i < s.getLength(); ++i) {
+                output.writeDouble(s.get(i));
+            }
+        }
+    }
+
+    static TsData readTsData(DataInput input) throws IOException {
+        if (!input.readBoolean()) {
+            return null;
+        }
+        TsFrequency freq = TsFrequency.valueOf(input.readInt());
+        int year = input.readInt(), pos = input.readInt();
+        double[] data = new double[input.readInt()];
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = input.readDouble();
+        }
+        return new TsData(freq, year, pos, data, false);
+    }
+
+    static void writeString(DataOutput output, String s) throws IOException {
+        output.writeBoolean(s != null);
+        if (s != null) {
+            output.writeInt(s.length());
+            output.writeChars(s);
+        }
+    }
+
+    static String readString(DataInput input) throws IOException {
+        if (!input.readBoolean()) {
+            return null;
+        }
+        char[] chars = new char[input.readInt()];
+        for (int i = 0; i < chars.length; ++i) {
+            chars[i] = input.readChar();
+        }
+        return new String(chars);
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            ++count;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
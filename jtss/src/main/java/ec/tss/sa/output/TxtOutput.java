@@ -26,19 +26,25 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Writes the requested series of each document in a separate file. The files
+ * are written on a background thread.
  *
  * @author Kristof Bayens
  */
 public class TxtOutput extends BasicConfiguration implements IOutput<SaDocument<ISaSpecification>> {
 
     public static final Logger LOGGER = LoggerFactory.getLogger(TxtOutputFactory.class);
-    private int id_;
+    private final AtomicInteger id_ = new AtomicInteger();
     private TxtOutputConfiguration config_;
     private File folder;
+    private OutputSpool spool_;
 
     public TxtOutput(TxtOutputConfiguration config) {
         config_ = config.clone();
@@ -49,24 +55,56 @@ public class TxtOutput extends BasicConfiguration implements IOutput<SaDocument<
         if (document.getResults() == null) {
             return;
         }
-        String name = "s" + Integer.toString(++id_);
+        process(document, id_.getAndIncrement());
+    }
 
+    /**
+     * The files of the document are prefixed by "s" + (pos+1)
+     *
+     * @param document
+     * @param pos
+     * @throws Exception
+     */
+    @Override
+    public void process(SaDocument<ISaSpecification> document, int pos) throws Exception {
+        if (document.getResults() == null) {
+            return;
+        }
+        String name = "s" + Integer.toString(pos + 1);
+        String sname = document.getInput().getName();
+        List<String> items = new ArrayList<>();
+        List<TsData> series = new ArrayList<>();
         for (String item : config_.getSeries()) {
             TsData s = document.getResults().getData(item, TsData.class);
             if (s != null) {
-                write(folder, name + '_' + item, document.getInput().getName(), s, config_.isFullName());
+                items.add(item);
+                series.add(s);
             }
         }
+        File cfolder = folder;
+        boolean fullName = config_.isFullName();
+        spool_.submit(() -> {
+            for (int i = 0; i < items.size(); ++i) {
+                write(cfolder, name + '_' + items.get(i), sname, series.get(i), fullName);
+            }
+        });
     }
 
     @Override
     public void start(Object context) {
-        id_ = 0;
+        id_.set(0);
         folder = BasicConfiguration.folderFromContext(config_.getFolder(), context);
+        spool_ = new OutputSpool(getName());
     }
 
     @Override
-    public void end(Object file) {
+    public void end(Object file) throws Exception {
+        try {
+            spool_.finish();
+        } finally {
+            spool_.close();
+            spool_ = null;
+        }
     }
 
     @Override
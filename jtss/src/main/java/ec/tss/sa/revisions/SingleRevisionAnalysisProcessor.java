@@ -23,14 +23,18 @@ import ec.tss.sa.EstimationPolicyType;
 import ec.tss.sa.SaItem;
 import ec.tss.sa.SaManager;
 import ec.tstoolkit.algorithm.CompositeResults;
+import ec.tstoolkit.algorithm.ParallelProcessingNode;
 import ec.tstoolkit.information.InformationSet;
 import ec.tstoolkit.timeseries.Day;
 import ec.tstoolkit.timeseries.simplets.TsData;
 import ec.tstoolkit.timeseries.simplets.TsDomain;
 import ec.tstoolkit.timeseries.simplets.TsPeriod;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
 
 /**
  *
@@ -46,6 +50,7 @@ public class SingleRevisionAnalysisProcessor {
     private InformationSet rslts_;
     private CompositeResults ref0_, ref1_;
     private final List<CompositeResults> details_ = new ArrayList<>();
+    private boolean parallel_;
 
     public SingleRevisionAnalysisProcessor(RevisionAnalysisSpec spec, TsData s) {
         spec_ = spec;
@@ -61,6 +66,23 @@ public class SingleRevisionAnalysisProcessor {
         return rslts_;
     }
 
+    /**
+     * Enables/disables the parallel processing (disabled by default, as in
+     * RevisionHistory and SlidingSpans). When it is enabled, the
+     * references and the independent sequences of vintages are processed
+     * concurrently, on the executor shared by the parallel processing nodes.
+     * The results don't depend on that option.
+     *
+     * @param parallel
+     */
+    public void setParallelProcessing(boolean parallel) {
+        parallel_ = parallel;
+    }
+
+    public boolean isParallelProcessing() {
+        return parallel_;
+    }
+
     public boolean process() {
         rslts_ = null;
         details_.clear();
@@ -83,29 +105,82 @@ public class SingleRevisionAnalysisProcessor {
             end = refDomain_.getLast();
         }
         int freq = dom.getFrequency().intValue();
+        List<Vintage> vintages = new ArrayList<>();
         while (dom.getEnd().isNotAfter(end)) {
-            Ts tmp = TsFactory.instance.createTs("tmp" + i, null, s_.fittoDomain(dom));
-
             EstimationPolicyType policy;
             if (0 == i % (freq * spec_.getRevisionDelay())) {
                 policy = spec_.getMainEstimation().getType();
             } else {
                 policy = spec_.getIntermediateEstimation().getType();
             }
-            ISaSpecification espec = SaManager.instance.createSpecification(cur, dom.drop(0, freq), policy, true);
-            cur = cur.newSpecification(tmp, espec, policy);
-            details_.add(cur.process());
+            vintages.add(new Vintage(vintages.size(), i, dom, policy));
             ++i;
             dom = dom.extend(0, 1);
         }
+        details_.addAll(processVintages(cur, vintages));
         if (!spec_.isOutOfSample() && !spec_.isTargetFinal()) {
             details_.add(ref1_);
         }
         return true;
     }
 
+    /**
+     * Each vintage is estimated starting from the model of the previous one,
+     * following its estimation policy. A complete re-estimation doesn't depend
+     * on the previous vintages (it only uses the domain specification), so
+     * that the sequence of vintages is split into independent segments, which
+     * can be processed concurrently.
+     */
+    private List<CompositeResults> processVintages(SaItem ref, List<Vintage> vintages) {
+        List<List<Vintage>> segments = new ArrayList<>();
+        for (Vintage v : vintages) {
+            if (segments.isEmpty() || v.policy == EstimationPolicyType.Complete) {
+                segments.add(new ArrayList<>());
+            }
+            segments.get(segments.size() - 1).add(v);
+        }
+        CompositeResults[] rslts = new CompositeResults[vintages.size()];
+        List<Callable<Void>> tasks = new ArrayList<>(segments.size());
+        for (List<Vintage> segment : segments) {
+            tasks.add(() -> {
+                processSegment(ref, segment, rslts);
+                return null;
+            });
+        }
+        invoke(tasks);
+        return Arrays.asList(rslts);
+    }
+
+    private void processSegment(SaItem ref, List<Vintage> segment, CompositeResults[] rslts) {
+        SaItem cur = ref;
+        int freq = refDomain_.getFrequency().intValue();
+        for (Vintage v : segment) {
+            Ts tmp = TsFactory.instance.createTs("tmp" + v.id, null, s_.fittoDomain(v.domain));
+            ISaSpecification espec = SaManager.instance.createSpecification(cur, v.domain.drop(0, freq), v.policy, true);
+            cur = cur.newSpecification(tmp, espec, v.policy);
+            rslts[v.pos] = cur.process();
+        }
+    }
+
+    private void invoke(List<Callable<Void>> tasks) {
+        for (Future<Void> rslt : ParallelProcessingNode.invokeAll(tasks, parallel_)) {
+            ParallelProcessingNode.getResult(rslt);
+        }
+    }
+
     private SaItem computeReferences() {
-        SaItem ref1 = inSampleReference(), ref0 = outOfSampleReference();
+        SaItem[] refs = new SaItem[2];
+        List<Callable<Void>> tasks = new ArrayList<>(2);
+        tasks.add(() -> {
+            refs[0] = outOfSampleReference();
+            return null;
+        });
+        tasks.add(() -> {
+            refs[1] = inSampleReference();
+            return null;
+        });
+        invoke(tasks);
+        SaItem ref0 = refs[0], ref1 = refs[1];
 
         if (spec_.isOutOfSample()) {
             return ref0;
@@ -143,6 +218,20 @@ public class SingleRevisionAnalysisProcessor {
         return start;
     }
 
+    private static final class Vintage {
+
+        final int pos, id;
+        final TsDomain domain;
+        final EstimationPolicyType policy;
+
+        Vintage(int pos, int id, TsDomain domain, EstimationPolicyType policy) {
+            this.pos = pos;
+            this.id = id;
+            this.domain = domain;
+            this.policy = policy;
+        }
+    }
+
     public <T> List<T> items(String name, Class<T> tclass) {
         List<T> rslt = new ArrayList<>();
         for (CompositeResults r : details_) {
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ * 
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved 
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ * 
+ * http://ec.europa.eu/idabc/eupl
+ * 
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and 
+ * limitations under the Licence.
+ */
+package ec.tss.tsproviders;
+
+import com.google.common.cache.CacheStats;
+import net.jcip.annotations.ThreadSafe;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Defines the ability to report the usage of a cache. Note that the
+ * implementations must be thread-safe.
+ *
+ * @since 2.2.4
+ */
+@ThreadSafe
+public interface HasCacheMetrics {
+
+    /**
+     * Gets the hit, miss, load and eviction statistics of the cache. The
+     * statistics are only recorded if the cache has been configured to do so
+     * (recordStats); they are all zero otherwise.
+     *
+     * @return a non-null snapshot of the statistics
+     */
+    @NonNull
+    CacheStats getCacheStats();
+
+    /**
+     * Gets the approximate number of entries in the cache.
+     *
+     * @return a non-negative number of entries
+     */
+    long getCacheSize();
+}
@@ -61,8 +61,40 @@ public interface CubeAccessor {
     @NonNull
     String getDisplayNodeName(@NonNull CubeId id) throws IOException;
 
+    /**
+     * Gets the version of the data of this cube, such as a last-modified time
+     * or a checksum. It is used to validate the persistent caches.
+     *
+     * @return a version; null if unknown
+     * @throws IOException
+     * @since 2.2.4
+     */
+    @Nullable
+    default String getVersion() throws IOException {
+        return null;
+    }
+
     @NonNull
     default CubeAccessor bulk(@NonNegative int depth, @NonNull ConcurrentMap<CubeId, Object> cache) {
-        return new CubeAccessors.BulkCubeAccessor(this, depth, Objects.requireNonNull(cache));
+        return new CubeAccessors.BulkCubeAccessor(this, depth, Objects.requireNonNull(cache), null);
+    }
+
+    /**
+     * Creates an accessor that caches the series of a level of the hierarchy
+     * in two tiers: a memory cache and a persistent store. The store is only
+     * used if this accessor has a version; its entries are keyed by node and
+     * by version, so that they survive restarts and become stale as soon as
+     * the version changes.
+     *
+     * @param depth the depth of the cached level, from the bottom of the
+     * hierarchy
+     * @param cache the memory cache
+     * @param store the persistent store
+     * @return a non-null accessor
+     * @since 2.2.4
+     */
+    @NonNull
+    default CubeAccessor bulk(@NonNegative int depth, @NonNull ConcurrentMap<CubeId, Object> cache, @NonNull CubeStore store) {
+        return new CubeAccessors.BulkCubeAccessor(this, depth, Objects.requireNonNull(cache), Objects.requireNonNull(store));
     }
 }
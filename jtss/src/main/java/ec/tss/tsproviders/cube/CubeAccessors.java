@@ -22,7 +22,10 @@ import java.io.IOException;
 import java.util.concurrent.ConcurrentMap;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import net.jcip.annotations.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Package private supporting class for {@link CubeAccessor}.
@@ -89,23 +92,41 @@ final class CubeAccessors {
             return delegate.getDisplayNodeName(id);
         }
 
+        @Override
+        public String getVersion() throws IOException {
+            return delegate.getVersion();
+        }
+
         @Override
         public CubeAccessor bulk(int depth, ConcurrentMap<CubeId, Object> cache) {
             return delegate.bulk(depth, cache);
         }
+
+        @Override
+        public CubeAccessor bulk(int depth, ConcurrentMap<CubeId, Object> cache, CubeStore store) {
+            return delegate.bulk(depth, cache, store);
+        }
     }
 
     @ThreadSafe
     static final class BulkCubeAccessor extends ForwardingAccessor {
 
+        private static final Logger LOGGER = LoggerFactory.getLogger(CubeAccessor.class);
+
         private final ConcurrentMap<CubeId, Object> cache;
+        private final CubeStore store;
         private final int cacheLevel;
         private final boolean cacheEnabled;
 
         BulkCubeAccessor(@NonNull CubeAccessor delegate, @NonNegative int depth, @NonNull ConcurrentMap<CubeId, Object> cache) {
+            this(delegate, depth, cache, null);
+        }
+
+        BulkCubeAccessor(@NonNull CubeAccessor delegate, @NonNegative int depth, @NonNull ConcurrentMap<CubeId, Object> cache, @Nullable CubeStore store) {
             super(delegate);
             this.cacheLevel = Math.max(0, delegate.getRoot().getMaxLevel() - depth);
             this.cache = cache;
+            this.store = store;
             this.cacheEnabled = depth > 0;
         }
 
@@ -113,7 +134,7 @@ final class CubeAccessors {
         public TsCursor<CubeId> getAllSeriesWithData(CubeId ref) throws IOException {
             if (cacheEnabled && !ref.isSeries()) {
                 if (ref.getLevel() == cacheLevel) {
-                    return TsCursor.withCache(cache, ref, super::getAllSeriesWithData);
+                    return TsCursor.withCache(cache, ref, store != null ? this::getAllSeriesWithDataFromStore : super::getAllSeriesWithData);
                 } else {
                     CubeId ancestor = ref.getAncestor(cacheLevel);
                     if (ancestor != null) {
@@ -134,5 +155,35 @@ final class CubeAccessors {
             }
             return super.getSeriesWithData(ref);
         }
+
+        /**
+         * Reads the series from the store, if possible. A failing store (not
+         * writable, full, entries that cannot be encoded, ...) is bypassed;
+         * the errors of the underlying accessor are not caught.
+         */
+        private TsCursor<CubeId> getAllSeriesWithDataFromStore(CubeId ref) throws IOException {
+            String version = getVersion();
+            if (version == null) {
+                return super.getAllSeriesWithData(ref);
+            }
+            try {
+                TsCursor<CubeId> result = store.get(ref, version);
+                if (result != null) {
+                    return result;
+                }
+            } catch (IOException ex) {
+                LOGGER.warn("Cannot read '{}' from the store", ref, ex);
+            }
+            CubeStores.Snapshot result;
+            try (TsCursor<CubeId> cursor = super.getAllSeriesWithData(ref)) {
+                result = CubeStores.Snapshot.of(cursor);
+            }
+            try {
+                store.put(ref, version, result.toCursor());
+            } catch (IOException ex) {
+                LOGGER.warn("Cannot write '{}' in the store", ref, ex);
+            }
+            return result.toCursor();
+        }
     }
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.tsproviders.cube;
+
+import ec.tss.tsproviders.cursor.TsCursor;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Objects;
+import net.jcip.annotations.ThreadSafe;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Persistent store of the series of the nodes of a cube, keyed by node and by
+ * version of the data.
+ *
+ * @since 2.2.4
+ * @see CubeAccessor#bulk(int, java.util.concurrent.ConcurrentMap, CubeStore)
+ */
+@ThreadSafe
+public interface CubeStore {
+
+    /**
+     * Gets the series of a node that have been stored for a version.
+     *
+     * @param id the node
+     * @param version the current version of the data
+     * @return a new cursor; null if nothing has been stored for this node and
+     * this version
+     * @throws IOException
+     */
+    @Nullable
+    TsCursor<CubeId> get(@NonNull CubeId id, @NonNull String version) throws IOException;
+
+    /**
+     * Stores the series of a node, replacing the ones of any previous version.
+     * The cursor is consumed but not closed.
+     *
+     * @param id the node
+     * @param version the current version of the data
+     * @param cursor the series of the node
+     * @throws IOException
+     */
+    void put(@NonNull CubeId id, @NonNull String version, @NonNull TsCursor<CubeId> cursor) throws IOException;
+
+    /**
+     * Creates a store that keeps one file per node in a folder.
+     *
+     * @param folder a non-null folder, created if needed
+     * @return a non-null store
+     */
+    @NonNull
+    static CubeStore onFolder(@NonNull Path folder) {
+        return new CubeStores.FolderStore(Objects.requireNonNull(folder));
+    }
+}
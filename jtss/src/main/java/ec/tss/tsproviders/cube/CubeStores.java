@@ -0,0 +1,265 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.tsproviders.cube;
+
+import com.google.common.hash.Hashing;
+import ec.tss.tsproviders.cursor.TsCursor;
+import ec.tss.tsproviders.utils.OptionalTsData;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import ec.tstoolkit.timeseries.simplets.TsFrequency;
+import ec.tstoolkit.timeseries.simplets.TsPeriod;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import net.jcip.annotations.ThreadSafe;
+
+/**
+ * Package private supporting class for {@link CubeStore}.
+ *
+ * @since 2.2.4
+ */
+final class CubeStores {
+
+    private CubeStores() {
+        // static class
+    }
+
+    /**
+     * Stores the series of each node in its own file. A file is written in a
+     * temporary file and then moved, so that readers never see a partial
+     * file.
+     */
+    @ThreadSafe
+    static final class FolderStore implements CubeStore {
+
+        private static final int MAGIC = 0x43554245;
+        private static final int FORMAT = 1;
+
+        private final Path folder;
+
+        FolderStore(Path folder) {
+            this.folder = folder;
+        }
+
+        @Override
+        public TsCursor<CubeId> get(CubeId id, String version) throws IOException {
+            String key = keyOf(id);
+            Path file = resolve(key);
+            if (!Files.exists(file)) {
+                return null;
+            }
+            try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                if (input.readInt() != MAGIC || input.readInt() != FORMAT
+                        || !input.readUTF().equals(version) || !input.readUTF().equals(key)) {
+                    return null;
+                }
+                CubeId root = rootOf(id);
+                List<Entry> items = new ArrayList<>();
+                while (input.readBoolean()) {
+                    items.add(readEntry(input, root));
+                }
+                return new Snapshot(items, readMap(input)).toCursor();
+            } catch (NoSuchFileException | EOFException ex) {
+                // deleted or replaced in the meantime
+                return null;
+            }
+        }
+
+        @Override
+        public void put(CubeId id, String version, TsCursor<CubeId> cursor) throws IOException {
+            String key = keyOf(id);
+            Path file = resolve(key);
+            Files.createDirectories(folder);
+            Path tmp = Files.createTempFile(folder, file.getFileName().toString(), ".tmp");
+            try {
+                try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                    output.writeInt(MAGIC);
+                    output.writeInt(FORMAT);
+                    output.writeUTF(version);
+                    output.writeUTF(key);
+                    while (cursor.nextSeries()) {
+                        output.writeBoolean(true);
+                        writeEntry(output, cursor);
+                    }
+                    output.writeBoolean(false);
+                    writeMap(output, cursor.getMetaData());
+                }
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        }
+
+        private Path resolve(String key) {
+            return folder.resolve(Hashing.sha256().hashString(key, StandardCharsets.UTF_8).toString() + ".cube");
+        }
+    }
+
+    /**
+     * The content of a cursor, kept in memory.
+     */
+    static final class Snapshot {
+
+        static Snapshot of(TsCursor<CubeId> cursor) throws IOException {
+            List<Entry> items = new ArrayList<>();
+            while (cursor.nextSeries()) {
+                items.add(new Entry(cursor.getSeriesId(), cursor.getSeriesLabel(), cursor.getSeriesMetaData(), cursor.getSeriesData()));
+            }
+            return new Snapshot(items, cursor.getMetaData());
+        }
+
+        private final List<Entry> items;
+        private final Map<String, String> meta;
+
+        private Snapshot(List<Entry> items, Map<String, String> meta) {
+            this.items = items;
+            this.meta = meta;
+        }
+
+        TsCursor<CubeId> toCursor() {
+            return TsCursor.from(items.iterator(), Entry::getData, Entry::getMeta, Entry::getLabel)
+                    .transform(Entry::getId)
+                    .withMetaData(meta);
+        }
+    }
+
+    private static final class Entry {
+
+        private final CubeId id;
+        private final String label;
+        private final Map<String, String> meta;
+        private final OptionalTsData data;
+
+        Entry(CubeId id, String label, Map<String, String> meta, OptionalTsData data) {
+            this.id = id;
+            this.label = label;
+            this.meta = meta;
+            this.data = data;
+        }
+
+        CubeId getId() {
+            return id;
+        }
+
+        String getLabel() {
+            return label;
+        }
+
+        Map<String, String> getMeta() {
+            return meta;
+        }
+
+        OptionalTsData getData() {
+            return data;
+        }
+    }
+
+    private static String keyOf(CubeId id) {
+        return IntStream.range(0, id.getMaxLevel()).mapToObj(id::getDimensionId).collect(Collectors.joining("\t"))
+                + "\n" + id.getDimensionValueStream().collect(Collectors.joining("\t"));
+    }
+
+    private static CubeId rootOf(CubeId id) {
+        return CubeId.root(IntStream.range(0, id.getMaxLevel()).mapToObj(id::getDimensionId).toArray(String[]::new));
+    }
+
+    private static void writeEntry(DataOutputStream output, TsCursor<CubeId> cursor) throws IOException {
+        CubeId id = cursor.getSeriesId();
+        output.writeInt(id.getLevel());
+        for (int i = 0; i < id.getLevel(); i++) {
+            output.writeUTF(id.getDimensionValue(i));
+        }
+        output.writeUTF(cursor.getSeriesLabel());
+        writeMap(output, cursor.getSeriesMetaData());
+        writeData(output, cursor.getSeriesData());
+    }
+
+    private static Entry readEntry(DataInputStream input, CubeId root) throws IOException {
+        String[] values = new String[input.readInt()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = input.readUTF();
+        }
+        String label = input.readUTF();
+        Map<String, String> meta = readMap(input);
+        return new Entry(root.child(values), label, meta, readData(input));
+    }
+
+    private static void writeData(DataOutputStream output, OptionalTsData data) throws IOException {
+        output.writeBoolean(data.isPresent());
+        output.writeInt(data.getNbrRows());
+        output.writeInt(data.getNbrUselessRows());
+        if (data.isPresent()) {
+            TsData values = data.get();
+            TsPeriod start = values.getStart();
+            output.writeInt(start.getFrequency().intValue());
+            output.writeInt(start.getYear());
+            output.writeInt(start.getPosition());
+            output.writeInt(values.getLength());
+            for (int i = 0; i < values.getLength(); i++) {
+                output.writeDouble(values.get(i));
+            }
+        } else {
+            output.writeUTF(data.getCause());
+        }
+    }
+
+    private static OptionalTsData readData(DataInputStream input) throws IOException {
+        boolean present = input.readBoolean();
+        int nbrRows = input.readInt();
+        int nbrUselessRows = input.readInt();
+        if (present) {
+            TsPeriod start = new TsPeriod(TsFrequency.valueOf(input.readInt()), input.readInt(), input.readInt());
+            double[] values = new double[input.readInt()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = input.readDouble();
+            }
+            return OptionalTsData.present(nbrRows, nbrUselessRows, new TsData(start, values, false));
+        }
+        return OptionalTsData.absent(nbrRows, nbrUselessRows, input.readUTF());
+    }
+
+    private static void writeMap(DataOutputStream output, Map<String, String> map) throws IOException {
+        output.writeInt(map.size());
+        for (Map.Entry<String, String> o : map.entrySet()) {
+            output.writeUTF(o.getKey());
+            output.writeUTF(o.getValue());
+        }
+    }
+
+    private static Map<String, String> readMap(DataInputStream input) throws IOException {
+        int size = input.readInt();
+        Map<String, String> result = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            result.put(input.readUTF(), input.readUTF());
+        }
+        return result;
+    }
+}
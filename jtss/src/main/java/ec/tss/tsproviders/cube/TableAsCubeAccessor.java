@@ -68,6 +68,19 @@ public final class TableAsCubeAccessor implements CubeAccessor {
         @NonNull
         String getDisplayNodeName(@NonNull CubeId id) throws Exception;
 
+        /**
+         * Gets the version of the data, for example by querying a
+         * last-modified time or a checksum.
+         *
+         * @return a version; null if unknown
+         * @throws Exception
+         * @since 2.2.4
+         */
+        @Nullable
+        default String getVersion() throws Exception {
+            return null;
+        }
+
         OptionalTsData.@NonNull Builder2<T> newBuilder();
     }
 
@@ -215,6 +228,15 @@ public final class TableAsCubeAccessor implements CubeAccessor {
         }
     }
 
+    @Override
+    public String getVersion() throws IOException {
+        try {
+            return resource.getVersion();
+        } catch (Exception ex) {
+            throw propagateIOException(ex);
+        }
+    }
+
     //<editor-fold defaultstate="collapsed" desc="Implementation details">
     private static IOException propagateIOException(Exception ex) {
         return ex instanceof IOException ? (IOException) ex : new IOException(ex);
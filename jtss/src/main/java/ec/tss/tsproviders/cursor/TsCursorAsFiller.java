@@ -27,6 +27,10 @@ import ec.tss.tsproviders.utils.OptionalTsData;
 import ec.tss.tsproviders.utils.TsFiller;
 import ec.tstoolkit.MetaData;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -101,6 +105,56 @@ public final class TsCursorAsFiller {
             return resource.reportInvalid(info);
         }
 
+        @Override
+        public boolean fillAllSeries(List<TsInformation> infos) {
+            boolean result = true;
+            // groups the requests by data source and type
+            Map<DataSource, Map<TsInformationType, Map<DataSet, List<TsInformation>>>> requests = new LinkedHashMap<>();
+            for (TsInformation info : infos) {
+                DataSet dataSet = resource.toDataSet(info);
+                if (isSeries(dataSet)) {
+                    requests.computeIfAbsent(dataSet.getDataSource(), o -> new LinkedHashMap<>())
+                            .computeIfAbsent(info.type, o -> new HashMap<>())
+                            .computeIfAbsent(dataSet, o -> new ArrayList<>())
+                            .add(info);
+                } else {
+                    resource.reportInvalid(info);
+                    result = false;
+                }
+            }
+            for (Map.Entry<DataSource, Map<TsInformationType, Map<DataSet, List<TsInformation>>>> byDataSource : requests.entrySet()) {
+                for (Map.Entry<TsInformationType, Map<DataSet, List<TsInformation>>> byType : byDataSource.getValue().entrySet()) {
+                    if (!fillSeries(byDataSource.getKey(), byType.getKey(), byType.getValue())) {
+                        result = false;
+                    }
+                }
+            }
+            return result;
+        }
+
+        private boolean fillSeries(DataSource dataSource, TsInformationType type, Map<DataSet, List<TsInformation>> items) {
+            if (items.size() == 1) {
+                // a single series: targeted query
+                boolean result = true;
+                for (List<TsInformation> list : items.values()) {
+                    for (TsInformation info : list) {
+                        if (!fillSeries(info)) {
+                            result = false;
+                        }
+                    }
+                }
+                return result;
+            }
+            try {
+                return resource.fill(items, dataSource, type);
+            } catch (IOException ex) {
+                for (Map.Entry<DataSet, List<TsInformation>> item : items.entrySet()) {
+                    item.getValue().forEach(o -> resource.reportException(o, item.getKey(), ex));
+                }
+                return false;
+            }
+        }
+
         private static boolean isCollection(DataSource dataSource) {
             return dataSource != null;
         }
@@ -137,6 +191,8 @@ public final class TsCursorAsFiller {
         boolean reportException(TsInformation info, DataSet dataSet, IOException ex);
 
         boolean reportInvalid(TsInformation info);
+
+        boolean fill(Map<DataSet, List<TsInformation>> items, DataSource dataSource, TsInformationType type) throws IOException;
     }
 
     private static final class CursorResource implements Resource {
@@ -233,6 +289,25 @@ public final class TsCursorAsFiller {
             }
         }
 
+        @Override
+        public boolean fill(Map<DataSet, List<TsInformation>> items, DataSource dataSource, TsInformationType type) throws IOException {
+            // a single pass on the data source; stops as soon as all the series are found
+            Map<DataSet, List<TsInformation>> missing = new HashMap<>(items);
+            try (TsCursor<DataSet> cursor = htc.getData(dataSource, type)) {
+                while (!missing.isEmpty() && cursor.nextSeries()) {
+                    List<TsInformation> infos = missing.remove(cursor.getSeriesId());
+                    if (infos != null) {
+                        for (TsInformation info : infos) {
+                            info.name = cursor.getSeriesLabel();
+                            fill(info, cursor);
+                        }
+                    }
+                }
+            }
+            missing.values().forEach(o -> o.forEach(info -> info.invalidDataCause = "Missing time series"));
+            return missing.isEmpty();
+        }
+
         private void fill(TsCollectionInformation info, TsCursor<DataSet> cursor) throws IOException {
             if (info.type.encompass(TsInformationType.MetaData)) {
                 fillMeta(info, cursor);
@@ -16,8 +16,11 @@
  */
 package ec.tss.tsproviders.utils;
 
+import com.google.common.base.Splitter;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheBuilderSpec;
 import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
 import com.google.common.cache.LoadingCache;
 import ec.tss.TsAsyncMode;
 import ec.tss.TsCollectionInformation;
@@ -28,8 +31,16 @@ import ec.tss.tsproviders.*;
 import ec.tstoolkit.MetaData;
 import ec.tstoolkit.timeseries.simplets.TsData;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.slf4j.Logger;
@@ -39,10 +50,29 @@ import org.slf4j.Logger;
  * @author Philippe Charles
  * @param <DATA>
  */
-public abstract class AbstractDataSourceProvider<DATA> extends AbstractTsProvider implements IDataSourceProvider {
+public abstract class AbstractDataSourceProvider<DATA> extends AbstractTsProvider implements IDataSourceProvider, HasCacheMetrics {
+
+    /**
+     * System property that defines the cache of the providers, in the syntax
+     * of {@link CacheBuilderSpec}; for example
+     * "maximumWeight=1000000,expireAfterAccess=30m,refreshAfterWrite=5m,recordStats".
+     * The spec of a single provider is defined by suffixing this property with
+     * ".&lt;providerName&gt;". The default spec is "softValues".
+     *
+     * @since 2.2.4
+     */
+    public static final String CACHE_SPEC_PROPERTY = "ec.tss.tsproviders.cacheSpec";
+
+    /**
+     * Default cache spec: values are released under memory pressure.
+     *
+     * @since 2.2.4
+     */
+    public static final String DEFAULT_CACHE_SPEC = "softValues";
 
     protected final LoadingCache<DataSource, DATA> cache;
     protected final DataSourceSupport support;
+    private CacheBuilderSpec cacheSpec;
 
     public AbstractDataSourceProvider(Logger logger, String providerName, TsAsyncMode asyncMode) {
         super(logger, providerName, asyncMode);
@@ -53,18 +83,102 @@ public abstract class AbstractDataSourceProvider<DATA> extends AbstractTsProvide
     @NonNull
     protected abstract DATA loadFromDataSource(@NonNull DataSource key) throws Exception;
 
+    /**
+     * Gets the spec of the cache of this provider. It is called by the
+     * constructor.
+     *
+     * @return a non-null spec
+     * @see #CACHE_SPEC_PROPERTY
+     * @since 2.2.4
+     */
+    @NonNull
+    protected CacheBuilderSpec getCacheSpec() {
+        String spec = System.getProperty(CACHE_SPEC_PROPERTY + "." + providerName, System.getProperty(CACHE_SPEC_PROPERTY));
+        if (spec != null) {
+            try {
+                return CacheBuilderSpec.parse(spec);
+            } catch (IllegalArgumentException ex) {
+                logger.warn("Invalid cache spec '{}'", spec, ex);
+            }
+        }
+        return CacheBuilderSpec.parse(DEFAULT_CACHE_SPEC);
+    }
+
     @NonNull
     protected CacheBuilder<Object, Object> createCacheBuilder() {
-        return CacheBuilder.newBuilder().softValues();
+        return CacheBuilder.from(getParsedCacheSpec());
+    }
+
+    /**
+     * Checks if the cache of this provider has a maximum weight, in which case
+     * the entries are weighed by {@link #getWeight(java.lang.Object)}. The
+     * providers that override {@link #createCacheBuilder()} should override
+     * this method accordingly.
+     *
+     * @return true if the cache spec defines a maximum weight
+     * @since 2.2.4
+     */
+    protected boolean hasMaximumWeight() {
+        // the spec has no getters but its parsable string is a list of key=value
+        return Splitter.on(',').trimResults().splitToList(getParsedCacheSpec().toParsableString()).stream()
+                .anyMatch(o -> o.startsWith("maximumWeight="));
+    }
+
+    private CacheBuilderSpec getParsedCacheSpec() {
+        if (cacheSpec == null) {
+            cacheSpec = getCacheSpec();
+        }
+        return cacheSpec;
+    }
+
+    /**
+     * Gets the weight of some data in the cache, which is only used if the
+     * cache spec defines a maximum weight. The default weight is 1; the
+     * providers should use the number of observations of the data.
+     *
+     * @param data
+     * @return a non-negative weight
+     * @since 2.2.4
+     */
+    protected int getWeight(@NonNull DATA data) {
+        return 1;
+    }
+
+    /**
+     * Gets a weight based on a number of observations.
+     *
+     * @param data the series of some data
+     * @return 1 plus the length of the series
+     * @since 2.2.4
+     */
+    protected static int getWeight(@NonNull Stream<OptionalTsData> data) {
+        return 1 + data.filter(OptionalTsData::isPresent).mapToInt(o -> o.get().getLength()).sum();
     }
 
     private LoadingCache<DataSource, DATA> createCache() {
-        return createCacheBuilder().build(new CacheLoader<DataSource, DATA>() {
+        CacheLoader<DataSource, DATA> loader = new CacheLoader<DataSource, DATA>() {
             @Override
             public DATA load(DataSource key) throws Exception {
                 return loadFromDataSource(key);
             }
-        });
+        };
+        // stale values (refreshAfterWrite) are still served while they are reloaded
+        loader = CacheLoader.asyncReloading(loader, ReloadExecutor.INSTANCE);
+        CacheBuilder<Object, Object> builder = createCacheBuilder();
+        // the builder ignores (with a warning) a weigher without maximum weight
+        return hasMaximumWeight()
+                ? builder.weigher((DataSource k, DATA v) -> getWeight(v)).build(loader)
+                : builder.build(loader);
+    }
+
+    @Override
+    public CacheStats getCacheStats() {
+        return cache.stats();
+    }
+
+    @Override
+    public long getCacheSize() {
+        return cache.size();
     }
 
     @Override
@@ -175,6 +289,60 @@ public abstract class AbstractDataSourceProvider<DATA> extends AbstractTsProvide
         return false;
     }
 
+    @Override
+    protected boolean processAll(List<TsInformation> infos) {
+        boolean result = true;
+        Map<DataSource, Map<DataSet, List<TsInformation>>> requests = new LinkedHashMap<>();
+        for (TsInformation info : infos) {
+            DataSet dataSet = toDataSet(info.moniker);
+            if (support.checkQuietly(dataSet, DataSet.Kind.SERIES)) {
+                requests.computeIfAbsent(dataSet.getDataSource(), o -> new LinkedHashMap<>())
+                        .computeIfAbsent(dataSet, o -> new ArrayList<>())
+                        .add(info);
+            } else {
+                logger.warn("Invalid moniker '{}'", info.moniker.getId());
+                result = false;
+            }
+        }
+        for (Map.Entry<DataSource, Map<DataSet, List<TsInformation>>> request : requests.entrySet()) {
+            try {
+                if (!fillSeries(request.getValue(), request.getKey())) {
+                    result = false;
+                }
+            } catch (Exception ex) {
+                request.getValue().values().forEach(o -> o.forEach(info -> support.reportException(info, ex, this::getDisplayName)));
+                result = false;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Fills several series of the same data source. The default implementation
+     * fills them one by one; it should be overridden by the providers that are
+     * able to retrieve all the series of a data source in a single query.
+     *
+     * @param requests the requested series, by data set
+     * @param dataSource the data source of all the requested series
+     * @return true if all the series have been filled properly
+     * @throws IOException if the data source couldn't be read. All the series
+     * are then considered as failed
+     * @since 2.2.4
+     */
+    protected boolean fillSeries(@NonNull Map<DataSet, List<TsInformation>> requests, @NonNull DataSource dataSource) throws IOException {
+        boolean result = true;
+        for (Map.Entry<DataSet, List<TsInformation>> request : requests.entrySet()) {
+            for (TsInformation info : request.getValue()) {
+                try {
+                    fillSeries(info, request.getKey());
+                } catch (Exception ex) {
+                    result = support.reportException(info, ex, this::getDisplayName);
+                }
+            }
+        }
+        return result;
+    }
+
     abstract protected void fillCollection(@NonNull TsCollectionInformation info, @NonNull DataSource dataSource) throws IOException;
 
     abstract protected void fillCollection(@NonNull TsCollectionInformation info, @NonNull DataSet dataSet) throws IOException;
@@ -201,4 +369,21 @@ public abstract class AbstractDataSourceProvider<DATA> extends AbstractTsProvide
         result.data = data;
         return result;
     }
+
+    private static final class ReloadExecutor {
+
+        // the reloads are I/O bound; they don't use the executor of the computations
+        static final Executor INSTANCE = newExecutor();
+
+        private static Executor newExecutor() {
+            ThreadPoolExecutor result = new ThreadPoolExecutor(2, 2, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                    r -> {
+                        Thread t = new Thread(r, "DataSourceProvider-reload");
+                        t.setDaemon(true);
+                        return t;
+                    });
+            result.allowCoreThreadTimeOut(true);
+            return result;
+        }
+    }
 }
@@ -23,6 +23,7 @@ import ec.tss.TsFactory;
 import ec.tss.TsInformation;
 import ec.tss.TsInformationType;
 import ec.tss.TsMoniker;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.LockSupport;
@@ -109,6 +110,12 @@ public abstract class TsFillerAsProvider implements ITsProvider {
             return filler.fillSeries(info);
         }
 
+        @Override
+        public boolean getAll(List<TsInformation> infos) {
+            infos.forEach(o -> DataSourcePreconditions.checkProvider(getSource(), o.moniker));
+            return filler.fillAllSeries(infos);
+        }
+
         @Override
         public boolean queryTs(TsMoniker moniker, TsInformationType type) {
             Objects.requireNonNull(moniker, "Moniker cannot be null");
@@ -168,6 +175,16 @@ public abstract class TsFillerAsProvider implements ITsProvider {
             return filler.fillSeries(info);
         }
 
+        @Override
+        public boolean getAll(List<TsInformation> infos) {
+            for (TsInformation info : infos) {
+                DataSourcePreconditions.checkProvider(getSource(), info.moniker);
+                // remove request that are encompassed by this one
+                asyncRequests.removeTs(info.moniker, info.type);
+            }
+            return filler.fillAllSeries(infos);
+        }
+
         @Override
         public boolean queryTs(TsMoniker moniker, TsInformationType type) {
             Objects.requireNonNull(moniker, "Moniker cannot be null");
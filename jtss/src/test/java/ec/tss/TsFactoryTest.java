@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss;
+
+import data.Data;
+import java.util.List;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.Test;
+
+public class TsFactoryTest {
+
+    private static final String SOURCE = "silent";
+
+    @Test
+    public void testLoadWithSilentFailure() {
+        TsFactory.instance.add(new SilentProvider());
+        try {
+            Ts ok = TsFactory.instance.createTs("ok", TsMoniker.createProvidedMoniker(SOURCE, "ok"), TsInformationType.None);
+            Ts ko = TsFactory.instance.createTs("ko", TsMoniker.createProvidedMoniker(SOURCE, "ko"), TsInformationType.None);
+
+            assertThat(TsFactory.instance.load(new Ts[]{ko}, TsInformationType.Data)).isFalse();
+            assertThat(ko.getInvalidDataCause()).isEqualTo("Unknown error");
+            assertThat(ko.getTsData()).isNull();
+
+            assertThat(TsFactory.instance.load(new Ts[]{ok, ko}, TsInformationType.Data)).isTrue();
+            assertThat(ok.getInvalidDataCause()).isNull();
+            assertThat(ok.getTsData()).isEqualTo(Data.P);
+            assertThat(ko.getInvalidDataCause()).isEqualTo("Unknown error");
+        } finally {
+            TsFactory.instance.remove(SOURCE);
+        }
+    }
+
+    // fills the series "ok" and fails on the other ones without giving a cause
+    private static final class SilentProvider implements ITsProvider {
+
+        @Override
+        public boolean getAll(List<TsInformation> infos) {
+            for (TsInformation info : infos) {
+                if (!get(info)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean get(TsInformation info) {
+            if (!"ok".equals(info.moniker.getId())) {
+                return false;
+            }
+            info.data = Data.P;
+            return true;
+        }
+
+        @Override
+        public boolean get(TsCollectionInformation info) {
+            return false;
+        }
+
+        @Override
+        public void clearCache() {
+        }
+
+        @Override
+        public void dispose() {
+        }
+
+        @Override
+        public TsAsyncMode getAsyncMode() {
+            return TsAsyncMode.None;
+        }
+
+        @Override
+        public String getSource() {
+            return SOURCE;
+        }
+
+        @Override
+        public boolean queryTs(TsMoniker ts, TsInformationType type) {
+            return false;
+        }
+
+        @Override
+        public boolean queryTsCollection(TsMoniker collection, TsInformationType info) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import static org.assertj.core.api.Assertions.*;
+import org.junit.Test;
+
+public class TsRegistryTest {
+
+    @Test
+    public void testConcurrentCreation() throws Exception {
+        TsMoniker[] monikers = new TsMoniker[100];
+        for (int i = 0; i < monikers.length; ++i) {
+            monikers[i] = TsMoniker.createProvidedMoniker("registry-test", Integer.toString(i));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Callable<Ts[]>> tasks = new ArrayList<>();
+            for (int k = 0; k < 16; ++k) {
+                tasks.add(() -> {
+                    Ts[] s = new Ts[monikers.length];
+                    for (int i = 0; i < monikers.length; ++i) {
+                        s[i] = TsFactory.instance.createTs("s" + i, monikers[i], null, null);
+                    }
+                    return s;
+                });
+            }
+            List<Future<Ts[]>> results = executor.invokeAll(tasks);
+            Ts[] first = results.get(0).get();
+            for (Future<Ts[]> result : results) {
+                Ts[] cur = result.get();
+                for (int i = 0; i < monikers.length; ++i) {
+                    // a single series by moniker
+                    assertThat(cur[i].getMaster()).isSameAs(first[i].getMaster());
+                }
+            }
+            for (int i = 0; i < monikers.length; ++i) {
+                assertThat(TsFactory.instance.getTs(monikers[i])).isSameAs(first[i].getMaster());
+                assertThat(TsFactory.instance.isTsAlive(monikers[i])).isTrue();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        TsFactory.RegistryStats stats = TsFactory.instance.getTsRegistryStats();
+        assertThat(stats.getLookups()).isGreaterThanOrEqualTo(1600);
+        assertThat(stats.getHits()).isGreaterThan(0);
+    }
+
+    @Test
+    public void testConcurrentLoadingCreation() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            for (int round = 0; round < 20; ++round) {
+                List<TsMoniker> monikers = new ArrayList<>();
+                for (int i = 0; i < 50; ++i) {
+                    monikers.add(TsMoniker.createProvidedMoniker("registry-test-" + round, Integer.toString(i)));
+                }
+                List<Callable<List<Object>>> tasks = new ArrayList<>();
+                for (int k = 0; k < 16; ++k) {
+                    boolean loading = k % 2 == 0, collection = k % 4 < 2;
+                    List<TsMoniker> order = new ArrayList<>(monikers);
+                    Collections.shuffle(order);
+                    tasks.add(() -> {
+                        List<Object> s = new ArrayList<>();
+                        for (TsMoniker moniker : order) {
+                            // loading creations take the stripe lock, the other ones don't
+                            if (collection) {
+                                s.add(loading
+                                        ? TsFactory.instance.createTsCollection(null, moniker, TsInformationType.Data)
+                                        : TsFactory.instance.createTsCollection(null, moniker, null, null));
+                            } else {
+                                s.add(loading
+                                        ? TsFactory.instance.createTs(null, moniker, TsInformationType.Data).getMaster()
+                                        : TsFactory.instance.createTs(null, moniker, null, null).getMaster());
+                            }
+                        }
+                        return s;
+                    });
+                }
+                List<Future<List<Object>>> results = executor.invokeAll(tasks);
+                for (int k = 0; k < results.size(); ++k) {
+                    List<Object> cur = results.get(k).get();
+                    for (int i = 0; i < cur.size(); ++i) {
+                        TsMoniker moniker = monikerOf(cur.get(i));
+                        Object registered = k % 4 < 2
+                                ? TsFactory.instance.getTsCollection(moniker)
+                                : TsFactory.instance.getTs(moniker);
+                        // a single master by moniker
+                        assertThat(cur.get(i)).isSameAs(registered);
+                    }
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static TsMoniker monikerOf(Object o) {
+        return o instanceof Ts ? ((Ts) o).getMoniker() : ((TsCollection) o).getMoniker();
+    }
+
+    @Test
+    public void testExpunge() throws InterruptedException {
+        TsRegistry<Object> registry = new TsRegistry<>();
+        TsMoniker moniker = TsMoniker.createAnonymousMoniker();
+        Object o = new Object();
+        registry.put(moniker, o);
+        assertThat(registry.putIfAbsent(moniker, new Object())).isSameAs(o);
+        assertThat(registry.getStats().getConflicts()).isEqualTo(1);
+        for (int i = 0; i < 100; ++i) {
+            registry.put(TsMoniker.createAnonymousMoniker(), new Object());
+        }
+        for (int i = 0; i < 100 && registry.size() > 1; ++i) {
+            System.gc();
+            Thread.sleep(10);
+            registry.expunge();
+        }
+        assertThat(registry.size()).isEqualTo(1);
+        assertThat(registry.getStats().getExpunged()).isEqualTo(100);
+        assertThat(registry.get(moniker)).isSameAs(o);
+    }
+
+    @Test
+    public void testLocked() {
+        TsRegistry<Object> registry = new TsRegistry<>();
+        TsMoniker moniker = TsMoniker.createAnonymousMoniker();
+        // reentrant
+        Object o = registry.locked(moniker, () -> registry.locked(moniker, Object::new));
+        assertThat(o).isNotNull();
+        assertThat(registry.getStats().getContentions()).isEqualTo(0);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.information;
+
+import data.Data;
+import ec.satoolkit.algorithm.implementation.TramoSeatsProcessingFactory;
+import ec.satoolkit.tramoseats.TramoSeatsSpecification;
+import ec.tss.TsInformation;
+import ec.tss.TsInformationType;
+import ec.tss.TsMoniker;
+import ec.tss.xml.information.XmlInformationSet;
+import ec.tstoolkit.MetaData;
+import ec.tstoolkit.Parameter;
+import ec.tstoolkit.ParameterType;
+import ec.tstoolkit.algorithm.CompositeResults;
+import ec.tstoolkit.information.InformationSet;
+import ec.tstoolkit.information.InformationSetHelper;
+import ec.tstoolkit.maths.matrices.Matrix;
+import ec.tstoolkit.timeseries.Day;
+import ec.tstoolkit.timeseries.Month;
+import ec.tstoolkit.timeseries.TsPeriodSelector;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import static org.assertj.core.api.Assertions.*;
+import org.junit.Test;
+
+public class BinaryInformationSetTest {
+
+    private static String toXml(InformationSet info) throws JAXBException {
+        XmlInformationSet xml = new XmlInformationSet();
+        xml.copy(info);
+        Marshaller marshaller = JAXBContext.newInstance(XmlInformationSet.class).createMarshaller();
+        StringWriter writer = new StringWriter();
+        marshaller.marshal(xml, writer);
+        return writer.toString();
+    }
+
+    @Test
+    public void testItems() throws IOException {
+        InformationSet info = new InformationSet();
+        Matrix m = new Matrix(5, 3);
+        m.randomize();
+        info.add("m", m);
+        info.add("ts", Data.X);
+        info.add("int", -12345);
+        info.add("bool", true);
+        info.add("doubles", new double[]{0.3, Double.NaN, -93.9393});
+        info.add("strings", new String[]{"Hello", null, "wörld"});
+        Parameter p = new Parameter(.5, ParameterType.Estimated);
+        p.setStde(.1);
+        info.add("params", new Parameter[]{p, null, new Parameter(-.2, ParameterType.Fixed)});
+        info.subSet("sub").add("ts", Data.P.drop(12, 0));
+        TsPeriodSelector sel = new TsPeriodSelector();
+        sel.between(new Day(1990, Month.March, 2), new Day(2000, Month.December, 30));
+        info.add("span", sel);
+        MetaData md = new MetaData();
+        md.put("source", "test");
+        TsInformation ts = new TsInformation("prod", TsMoniker.create("src", "id"), TsInformationType.UserDefined);
+        ts.metaData = md;
+        ts.data = Data.P;
+        info.add("input", ts);
+
+        InformationSet ninfo = BinaryInformationSet.fromBytes(BinaryInformationSet.toBytes(info));
+        assertThat(ninfo.get("m", Matrix.class)).isEqualTo(m);
+        assertThat(ninfo.get("ts", TsData.class)).isEqualTo(Data.X);
+        assertThat(ninfo.get("int", Integer.class)).isEqualTo(-12345);
+        assertThat(ninfo.get("bool", Boolean.class)).isTrue();
+        assertThat(ninfo.get("doubles", double[].class)).containsExactly(0.3, Double.NaN, -93.9393);
+        assertThat(ninfo.get("strings", String[].class)).containsExactly("Hello", null, "wörld");
+        Parameter[] np = ninfo.get("params", Parameter[].class);
+        assertThat(np).hasSize(3);
+        assertThat(np[0]).isEqualTo(p);
+        assertThat(np[0].getStde()).isEqualTo(.1);
+        assertThat(np[1]).isNull();
+        assertThat(np[2].getType()).isEqualTo(ParameterType.Fixed);
+        assertThat(ninfo.search(new String[]{"sub", "ts"}, TsData.class)).isEqualTo(Data.P.drop(12, 0));
+        assertThat(ninfo.get("span", TsPeriodSelector.class)).isEqualTo(sel);
+        TsInformation nts = ninfo.get("input", TsInformation.class);
+        assertThat(nts.name).isEqualTo("prod");
+        assertThat(nts.moniker).isEqualTo(ts.moniker);
+        assertThat(nts.metaData).isEqualTo(md);
+        assertThat(nts.data).isEqualTo(Data.P);
+    }
+
+    @Test
+    public void testSpecificationAndResults() throws IOException, JAXBException {
+        TramoSeatsSpecification spec = TramoSeatsSpecification.RSAfull;
+        InformationSet ispec = spec.write(true);
+        CompositeResults rslt = TramoSeatsProcessingFactory.process(Data.P, spec);
+        InformationSet irslt = InformationSetHelper.fromProcResults(rslt);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (BinaryInformationSet.Writer writer = new BinaryInformationSet.Writer(bytes)) {
+            writer.write(ispec);
+            writer.write(irslt);
+        }
+        try (BinaryInformationSet.Reader reader = new BinaryInformationSet.Reader(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertThat(reader.getVersion()).isEqualTo(BinaryInformationSet.VERSION);
+            InformationSet nspec = reader.read();
+            TramoSeatsSpecification rspec = new TramoSeatsSpecification();
+            assertThat(rspec.read(nspec)).isTrue();
+            assertThat(rspec).isEqualTo(spec);
+            assertThat(toXml(nspec)).isEqualTo(toXml(ispec));
+            InformationSet nrslt = reader.read();
+            assertThat(toXml(nrslt)).isEqualTo(toXml(irslt));
+            assertThat(reader.read()).isNull();
+        }
+        assertThat(bytes.size()).isLessThan(toXml(ispec).length() + toXml(irslt).length());
+    }
+
+    @Test(expected = IOException.class)
+    public void testInvalidStream() throws IOException {
+        BinaryInformationSet.fromBytes(new byte[]{1, 2, 3, 4, 5});
+    }
+}
@@ -0,0 +1,141 @@
+/*
+* Copyright 2026 National Bank of Belgium
+*
+* Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+* by the European Commission - subsequent versions of the EUPL (the "Licence");
+* You may not use this work except in compliance with the Licence.
+* You may obtain a copy of the Licence at:
+*
+* http://ec.europa.eu/idabc/eupl
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the Licence is distributed on an "AS IS" basis,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the Licence for the specific language governing permissions and
+* limitations under the Licence.
+ */
+package ec.tss.sa;
+
+import data.Data;
+import ec.satoolkit.tramoseats.TramoSeatsSpecification;
+import ec.tss.TsFactory;
+import ec.tss.sa.processors.TramoSeatsProcessor;
+import ec.tstoolkit.algorithm.CompositeResults;
+import ec.tstoolkit.algorithm.ParallelProcessingNode;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class SaProcessingMonitorTest {
+
+    static {
+        SaManager.instance.add(new TramoSeatsProcessor());
+    }
+
+    public SaProcessingMonitorTest() {
+    }
+
+    @Test
+    public void testParallelRun() throws InterruptedException {
+        SaProcessing processing = new SaProcessing();
+        processing.add(new SaItem(TramoSeatsSpecification.RSAfull, TsFactory.instance.createTs("P", null, Data.P)));
+        processing.add(new SaItem(TramoSeatsSpecification.RSAfull, TsFactory.instance.createTs("X", null, Data.X)));
+        processing.add(new SaItem(TramoSeatsSpecification.RSAfull, TsFactory.instance.createTs("M1", null, Data.M1)));
+        processing.add(new SaItem(TramoSeatsSpecification.RSAfull, TsFactory.instance.createTs("M2", null, Data.M2)));
+
+        AtomicInteger processed = new AtomicInteger();
+        CountDownLatch completed = new CountDownLatch(1);
+        SaProcessingMonitor monitor = new SaProcessingMonitor(2);
+        monitor.addSaEventListener(new SaEventListener() {
+            @Override
+            public void Processed(SaItemEvent evt) {
+                processed.incrementAndGet();
+            }
+
+            @Override
+            public void Completed(SaProcessingEvent evt) {
+                completed.countDown();
+            }
+        });
+        monitor.setProcessing(processing);
+        monitor.start();
+        assertTrue(completed.await(60, TimeUnit.SECONDS));
+        monitor.close();
+
+        assertFalse(monitor.isRunning());
+        assertEquals(processing.size(), processed.get());
+        assertEquals(processing.size(), monitor.getProcessedCount());
+        assertTrue(processing.isProcessed());
+        for (SaItem item : processing) {
+            CompositeResults rslt = SaManager.instance.process(item.getEstimationSpecification(), item.getTsData());
+            assertEquals(rslt.getData("sa", TsData.class),
+                    item.process().getData("sa", TsData.class));
+        }
+    }
+
+    @Test
+    public void testFailingItem() throws InterruptedException {
+        SaProcessing processing = new SaProcessing();
+        processing.add(new SaItem(TramoSeatsSpecification.RSA0, TsFactory.instance.createTs("P", null, Data.P)));
+        processing.add(new SaItem(TramoSeatsSpecification.RSA0, TsFactory.instance.createTs("X", null, Data.X)) {
+            @Override
+            public CompositeResults process() {
+                throw new StackOverflowError();
+            }
+        });
+        processing.add(new SaItem(TramoSeatsSpecification.RSA0, TsFactory.instance.createTs("M1", null, Data.M1)));
+
+        SaProcessingMonitor monitor = new SaProcessingMonitor(1);
+        CountDownLatch completed = completion(monitor);
+        monitor.setProcessing(processing);
+        monitor.start();
+        assertTrue(completed.await(60, TimeUnit.SECONDS));
+
+        assertEquals(3, monitor.getProcessedCount());
+        assertEquals(SaItem.Status.Valid, processing.get(0).getStatus());
+        assertEquals(SaItem.Status.Invalid, processing.get(1).getStatus());
+        assertEquals(SaItem.Status.Valid, processing.get(2).getStatus());
+    }
+
+    @Test
+    public void testRejectedItems() throws InterruptedException {
+        SaProcessing processing = new SaProcessing();
+        processing.add(new SaItem(TramoSeatsSpecification.RSA0, TsFactory.instance.createTs("P", null, Data.P)));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+        ParallelProcessingNode.setExecutor(executor);
+        try {
+            SaProcessingMonitor monitor = new SaProcessingMonitor();
+            CountDownLatch completed = completion(monitor);
+            monitor.setProcessing(processing);
+            monitor.start();
+            assertTrue(completed.await(60, TimeUnit.SECONDS));
+
+            assertEquals(0, monitor.getProcessedCount());
+            assertEquals(SaItem.Status.Unprocessed, processing.get(0).getStatus());
+        } finally {
+            ParallelProcessingNode.setExecutor(null);
+        }
+    }
+
+    private static CountDownLatch completion(SaProcessingMonitor monitor) {
+        CountDownLatch result = new CountDownLatch(1);
+        monitor.addSaEventListener(new SaEventListener() {
+            @Override
+            public void Processed(SaItemEvent evt) {
+            }
+
+            @Override
+            public void Completed(SaProcessingEvent evt) {
+                result.countDown();
+            }
+        });
+        return result;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.sa;
+
+import data.Data;
+import ec.satoolkit.tramoseats.TramoSeatsSpecification;
+import ec.tss.TsFactory;
+import ec.tss.information.BinaryInformationSet;
+import ec.tss.sa.processors.TramoSeatsProcessor;
+import ec.tstoolkit.information.InformationSet;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import java.io.IOException;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class SaProcessingTest {
+
+    static {
+        SaManager.instance.add(new TramoSeatsProcessor());
+    }
+
+    public SaProcessingTest() {
+    }
+
+    private static SaProcessing processing() {
+        SaProcessing processing = new SaProcessing();
+        processing.add(new SaItem(TramoSeatsSpecification.RSAfull, TsFactory.instance.createTs("P", null, Data.P)));
+        processing.add(new SaItem(TramoSeatsSpecification.RSA4, TsFactory.instance.createTs("X", null, Data.X)));
+        SaItem item = new SaItem(TramoSeatsSpecification.RSAfull, TsFactory.instance.createTs("M1", null, Data.M1));
+        processing.add(item.newSpecification(TramoSeatsSpecification.RSA3, EstimationPolicyType.Complete));
+        for (SaItem cur : processing) {
+            cur.process();
+        }
+        return processing;
+    }
+
+    @Test
+    public void testLazyRead() throws IOException {
+        SaProcessing processing = processing();
+        InformationSet info = processing.write(false);
+
+        SaProcessing nprocessing = new SaProcessing();
+        assertTrue(nprocessing.read(info));
+        assertEquals(processing.size(), nprocessing.size());
+        // items which are not used are written back as they were read
+        assertArrayEquals(BinaryInformationSet.toBytes(info), BinaryInformationSet.toBytes(nprocessing.write(false)));
+
+        for (int i = 0; i < processing.size(); ++i) {
+            SaItem item = processing.get(i), nitem = nprocessing.get(i);
+            assertEquals(item.getName(), nitem.getName());
+            assertEquals(item.getDomainSpecification(), nitem.getDomainSpecification());
+            assertEquals(item.getEstimationSpecification(), nitem.getEstimationSpecification());
+            assertEquals(item.getPointSpecification(), nitem.getPointSpecification());
+            assertEquals(item.getTsData(), nitem.getTsData());
+            assertEquals(item.process().getData("sa", TsData.class), nitem.process().getData("sa", TsData.class));
+        }
+    }
+
+    @Test
+    public void testLazyCopy() {
+        SaProcessing processing = processing();
+        SaProcessing nprocessing = new SaProcessing();
+        assertTrue(nprocessing.read(processing.write(false)));
+        SaProcessing copy = nprocessing.makeCopy();
+        for (int i = 0; i < processing.size(); ++i) {
+            assertEquals(processing.get(i).getPointSpecification(), copy.get(i).getPointSpecification());
+            assertSame(nprocessing.get(i).getPointSpecification(), copy.get(i).getPointSpecification());
+            assertSame(nprocessing.get(i).getTs(), copy.get(i).getTs());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.sa.documents;
+
+import data.Data;
+import ec.satoolkit.tramoseats.TramoSeatsSpecification;
+import ec.tss.TsFactory;
+import ec.tss.sa.EstimationPolicyType;
+import ec.tss.sa.SaManager;
+import ec.tss.sa.processors.TramoSeatsProcessor;
+import ec.tstoolkit.algorithm.CompositeResults;
+import ec.tstoolkit.timeseries.analysis.DiagnosticInfo;
+import ec.tstoolkit.timeseries.analysis.RevisionHistory;
+import ec.tstoolkit.timeseries.analysis.SlidingSpans;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import ec.tstoolkit.timeseries.simplets.TsPeriod;
+import static org.assertj.core.api.Assertions.*;
+import org.junit.Test;
+
+public class SaDocumentProcessingTest {
+
+    static {
+        SaManager.instance.add(new TramoSeatsProcessor());
+    }
+
+    private static SaDocumentProcessing<TramoSeatsSpecification> processing() {
+        TramoSeatsDocument doc = new TramoSeatsDocument();
+        doc.setSpecification(TramoSeatsSpecification.RSA4.clone());
+        doc.setInput(TsFactory.instance.createTs("prod", null, Data.P));
+        return new SaDocumentProcessing<>(doc, EstimationPolicyType.FreeParameters);
+    }
+
+    @Test
+    public void testSlidingSpans() {
+        SaDocumentProcessing<TramoSeatsSpecification> processing = processing();
+        SlidingSpans<CompositeResults> seq = new SlidingSpans<>(processing, Data.P.getDomain());
+        SlidingSpans<CompositeResults> par = new SlidingSpans<>(processing, Data.P.getDomain());
+        par.setParallelProcessing(true);
+        assertThat(seq.process()).isTrue();
+        assertThat(par.process()).isTrue();
+        assertThat(par.getSpanCount()).isEqualTo(seq.getSpanCount());
+        for (int i = 0; i < seq.getSpanCount(); ++i) {
+            assertThat(par.getDomain(i)).isEqualTo(seq.getDomain(i));
+            assertThat(par.info(i).getData("sa", TsData.class)).isEqualTo(seq.info(i).getData("sa", TsData.class));
+        }
+        assertThat(par.Statistics("sa", DiagnosticInfo.RelativeDifference))
+                .isEqualTo(seq.Statistics("sa", DiagnosticInfo.RelativeDifference));
+    }
+
+    @Test
+    public void testRevisionHistory() {
+        SaDocumentProcessing<TramoSeatsSpecification> processing = processing();
+        RevisionHistory<CompositeResults> seq = new RevisionHistory<>(processing, Data.P.getDomain());
+        RevisionHistory<CompositeResults> par = new RevisionHistory<>(processing, Data.P.getDomain());
+        par.setParallelProcessing(true);
+        TsPeriod start = Data.P.getDomain().getLast().minus(12);
+        TsData rev = seq.revision("sa", start);
+        assertThat(rev.getLength()).isGreaterThan(1);
+        assertThat(par.revision("sa", start)).isEqualTo(rev);
+        TsPeriod period = start.minus(12);
+        assertThat(par.tsRevision("sa", period, start)).isEqualTo(seq.tsRevision("sa", period, start));
+    }
+
+    @Test
+    public void testWarmStart() {
+        SlidingSpans<CompositeResults> warm = new SlidingSpans<>(processing(), Data.P.getDomain());
+        warm.setWarmStart(true);
+        warm.setParallelProcessing(true);
+        assertThat(warm.process()).isTrue();
+        assertThat(warm.getSpanCount()).isEqualTo(4);
+        for (int i = 0; i < warm.getSpanCount(); ++i) {
+            TsData sa = warm.info(i).getData("sa", TsData.class);
+            assertThat(sa.getDomain()).isEqualTo(warm.getDomain(i));
+        }
+    }
+}
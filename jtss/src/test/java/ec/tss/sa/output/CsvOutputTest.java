@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.sa.output;
+
+import data.Data;
+import ec.satoolkit.ISaSpecification;
+import ec.satoolkit.tramoseats.TramoSeatsSpecification;
+import ec.tss.TsFactory;
+import ec.tss.formatters.CsvInformationFormatter;
+import ec.tss.sa.SaManager;
+import ec.tss.sa.documents.SaDocument;
+import ec.tss.sa.documents.TramoSeatsDocument;
+import ec.tss.sa.processors.TramoSeatsProcessor;
+import ec.tstoolkit.algorithm.IOutput;
+import ec.tstoolkit.algorithm.IProcResults;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import ec.tstoolkit.utilities.NamedObject;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import static org.assertj.core.api.Assertions.*;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CsvOutputTest {
+
+    static {
+        SaManager.instance.add(new TramoSeatsProcessor());
+    }
+
+    private Path folder;
+
+    @Before
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("csvoutput");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(folder)) {
+            files.sorted(Comparator.reverseOrder()).forEach(f -> f.toFile().delete());
+        }
+    }
+
+    private static List<SaDocument<ISaSpecification>> documents() {
+        List<SaDocument<ISaSpecification>> docs = new ArrayList<>();
+        TsData[] s = {Data.P, Data.X, Data.M1, Data.M2, Data.M3};
+        for (int i = 0; i < s.length; ++i) {
+            TramoSeatsDocument doc = new TramoSeatsDocument();
+            doc.setSpecification(TramoSeatsSpecification.RSAfull.clone());
+            // an anonymous series is named by its position
+            doc.setInput(TsFactory.instance.createTs(i == 2 ? null : "s" + i, null, s[i]));
+            doc.getResults();
+            docs.add((SaDocument) doc);
+        }
+        return docs;
+    }
+
+    /**
+     * Processes the documents in reverse order, from several threads
+     */
+    private static void process(IOutput<SaDocument<ISaSpecification>> output, List<SaDocument<ISaSpecification>> docs) throws Exception {
+        output.start(null);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (int i = docs.size() - 1; i >= 0; --i) {
+                int pos = i;
+                tasks.add(() -> {
+                    output.process(docs.get(pos), pos);
+                    return null;
+                });
+            }
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        output.end(null);
+    }
+
+    private String read(String file) throws IOException {
+        return new String(Files.readAllBytes(folder.resolve(file)), StandardCharsets.ISO_8859_1);
+    }
+
+    @Test
+    public void testCsv() throws Exception {
+        List<SaDocument<ISaSpecification>> docs = documents();
+        CsvOutputConfiguration config = new CsvOutputConfiguration();
+        config.setFolder(folder.toFile());
+        config.setSeries(Arrays.asList("sa", "t", "y_f"));
+        process(new CsvOutput(config), docs);
+
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < docs.size(); ++i) {
+            String name = docs.get(i).getInput().getRawName();
+            names.add(name == null ? "series" + (i + 1) : name);
+        }
+        for (String item : config.getSeries()) {
+            List<TsData> s = new ArrayList<>();
+            docs.forEach(doc -> s.add(doc.getResults().getData(item, TsData.class)));
+            TsCollectionCsvFormatter fmt = new TsCollectionCsvFormatter();
+            fmt.setPresentation(config.getPresentation());
+            StringWriter writer = new StringWriter();
+            assertThat(fmt.write(s, names, writer)).isTrue();
+            assertThat(read("series_" + item + ".csv")).isEqualTo(writer.toString());
+        }
+    }
+
+    @Test
+    public void testCsvMatrix() throws Exception {
+        List<SaDocument<ISaSpecification>> docs = documents();
+        CsvMatrixOutputConfiguration config = new CsvMatrixOutputConfiguration();
+        config.setFolder(folder.toFile());
+        List<String> items = new ArrayList<>(config.getItems());
+        items.add("regression.out*");
+        items.add("residuals.lb:2");
+        config.setItems(items);
+        process(new CsvMatrixOutput(config), docs);
+
+        List<NamedObject<IProcResults>> records = new ArrayList<>();
+        docs.forEach(doc -> records.add(new NamedObject<>(doc.getInput().getRawName(), doc.getResults())));
+        CsvInformationFormatter fmt = new CsvInformationFormatter();
+        fmt.setFullName(config.isFullName());
+        StringWriter writer = new StringWriter();
+        fmt.formatResults(writer, records, items, true);
+        assertThat(writer.toString().split(System.lineSeparator())).hasSize(docs.size() + 1);
+        assertThat(read(config.getFileName() + ".csv")).isEqualTo(writer.toString());
+    }
+
+    @Test
+    public void testTxt() throws Exception {
+        List<SaDocument<ISaSpecification>> docs = documents();
+        TxtOutputConfiguration config = new TxtOutputConfiguration();
+        config.setFolder(folder.toFile());
+        config.setSeries(Arrays.asList("sa", "t"));
+        process(new TxtOutput(config), docs);
+
+        File expected = Files.createTempDirectory(folder, "expected").toFile();
+        for (int i = 0; i < docs.size(); ++i) {
+            SaDocument<ISaSpecification> doc = docs.get(i);
+            for (String item : config.getSeries()) {
+                String name = "s" + (i + 1) + "_" + item;
+                TxtOutput.write(expected, name, doc.getInput().getName(), doc.getResults().getData(item, TsData.class), config.isFullName());
+                assertThat(read(name + ".dta")).isEqualTo(read(expected.getName() + File.separator + name + ".dta"));
+            }
+        }
+    }
+}
@@ -27,6 +27,24 @@ public class SingleRevisionAnalysisProcessorTest {
     public SingleRevisionAnalysisProcessorTest() {
     }
 
+    @Test
+    public void testParallel() {
+        RevisionAnalysisSpec spec = new RevisionAnalysisSpec();
+        spec.setAnalysisLength(2);
+        spec.setIntermediateEstimation(RevisionAnalysisSpec.IntermediatePolicyType.FixedParameters);
+        SingleRevisionAnalysisProcessor sp = new SingleRevisionAnalysisProcessor(spec, Data.P);
+        sp.setParallelProcessing(false);
+        assertTrue(sp.process());
+        SingleRevisionAnalysisProcessor pp = new SingleRevisionAnalysisProcessor(spec, Data.P);
+        pp.setParallelProcessing(true);
+        assertTrue(pp.process());
+        List<TsData> ssa = sp.items("sa", TsData.class), psa = pp.items("sa", TsData.class);
+        assertEquals(ssa.size(), psa.size());
+        for (int i = 0; i < ssa.size(); ++i) {
+            assertEquals(ssa.get(i), psa.get(i));
+        }
+    }
+
 //    @Test
     public void demoDefaultRevisions() {
         RevisionAnalysisSpec spec = new RevisionAnalysisSpec();
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.tsproviders.cube;
+
+import com.google.common.collect.ImmutableMap;
+import static ec.tss.tsproviders.cube.CubeIdTest.INDUSTRY;
+import static ec.tss.tsproviders.cube.CubeIdTest.SECTOR_REGION;
+import ec.tss.tsproviders.cursor.TsCursor;
+import ec.tss.tsproviders.utils.IteratorWithIO;
+import ec.tss.tsproviders.utils.OptionalTsData;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import ec.tstoolkit.timeseries.simplets.TsFrequency;
+import ec.tstoolkit.timeseries.simplets.TsPeriod;
+import ec.tstoolkit.utilities.GuavaCaches;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CubeStoreTest {
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        CubeStore store = CubeStore.onFolder(temp.getRoot().toPath().resolve("cache"));
+        SampleAccessor accessor = new SampleAccessor("v1");
+
+        assertThat(store.get(INDUSTRY, "v1")).isNull();
+
+        try (TsCursor<CubeId> cursor = accessor.getAllSeriesWithData(INDUSTRY)) {
+            store.put(INDUSTRY, "v1", cursor);
+        }
+
+        assertThat(toList(store.get(INDUSTRY, "v1"))).containsExactlyElementsOf(toList(accessor.getAllSeriesWithData(INDUSTRY)));
+        assertThat(store.get(INDUSTRY, "v2")).isNull();
+        assertThat(store.get(SECTOR_REGION.child("services"), "v1")).isNull();
+        try (TsCursor<CubeId> cursor = store.get(INDUSTRY, "v1")) {
+            assertThat(cursor.getMetaData()).containsEntry("source", "sample");
+        }
+    }
+
+    @Test
+    public void testBulkWithStore() throws IOException {
+        CubeStore store = CubeStore.onFolder(temp.getRoot().toPath());
+        ConcurrentMap<CubeId, Object> cache = GuavaCaches.lruCacheAsMap(10);
+        SampleAccessor accessor = new SampleAccessor("v1");
+        List<String> expected = toList(accessor.getAllSeriesWithData(INDUSTRY));
+        accessor.loads.set(0);
+
+        assertThat(toList(accessor.bulk(1, cache, store).getAllSeriesWithData(INDUSTRY))).containsExactlyElementsOf(expected);
+        assertThat(accessor.loads.get()).isEqualTo(1);
+
+        assertThat(toList(accessor.bulk(1, cache, store).getAllSeriesWithData(INDUSTRY))).containsExactlyElementsOf(expected);
+        assertThat(accessor.loads.get()).as("memory tier").isEqualTo(1);
+
+        cache.clear();
+        assertThat(toList(accessor.bulk(1, cache, store).getAllSeriesWithData(INDUSTRY))).containsExactlyElementsOf(expected);
+        assertThat(accessor.loads.get()).as("persistent tier").isEqualTo(1);
+
+        cache.clear();
+        accessor.version = "v2";
+        assertThat(toList(accessor.bulk(1, cache, store).getAllSeriesWithData(INDUSTRY))).containsExactlyElementsOf(expected);
+        assertThat(accessor.loads.get()).as("stale version").isEqualTo(2);
+
+        cache.clear();
+        accessor.version = null;
+        accessor.bulk(1, cache, store).getAllSeriesWithData(INDUSTRY).close();
+        cache.clear();
+        accessor.bulk(1, cache, store).getAllSeriesWithData(INDUSTRY).close();
+        assertThat(accessor.loads.get()).as("no version").isEqualTo(4);
+    }
+
+    @Test
+    public void testBulkWithFailingStore() throws IOException {
+        // a file where the folder of the store should be
+        CubeStore store = CubeStore.onFolder(temp.newFile().toPath());
+        ConcurrentMap<CubeId, Object> cache = GuavaCaches.lruCacheAsMap(10);
+        SampleAccessor accessor = new SampleAccessor("v1");
+        List<String> expected = toList(accessor.getAllSeriesWithData(INDUSTRY));
+        accessor.loads.set(0);
+
+        assertThat(toList(accessor.bulk(1, cache, store).getAllSeriesWithData(INDUSTRY))).containsExactlyElementsOf(expected);
+        assertThat(accessor.loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testBulkWithFailingAccessor() throws IOException {
+        CubeStore store = CubeStore.onFolder(temp.getRoot().toPath());
+        ConcurrentMap<CubeId, Object> cache = GuavaCaches.lruCacheAsMap(10);
+        SampleAccessor accessor = new SampleAccessor("v1");
+        accessor.failure = new IOException("boom");
+
+        assertThatThrownBy(() -> accessor.bulk(1, cache, store).getAllSeriesWithData(INDUSTRY)).isSameAs(accessor.failure);
+        assertThat(accessor.loads.get()).isEqualTo(1);
+        assertThat(store.get(INDUSTRY, "v1")).isNull();
+    }
+
+    private static List<String> toList(TsCursor<CubeId> cursor) throws IOException {
+        List<String> result = new ArrayList<>();
+        try (TsCursor<CubeId> o = cursor) {
+            while (o.nextSeries()) {
+                result.add(o.getSeriesId() + "|" + o.getSeriesLabel() + "|" + o.getSeriesMetaData() + "|" + o.getSeriesData());
+            }
+        }
+        return result;
+    }
+
+    private static final class SampleAccessor implements CubeAccessor {
+
+        final AtomicInteger loads = new AtomicInteger();
+        volatile String version;
+        volatile IOException failure;
+
+        SampleAccessor(String version) {
+            this.version = version;
+        }
+
+        @Override
+        public IOException testConnection() {
+            return null;
+        }
+
+        @Override
+        public CubeId getRoot() {
+            return SECTOR_REGION;
+        }
+
+        @Override
+        public TsCursor<CubeId> getAllSeries(CubeId id) throws IOException {
+            return getAllSeriesWithData(id);
+        }
+
+        @Override
+        public TsCursor<CubeId> getAllSeriesWithData(CubeId id) throws IOException {
+            loads.incrementAndGet();
+            if (failure != null) {
+                throw failure;
+            }
+            List<CubeId> children = Arrays.asList(id.child("be"), id.child("fr"), id.child("lu"));
+            return TsCursor.from(children.iterator(), SampleAccessor::getData, SampleAccessor::getMeta, o -> "Label " + o.getDimensionValue(1))
+                    .withMetaData(ImmutableMap.of("source", "sample"));
+        }
+
+        @Override
+        public TsCursor<CubeId> getSeriesWithData(CubeId id) throws IOException {
+            return TsCursor.from(Arrays.asList(id).iterator(), SampleAccessor::getData);
+        }
+
+        @Override
+        public IteratorWithIO<CubeId> getChildren(CubeId id) throws IOException {
+            return IteratorWithIO.empty();
+        }
+
+        @Override
+        public String getDisplayName() throws IOException {
+            return "sample";
+        }
+
+        @Override
+        public String getDisplayName(CubeId id) throws IOException {
+            return id.toString();
+        }
+
+        @Override
+        public String getDisplayNodeName(CubeId id) throws IOException {
+            return id.toString();
+        }
+
+        @Override
+        public String getVersion() throws IOException {
+            return version;
+        }
+
+        private static OptionalTsData getData(CubeId id) {
+            return id.getDimensionValue(1).equals("lu")
+                    ? OptionalTsData.absent(3, 1, "Not enough data")
+                    : OptionalTsData.present(12, 0, new TsData(new TsPeriod(TsFrequency.Monthly, 2010, 0), new double[]{1, 2, Double.NaN, 4}, false));
+        }
+
+        private static Map<String, String> getMeta(CubeId id) {
+            return ImmutableMap.of("country", id.getDimensionValue(1));
+        }
+    }
+}
@@ -37,7 +37,10 @@ import ec.tss.tsproviders.utils.TsFiller;
 import ec.tstoolkit.MetaData;
 import ec.tstoolkit.timeseries.simplets.TsData;
 import ec.tstoolkit.utilities.LinearId;
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import org.junit.Test;
 import org.slf4j.Logger;
@@ -79,6 +82,7 @@ public class TsCursorAsFillerTest {
     private final TsMoniker leaf1;
     private final TsMoniker leaf2;
     private final TsMoniker leaf3;
+    private final TsMoniker missing;
 
     {
         DataSource ds = DataSource.of(provider, "");
@@ -88,6 +92,7 @@ public class TsCursorAsFillerTest {
         leaf1 = monikers.toMoniker(DataSet.of(ds, SERIES, "id", "node.leaf1"));
         leaf2 = monikers.toMoniker(DataSet.of(ds, SERIES, "id", "node.leaf2"));
         leaf3 = monikers.toMoniker(DataSet.of(ds, SERIES, "id", "leaf3"));
+        missing = monikers.toMoniker(DataSet.of(ds, SERIES, "id", "missing"));
     }
 
     @Test
@@ -276,6 +281,75 @@ public class TsCursorAsFillerTest {
         });
     }
 
+    @Test
+    public void testSeriesFillAll() {
+        AtomicInteger queries = new AtomicInteger();
+        HasTsCursor countingCursor = new HasTsCursor() {
+            @Override
+            public TsCursor<DataSet> getData(DataSource dataSource, TsInformationType type) throws IOException {
+                queries.incrementAndGet();
+                return goodCursor.getData(dataSource, type);
+            }
+
+            @Override
+            public TsCursor<DataSet> getData(DataSet dataSet, TsInformationType type) throws IOException {
+                queries.incrementAndGet();
+                return goodCursor.getData(dataSet, type);
+            }
+        };
+        TsFiller filler = TsCursorAsFiller.of(logger, countingCursor, monikers, goodCursor);
+
+        TsInformation[] infos = {
+            new TsInformation(null, leaf3, All),
+            new TsInformation(null, leaf1, All),
+            new TsInformation(null, leaf2, All),
+            new TsInformation(null, leaf3, All)
+        };
+        assertThat(filler.fillAllSeries(Arrays.asList(infos))).isTrue();
+        assertThat(queries.get()).isEqualTo(1);
+        assertThat(infos)
+                .usingFieldByFieldElementComparator()
+                .containsExactly(
+                        seriesInfo("leaf3", leaf3, All, Data.M2, null, customMeta),
+                        seriesInfo("node.leaf1", leaf1, All, null, "No data available", null),
+                        seriesInfo("node.leaf2", leaf2, All, Data.M1, null, null),
+                        seriesInfo("leaf3", leaf3, All, Data.M2, null, customMeta)
+                );
+
+        queries.set(0);
+        infos = new TsInformation[]{
+            new TsInformation(null, leaf2, All),
+            new TsInformation(null, missing, All),
+            new TsInformation(null, goodCollection, All)
+        };
+        assertThat(filler.fillAllSeries(Arrays.asList(infos))).isFalse();
+        assertThat(queries.get()).isEqualTo(1);
+        assertThat(infos)
+                .usingFieldByFieldElementComparator()
+                .containsExactly(
+                        seriesInfo("node.leaf2", leaf2, All, Data.M1, null, null),
+                        seriesInfo(null, missing, All, null, "Missing time series", null),
+                        seriesInfo(null, goodCollection, All, null, "Invalid moniker", null)
+                );
+    }
+
+    @Test
+    public void testSeriesExAll() {
+        TsFiller filler = TsCursorAsFiller.of(logger, badCursor, monikers, goodCursor);
+
+        TsInformation[] infos = {
+            new TsInformation(null, leaf1, All),
+            new TsInformation(null, leaf3, All)
+        };
+        assertThat(filler.fillAllSeries(Arrays.asList(infos))).isFalse();
+        assertThat(infos)
+                .usingFieldByFieldElementComparator()
+                .containsExactly(
+                        seriesInfo(null, leaf1, All, null, "boom", null),
+                        seriesInfo(null, leaf3, All, null, "boom", null)
+                );
+    }
+
     private static TsCollectionInformation colInfo(String name, TsMoniker moniker, TsInformationType type, String invalidDataCause, MetaData meta) {
         TsCollectionInformation result = new TsCollectionInformation(moniker, type);
         result.name = name;
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.tsproviders.utils;
+
+import ec.tss.TsAsyncMode;
+import ec.tss.TsCollectionInformation;
+import ec.tss.TsInformation;
+import ec.tss.tsproviders.DataSet;
+import ec.tss.tsproviders.DataSource;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.After;
+import org.junit.Test;
+import org.slf4j.LoggerFactory;
+
+public class AbstractDataSourceProviderTest {
+
+    @After
+    public void after() {
+        System.clearProperty(AbstractDataSourceProvider.CACHE_SPEC_PROPERTY);
+        System.clearProperty(AbstractDataSourceProvider.CACHE_SPEC_PROPERTY + ".test");
+    }
+
+    @Test
+    public void testDefaultSpec() throws Exception {
+        MockProvider provider = new MockProvider();
+        assertThat(provider.getCacheSpec().toParsableString()).isEqualTo(AbstractDataSourceProvider.DEFAULT_CACHE_SPEC);
+        provider.cache.get(source("a"));
+        assertThat(provider.getCacheSize()).isEqualTo(1);
+    }
+
+    @Test
+    public void testInvalidSpec() {
+        System.setProperty(AbstractDataSourceProvider.CACHE_SPEC_PROPERTY, "hello");
+        assertThat(new MockProvider().getCacheSpec().toParsableString()).isEqualTo(AbstractDataSourceProvider.DEFAULT_CACHE_SPEC);
+    }
+
+    @Test
+    public void testStats() throws Exception {
+        System.setProperty(AbstractDataSourceProvider.CACHE_SPEC_PROPERTY, "softValues");
+        System.setProperty(AbstractDataSourceProvider.CACHE_SPEC_PROPERTY + ".test", "recordStats");
+        MockProvider provider = new MockProvider();
+        provider.cache.get(source("a"));
+        provider.cache.get(source("a"));
+        provider.cache.get(source("b"));
+        assertThat(provider.getCacheStats().hitCount()).isEqualTo(1);
+        assertThat(provider.getCacheStats().missCount()).isEqualTo(2);
+        assertThat(provider.getCacheStats().loadSuccessCount()).isEqualTo(2);
+        assertThat(provider.loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testMaximumWeight() throws Exception {
+        System.setProperty(AbstractDataSourceProvider.CACHE_SPEC_PROPERTY, "maximumWeight=10,concurrencyLevel=1,recordStats");
+        MockProvider provider = new MockProvider();
+        provider.cache.get(source("aaaa"));
+        provider.cache.get(source("bbbb"));
+        assertThat(provider.getCacheSize()).isEqualTo(2);
+        provider.cache.get(source("cccc"));
+        assertThat(provider.getCacheSize()).isEqualTo(2);
+        assertThat(provider.getCacheStats().evictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testHasMaximumWeight() {
+        assertThat(new MockProvider().hasMaximumWeight()).isFalse();
+        System.setProperty(AbstractDataSourceProvider.CACHE_SPEC_PROPERTY, "maximumSize=10");
+        assertThat(new MockProvider().hasMaximumWeight()).isFalse();
+        System.setProperty(AbstractDataSourceProvider.CACHE_SPEC_PROPERTY, "softValues, maximumWeight=10");
+        assertThat(new MockProvider().hasMaximumWeight()).isTrue();
+    }
+
+    private static DataSource source(String id) {
+        return DataSource.builder("test", "1").put("id", id).build();
+    }
+
+    private static final class MockProvider extends AbstractDataSourceProvider<String> {
+
+        final AtomicInteger loads = new AtomicInteger();
+
+        MockProvider() {
+            super(LoggerFactory.getLogger(MockProvider.class), "test", TsAsyncMode.None);
+        }
+
+        @Override
+        protected String loadFromDataSource(DataSource key) throws Exception {
+            loads.incrementAndGet();
+            return key.get("id");
+        }
+
+        @Override
+        protected int getWeight(String data) {
+            return data.length();
+        }
+
+        @Override
+        protected void fillCollection(TsCollectionInformation info, DataSource dataSource) {
+        }
+
+        @Override
+        protected void fillCollection(TsCollectionInformation info, DataSet dataSet) {
+        }
+
+        @Override
+        protected void fillSeries(TsInformation info, DataSet dataSet) {
+        }
+
+        @Override
+        public List<DataSet> children(DataSource dataSource) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<DataSet> children(DataSet parent) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public String getDisplayName(DataSource dataSource) {
+            return dataSource.toString();
+        }
+
+        @Override
+        public String getDisplayName(DataSet dataSet) {
+            return dataSet.toString();
+        }
+    }
+}
@@ -48,6 +48,22 @@ public interface IOutput<D extends IProcDocument<?, ?, ?>> {
      */
     void process(D document)throws Exception;
 
+    /**
+     * Creates the actual output for a given document, identified by its
+     * position in the processing. The documents of a parallel processing may
+     * be completed in any order; outputs that depend on the order of the
+     * documents should use their positions. By default, the position is
+     * ignored.
+     *
+     * @param document The considered document
+     * @param pos The position of the document in the processing (0-based)
+     * @throws Exception
+     * @since 2.2.4
+     */
+    default void process(D document, int pos) throws Exception {
+        process(document);
+    }
+
     /**
      * Starts the processing of the item identified by the given id;
      *
@@ -17,7 +17,6 @@
 package ec.tstoolkit.algorithm;
 
 import ec.tstoolkit.algorithm.IProcessing.Status;
-import ec.tstoolkit.information.InformationSet;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -27,13 +26,103 @@ import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
+ * Processing node that executes its sub-nodes concurrently.
+ * All the parallel nodes share the same executor, which is a fork-join pool by
+ * default. Nested parallel nodes (or parallel nodes used inside an outer batch
+ * that runs on the same pool) don't oversubscribe the machine: the waiting
+ * workers help to execute the pending sub-tasks.
  *
  * @author Jean Palate
  */
 public class ParallelProcessingNode<I> implements IProcessingNode<I> {
 
-    private final int NBR_EXECUTORS = Runtime.getRuntime().availableProcessors();
+    private static volatile ExecutorService executor;
+
+    /**
+     * Gets the executor shared by all the parallel processing nodes
+     *
+     * @return
+     */
+    public static ExecutorService getExecutor() {
+        ExecutorService result = executor;
+        return result != null ? result : DefaultExecutor.INSTANCE;
+    }
+
+    /**
+     * Replaces the executor shared by all the parallel processing nodes.
+     * The executor should support nested invokeAll (as fork-join pools do);
+     * otherwise, nested parallel nodes could be blocked. The previous executor
+     * is not shut down.
+     *
+     * @param value The new executor. Null to restore the default executor
+     */
+    public static void setExecutor(ExecutorService value) {
+        executor = value;
+    }
+
+    /**
+     * Executes a list of tasks and waits for their completion. The tasks are
+     * executed concurrently on the shared executor if parallel is true and if
+     * there are several tasks; otherwise (or if the current thread is
+     * interrupted while waiting for them), they are executed one after the
+     * other in the current thread. A failing task doesn't prevent the
+     * execution of the other ones.
+     *
+     * @param <T>
+     * @param tasks
+     * @param parallel
+     * @return The completed tasks, in the same order as the given tasks. See
+     * {@link #getResult(Future)}
+     */
+    public static <T> List<Future<T>> invokeAll(List<? extends Callable<T>> tasks, boolean parallel) {
+        if (parallel && tasks.size() > 1) {
+            try {
+                return getExecutor().invokeAll(tasks);
+            } catch (InterruptedException ex) {
+                // the sequential processing is used instead
+                Thread.currentThread().interrupt();
+            }
+        }
+        List<Future<T>> result = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            FutureTask<T> future = new FutureTask<>(task);
+            future.run();
+            result.add(future);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the result of a task completed by invokeAll. The unchecked
+     * exceptions and the errors of a failed task are re-thrown as such; the
+     * checked exceptions are wrapped in a RuntimeException.
+     *
+     * @param <T>
+     * @param future
+     * @return
+     */
+    public static <T> T getResult(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException();
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else {
+                throw new RuntimeException(cause);
+            }
+        }
+    }
+
     private final String name, prefix;
+    private final Map<String, Long> durations = new ConcurrentHashMap<>();
+    private volatile long duration;
+    private volatile int queueDepth = -1;
 
     public ParallelProcessingNode(final String name, final String prefix) {
         this.name = name;
@@ -51,11 +140,14 @@ public class ParallelProcessingNode<I> implements IProcessingNode<I> {
             result.add(new Callable<IProcessing.Status>() {
                 @Override
                 public IProcessing.Status call() throws Exception {
+                    long t0 = System.nanoTime();
                     try {
                         return o.process(input, map);
                     } catch (Exception err) {
                         errors.put(o.getName(), err.getMessage());
                         return IProcessing.Status.Invalid;
+                    } finally {
+                        durations.put(o.getName(), System.nanoTime() - t0);
                     }
                 }
             });
@@ -74,22 +166,55 @@ public class ParallelProcessingNode<I> implements IProcessingNode<I> {
         return prefix;
     }
 
+    /**
+     * Wall time of the last call to process, in nanoseconds
+     *
+     * @return
+     */
+    public long getDuration() {
+        return duration;
+    }
+
+    /**
+     * Wall time of the last execution of a given sub-node, in nanoseconds
+     *
+     * @param node The name of the sub-node
+     * @return -1 if the sub-node has not been executed
+     */
+    public long getDuration(String node) {
+        Long d = durations.get(node);
+        return d == null ? -1 : d;
+    }
+
+    /**
+     * Number of tasks that were waiting in the shared executor when the
+     * sub-nodes were submitted (last call to process)
+     *
+     * @return -1 if the executor doesn't provide that information
+     */
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
     @Override
     public Status process(I input, Map<String, IProcResults> results) {
+        long t0 = System.nanoTime();
         CompositeResults cresults = new CompositeResults();
         final ConcurrentHashMap<String, IProcResults> map = new ConcurrentHashMap<>();
-        ExecutorService executorService = Executors.newFixedThreadPool(NBR_EXECUTORS, CustomThreadFactory.INSTANCE);
+        ExecutorService executorService = getExecutor();
 
         Map<String, String> errors=new ConcurrentHashMap<>();
         List<Callable<IProcessing.Status>> tasks = createTasks(input, map, errors);
+        queueDepth = queueDepth(executorService);
         try {
             executorService.invokeAll(tasks);
         } catch (InterruptedException ex) {
             Thread.currentThread().interrupt();
             return Status.Invalid;
+        } finally {
+            duration = System.nanoTime() - t0;
         }
 
-        executorService.shutdown();
         for (IProcessingNode<I> cur : nodes_) {
 
             String cname = cur.getName();
@@ -105,23 +230,35 @@ public class ParallelProcessingNode<I> implements IProcessingNode<I> {
         return Status.Valid;
     }
 
-    private enum CustomThreadFactory implements ThreadFactory {
+    private static int queueDepth(ExecutorService executorService) {
+        if (executorService instanceof ForkJoinPool) {
+            ForkJoinPool pool = (ForkJoinPool) executorService;
+            long n = pool.getQueuedSubmissionCount() + pool.getQueuedTaskCount();
+            return (int) Math.min(n, Integer.MAX_VALUE);
+        } else if (executorService instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) executorService).getQueue().size();
+        } else {
+            return -1;
+        }
+    }
+
+    private static final class DefaultExecutor {
+
+        static final ForkJoinPool INSTANCE = new ForkJoinPool(Runtime.getRuntime().availableProcessors(),
+                CustomThreadFactory.INSTANCE, null, false);
+    }
+
+    private enum CustomThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
 
         INSTANCE;
         //
-        final ThreadGroup group;
         final AtomicInteger threadNumber = new AtomicInteger(1);
-        final String namePrefix;
-
-        private CustomThreadFactory() {
-            SecurityManager s = System.getSecurityManager();
-            group = (s != null) ? s.getThreadGroup() : Thread.currentThread().getThreadGroup();
-            namePrefix = "pool-" + CustomThreadFactory.class.getSimpleName() + "-thread-";
-        }
+        final String namePrefix = "pool-" + CustomThreadFactory.class.getSimpleName() + "-thread-";
 
         @Override
-        public Thread newThread(Runnable r) {
-            Thread t = new Thread(group, r, namePrefix + threadNumber.getAndIncrement(), 0);
+        public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+            ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            t.setName(namePrefix + threadNumber.getAndIncrement());
             t.setDaemon(true);
             t.setPriority(Thread.MIN_PRIORITY);
             return t;
@@ -44,15 +44,19 @@ public class ArmaEvaluation<S extends IArimaModel> implements ISsqFunctionInstan
     }
 
     private void calc() {
-	ConcentratedLikelihoodEstimation cll = new ConcentratedLikelihoodEstimation(
-		fn.filter);
-	if (cll.estimate(fn.dmodel, fn.d, fn.missings, arma)) {
-	    m_ll = new DefaultLikelihoodEvaluation<>(cll
-		    .getLikelihood());
-	    m_ll.useML(fn.ml);
-            m_ll.useLogLikelihood(fn.llog);
-	} else
-	    m_failed = true;
+	ArmaFunction.Workspace ws = fn.acquire();
+	try {
+	    ConcentratedLikelihoodEstimation cll = ws.estimation;
+	    if (cll.estimate(fn.dmodel, fn.d, fn.missings, arma)) {
+		m_ll = new DefaultLikelihoodEvaluation<>(cll
+			.getLikelihood());
+		m_ll.useML(fn.ml);
+		m_ll.useLogLikelihood(fn.llog);
+	    } else
+		m_failed = true;
+	} finally {
+	    fn.release(ws);
+	}
     }
 
     @Override
@@ -31,6 +31,8 @@ import ec.tstoolkit.maths.realfunctions.ISsqFunctionDerivatives;
 import ec.tstoolkit.maths.realfunctions.ISsqFunctionInstance;
 import ec.tstoolkit.maths.realfunctions.NumericalDerivatives;
 import ec.tstoolkit.maths.realfunctions.SsqNumericalDerivatives;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * @author Jean Palate
@@ -45,6 +47,8 @@ public class ArmaFunction<S extends IArimaModel> implements ISsqFunction, IFunct
     public IArmaFilter filter;
     public boolean ml = true, llog=false;
     public boolean mt=false;
+    // likelihood estimations (and their filters) that are not used by a running evaluation
+    private final Queue<Workspace> idle = new ConcurrentLinkedQueue<>();
 
     public ArmaFunction(RegModel dmodel, int d, int[] missings, IParametricMapping<S> mapper) {
 	this.d=d;
@@ -79,6 +83,30 @@ public class ArmaFunction<S extends IArimaModel> implements ISsqFunction, IFunct
 	return mapper;
     }
 
+    /**
+     * Gets an estimation routine for one evaluation. It must be given back
+     * by release, so that the following evaluations re-use its buffers.
+     * There are never more routines than concurrent evaluations, and they
+     * are released with the function.
+     * @return 
+     */
+    Workspace acquire() {
+        IArmaFilter cur = filter;
+        Workspace ws;
+        while ((ws = idle.poll()) != null) {
+            if (ws.filter == cur) {
+                return ws;
+            }
+        }
+        return new Workspace(cur);
+    }
+
+    void release(Workspace ws) {
+        if (ws.filter == filter) {
+            idle.offer(ws);
+        }
+    }
+
     @Override
     public ISsqFunctionInstance ssqEvaluate(IReadDataBlock parameters) {
 	S tmp = mapper.map(parameters);
@@ -88,4 +116,14 @@ public class ArmaFunction<S extends IArimaModel> implements ISsqFunction, IFunct
 		(S) tmp.stationaryTransformation().stationaryModel);
     }
 
+    static final class Workspace {
+
+        final IArmaFilter filter;
+        final ConcentratedLikelihoodEstimation estimation;
+
+        Workspace(IArmaFilter filter) {
+            this.filter = filter;
+            this.estimation = new ConcentratedLikelihoodEstimation(filter);
+        }
+    }
 }
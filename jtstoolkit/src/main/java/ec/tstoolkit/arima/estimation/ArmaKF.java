@@ -32,6 +32,7 @@ import ec.tstoolkit.maths.matrices.SubMatrix;
 import ec.tstoolkit.maths.matrices.SymmetricMatrix;
 import ec.tstoolkit.maths.matrices.UpperTriangularMatrix;
 import ec.tstoolkit.maths.polynomials.Polynomial;
+import java.util.Arrays;
 
 /**
  * The ArmaKF class provides fast computation of Regression models
@@ -40,6 +41,8 @@ import ec.tstoolkit.maths.polynomials.Polynomial;
  * It should be noted that other implementations of the Kalman filter provide 
  * exactly the same results. However, this one, which is intensively used in 
  * several high-level routines, has been optimised as much as possible.
+ * The working arrays of the filter are allocated once and re-used by the
+ * successive calls, so that an instance must not be shared between threads.
  * @author Jean Palate
  */
 @Development(status = Development.Status.Alpha)
@@ -57,6 +60,10 @@ public class ArmaKF {
     private double[] c0_;
     private double eps_ = 0; //1e-12;
     private boolean fast_;
+    // coefficients of the AR polynomial and working arrays, re-used between calls
+    private double[] phic_;
+    private int p_;
+    private double[] C_, L_, a_;
 
     /**
      * Creates a new Kalman filter for a given stationary Arima model 
@@ -75,27 +82,30 @@ public class ArmaKF {
      * @return
      */
     public DataBlock fastFilter(final IReadDataBlock y) {
-        double[] C = c0_.clone();
+        double[] C = C_;
+        System.arraycopy(c0_, 0, C, 0, dim_);
         double h = h0_;
 
         double var = arma_.getInnovationVariance();
         if (var != 1) {
             h /= var;
-            for (int i = 0; i < C.length; ++i) {
+            for (int i = 0; i < dim_; ++i) {
                 C[i] /= var;
             }
         }
 
-        double[] L = C.clone();
+        double[] L = L_;
+        System.arraycopy(C, 0, L, 0, dim_);
 
-        double[] a = new double[dim_];
+        double[] a = a_;
+        Arrays.fill(a, 0);
         int n = y.getLength();
         double[] yl = new double[n];
         // iteration
         int ilast = dim_ - 1;
 
         Polynomial theta = arma_.getMA().getPolynomial();
-        int np = phi_.getDegree(), nq = theta.getDegree();
+        int np = p_, nq = theta.getDegree();
         int im = np > nq ? np : nq;
 
         for (int pos = 0; pos < im; ++pos) {
@@ -142,7 +152,7 @@ public class ArmaKF {
         for (int i = im; i < n; ++i) {
             double x = y.get(i);
             for (int p = 1; p <= np; ++p) {
-                x += y.get(i - p) * phi_.get(p);
+                x += y.get(i - p) * phic_[p];
             }
             for (int q = 1; q <= nq; ++q) {
                 x -= yl[i - q] * theta.get(q);
@@ -179,6 +189,11 @@ public class ArmaKF {
             statedim = Math.max(phi_.getDegree(), this.arma_.getMA().getLength());
         }
         dim_ = statedim;
+        p_ = phi_.getDegree();
+        phic_ = phi_.getCoefficients();
+        C_ = new double[dim_];
+        L_ = new double[dim_];
+        a_ = new double[dim_];
         c0_ = this.arma_.getAutoCovarianceFunction().values(dim_);
         h0_ = c0_[0];
         tx(c0_);
@@ -197,12 +212,13 @@ public class ArmaKF {
         ++fnCalls;
         fast_ = false;
         Determinant det = new Determinant();
-        double[] C = c0_.clone();
-        double[] L = C.clone();
+        double[] C = copy(c0_, C_);
+        double[] L = copy(c0_, L_);
         double h = h0_;
         double var = arma_.getInnovationVariance();
 
-        double[] a = new double[dim_];
+        double[] a = a_;
+        Arrays.fill(a, 0);
         int n = y.getLength();
         // iteration
         int pos = 0, ilast = dim_ - 1;
@@ -270,12 +286,13 @@ public class ArmaKF {
         ++fnCalls;
         fast_ = false;
         Determinant det = new Determinant();
-        double[] C = c0_.clone();
-        double[] L = C.clone();
+        double[] C = copy(c0_, C_);
+        double[] L = copy(c0_, L_);
         double h = h0_;
         double var = arma_.getInnovationVariance();
 
-        double[] a = new double[dim_];
+        double[] a = a_;
+        Arrays.fill(a, 0);
         int n = y.getLength();
         double[] yl = new double[n];
         // iteration
@@ -350,12 +367,13 @@ public class ArmaKF {
         ++fnCalls;
         fast_ = false;
         Determinant det = new Determinant();
-        double[] c = c0_.clone();
-        double[] l = c.clone();
+        double[] c = copy(c0_, C_);
+        double[] l = copy(c0_, L_);
         double h = h0_;
         double var = arma_.getInnovationVariance();
 
-        double[] a = new double[dim_];
+        double[] a = a_;
+        Arrays.fill(a, 0);
         int nx = x.getColumnsCount();
         int n = y.getLength();
         double[] yl = new double[n];
@@ -473,16 +491,21 @@ public class ArmaKF {
 
     private double tlast(final double[] x) {
         double last = 0;
-        for (int i = 1; i <= phi_.getDegree(); ++i) {
-            last -= phi_.get(i) * x[dim_ - i];
+        for (int i = 1; i <= p_; ++i) {
+            last -= phic_[i] * x[dim_ - i];
         }
         return last;
     }
 
+    private static double[] copy(final double[] src, final double[] dest) {
+        System.arraycopy(src, 0, dest, 0, src.length);
+        return dest;
+    }
+
     private void tx(final double[] x) {
         double last = 0;
-        for (int i = 1; i <= phi_.getDegree(); ++i) {
-            last -= phi_.get(i) * x[dim_ - i];
+        for (int i = 1; i <= p_; ++i) {
+            last -= phic_[i] * x[dim_ - i];
         }
         for (int i = 1; i < dim_; ++i) {
             x[i - 1] = x[i];
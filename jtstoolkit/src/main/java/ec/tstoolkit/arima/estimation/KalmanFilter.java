@@ -23,8 +23,14 @@ import ec.tstoolkit.data.IReadDataBlock;
 import ec.tstoolkit.design.Development;
 import ec.tstoolkit.eco.Determinant;
 import ec.tstoolkit.maths.polynomials.Polynomial;
+import java.util.Arrays;
 
 /**
+ * Kalman filter for stationary Arma models.
+ * The working arrays are kept between successive initializations, so that
+ * an instance that is re-used for models of the same size (for instance
+ * during the optimization of the likelihood) doesn't allocate new buffers.
+ * The instances are not thread-safe.
  * @author Jean Palate
  */
 @Development(status = Development.Status.Alpha)
@@ -38,7 +44,11 @@ public class KalmanFilter implements IArmaFilter {
 
     private double m_var;
 
-    private Polynomial m_phi;
+    private double[] m_phi;
+
+    private int m_p;
+
+    private double[] m_Cw, m_L, m_a;
 
     private int m_dim;
 
@@ -73,12 +83,13 @@ public class KalmanFilter implements IArmaFilter {
     private void calcC() {
 
 	Determinant det = new Determinant();
-	double[] L = m_C0.clone();
-	m_C = new double[m_dim * m_n];
+	double[] L = copyOf(m_C0, m_L);
+	m_L = L;
+	m_C = ensure(m_C, m_dim * m_n);
 	for (int i = 0; i < m_dim; ++i) {
 	    m_C[i] = L[i];
 	}
-	m_s = new double[m_n];
+	m_s = ensure(m_s, m_n);
 	double h = m_h0;
 
 	det.add(h);
@@ -126,14 +137,20 @@ public class KalmanFilter implements IArmaFilter {
 	    det.add(h);
 	    m_s[pos] = Math.sqrt(h);
 	}
+	if (bfast) {
+	    // the rows of C are not updated after convergence
+	    Arrays.fill(m_C, cpos + m_dim, m_dim * m_n, 0);
+	}
 
 	m_ldet = det.getLogDeterminant();
     }
 
     private void calcdet() {
 	Determinant det = new Determinant();
-	double[] C = m_C0.clone();
-	double[] L = C.clone();
+	double[] C = copyOf(m_C0, m_Cw);
+	double[] L = copyOf(m_C0, m_L);
+	m_Cw = C;
+	m_L = L;
 	double h = m_h0;
 
 	// iteration
@@ -208,8 +225,13 @@ public class KalmanFilter implements IArmaFilter {
     public int initialize(final IArimaModel model, int length) {
 	m_var = model.getInnovationVariance();
 	m_ldet = Double.NaN;
-	m_phi = model.getAR().getPolynomial();
-	m_dim = Math.max(m_phi.getDegree(), model.getMA().getLength());
+	Polynomial phi = model.getAR().getPolynomial();
+	m_p = phi.getDegree();
+	m_phi = ensure(m_phi, m_p + 1);
+	for (int i = 1; i <= m_p; ++i) {
+	    m_phi[i] = phi.get(i);
+	}
+	m_dim = Math.max(m_p, model.getMA().getLength());
 	m_C0 = model.getAutoCovarianceFunction().values(m_dim);
 	m_h0 = m_C0[0];
 	m_n = length;
@@ -223,7 +245,8 @@ public class KalmanFilter implements IArmaFilter {
 
     private void mfilter(IReadDataBlock y, DataBlock yf) {
 
-	double[] a = new double[m_dim];
+	double[] a = zeros(m_a, m_dim);
+	m_a = a;
 	// iteration
 
 	int pos = 0, cpos = 0, ilast = m_dim - 1;
@@ -247,12 +270,14 @@ public class KalmanFilter implements IArmaFilter {
 
     private void sfilter(IReadDataBlock y, DataBlock outrc) {
 	Determinant det = new Determinant();
-	double[] C = m_C0.clone();
-	double[] L = C.clone();
+	double[] C = copyOf(m_C0, m_Cw);
+	double[] L = copyOf(m_C0, m_L);
+	m_Cw = C;
+	m_L = L;
 	double h = m_h0;
 
-	double[] a = new double[m_dim];
-	double[] yf = new double[m_n];
+	double[] a = zeros(m_a, m_dim);
+	m_a = a;
 	// iteration
 	int pos = 0, ilast = m_dim - 1;
 	boolean bfast = false;
@@ -292,7 +317,7 @@ public class KalmanFilter implements IArmaFilter {
 	    // filter y
 	    double s = Math.sqrt(h);
 	    double e = (y.get(pos) - a[0]) / s;
-	    yf[pos] = e;
+	    outrc.set(pos, e);
 	    double la = tlast(a);
 	    double v = e / s;
 	    for (int i = 0; i < ilast; ++i) {
@@ -304,22 +329,21 @@ public class KalmanFilter implements IArmaFilter {
 	} while (++pos < m_n);
 
 	m_ldet = det.getLogDeterminant();
-	outrc.copy(new DataBlock(yf));
 
     }
 
     private double tlast(final double[] x) {
 	double last = 0;
-	for (int i = 1; i <= m_phi.getDegree(); ++i) {
-	    last -= m_phi.get(i) * x[m_dim - i];
+	for (int i = 1; i <= m_p; ++i) {
+	    last -= m_phi[i] * x[m_dim - i];
 	}
 	return last;
     }
 
     private void tx(final double[] x) {
 	double last = 0;
-	for (int i = 1; i <= m_phi.getDegree(); ++i) {
-	    last -= m_phi.get(i) * x[m_dim - i];
+	for (int i = 1; i <= m_p; ++i) {
+	    last -= m_phi[i] * x[m_dim - i];
 	}
 	for (int i = 1; i < m_dim; ++i) {
 	    x[i - 1] = x[i];
@@ -327,4 +351,20 @@ public class KalmanFilter implements IArmaFilter {
 	x[m_dim - 1] = last;
 
     }
+
+    private static double[] ensure(double[] buffer, int n) {
+	return buffer != null && buffer.length >= n ? buffer : new double[n];
+    }
+
+    private static double[] zeros(double[] buffer, int n) {
+	double[] z = ensure(buffer, n);
+	Arrays.fill(z, 0, n, 0);
+	return z;
+    }
+
+    private static double[] copyOf(double[] src, double[] buffer) {
+	double[] c = ensure(buffer, src.length);
+	System.arraycopy(src, 0, c, 0, src.length);
+	return c;
+    }
 }
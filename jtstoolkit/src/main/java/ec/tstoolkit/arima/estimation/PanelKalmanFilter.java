@@ -0,0 +1,160 @@
+/*
+* Copyright 2026 National Bank of Belgium
+*
+* Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+* by the European Commission - subsequent versions of the EUPL (the "Licence");
+* You may not use this work except in compliance with the Licence.
+* You may obtain a copy of the Licence at:
+*
+* http://ec.europa.eu/idabc/eupl
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the Licence is distributed on an "AS IS" basis,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the Licence for the specific language governing permissions and
+* limitations under the Licence.
+*/
+package ec.tstoolkit.arima.estimation;
+
+import ec.tstoolkit.arima.ArimaException;
+import ec.tstoolkit.arima.IArimaModel;
+import ec.tstoolkit.data.DataBlock;
+import ec.tstoolkit.data.DataBlockIterator;
+import ec.tstoolkit.design.Development;
+import ec.tstoolkit.eco.Likelihood;
+import ec.tstoolkit.maths.matrices.Matrix;
+import ec.tstoolkit.maths.matrices.SubMatrix;
+import ec.tstoolkit.ssf.Filter;
+import ec.tstoolkit.ssf.IFilteringResults;
+import ec.tstoolkit.ssf.ISsf;
+import ec.tstoolkit.ssf.ISsfData;
+import ec.tstoolkit.ssf.ResidualsCumulator;
+import ec.tstoolkit.ssf.SsfData;
+import ec.tstoolkit.ssf.State;
+import ec.tstoolkit.ssf.arima.SsfArima;
+
+/**
+ * Kalman filter applied to a panel of series (the columns of a matrix) that
+ * follow the same stationary Arma model.
+ * The covariance recursions (gains and variances of the prediction errors)
+ * are computed once and shared by all the complete series. The series that
+ * contain missing values (NaN) are handled separately by an ordinary Kalman
+ * filter on the state space form of the model.
+ */
+@Development(status = Development.Status.Alpha)
+public class PanelKalmanFilter {
+
+    private final IArimaModel arma_;
+    private Likelihood[] ll_;
+
+    /**
+     * Creates a new filter for a given stationary Arima model
+     *
+     * @param arma The Arima model. Should be stationary.
+     */
+    public PanelKalmanFilter(final IArimaModel arma) {
+        if (!arma.isStationary()) {
+            throw new ArimaException(ArimaException.NonStationary);
+        }
+        arma_ = arma;
+    }
+
+    /**
+     * Filters the columns of y.
+     *
+     * @param y The data. Each column is a series. Missing values are
+     * identified by NaN
+     * @return The standardized one-step-ahead prediction errors (same
+     * dimensions as y). The entries corresponding to missing values are NaN.
+     */
+    public Matrix filter(final SubMatrix y) {
+        int n = y.getRowsCount(), m = y.getColumnsCount();
+        Matrix e = new Matrix(n, m);
+        ll_ = new Likelihood[m];
+        KalmanFilter kf = null;
+        DataBlockIterator ycols = y.columns(), ecols = e.columns();
+        DataBlock ycol = ycols.getData(), ecol = ecols.getData();
+        int j = 0;
+        do {
+            Likelihood ll = new Likelihood();
+            if (hasMissing(ycol)) {
+                filterMissing(ycol, ecol, ll);
+            } else {
+                if (kf == null) {
+                    kf = new KalmanFilter(true);
+                    kf.initialize(arma_, n);
+                }
+                kf.filter(ycol, ecol);
+                double[] res = new double[n];
+                ecol.copyTo(res, 0);
+                ll.set(ecol.ssq(), kf.getLogDeterminant(), n);
+                ll.setRes(res);
+            }
+            ll_[j++] = ll;
+        } while (ycols.next() && ecols.next());
+        return e;
+    }
+
+    /**
+     * Likelihoods of the series filtered by the last call to "filter"
+     *
+     * @return An array of likelihoods (one for each column), or null if no
+     * panel has been filtered
+     */
+    public Likelihood[] getLikelihoods() {
+        return ll_;
+    }
+
+    private void filterMissing(DataBlock y, DataBlock e, Likelihood ll) {
+        Filter<ISsf> filter = new Filter<>();
+        filter.setSsf(new SsfArima(arma_));
+        StandardizedResiduals rslts = new StandardizedResiduals(e);
+        filter.process(new SsfData(y, null), rslts);
+        int nobs = rslts.getObsCount();
+        double[] res = new double[nobs];
+        for (int i = 0, k = 0; i < e.getLength(); ++i) {
+            double cur = e.get(i);
+            if (!Double.isNaN(cur)) {
+                res[k++] = cur;
+            }
+        }
+        ll.set(rslts.getSsqErr(), rslts.getLogDeterminant(), nobs);
+        ll.setRes(res);
+    }
+
+    private static boolean hasMissing(DataBlock y) {
+        for (int i = 0; i < y.getLength(); ++i) {
+            if (Double.isNaN(y.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class StandardizedResiduals extends ResidualsCumulator implements IFilteringResults {
+
+        private final DataBlock e;
+
+        StandardizedResiduals(DataBlock e) {
+            this.e = e;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void prepare(ISsf ssf, ISsfData data) {
+            clear();
+            e.set(Double.NaN);
+        }
+
+        @Override
+        public void save(int t, State state) {
+            if (!state.isMissing()) {
+                add(state.e, state.f);
+                e.set(t, state.e / Math.sqrt(state.f));
+            }
+        }
+    }
+}
@@ -324,7 +324,21 @@ public final class DataBlock implements IDataBlock, Cloneable {
         if (a == 0) {
             return;
         }
-        if (a == 1) {
+        if (inc == 1 && x.inc == 1 && y.inc == 1) {
+            if (a == 1) {
+                for (int i = beg, j = x.beg, k = y.beg; i != end; ++i, ++j, ++k) {
+                    this.src[i] += x.src[j] * y.src[k];
+                }
+            } else if (a == -1) {
+                for (int i = beg, j = x.beg, k = y.beg; i != end; ++i, ++j, ++k) {
+                    this.src[i] -= x.src[j] * y.src[k];
+                }
+            } else {
+                for (int i = beg, j = x.beg, k = y.beg; i != end; ++i, ++j, ++k) {
+                    this.src[i] += a * x.src[j] * y.src[k];
+                }
+            }
+        } else if (a == 1) {
             for (int i = beg, j = x.beg, k = y.beg; i != end; i += inc, j += x.inc, k += y.inc) {
                 this.src[i] += x.src[j] * y.src[k];
             }
@@ -504,8 +518,14 @@ public final class DataBlock implements IDataBlock, Cloneable {
      */
     public void copy(IReadDataBlock data) {
         int n = data.getLength();
-        for (int i = beg, j = 0; j < n; i += inc, ++j) {
-            this.src[i] = data.get(j);
+        if (inc == 1) {
+            for (int i = beg, j = 0; j < n; ++i, ++j) {
+                this.src[i] = data.get(j);
+            }
+        } else {
+            for (int i = beg, j = 0; j < n; i += inc, ++j) {
+                this.src[i] = data.get(j);
+            }
         }
     }
 
@@ -632,8 +652,14 @@ public final class DataBlock implements IDataBlock, Cloneable {
      * @param r right operand
      */
     public void difference(DataBlock l, DataBlock r) {
-        for (int i = beg, j = l.beg, k = r.beg; i != end; i += inc, j += l.inc, k += r.inc) {
-            src[i] = l.src[j] - r.src[k];
+        if (inc == 1 && l.inc == 1 && r.inc == 1) {
+            for (int i = beg, j = l.beg, k = r.beg; i != end; ++i, ++j, ++k) {
+                src[i] = l.src[j] - r.src[k];
+            }
+        } else {
+            for (int i = beg, j = l.beg, k = r.beg; i != end; i += inc, j += l.inc, k += r.inc) {
+                src[i] = l.src[j] - r.src[k];
+            }
         }
     }
 
@@ -805,8 +831,14 @@ public final class DataBlock implements IDataBlock, Cloneable {
      */
     public double dotReverse(DataBlock data) {
         double r = 0;
-        for (int i = beg, j = data.end - data.inc; i != end; i += inc, j -= data.inc) {
-            r += this.src[i] * data.src[j];
+        if (inc == 1 && data.inc == 1) {
+            for (int i = beg, j = data.end - 1; i != end; ++i, --j) {
+                r += this.src[i] * data.src[j];
+            }
+        } else {
+            for (int i = beg, j = data.end - data.inc; i != end; i += inc, j -= data.inc) {
+                r += this.src[i] * data.src[j];
+            }
         }
         return r;
     }
@@ -1400,8 +1432,14 @@ public final class DataBlock implements IDataBlock, Cloneable {
      */
     public double product() {
         double s = 1;
-        for (int i = beg; i != end; i += inc) {
-            s *= src[i];
+        if (inc == 1) {
+            for (int i = beg; i != end; ++i) {
+                s *= src[i];
+            }
+        } else {
+            for (int i = beg; i != end; i += inc) {
+                s *= src[i];
+            }
         }
         return s;
     }
@@ -1618,6 +1656,13 @@ public final class DataBlock implements IDataBlock, Cloneable {
             return 0;
         } else if (beg + inc == end) {
             return src[beg] * src[beg];
+        } else if (inc == 1) {
+            double ssq = ZERO;
+            for (int ix = beg; ix != end; ++ix) {
+                double x = this.src[ix];
+                ssq += x * x;
+            }
+            return ssq;
         } else {
             double ssq = ZERO;
             for (int ix = beg; ix != end; ix += inc) {
@@ -1640,6 +1685,13 @@ public final class DataBlock implements IDataBlock, Cloneable {
         } else if (beg + inc == end) {
             double xc = src[beg] - m;
             return xc * xc;
+        } else if (inc == 1) {
+            double ssq = ZERO;
+            for (int ix = beg; ix != end; ++ix) {
+                double x = this.src[ix] - m;
+                ssq += x * x;
+            }
+            return ssq;
         } else {
             double ssq = ZERO;
             for (int ix = beg; ix != end; ix += inc) {
@@ -1696,8 +1748,14 @@ public final class DataBlock implements IDataBlock, Cloneable {
     @Override
     public double sum() {
         double s = 0;
-        for (int i = beg; i != end; i += inc) {
-            s += src[i];
+        if (inc == 1) {
+            for (int i = beg; i != end; ++i) {
+                s += src[i];
+            }
+        } else {
+            for (int i = beg; i != end; i += inc) {
+                s += src[i];
+            }
         }
         return s;
     }
@@ -1710,8 +1768,14 @@ public final class DataBlock implements IDataBlock, Cloneable {
      * @param r The right operand.
      */
     public void sum(DataBlock l, DataBlock r) {
-        for (int i = beg, j = l.beg, k = r.beg; i != end; i += inc, j += l.inc, k += r.inc) {
-            src[i] = l.src[j] + r.src[k];
+        if (inc == 1 && l.inc == 1 && r.inc == 1) {
+            for (int i = beg, j = l.beg, k = r.beg; i != end; ++i, ++j, ++k) {
+                src[i] = l.src[j] + r.src[k];
+            }
+        } else {
+            for (int i = beg, j = l.beg, k = r.beg; i != end; i += inc, j += l.inc, k += r.inc) {
+                src[i] = l.src[j] + r.src[k];
+            }
         }
     }
 
@@ -2058,7 +2122,7 @@ public final class DataBlock implements IDataBlock, Cloneable {
     }
 
     public void apply(DoubleBinaryOperator fn, DataBlock x) {
-        for (int i = beg, j = x.beg; i != end; i += inc, j += inc) {
+        for (int i = beg, j = x.beg; i != end; i += inc, j += x.inc) {
             src[i] = fn.applyAsDouble(src[i], x.src[j]);
         }
     }
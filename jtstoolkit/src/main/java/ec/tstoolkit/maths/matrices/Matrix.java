@@ -1006,21 +1006,7 @@ public class Matrix implements Cloneable {
 
         int nr = nrows_, nc = Y.ncols_, nk = ncols_;
         Matrix s = new Matrix(nr, nc);
-        double[] tmp = new double[nk];
-        for (int i = 0; i < nr; ++i) {
-            for (int j = 0, k = i; j < nk; ++j, k += nr) {
-                tmp[j] = data_[k];
-            }
-            int ir = 0, idx = i;
-            while (ir < Y.data_.length) {
-                double x = 0;
-                for (int k = 0; k < nk; ++k, ++ir) {
-                    x += Y.data_[ir] * tmp[k];
-                }
-                s.data_[idx] = x;
-                idx += nr;
-            }
-        }
+        MatrixKernels.gemm(nr, nc, nk, data_, 0, nr, Y.data_, 0, nk, s.data_, 0, nr);
         return s;
     }
 
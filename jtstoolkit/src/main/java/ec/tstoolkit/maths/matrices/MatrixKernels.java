@@ -0,0 +1,367 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.maths.matrices;
+
+import ec.tstoolkit.design.Development;
+
+/**
+ * Cache-blocked kernels for the dense products (GEMM, SYRK) and for the
+ * Cholesky factorization. The matrices are stored by columns, with a unit row
+ * increment: the element (i, j) of a matrix starting at "start" with a leading
+ * dimension "ld" is data[start + i + j * ld].
+ *
+ * Each element of the results is accumulated term by term, in the same order
+ * as in the usual triple loops, so that the blocking doesn't change the
+ * results. The blocks are tuned for L1 (column segments of MB rows) and L2
+ * (MB x KB blocks of the operands).
+ */
+@Development(status = Development.Status.Alpha)
+final class MatrixKernels {
+
+    /**
+     * Number of rows in a block
+     */
+    static final int MB = 256;
+    /**
+     * Number of columns in a block
+     */
+    static final int KB = 64;
+    /**
+     * Width of the panels of the Cholesky factorization
+     */
+    static final int NB = 32;
+    /**
+     * Below that number of rows, the products are computed by dot products
+     * on the rows of the left operand
+     */
+    static final int MINROWS = 16;
+
+    private MatrixKernels() {
+    }
+
+    /**
+     * Computes c = a * b
+     *
+     * @param m Number of rows of a and c
+     * @param n Number of columns of b and c
+     * @param k Number of columns of a (= number of rows of b)
+     * @param a The left operand (m x k)
+     * @param astart
+     * @param lda
+     * @param b The right operand (k x n)
+     * @param bstart
+     * @param ldb
+     * @param c The result (m x n). Shouldn't share its storage with a or b
+     * @param cstart
+     * @param ldc
+     */
+    static void gemm(int m, int n, int k, double[] a, int astart, int lda,
+            double[] b, int bstart, int ldb, double[] c, int cstart, int ldc) {
+        if (m < MINROWS) {
+            gemmRows(m, n, k, a, astart, lda, b, bstart, ldb, c, cstart, ldc);
+            return;
+        }
+        for (int j = 0, cj = cstart; j < n; ++j, cj += ldc) {
+            for (int i = cj; i < cj + m; ++i) {
+                c[i] = 0;
+            }
+        }
+        for (int l0 = 0; l0 < k; l0 += KB) {
+            int l1 = Math.min(l0 + KB, k);
+            for (int i0 = 0; i0 < m; i0 += MB) {
+                int i1 = Math.min(i0 + MB, m);
+                for (int j = 0; j < n; ++j) {
+                    axpy4(c, cstart + j * ldc, a, astart, lda, b, bstart + j * ldb, l0, l1, i0, i1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Product for short columns: each row of a is copied and multiplied by 4
+     * columns of b at once.
+     */
+    private static void gemmRows(int m, int n, int k, double[] a, int astart, int lda,
+            double[] b, int bstart, int ldb, double[] c, int cstart, int ldc) {
+        double[] row = new double[k];
+        for (int i = 0; i < m; ++i) {
+            for (int l = 0, il = astart + i; l < k; ++l, il += lda) {
+                row[l] = a[il];
+            }
+            int j = 0;
+            for (; j + 3 < n; j += 4) {
+                int b0 = bstart + j * ldb, b1 = b0 + ldb, b2 = b1 + ldb, b3 = b2 + ldb;
+                double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+                for (int l = 0; l < k; ++l) {
+                    double y = row[l];
+                    s0 += y * b[b0 + l];
+                    s1 += y * b[b1 + l];
+                    s2 += y * b[b2 + l];
+                    s3 += y * b[b3 + l];
+                }
+                int ci = cstart + i + j * ldc;
+                c[ci] = s0;
+                c[ci + ldc] = s1;
+                c[ci + 2 * ldc] = s2;
+                c[ci + 3 * ldc] = s3;
+            }
+            for (; j < n; ++j) {
+                int b0 = bstart + j * ldb;
+                double s0 = 0;
+                for (int l = 0; l < k; ++l) {
+                    s0 += row[l] * b[b0 + l];
+                }
+                c[cstart + i + j * ldc] = s0;
+            }
+        }
+    }
+
+    /**
+     * Computes the lower triangle of c = x' * x
+     *
+     * @param m Number of rows of x
+     * @param n Number of columns of x (= dimension of c)
+     * @param x
+     * @param xstart
+     * @param ldx
+     * @param c The result (n x n). Only the lower triangle is modified.
+     * @param cstart
+     * @param ldc
+     */
+    static void syrkt(int m, int n, double[] x, int xstart, int ldx,
+            double[] c, int cstart, int ldc) {
+        for (int j = 0, cj = cstart; j < n; ++j, cj += ldc) {
+            for (int i = cj + j; i < cj + n; ++i) {
+                c[i] = 0;
+            }
+        }
+        for (int r0 = 0; r0 < m; r0 += MB) {
+            int r1 = Math.min(r0 + MB, m);
+            for (int j = 0; j < n; ++j) {
+                int xj = xstart + j * ldx, cj = cstart + j * ldc;
+                int i = j;
+                // 4 dot products at once, sharing the loads of x(., j)
+                for (; i + 3 < n; i += 4) {
+                    int x0 = xstart + i * ldx, x1 = x0 + ldx, x2 = x1 + ldx, x3 = x2 + ldx;
+                    double s0 = c[cj + i], s1 = c[cj + i + 1], s2 = c[cj + i + 2], s3 = c[cj + i + 3];
+                    for (int r = r0; r < r1; ++r) {
+                        double y = x[xj + r];
+                        s0 += x[x0 + r] * y;
+                        s1 += x[x1 + r] * y;
+                        s2 += x[x2 + r] * y;
+                        s3 += x[x3 + r] * y;
+                    }
+                    c[cj + i] = s0;
+                    c[cj + i + 1] = s1;
+                    c[cj + i + 2] = s2;
+                    c[cj + i + 3] = s3;
+                }
+                for (; i < n; ++i) {
+                    int x0 = xstart + i * ldx;
+                    double s0 = c[cj + i];
+                    for (int r = r0; r < r1; ++r) {
+                        s0 += x[x0 + r] * x[xj + r];
+                    }
+                    c[cj + i] = s0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the lower triangle of c = x * x'
+     *
+     * @param m Number of rows of x (= dimension of c)
+     * @param n Number of columns of x
+     * @param x
+     * @param xstart
+     * @param ldx
+     * @param c The result (m x m). Only the lower triangle is modified.
+     * @param cstart
+     * @param ldc
+     */
+    static void syrkn(int m, int n, double[] x, int xstart, int ldx,
+            double[] c, int cstart, int ldc) {
+        for (int j = 0, cj = cstart; j < m; ++j, cj += ldc) {
+            for (int i = cj + j; i < cj + m; ++i) {
+                c[i] = 0;
+            }
+        }
+        // x' is used as right operand: x'(l, j) = x[xstart + j + l * ldx]
+        for (int l0 = 0; l0 < n; l0 += KB) {
+            int l1 = Math.min(l0 + KB, n);
+            for (int i0 = 0; i0 < m; i0 += MB) {
+                int i1 = Math.min(i0 + MB, m);
+                for (int j = 0; j < i1; ++j) {
+                    axpy4t(c, cstart + j * ldc, x, xstart, ldx, xstart + j, l0, l1, Math.max(i0, j), i1);
+                }
+            }
+        }
+    }
+
+    /**
+     * c(i0:i1) += sum(l = l0:l1, a(i0:i1, l) * b(l)), term by term. The
+     * zero items of b are not skipped, so that non-finite values of a are
+     * propagated as in the former loops.
+     */
+    private static void axpy4(double[] c, int cj, double[] a, int astart, int lda,
+            double[] b, int bj, int l0, int l1, int i0, int i1) {
+        int l = l0;
+        for (; l + 3 < l1; l += 4) {
+            double b0 = b[bj + l], b1 = b[bj + l + 1], b2 = b[bj + l + 2], b3 = b[bj + l + 3];
+            int a0 = astart + l * lda, a1 = a0 + lda, a2 = a1 + lda, a3 = a2 + lda;
+            for (int i = i0; i < i1; ++i) {
+                c[cj + i] = c[cj + i] + a[a0 + i] * b0 + a[a1 + i] * b1 + a[a2 + i] * b2 + a[a3 + i] * b3;
+            }
+        }
+        axpy(c, cj, a, astart + l * lda, lda, b, bj + l, l1 - l, i0, i1);
+    }
+
+    /**
+     * Same as axpy4, with b(l) = b[bj + l * ldb] (row of a matrix)
+     */
+    private static void axpy4t(double[] c, int cj, double[] a, int astart, int lda,
+            int bj, int l0, int l1, int i0, int i1) {
+        int l = l0;
+        for (; l + 3 < l1; l += 4) {
+            int a0 = astart + l * lda, a1 = a0 + lda, a2 = a1 + lda, a3 = a2 + lda;
+            int bl = bj + l * lda;
+            double b0 = a[bl], b1 = a[bl + lda], b2 = a[bl + 2 * lda], b3 = a[bl + 3 * lda];
+            for (int i = i0; i < i1; ++i) {
+                c[cj + i] = c[cj + i] + a[a0 + i] * b0 + a[a1 + i] * b1 + a[a2 + i] * b2 + a[a3 + i] * b3;
+            }
+        }
+        for (int a0 = astart + l * lda, bl = bj + l * lda; l < l1; ++l, a0 += lda, bl += lda) {
+            double bq = a[bl];
+            for (int i = i0; i < i1; ++i) {
+                c[cj + i] += a[a0 + i] * bq;
+            }
+        }
+    }
+
+    private static void axpy(double[] c, int cj, double[] a, int a0, int lda,
+            double[] b, int bl, int nl, int i0, int i1) {
+        for (int q = 0; q < nl; ++q, a0 += lda) {
+            double bq = b[bl + q];
+            for (int i = i0; i < i1; ++i) {
+                c[cj + i] += a[a0 + i] * bq;
+            }
+        }
+    }
+
+    /**
+     * Lower Cholesky factorization of a n x n matrix, stored by columns
+     * (leading dimension = n). Only the lower triangle is used and modified.
+     *
+     * The factorization is left-looking, by panels of NB columns: a panel is
+     * first updated by all the previous columns, which are read once for the
+     * whole panel, and then factorized column by column.
+     *
+     * @param data The matrix
+     * @param n The dimension of the matrix
+     * @param strict True if the matrix must be positive definite
+     * @param zero Values of the diagonal below zero (in absolute value) are
+     * considered as 0. Not used when strict is true
+     * @throws MatrixException An exception is thrown when the matrix is not
+     * decomposable
+     */
+    static void lcholesky(double[] data, int n, boolean strict, double zero) {
+        for (int j0 = 0; j0 < n; j0 += NB) {
+            int j1 = Math.min(j0 + NB, n);
+            // the previous columns, by blocks that stay in cache for the
+            // whole panel
+            for (int k0 = 0; k0 < j0; k0 += NB) {
+                for (int c = j0; c < j1; ++c) {
+                    update(data, n, c, k0, k0 + NB);
+                }
+            }
+            for (int c = j0; c < j1; ++c) {
+                int idiag = c * (n + 1);
+                double aii = data[idiag];
+                for (int j = c; j < idiag; j += n) {
+                    double x = data[j];
+                    aii -= x * x;
+                }
+                update(data, n, c, j0, c);
+                int ymax = (c + 1) * n;
+                if (strict) {
+                    if (aii <= 0) {
+                        throw new MatrixException(MatrixException.CholeskyFailed);
+                    }
+                    aii = Math.sqrt(aii);
+                    data[idiag] = aii;
+                    for (int iy = idiag + 1; iy < ymax; ++iy) {
+                        data[iy] /= aii;
+                    }
+                } else if (aii < -zero) {
+                    throw new MatrixException(MatrixException.CholeskyFailed);
+                } else if (aii <= zero) {
+                    data[idiag] = 0;
+                    for (int iy = idiag + 1; iy < ymax; ++iy) {
+                        if (Math.abs(data[iy]) > zero) {
+                            throw new MatrixException(MatrixException.CholeskyFailed);
+                        } else {
+                            data[iy] = 0;
+                        }
+                    }
+                } else {
+                    aii = Math.sqrt(aii);
+                    data[idiag] = aii;
+                    for (int iy = idiag + 1; iy < ymax; ++iy) {
+                        data[iy] /= aii;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates the sub-diagonal part of column c with the columns k0:k1.
+     * data(i, c) -= data(c, k) * data(i, k) for i &gt c, term by term and
+     * skipping the zero data(c, k).
+     */
+    private static void update(double[] data, int n, int c, int k0, int k1) {
+        int y0 = c * (n + 1), ymax = (c + 1) * n;
+        int k = k0;
+        for (; k + 3 < k1; k += 4) {
+            int jx = k * n + c;
+            double t0 = data[jx], t1 = data[jx + n], t2 = data[jx + 2 * n], t3 = data[jx + 3 * n];
+            if (t0 != 0 && t1 != 0 && t2 != 0 && t3 != 0) {
+                for (int iy = y0 + 1, i0 = jx + 1, i1 = i0 + n, i2 = i1 + n, i3 = i2 + n; iy < ymax; ++iy, ++i0, ++i1, ++i2, ++i3) {
+                    data[iy] = data[iy] - t0 * data[i0] - t1 * data[i1] - t2 * data[i2] - t3 * data[i3];
+                }
+            } else {
+                for (int q = 0; q < 4; ++q, jx += n) {
+                    double temp = data[jx];
+                    if (temp != 0) {
+                        for (int ia = jx + 1, iy = y0 + 1; iy < ymax; ++ia, ++iy) {
+                            data[iy] -= temp * data[ia];
+                        }
+                    }
+                }
+            }
+        }
+        for (int jx = k * n + c; k < k1; ++k, jx += n) {
+            double temp = data[jx];
+            if (temp != 0) {
+                for (int ia = jx + 1, iy = y0 + 1; iy < ymax; ++ia, ++iy) {
+                    data[iy] -= temp * data[ia];
+                }
+            }
+        }
+    }
+}
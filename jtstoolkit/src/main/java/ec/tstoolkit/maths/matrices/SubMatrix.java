@@ -738,7 +738,10 @@ public class SubMatrix implements Cloneable {
      * @param n
      */
     public void product(final SubMatrix m, final SubMatrix n) {
-        if (m.getColumnsCount() < PROD_THRESHOLD * (m.getRowsCount())) {
+        if (m_row_inc == 1 && m.m_row_inc == 1 && n.m_row_inc == 1) {
+            MatrixKernels.gemm(m_nrows, m_ncols, m.m_ncols, m.m_data, m.m_start, m.m_col_inc,
+                    n.m_data, n.m_start, n.m_col_inc, m_data, m_start, m_col_inc);
+        } else if (m.getColumnsCount() < PROD_THRESHOLD * (m.getRowsCount())) {
             DataBlockIterator cols = columns();
             DataBlockIterator rcols = n.columns();
             DataBlockIterator lcols = m.columns();
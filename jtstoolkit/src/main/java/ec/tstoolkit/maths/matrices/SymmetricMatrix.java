@@ -197,39 +197,9 @@ public final class SymmetricMatrix {
      * decomposable (not positive definite)
      */
     public static void lcholesky(final Matrix m) {
-        double[] data = m.data_;
-        int n = m.nrows_;
-        // if (n != m.ncols_)
+        // if (m.nrows_ != m.ncols_)
         // throw new MatrixException(MatrixException.SquareOnly);
-
-        for (int i = 0, idiag = 0; i < n; ++i, idiag += n + 1) {
-            // compute aii;
-            double aii = data[idiag];
-            for (int j = i; j < idiag; j += n) {
-                double x = data[j];
-                aii -= x * x;
-            }
-            if (aii <= 0) {
-                throw new MatrixException(MatrixException.CholeskyFailed);
-            }
-            aii = Math.sqrt(aii);
-            data[idiag] = aii;
-
-            // compute elements i+1 : n of column i
-            int ymax = (i + 1) * n;
-            for (int jx = i; jx < idiag; jx += n) {
-                double temp = data[jx];
-                if (temp != 0) {
-                    for (int ia = jx + 1, iy = idiag + 1; iy < ymax; ++ia, ++iy) {
-                        data[iy] -= temp * data[ia];
-                    }
-                }
-            }
-            for (int iy = idiag + 1; iy < ymax; ++iy) {
-                data[iy] /= aii;
-            }
-
-        }
+        MatrixKernels.lcholesky(m.data_, m.nrows_, true, 0);
         m.toLower();
     }
 
@@ -240,58 +210,9 @@ public final class SymmetricMatrix {
      * @throws MatrixException
      */
     public static void lcholesky(final Matrix m, double Zero) {
-        double[] data = m.data_;
-        int n = m.nrows_;
-        // if (n != m.ncols_)
+        // if (m.nrows_ != m.ncols_)
         // throw new MatrixException(MatrixException.SquareOnly);
-
-        for (int i = 0, idiag = 0; i < n; ++i, idiag += n + 1) {
-            // compute aii;
-            double aii = data[idiag];
-            for (int j = i; j < idiag; j += n) {
-                double x = data[j];
-                aii -= x * x;
-            }
-            if (aii < -Zero) {
-                throw new MatrixException(MatrixException.CholeskyFailed);
-            } else if (aii <= Zero) {
-                data[idiag] = 0;
-                // compute elements i+1 : n of column i
-                int ymax = (i + 1) * n;
-                for (int jx = i; jx < idiag; jx += n) {
-                    double temp = data[jx];
-                    if (temp != 0) {
-                        for (int ia = jx + 1, iy = idiag + 1; iy < ymax; ++ia, ++iy) {
-                            data[iy] -= temp * data[ia];
-                        }
-                    }
-                }
-                for (int iy = idiag + 1; iy < ymax; ++iy) {
-                    if (Math.abs(data[iy]) > Zero) {
-                        throw new MatrixException(
-                                MatrixException.CholeskyFailed);
-                    } else {
-                        data[iy] = 0;
-                    }
-                }
-            } else {
-                aii = Math.sqrt(aii);
-                data[idiag] = aii;
-                // compute elements i+1 : n of column i
-                int ymax = (i + 1) * n;
-                for (int jx = i; jx < idiag; jx += n) {
-                    double temp = data[jx];
-                    if (temp != 0) {
-                        for (int ia = jx + 1, iy = idiag + 1; iy < ymax; ++ia, ++iy) {
-                            data[iy] -= temp * data[ia];
-                        }
-                    }
-                }
-                for (int iy = idiag + 1; iy < ymax; ++iy) {
-                    data[iy] /= aii;
-                }
-            }
-        }
+        MatrixKernels.lcholesky(m.data_, m.nrows_, false, Zero);
         m.toLower();
     }
 
@@ -878,18 +799,8 @@ public final class SymmetricMatrix {
      */
     public static Matrix XtX(final Matrix x) throws MatrixException {
         int n = x.getColumnsCount();
-        DataBlockIterator rows = x.columns(), cols = x.columns();
         Matrix o = new Matrix(n, n);
-        int idx = 0, c = 0;
-        DataBlock col = cols.getData();
-        DataBlock row = rows.getData();
-        do {
-            idx += c;
-            rows.setPosition(c++);
-            do {
-                o.data_[idx++] = row.dot(col);
-            } while (rows.next());
-        } while (cols.next());
+        MatrixKernels.syrkt(x.nrows_, n, x.data_, 0, x.nrows_, o.data_, 0, n);
         fromLower(o);
         return o;
     }
@@ -902,6 +813,20 @@ public final class SymmetricMatrix {
      * @param m c x c sub-matrix.
      */
     public static void XtX(final SubMatrix x, final SubMatrix m) {
+        if (m.m_row_inc == 1) {
+            if (x.m_row_inc == 1) {
+                MatrixKernels.syrkt(x.m_nrows, x.m_ncols, x.m_data, x.m_start, x.m_col_inc,
+                        m.m_data, m.m_start, m.m_col_inc);
+                fromLower(m);
+                return;
+            } else if (x.m_col_inc == 1) {
+                // x is the transpose of a matrix stored by columns
+                MatrixKernels.syrkn(x.m_ncols, x.m_nrows, x.m_data, x.m_start, x.m_row_inc,
+                        m.m_data, m.m_start, m.m_col_inc);
+                fromLower(m);
+                return;
+            }
+        }
         DataBlockIterator rows = x.columns(), cols = x.columns(), rcols = m
                 .columns();
         int c = 0;
@@ -926,17 +851,8 @@ public final class SymmetricMatrix {
      */
     public static Matrix XXt(final Matrix x) throws MatrixException {
         int n = x.getRowsCount();
-        DataBlockIterator rows = x.rows(), cols = x.rows();
         Matrix o = new Matrix(n, n);
-        int idx = 0, c = 0;
-        DataBlock col = cols.getData(), row = rows.getData();
-        do {
-            idx += c;
-            rows.setPosition(c++);
-            do {
-                o.data_[idx++] = row.dot(col);
-            } while (rows.next());
-        } while (cols.next());
+        MatrixKernels.syrkn(n, x.ncols_, x.data_, 0, n, o.data_, 0, n);
         fromLower(o);
         return o;
     }
@@ -949,6 +865,20 @@ public final class SymmetricMatrix {
      * @param m r x r sub-matrix.
      */
     public static void XXt(final SubMatrix x, final SubMatrix m) {
+        if (m.m_row_inc == 1) {
+            if (x.m_row_inc == 1) {
+                MatrixKernels.syrkn(x.m_nrows, x.m_ncols, x.m_data, x.m_start, x.m_col_inc,
+                        m.m_data, m.m_start, m.m_col_inc);
+                fromLower(m);
+                return;
+            } else if (x.m_col_inc == 1) {
+                // x is the transpose of a matrix stored by columns
+                MatrixKernels.syrkt(x.m_ncols, x.m_nrows, x.m_data, x.m_start, x.m_row_inc,
+                        m.m_data, m.m_start, m.m_col_inc);
+                fromLower(m);
+                return;
+            }
+        }
         DataBlockIterator rows = x.rows(), cols = x.rows(), rcols = m
                 .columns();
         int c = 0;
@@ -16,6 +16,7 @@
  */
 package ec.tstoolkit.modelling.arima;
 
+import ec.tstoolkit.algorithm.ParallelProcessingNode;
 import ec.tstoolkit.arima.IArimaModel;
 import ec.tstoolkit.arima.estimation.AnsleyFilter;
 import ec.tstoolkit.arima.estimation.IArmaFilter;
@@ -30,6 +31,11 @@ import ec.tstoolkit.maths.matrices.Matrix;
 import ec.tstoolkit.modelling.IRobustStandardDeviationComputer;
 import ec.tstoolkit.timeseries.regression.IOutlierVariable;
 import ec.tstoolkit.timeseries.simplets.TsPeriod;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
 
 /**
  *
@@ -43,6 +49,17 @@ public class ExactSingleOutlierDetector<T extends IArimaModel> extends AbstractS
     private Matrix m_L, m_X;
     private double[] m_yl, m_b, m_w;
     private int m_n;
+    private boolean m_incremental, m_parallel = true;
+    // incremental mode: the filtered outliers (by factory and by position),
+    // u'Mu and u'My (M being the projection on the orthogonal complement of
+    // the filtered regression variables) and the model they correspond to
+    private double[][][] m_u;
+    private double[][] m_uu, m_uy;
+    private double[][] m_ukey;
+    private List<double[]> m_ux;
+    private double[] m_uyl;
+    // number of positions processed by a parallel task
+    private static final int BLOCK = 64;
 
     public ExactSingleOutlierDetector() {
         this(IRobustStandardDeviationComputer.mad());
@@ -77,6 +94,43 @@ public class ExactSingleOutlierDetector<T extends IArimaModel> extends AbstractS
         this.resComputer = resComputer;
     }
 
+    /**
+     * In incremental mode, the filtered outliers are kept between successive
+     * calls to "process", as long as the Arima model and the series don't
+     * change. When a regression variable enters or leaves the model (without
+     * re-estimation of the Arima model), the t-statistics are then updated by
+     * a rank-one correction, without any new filtering of the outliers.
+     * The incremental mode uses a n x n array of doubles for each outlier
+     * type.
+     *
+     * @param incremental
+     * @since 2.2.4
+     */
+    public void setIncremental(boolean incremental) {
+        m_incremental = incremental;
+        if (!incremental) {
+            clearCache();
+        }
+    }
+
+    public boolean isIncremental() {
+        return m_incremental;
+    }
+
+    /**
+     * The outliers are processed concurrently (by blocks of positions), on
+     * the executor shared by the parallel processing nodes, when parallel
+     * processing is enabled. The results don't depend on that option.
+     * @param parallel
+     */
+    public void setParallelProcessing(boolean parallel) {
+        m_parallel = parallel;
+    }
+
+    public boolean isParallelProcessing() {
+        return m_parallel;
+    }
+
     /**
      *
      * @return
@@ -89,8 +143,16 @@ public class ExactSingleOutlierDetector<T extends IArimaModel> extends AbstractS
             if (!initialize(dmodel)) {
                 return false;
             }
-            for (int i = 0; i < getOutlierFactoriesCount(); ++i) {
-                processOutlier(i);
+            if (m_incremental && update()) {
+                return true;
+            }
+            prepareCache();
+            if (m_parallel) {
+                processOutliers();
+            } else {
+                for (int i = 0; i < getOutlierFactoriesCount(); ++i) {
+                    processOutlier(i);
+                }
             }
             return true;
         } catch (Exception err) {
@@ -98,6 +160,206 @@ public class ExactSingleOutlierDetector<T extends IArimaModel> extends AbstractS
         }
     }
 
+    private double[][] cacheKey() {
+        IArimaModel arma = getModel().getArma();
+        return new double[][]{arma.getAR().getCoefficients(), arma.getMA().getCoefficients(),
+            getModel().getDifferencingFilter().getCoefficients(),
+            new double[]{arma.getInnovationVariance(), m_n, getModel().getObsCount()}};
+    }
+
+    private void prepareCache() {
+        if (!m_incremental) {
+            clearCache();
+            return;
+        }
+        int n = getModel().getY().getLength(), nf = getOutlierFactoriesCount();
+        m_u = new double[nf][n][];
+        m_uu = new double[nf][n];
+        m_uy = new double[nf][n];
+        m_ukey = cacheKey();
+        m_ux = columns(m_X);
+        m_uyl = m_yl;
+    }
+
+    private void clearCache() {
+        m_u = null;
+        m_uu = null;
+        m_uy = null;
+        m_ukey = null;
+        m_ux = null;
+        m_uyl = null;
+    }
+
+    /**
+     * Updates the cached statistics when the filtered regression variables
+     * differ by one column from the cached ones. If z is that column and r
+     * is the residual of its regression on the other variables (r = Mz),
+     * the projection on the orthogonal complement of the largest set of
+     * variables is M - rr'/r'r.
+     *
+     * @return false if the statistics must be computed from scratch
+     */
+    private boolean update() {
+        if (m_u == null || m_u.length != getOutlierFactoriesCount()
+                || !Arrays.equals(m_yl, m_uyl) || !Arrays.deepEquals(cacheKey(), m_ukey)) {
+            return false;
+        }
+        List<double[]> xcols = columns(m_X);
+        double[] z = null;
+        List<double[]> others = xcols;
+        boolean add = false;
+        if (xcols.size() == m_ux.size() + 1) {
+            z = difference(xcols, m_ux);
+            others = m_ux;
+            add = true;
+        } else if (xcols.size() + 1 == m_ux.size()) {
+            z = difference(m_ux, xcols);
+        } else if (difference(xcols, m_ux) != null) {
+            // unchanged regression variables
+            z = new double[0];
+        }
+        if (z == null) {
+            return false;
+        }
+        double[] r = z.length == 0 ? null : residuals(z, others);
+        double c = 0, s = 0;
+        if (r != null) {
+            DataBlock R = new DataBlock(r);
+            c = R.ssq();
+            if (c <= 0) {
+                return false;
+            }
+            s = R.dot(new DataBlock(m_yl));
+        }
+        int n = getModel().getY().getLength();
+        for (int idx = 0; idx < m_u.length; ++idx) {
+            for (int i = 0; i < n; ++i) {
+                if (isDefined(i, idx) && m_u[idx][i] == null) {
+                    // allowed again after a computation
+                    return false;
+                }
+            }
+        }
+        List<Callable<Void>> tasks = new ArrayList<>(m_u.length);
+        for (int i = 0; i < m_u.length; ++i) {
+            final int idx = i;
+            final double sc = add ? -1 / c : 1 / c, ss = s;
+            tasks.add(() -> {
+                update(idx, n, r, sc, ss);
+                return null;
+            });
+        }
+        for (Future<Void> rslt : ParallelProcessingNode.invokeAll(tasks, m_parallel)) {
+            ParallelProcessingNode.getResult(rslt);
+        }
+        m_ux = xcols;
+        return true;
+    }
+
+    private void update(int idx, int n, double[] r, double sc, double s) {
+        double[][] u = m_u[idx];
+        double[] uu = m_uu[idx], uy = m_uy[idx];
+        DataBlock R = r == null ? null : new DataBlock(r);
+        for (int i = 0; i < n; ++i) {
+            // the excluded positions are also updated, as they can be allowed again
+            if (R != null && u[i] != null) {
+                double a = R.dot(new DataBlock(u[i]));
+                uu[i] += sc * a * a;
+                uy[i] += sc * a * s;
+            }
+            if (isDefined(i, idx)) {
+                if (uu[i] <= 0) {
+                    exclude(i, idx);
+                } else {
+                    setT(i, idx, uy[i] / Math.sqrt(uu[i]) / getMAD());
+                }
+            }
+        }
+    }
+
+    // residuals of the regression of z on the given columns
+    private double[] residuals(double[] z, List<double[]> cols) {
+        double[] r = z.clone();
+        if (cols.isEmpty()) {
+            return r;
+        }
+        Matrix x = new Matrix(z.length, cols.size());
+        for (int i = 0; i < cols.size(); ++i) {
+            x.column(i).copyFrom(cols.get(i), 0);
+        }
+        Householder qr = new Householder(true);
+        qr.decompose(x);
+        double[] b = new double[cols.size()];
+        qr.leastSquares(new DataBlock(z), new DataBlock(b), null);
+        DataBlock R = new DataBlock(r);
+        for (int i = 0; i < b.length; ++i) {
+            R.addAY(-b[i], x.column(i));
+        }
+        return r;
+    }
+
+    private static List<double[]> columns(Matrix x) {
+        List<double[]> cols = new ArrayList<>();
+        if (x != null) {
+            DataBlockIterator xcols = x.columns();
+            DataBlock xcol = xcols.getData();
+            do {
+                double[] col = new double[xcol.getLength()];
+                xcol.copyTo(col, 0);
+                cols.add(col);
+            } while (xcols.next());
+        }
+        return cols;
+    }
+
+    // the only column of l which is not in r (null if l doesn't contain r
+    // and one more column); an empty array if l and r are identical
+    private static double[] difference(List<double[]> l, List<double[]> r) {
+        if (l.size() != r.size() && l.size() != r.size() + 1) {
+            return null;
+        }
+        List<double[]> rest = new ArrayList<>(l);
+        for (double[] col : r) {
+            boolean found = false;
+            for (int i = 0; i < rest.size(); ++i) {
+                if (Arrays.equals(col, rest.get(i))) {
+                    rest.remove(i);
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                return null;
+            }
+        }
+        return rest.isEmpty() ? new double[0] : rest.get(0);
+    }
+
+    private void processOutliers() {
+        final int n = getModel().getY().getLength();
+        final int d = getModel().getDifferencingFilter().getDegree();
+        int nblocks = (n - 1) / BLOCK + 1;
+        int nfactories = getOutlierFactoriesCount();
+        List<Callable<Void>> tasks = new ArrayList<>(nblocks * nfactories);
+        for (int i = 0; i < nfactories; ++i) {
+            final int idx = i;
+            final double[] od = differencedOutlier(idx);
+            for (int j = 0; j < n; j += BLOCK) {
+                final int start = j, end = Math.min(n, j + BLOCK);
+                // the filters are initialized in the current thread
+                final IArmaFilter filter = m_filter.exemplar();
+                filter.initialize(getModel().getArma(), getModel().getDModel().getObsCount());
+                tasks.add(() -> {
+                    processOutlier(idx, od, n, d, start, end, filter);
+                    return null;
+                });
+            }
+        }
+        for (Future<Void> rslt : ParallelProcessingNode.invokeAll(tasks, true)) {
+            ParallelProcessingNode.getResult(rslt);
+        }
+    }
+
     /**
      *
      * @param model
@@ -188,6 +450,12 @@ public class ExactSingleOutlierDetector<T extends IArimaModel> extends AbstractS
      * @param idx
      */
     protected void processOutlier(int idx) {
+        int n = getModel().getY().getLength();
+        int d = getModel().getDifferencingFilter().getDegree();
+        processOutlier(idx, differencedOutlier(idx), n, d, 0, n, m_filter);
+    }
+
+    private double[] differencedOutlier(int idx) {
         int n = getModel().getY().getLength();
         int d = getModel().getDifferencingFilter().getDegree();
         double[] o = new double[2 * n];
@@ -198,16 +466,20 @@ public class ExactSingleOutlierDetector<T extends IArimaModel> extends AbstractS
         double[] od = new double[o.length - d];
         DataBlock OD = new DataBlock(od);
         getModel().getDifferencingFilter().filter(O, OD);
+        return od;
+    }
 
-        DataBlock OL = new DataBlock(od, n, 2 * n - d, 1);
-        for (int i = 0; i < n; ++i) {
+    // processes the positions [istart, iend[ of the outlier idx
+    private void processOutlier(int idx, double[] od, int n, int d, int istart, int iend, IArmaFilter filter) {
+        DataBlock OL = new DataBlock(od, n - istart, 2 * n - d - istart, 1);
+        for (int i = istart; i < iend; ++i) {
             if (isDefined(i, idx)) {
 //                double[] ol = new double[n - d];
 //                DataBlock OL = new DataBlock(ol);
 //                System.arraycopy(od, n - i , ol, 0, ol.length);
                 double[] u = new double[m_n];
                 DataBlock U = new DataBlock(u);
-                m_filter.filter(OL, U);
+                filter.filter(OL, U);
                 double xx = 0, xy = 0;
                 for (int j = 0; j < u.length; ++j) {
                     xx += u[j] * u[j];
@@ -234,19 +506,29 @@ public class ExactSingleOutlierDetector<T extends IArimaModel> extends AbstractS
                         exclude(i, idx);
                     } else {
                         LowerTriangularMatrix.lsolve(m_L, l);
-                        setT(i, idx, (xy - new DataBlock(m_w).dot(L))
-                                / (Math.sqrt(c)) / getMAD());
+                        double num = xy - new DataBlock(m_w).dot(L);
+                        setT(i, idx, num / (Math.sqrt(c)) / getMAD());
+                        cache(idx, i, u, c, num);
                     }
                 } else if (xx <= 0) {
                     exclude(i, idx);
                 } else {
                     setT(i, idx, (xy / (Math.sqrt(xx)) / getMAD()));
+                    cache(idx, i, u, xx, xy);
                 }
             }
             OL.move(-1);
         }
     }
 
+    private void cache(int idx, int pos, double[] u, double uu, double uy) {
+        if (m_u != null) {
+            m_u[idx][pos] = u;
+            m_uu[idx][pos] = uu;
+            m_uy[idx][pos] = uy;
+        }
+    }
+
     protected DataBlock filter(DataBlock res) {
         return resComputer.residuals(getModel().getArma(), res);
     }
@@ -258,5 +540,14 @@ public class ExactSingleOutlierDetector<T extends IArimaModel> extends AbstractS
         m_X = null;
         m_b = null;
         m_w = null;
+        if (all) {
+            clearCache();
+        }
+    }
+
+    @Override
+    protected void prepareT(int n) {
+        super.prepareT(n);
+        clearCache();
     }
 }
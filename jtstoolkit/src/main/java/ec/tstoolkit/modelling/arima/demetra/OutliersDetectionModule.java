@@ -116,7 +116,10 @@ public class OutliersDetectionModule extends DemetraModule implements IOutliersD
     public static final double MINCV = 2.0;
 
     public OutliersDetectionModule() {
-        sod = new ExactSingleOutlierDetector();
+        ExactSingleOutlierDetector esod = new ExactSingleOutlierDetector();
+        // the Arima model is not always re-estimated between two searches
+        esod.setIncremental(true);
+        sod = esod;
     }
 
     public OutliersDetectionModule(AbstractSingleOutlierDetector sod) {
@@ -16,6 +16,7 @@
  */
 package ec.tstoolkit.modelling.arima.tramo;
 
+import ec.tstoolkit.algorithm.ParallelProcessingNode;
 import ec.tstoolkit.arima.estimation.ArmaKF;
 import ec.tstoolkit.data.DataBlock;
 import ec.tstoolkit.data.IReadDataBlock;
@@ -27,7 +28,11 @@ import ec.tstoolkit.sarima.SarimaModel;
 import ec.tstoolkit.sarima.SarimaSpecification;
 import ec.tstoolkit.sarima.SarmaSpecification;
 import ec.tstoolkit.sarima.estimation.HannanRissanen;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
 
 /**
  *
@@ -159,7 +164,10 @@ public class ArmaModule implements IPreprocessingModule {
     private boolean m_bforced = false;
     private final int m_nmod;
     private static final int NMOD = 5;
+    // minimal number of candidates for a parallel estimation
+    private static final int MINPARALLEL = 4;
     private boolean acceptwn = false;
+    private boolean m_parallel = true;
 
     @Override
     public ProcessingResult process(ModellingContext context) {
@@ -276,6 +284,20 @@ public class ArmaModule implements IPreprocessingModule {
         return this.acceptwn;
     }
 
+    /**
+     * Candidate models are estimated concurrently (on the executor shared by
+     * the parallel processing nodes) when parallel processing is enabled.
+     * The results don't depend on that option.
+     * @param parallel
+     */
+    public void setParallelProcessing(boolean parallel) {
+        m_parallel = parallel;
+    }
+
+    public boolean isParallelProcessing() {
+        return m_parallel;
+    }
+
     /**
      *
      * @return
@@ -457,17 +479,17 @@ public class ArmaModule implements IPreprocessingModule {
      * @return
      */
     public int sort(final IReadDataBlock data, final SarmaSpecification[] specs) {
+        return sort(new HannanRissanen.Input(data), specs);
+    }
+
+    private int sort(final HannanRissanen.Input input, final SarmaSpecification[] specs) {
         m_hrs = null;
-        HRBic[] hrs = new HRBic[specs.length];
+        HRBic[] hrs = estimate(input, specs);
+        // keeps the order of the specifications (the sort is stable)
         int n = 0;
-        for (int i = 0; i < specs.length; ++i) {
-            HannanRissanen hr = new HannanRissanen();
-            if (hr.process(data, specs[i])) {
-                SarimaModel m = hr.getModel();
-                if (!m.adjustSpecification() && m.isStable(true)) {
-                    HRBic hrbic = new HRBic(hr);
-                    hrs[n++] = hrbic;
-                }
+        for (int i = 0; i < hrs.length; ++i) {
+            if (hrs[i] != null) {
+                hrs[n++] = hrs[i];
             }
         }
         if (n == 0) {
@@ -482,6 +504,30 @@ public class ArmaModule implements IPreprocessingModule {
         return n;
     }
 
+    private HRBic[] estimate(final HannanRissanen.Input input, final SarmaSpecification[] specs) {
+        List<Callable<HRBic>> tasks = new ArrayList<>(specs.length);
+        for (final SarmaSpecification spec : specs) {
+            tasks.add(() -> estimate(input, spec));
+        }
+        List<Future<HRBic>> rslts = ParallelProcessingNode.invokeAll(tasks, m_parallel && specs.length >= MINPARALLEL);
+        HRBic[] hrs = new HRBic[specs.length];
+        for (int i = 0; i < hrs.length; ++i) {
+            hrs[i] = ParallelProcessingNode.getResult(rslts.get(i));
+        }
+        return hrs;
+    }
+
+    private static HRBic estimate(final HannanRissanen.Input input, final SarmaSpecification spec) {
+        HannanRissanen hr = new HannanRissanen();
+        if (hr.process(input, spec)) {
+            SarimaModel m = hr.getModel();
+            if (!m.adjustSpecification() && m.isStable(true)) {
+                return new HRBic(hr);
+            }
+        }
+        return null;
+    }
+
     private SarmaSpecification getPreferredSpecification() {
         if (m_hrs.length == 1) {
             return m_hrs[0].m_hr.getSpec().clone();
@@ -514,6 +560,7 @@ public class ArmaModule implements IPreprocessingModule {
         SarmaSpecification cur;
 
         m_hrs = new HRBic[m_nmod];
+        HannanRissanen.Input input = new HannanRissanen.Input(data);
 
         spec.setFrequency(maxspec.getFrequency());
         spec.setP(3);
@@ -531,11 +578,12 @@ public class ArmaModule implements IPreprocessingModule {
             }
 
             ArmaModule step0 = new ArmaModule();
-            nmax = step0.sort(data, specs);
+            step0.m_parallel = m_parallel;
+            nmax = step0.sort(input, specs);
             if (0 == nmax) {
                 for (int i = 0; i < specs.length; ++i) {
                     specs[i].setP(1);
-                    nmax = step0.sort(data, specs);
+                    nmax = step0.sort(input, specs);
                 }
                 if (0 == nmax) {
                     return null;
@@ -560,7 +608,8 @@ public class ArmaModule implements IPreprocessingModule {
         }
 
         ArmaModule step1 = new ArmaModule();
-        nmax = step1.sort(data, specs);
+        step1.m_parallel = m_parallel;
+        nmax = step1.sort(input, specs);
         if (0 == nmax) {
             return null;
         }
@@ -581,7 +630,8 @@ public class ArmaModule implements IPreprocessingModule {
             }
 
             step2 = new ArmaModule();
-            if (0 == step2.sort(data, specs)) {
+            step2.m_parallel = m_parallel;
+            if (0 == step2.sort(input, specs)) {
                 return null;
             }
             step2.merge(m_hrs);
@@ -16,6 +16,7 @@
  */
 package ec.tstoolkit.modelling.arima.x13;
 
+import ec.tstoolkit.algorithm.ParallelProcessingNode;
 import ec.tstoolkit.arima.estimation.RegArimaEstimation;
 import ec.tstoolkit.arima.estimation.RegArimaModel;
 import ec.tstoolkit.data.DataBlock;
@@ -29,6 +30,8 @@ import ec.tstoolkit.sarima.estimation.GlsSarimaMonitor;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
 
 /**
  *
@@ -38,6 +41,8 @@ import java.util.List;
 public class ArmaModule {
 
     static final double NO_BIC = 99999;
+    // minimal number of candidates for a parallel estimation
+    private static final int MINPARALLEL = 4;
 
     /**
      *
@@ -96,6 +101,7 @@ public class ArmaModule {
     private boolean m_bforced = false;
     private int m_nmod = 5;
     private double eps_ = 1e-5;
+    private boolean parallel_ = true;
 
     public double getEpsilon() {
         return eps_;
@@ -121,6 +127,20 @@ public class ArmaModule {
         return mixed_;
     }
 
+    /**
+     * Candidate models are estimated concurrently (on the executor shared by
+     * the parallel processing nodes) when parallel processing is enabled.
+     * The results don't depend on that option.
+     * @param parallel
+     */
+    public void setParallelProcessing(boolean parallel) {
+        parallel_ = parallel;
+    }
+
+    public boolean isParallelProcessing() {
+        return parallel_;
+    }
+
     /**
      *
      */
@@ -322,10 +342,7 @@ public class ArmaModule {
      * @return
      */
     public int sort(final DataBlock data, final SarmaSpecification[] specs) {
-        m_est = new RegArmaBic[specs.length];
-        for (int i = 0; i < specs.length; ++i) {
-            m_est[i] = new RegArmaBic(data, specs[i], eps_);
-        }
+        m_est = estimate(data, specs);
 
         Arrays.sort(m_est);
         for (int i = m_est.length; i > 0; --i) {
@@ -336,6 +353,20 @@ public class ArmaModule {
         return 0;
     }
 
+    // the data are only read by the estimations
+    private RegArmaBic[] estimate(final DataBlock data, final SarmaSpecification[] specs) {
+        List<Callable<RegArmaBic>> tasks = new ArrayList<>(specs.length);
+        for (final SarmaSpecification spec : specs) {
+            tasks.add(() -> new RegArmaBic(data, spec, eps_));
+        }
+        List<Future<RegArmaBic>> rslts = ParallelProcessingNode.invokeAll(tasks, parallel_ && specs.length >= MINPARALLEL);
+        RegArmaBic[] est = new RegArmaBic[specs.length];
+        for (int i = 0; i < est.length; ++i) {
+            est[i] = ParallelProcessingNode.getResult(rslts.get(i));
+        }
+        return est;
+    }
+
     /**
      *
      * @param data
@@ -379,6 +410,7 @@ public class ArmaModule {
 
             ArmaModule step0 = new ArmaModule();
             step0.setEpsilon(eps_);
+            step0.parallel_ = parallel_;
             nmax = step0.sort(data, specs0);
             if (0 == nmax) {
                 return null;
@@ -402,6 +434,7 @@ public class ArmaModule {
 
         ArmaModule step1 = new ArmaModule();
         step1.setEpsilon(eps_);
+        step1.parallel_ = parallel_;
         nmax = step1.sort(data, specs1);
         if (0 == nmax) {
             return null;
@@ -431,6 +464,7 @@ public class ArmaModule {
 
             step2 = new ArmaModule();
             step2.setEpsilon(eps_);
+            step2.parallel_ = parallel_;
             if (0 == step2.sort(data, specs2)) {
                 return null;
             }
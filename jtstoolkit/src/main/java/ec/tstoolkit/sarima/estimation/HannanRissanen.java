@@ -27,6 +27,8 @@ import ec.tstoolkit.maths.matrices.Matrix;
 import ec.tstoolkit.maths.matrices.MatrixException;
 import ec.tstoolkit.sarima.SarimaModel;
 import ec.tstoolkit.sarima.SarmaSpecification;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * The Hannan-Rissanen procedure is performed as in TRAMO.
@@ -44,6 +46,8 @@ public class HannanRissanen {
 
     private double[] m_data, m_a, m_pi;
 
+    private Input m_input;
+
     private static final int MAXNPI = 50;
     private static final double OVERFLOW = 1e16, EPS=1e-9;
 
@@ -53,6 +57,40 @@ public class HannanRissanen {
     public HannanRissanen() {
     }
 
+    /**
+     * Data shared by the estimations of different models on the same series.
+     * The innovations of the long autoregressions (step 0 of the procedure)
+     * only depend on the number of lags; they are computed once for each
+     * number of lags and re-used by all the models.
+     * The object can be used concurrently by several estimations.
+     */
+    public static class Input {
+
+        private final double[] m_data;
+        private final ConcurrentMap<Integer, double[]> m_innovations = new ConcurrentHashMap<>();
+
+        /**
+         *
+         * @param data
+         */
+        public Input(final IReadDataBlock data) {
+            m_data = new double[data.getLength()];
+            data.copyTo(m_data, 0);
+        }
+
+        /**
+         *
+         * @return
+         */
+        public IReadDataBlock getData() {
+            return new ReadDataBlock(m_data);
+        }
+
+        double[] innovations(final int npi) {
+            return m_innovations.computeIfAbsent(npi, k -> HannanRissanen.innovations(m_data, k));
+        }
+    }
+
     private void biascorrection() {
 	// int p = m_spec.P + m_spec.Frequency * m_spec.BP;
 	// int q = m_spec.Q + m_spec.Frequency * m_spec.BQ;
@@ -208,7 +246,7 @@ public class HannanRissanen {
     }
 
     // step 0 of the process...
-    private double[] initac() {
+    private int npi() {
 	int q = m_spec.getQ() + m_spec.getFrequency() * m_spec.getBQ();
 	int p = m_spec.getP() + m_spec.getFrequency() * m_spec.getBP();
 	int n = m_data.length;
@@ -220,24 +258,31 @@ public class HannanRissanen {
 	if (npi > MAXNPI)
 	    npi = MAXNPI;
 
-	return DescriptiveStatistics.ac(npi, m_data);
+	return npi;
     }
 
     // compute estimates of innovations
     private void initialize() {
-	int n = m_data.length;
-	m_a = new double[n];
-	double[] ac = initac();
+	int npi = npi();
+	m_a = m_input != null ? m_input.innovations(npi) : innovations(m_data, npi);
+    }
+
+    // the returned array is never modified (it can be shared)
+    private static double[] innovations(final double[] data, final int npi) {
+	int n = data.length;
+	double[] a = new double[n];
+	double[] ac = DescriptiveStatistics.ac(npi, data);
 	double[] pc = new double[ac.length];
 	DescriptiveStatistics.pac(ac, pc);
 
 	for (int i = 0; i < n; ++i) {
-	    double e = m_data[i];
+	    double e = data[i];
 	    int jmax = ac.length > i ? i : ac.length;
 	    for (int j = 1; j <= jmax; ++j)
-		e -= pc[j - 1] * m_data[i - j];
-	    m_a[i] = e;
+		e -= pc[j - 1] * data[i - j];
+	    a[i] = e;
 	}
+	return a;
     }
 
     // step 1 of the process ... regression
@@ -292,12 +337,28 @@ public class HannanRissanen {
      */
     public boolean process(final IReadDataBlock value, SarmaSpecification spec) {
 	clear();
+	m_input = null;
 	m_data = new double[value.getLength()];
 	m_spec = spec.clone();
 	value.copyTo(m_data, 0);
 	return calc();
     }
 
+    /**
+     * Estimates a model on shared data. The observations and the innovations
+     * of the long autoregressions are not copied.
+     * @param input
+     * @param spec
+     * @return
+     */
+    public boolean process(final Input input, SarmaSpecification spec) {
+	clear();
+	m_input = input;
+	m_data = input.m_data;
+	m_spec = spec.clone();
+	return calc();
+    }
+
     private void updatemodel() {
 	int ccur = 0;
 	if (m_spec.getP() != 0)
@@ -26,7 +26,7 @@ import ec.tstoolkit.design.Development;
 @Development(status = Development.Status.Alpha)
 public class FastFilter<F extends ISsf> {
 
-    private int m_pos, m_end, m_dim, m_ndiffuse;
+    private int m_pos, m_end, m_dim, m_ndiffuse, m_steadypos = -1;
 
     private boolean m_steady;
 
@@ -40,7 +40,7 @@ public class FastFilter<F extends ISsf> {
 
     private IFastFilteringResults m_rslts;
 
-    private static final double m_epsilon = 0;// 1e-9;
+    private double m_epsilon = 0;// 1e-9;
 
     /**
      * 
@@ -51,10 +51,45 @@ public class FastFilter<F extends ISsf> {
 
     private void checksteady() {
 	m_steady = false;
+	if (m_epsilon < 0 || !m_ssf.isTimeInvariant())
+	    return;
+	double[] L = m_state.L.getData();
 	for (int i = 0; i < m_dim; ++i)
-	    if (Math.abs(m_state.L.get(i)) > m_epsilon)
+	    if (Math.abs(L[i]) > m_epsilon)
 		return;
 	m_steady = true;
+	m_steadypos = m_pos + 1;
+    }
+
+    /**
+     * Position from which the gain and the variance of the prediction errors
+     * were kept constant
+     * @return -1 if the steady state was not reached in the last processing
+     */
+    public int getSteadyStatePosition()
+    {
+	return m_steadypos;
+    }
+
+    /**
+     * 
+     * @return
+     */
+    public double getSteadyStateTolerance()
+    {
+	return m_epsilon;
+    }
+
+    /**
+     * Sets the tolerance used to detect the steady state. The recursions stop
+     * when all the elements of L are (in absolute value) below the tolerance.
+     * With the default value (0), the recursions stop when L is exactly 0,
+     * which doesn't modify the results. A negative value disables the detection.
+     * @param eps
+     */
+    public void setSteadyStateTolerance(final double eps)
+    {
+	m_epsilon = eps;
     }
 
     /**
@@ -139,6 +174,8 @@ public class FastFilter<F extends ISsf> {
 	m_dim = m_ssf.getStateDim();
 	m_pos = 0;
 	m_end = m_data.getCount();
+	m_steady = false;
+	m_steadypos = -1;
 	if (!initialize(rslts))
 	    return false;
 	if (rslts != null)
@@ -152,9 +189,11 @@ public class FastFilter<F extends ISsf> {
 		//
 		if (!m_steady) {
 		    iterate();
-		    // checksteady();
+		    checksteady();
 		}
 	    } while (++m_pos < m_end);
+	if (rslts instanceof ResidualsCumulator)
+	    ((ResidualsCumulator) rslts).m_steadypos = m_steadypos;
 	if (rslts != null)
 	    rslts.close();
 	return true;
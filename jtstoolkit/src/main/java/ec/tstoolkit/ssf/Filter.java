@@ -44,16 +44,17 @@ public class Filter<F extends ISsf> {
     private int[] m_idxR;
     private Matrix m_Q, m_WQW;
     private Matrix m_W;
-    private boolean m_bsteady, m_fixedsteadypos, m_qinit;
+    private boolean m_bsteady, m_fixedsteadypos, m_qinit, m_steadyC;
     // for steady state
     /**
      *
      */
     protected double m_lastff;
 
-    // private int m_nchecks = 12, m_curcheck = 0;
-    // private double m_oldf = 0;
-    // private double m_eps = 0;//State.g_Zero;
+    private static final int NCHECKS = 3;
+    private int m_curcheck;
+    private double m_steadyeps = -1;
+    private double[] m_Pprev;
     /**
      *
      */
@@ -93,12 +94,41 @@ public class Filter<F extends ISsf> {
     }
 
     private void checkSteadyState() {
-        /*
-         * if (m_pos == m_steadypos) { m_bsteady = true; return; } if (m_oldf ==
-         * 0 || (m_oldf - m_state.f) / m_state.f > m_eps) { m_oldf = m_state.f;
-         * m_curcheck = 0; } else ++m_curcheck; if (m_curcheck == m_nchecks) {
-         * m_steadypos = m_pos; m_bsteady = true; }
-         */
+        if (m_fixedsteadypos) {
+            if (m_pos >= m_steadypos) {
+                m_bsteady = true;
+            }
+            return;
+        }
+        if (m_steadyeps < 0) {
+            return;
+        }
+        // the variance is considered as stable when it doesn't move (more
+        // than eps*f) during NCHECKS successive iterations
+        double[] p = m_state.P.internalStorage();
+        double eps = m_steadyeps * m_state.f;
+        boolean stable = m_Pprev != null && m_state.f > 0;
+        if (stable) {
+            for (int i = 0; i < p.length; ++i) {
+                if (Math.abs(p[i] - m_Pprev[i]) > eps) {
+                    stable = false;
+                    break;
+                }
+            }
+        }
+        if (stable) {
+            if (++m_curcheck >= NCHECKS) {
+                m_bsteady = true;
+                m_steadypos = m_pos + 1;
+            }
+        } else {
+            m_curcheck = 0;
+            if (m_Pprev == null || m_Pprev.length != p.length) {
+                m_Pprev = p.clone();
+            } else {
+                System.arraycopy(p, 0, m_Pprev, 0, p.length);
+            }
+        }
     }
 
     /**
@@ -110,7 +140,10 @@ public class Filter<F extends ISsf> {
         // m_fi=m_Pi.quadraticForm(m_Z);
         // m_ff=m_Pf.quadraticForm(m_Z)+m_h;
 
-        if (!m_bsteady) {
+        // in steady state, f and C (=TPZ') are computed once with the
+        // final variance and then kept
+        boolean update = !m_bsteady || !m_steadyC;
+        if (update) {
             m_state.f = m_ssf.ZVZ(m_pos, m_state.P.subMatrix());
             if (m_state.f < State.ZERO) {
                 m_state.f = 0;
@@ -120,11 +153,14 @@ public class Filter<F extends ISsf> {
         if (m_data.hasData()) {
             double y = m_data.get(m_pos);
             if (Double.isNaN(y)) {
-                m_bsteady = false;
+                leaveSteadyState();
                 m_state.e = Double.NaN;
             } else {
-                m_ssf.ZM(m_pos, m_state.P.subMatrix(), m_state.C);
-                m_ssf.TX(m_pos, m_state.C);
+                if (update) {
+                    m_ssf.ZM(m_pos, m_state.P.subMatrix(), m_state.C);
+                    m_ssf.TX(m_pos, m_state.C);
+                    m_steadyC = m_bsteady;
+                }
                 m_state.e = y - m_ssf.ZX(m_pos, m_state.A);
                 if (m_state.f == 0) {
                     if (Math.abs(m_state.e) > State.EPS) {
@@ -135,13 +171,25 @@ public class Filter<F extends ISsf> {
                 }
             }
         } else {
-            m_ssf.ZM(m_pos, m_state.P.subMatrix(), m_state.C);
-            m_ssf.TX(m_pos, m_state.C);
+            if (update) {
+                m_ssf.ZM(m_pos, m_state.P.subMatrix(), m_state.C);
+                m_ssf.TX(m_pos, m_state.C);
+                m_steadyC = m_bsteady;
+            }
             m_state.e = 0;
         }
 
     }
 
+    private void leaveSteadyState() {
+        m_bsteady = false;
+        m_steadyC = false;
+        m_curcheck = 0;
+        if (!m_fixedsteadypos) {
+            m_steadypos = -1;
+        }
+    }
+
     /**
      *
      * @return
@@ -213,10 +261,36 @@ public class Filter<F extends ISsf> {
         return m_steadypos;
     }
 
+    /**
+     * Gets the tolerance used to detect the steady state of the filter
+     *
+     * @return A negative value if the steady state is not searched for
+     */
+    public double getSteadyStateTolerance() {
+        return m_steadyeps;
+    }
+
+    /**
+     * Enables the detection of the steady state for time-invariant models.
+     * When the covariance matrix P doesn't move by more than eps*f during a
+     * few successive iterations, it is frozen and the following iterations
+     * only update the state vector. By default, the detection is disabled.
+     *
+     * @param eps The tolerance (relative to the variance of the prediction
+     * errors). 0 means that the covariance matrix must be exactly stable. A
+     * negative value disables the detection.
+     */
+    public void setSteadyStateTolerance(final double eps) {
+        m_steadyeps = eps;
+    }
+
     private boolean initFilter() {
         m_qinit = false;
         m_pos = 0;
         m_bsteady = false;
+        m_steadyC = false;
+        m_curcheck = 0;
+        m_Pprev = null;
         if (!m_fixedsteadypos) {
             m_steadypos = -1;
         }
@@ -387,6 +461,9 @@ public class Filter<F extends ISsf> {
                 next();
             } while (++m_pos < m_end);
         }
+        if (rslts instanceof ResidualsCumulator) {
+            ((ResidualsCumulator) rslts).m_steadypos = m_bsteady ? m_steadypos : -1;
+        }
         if (rslts != null) {
             rslts.close();
         }
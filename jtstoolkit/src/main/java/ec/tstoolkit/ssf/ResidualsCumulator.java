@@ -32,6 +32,8 @@ public class ResidualsCumulator {
 
     int m_n;
 
+    int m_steadypos = -1;
+
     /** Creates a new instance of PredictionErrorDecomposition */
     public ResidualsCumulator() {
     }
@@ -61,6 +63,7 @@ public class ResidualsCumulator {
 	m_ssqerr = 0;
 	m_det.clear();
 	m_n = 0;
+	m_steadypos = -1;
     }
 
     /**
@@ -89,4 +92,13 @@ public class ResidualsCumulator {
     {
 	return m_ssqerr;
     }
+
+    /**
+     * Position from which the filter used steady-state iterations
+     * @return -1 if the filter didn't reach (or didn't check) a steady state
+     */
+    public int getSteadyStatePosition()
+    {
+	return m_steadypos;
+    }
 }
@@ -31,6 +31,8 @@ public class SsfAlgorithm<F extends ISsf> extends AbstractSsfAlgorithm
 
     private ISsfInitializer<F> m_initializer;
 
+    private double m_steadyeps = -1;
+
     /**
      * 
      */
@@ -47,6 +49,25 @@ public class SsfAlgorithm<F extends ISsf> extends AbstractSsfAlgorithm
 	m_initializer = initializer;
     }
 
+    /**
+     * 
+     * @return
+     */
+    public double getSteadyStateTolerance()
+    {
+	return m_steadyeps;
+    }
+
+    /**
+     * Enables the detection of the steady state in the filter (for
+     * time-invariant models). See Filter.setSteadyStateTolerance
+     * @param eps A negative value (default) disables the detection
+     */
+    public void setSteadyStateTolerance(double eps)
+    {
+	m_steadyeps = eps;
+    }
+
     /**
      *
      * @param instance
@@ -56,6 +77,7 @@ public class SsfAlgorithm<F extends ISsf> extends AbstractSsfAlgorithm
 	    SsfModel<F> instance) {
 	Filter<F> filter = new Filter<>();
 	filter.setSsf(instance.ssf);
+	filter.setSteadyStateTolerance(m_steadyeps);
 	if (m_initializer != null)
 	    filter.setInitializer(m_initializer);
 	DiffusePredictionErrorDecomposition pred = new DiffusePredictionErrorDecomposition(
@@ -70,6 +92,7 @@ public class SsfAlgorithm<F extends ISsf> extends AbstractSsfAlgorithm
 	    SsfModel<F> instance) {
 	Filter<F> filter = new Filter<>();
 	filter.setSsf(instance.ssf);
+	filter.setSteadyStateTolerance(m_steadyeps);
 	if (m_initializer != null)
 	    filter.setInitializer(m_initializer);
 	DiffuseFilteringResults drslts = new DiffuseFilteringResults(true);
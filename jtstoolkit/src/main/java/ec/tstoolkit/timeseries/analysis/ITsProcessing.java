@@ -36,4 +36,18 @@ public interface ITsProcessing<I extends IProcResults >{
      * @return
      */
     I process(TsDomain domain);
+
+    /**
+     * Processes a time span, using the results obtained on a neighbouring
+     * span as starting point (warm start). By default, the previous results
+     * are ignored.
+     *
+     * @param domain
+     * @param previous The results of the neighbouring span. May be null.
+     * @return
+     * @since 2.2.4
+     */
+    default I process(TsDomain domain, I previous) {
+        return process(domain);
+    }
 }
@@ -17,15 +17,21 @@
 package ec.tstoolkit.timeseries.analysis;
 
 import ec.tstoolkit.algorithm.IProcResults;
+import ec.tstoolkit.algorithm.ParallelProcessingNode;
 import ec.tstoolkit.design.Development;
 import ec.tstoolkit.timeseries.simplets.TsData;
 import ec.tstoolkit.timeseries.simplets.TsDataFunction;
 import ec.tstoolkit.timeseries.simplets.TsDomain;
 import ec.tstoolkit.timeseries.simplets.TsPeriod;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
 
 /**
  *
@@ -38,10 +44,15 @@ public class RevisionHistory<T extends IProcResults> {
 
     private final ITsProcessing<T> m_processing;
 
-    private final HashMap<TsDomain, T> m_cache = new HashMap<>();
+    private final Map<TsDomain, T> m_cache = Collections.synchronizedMap(new HashMap<>());
+
+    // vintages whose processing has thrown an exception
+    private final Map<TsDomain, RuntimeException> m_failures = Collections.synchronizedMap(new HashMap<>());
 
     private final TsDomain m_domainT;
 
+    private boolean m_parallel;
+
     /**
      *
      * @param processing
@@ -62,6 +73,63 @@ public class RevisionHistory<T extends IProcResults> {
         return m_processing;
     }
 
+    /**
+     * Enables/disables the parallel processing of the vintages (disabled by
+     * default). When it is enabled, the vintages needed by a revision series
+     * are computed concurrently, on the executor shared by the parallel
+     * processing nodes; the processing must then be thread-safe.
+     *
+     * @param parallel
+     */
+    public void setParallelProcessing(boolean parallel) {
+        m_parallel = parallel;
+    }
+
+    public boolean isParallelProcessing() {
+        return m_parallel;
+    }
+
+    /**
+     * Computes the results for the given domains (if they are not yet
+     * available). The computation is done in parallel if the parallel
+     * processing is enabled. Each domain is handled separately: a failing
+     * domain doesn't prevent the results of the other ones from being
+     * cached, and its exception is re-thrown by tsInfo (without a new
+     * computation).
+     *
+     * @param domains
+     */
+    public void prepare(Collection<TsDomain> domains) {
+        List<TsDomain> missing = new ArrayList<>();
+        for (TsDomain domain : domains) {
+            if (!m_cache.containsKey(domain) && !m_failures.containsKey(domain) && !missing.contains(domain)) {
+                missing.add(domain);
+            }
+        }
+        List<Callable<T>> tasks = new ArrayList<>(missing.size());
+        for (TsDomain domain : missing) {
+            tasks.add(() -> m_processing.process(domain));
+        }
+        List<Future<T>> rslts = ParallelProcessingNode.invokeAll(tasks, m_parallel);
+        for (int i = 0; i < rslts.size(); ++i) {
+            try {
+                m_cache.put(missing.get(i), ParallelProcessingNode.getResult(rslts.get(i)));
+            } catch (RuntimeException err) {
+                m_failures.put(missing.get(i), err);
+            }
+        }
+    }
+
+    private void prepare(TsPeriod p0, int len, int n) {
+        if (m_parallel && n > 1) {
+            List<TsDomain> domains = new ArrayList<>(n);
+            for (int i = 0; i < n; ++i) {
+                domains.add(new TsDomain(p0, len + i));
+            }
+            prepare(domains);
+        }
+    }
+
     /**
      *
      * @return
@@ -103,6 +171,16 @@ public class RevisionHistory<T extends IProcResults> {
         TsPeriod start = m_domainT.getStart();
         TsDomain domain = new TsDomain(start, period.minus(start) + 1);
         IProcResults[] ilag = new IProcResults[count];
+        if (m_parallel) {
+            List<TsDomain> domains = new ArrayList<>(count + 2);
+            domains.add(target == DiagnosticTarget.Final ? m_domainT : domain);
+            TsDomain ldomain = domain;
+            for (int i = 0; i < count; ++i) {
+                ldomain = ldomain.extend(0, lag);
+                domains.add(ldomain);
+            }
+            prepare(domains);
+        }
         TsDomain ldomain = domain;
         for (int i = 0; i < count; ++i) {
             ldomain = ldomain.extend(0, lag);
@@ -187,6 +265,7 @@ public class RevisionHistory<T extends IProcResults> {
         TsPeriod p0 = m_domainT.getStart();
         TsData rslt = new TsData(start, m_domainT.getEnd().minus(start));
         int len = start.minus(p0) + 1;
+        prepare(p0, len, rslt.getLength());
         for (int i = 0; i < rslt.getLength(); ++i, ++len) {
             TsDomain rdom = new TsDomain(p0, len);
             T output = tsInfo(rdom);
@@ -235,6 +314,7 @@ public class RevisionHistory<T extends IProcResults> {
         int n = pend.minus(pbeg);
         if (n >= 0) {
             int len = pbeg.minus(start) + 1;
+            prepare(start, len, n + 1);
             for (int i = 0; i <= n; ++i) {
                 try {
                     TsDomain dom = new TsDomain(start, len++);
@@ -311,8 +391,17 @@ public class RevisionHistory<T extends IProcResults> {
      */
     public T tsInfo(TsDomain domain) {
         T info = m_cache.get(domain);
-        if (info == null) {
-            info = m_processing.process(domain);
+        if (info == null && !m_cache.containsKey(domain)) {
+            RuntimeException failure = m_failures.get(domain);
+            if (failure != null) {
+                throw failure;
+            }
+            try {
+                info = m_processing.process(domain);
+            } catch (RuntimeException err) {
+                m_failures.put(domain, err);
+                throw err;
+            }
             m_cache.put(domain, info);
         }
         return info;
@@ -342,6 +431,7 @@ public class RevisionHistory<T extends IProcResults> {
         int pos = period.minus(p0);
         TsData rslt = new TsData(start, m_domainT.getEnd().minus(start));
         int len = start.minus(p0) + 1;
+        prepare(p0, len, rslt.getLength());
         for (int i = 0; i < rslt.getLength(); ++i, ++len) {
             TsDomain rdom = new TsDomain(p0, len);
             T output = tsInfo(rdom);
@@ -362,6 +452,7 @@ public class RevisionHistory<T extends IProcResults> {
         int pos = period.minus(p0);
         TsData rslt = new TsData(start, m_domainT.getEnd().minus(start));
         int len = start.minus(p0) + 1;
+        prepare(p0, len, rslt.getLength());
         for (int i = 0; i < rslt.getLength(); ++i, ++len) {
             TsDomain rdom = new TsDomain(p0, len);
             T output = tsInfo(rdom);
@@ -18,6 +18,7 @@
 package ec.tstoolkit.timeseries.analysis;
 
 import ec.tstoolkit.algorithm.IProcResults;
+import ec.tstoolkit.algorithm.ParallelProcessingNode;
 import ec.tstoolkit.design.Development;
 import ec.tstoolkit.timeseries.simplets.TsData;
 import ec.tstoolkit.timeseries.simplets.TsDomain;
@@ -25,7 +26,10 @@ import ec.tstoolkit.timeseries.simplets.TsPeriod;
 import ec.tstoolkit.utilities.Jdk6;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map.Entry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
 
 /**
  *
@@ -82,6 +86,8 @@ public class SlidingSpans<I extends IProcResults> {
 
     private int m_spanMin = 2;
 
+    private boolean m_parallel, m_warmStart;
+
     /**
      * 
      * @param processing
@@ -211,6 +217,43 @@ public class SlidingSpans<I extends IProcResults> {
 	return m_estimation.length <= idx ? null : m_estimation[idx].estimation;
     }
     
+    /**
+     * Enables/disables the parallel processing of the spans (disabled by
+     * default). When it is enabled, the spans are processed concurrently, on
+     * the executor shared by the parallel processing nodes; the processing
+     * must then be thread-safe. The parallel processing is not used when the
+     * spans are warm-started.
+     *
+     * @param parallel
+     */
+    public void setParallelProcessing(boolean parallel) {
+        m_parallel = parallel;
+    }
+
+    public boolean isParallelProcessing() {
+        return m_parallel;
+    }
+
+    /**
+     * Enables/disables the warm start of the spans (disabled by default).
+     * When it is enabled, each span is processed with the results of the
+     * previous (more recent) span as starting point. The most recent span
+     * starts from the reference results.
+     *
+     * @param warmStart
+     * @see ITsProcessing#process(TsDomain, IProcResults)
+     */
+    public void setWarmStart(boolean warmStart) {
+        if (warmStart != m_warmStart) {
+            m_estimation = null;
+        }
+        m_warmStart = warmStart;
+    }
+
+    public boolean isWarmStart() {
+        return m_warmStart;
+    }
+
     public TsDomain getDomain(int idx){
 	if (m_estimation == null && !process())
 	    return null;
@@ -237,7 +280,6 @@ public class SlidingSpans<I extends IProcResults> {
     public boolean process() {
 	if (m_estimation != null)
 	    return true;
-	ArrayList<Node<I>> rslts = new ArrayList<>();
 	int freq = m_domainT.getFrequency().intValue();
 	int length = m_spanLength * freq;
 	TsPeriod start = m_domainT.getLast().minus(length - 1);
@@ -245,24 +287,23 @@ public class SlidingSpans<I extends IProcResults> {
 	    length += start.getPosition();
 	    start.move(-start.getPosition());
 	}
-	int idx = 0;
-	while (idx < m_spanCount && start.isNotBefore(m_domainT.getStart()))
-	    try {
-		++idx;
-		TsDomain cur = new TsDomain(start, length);
-		I info = m_processing.process(cur);
-		if (info == null)
-		    break;
-		else{
-                    Node<I> node=new Node<>();
-                    node.estimation=info;
-                    node.domain=cur;
-		    rslts.add(node);
-                }
-		start.move(-m_spanDistance * freq);
-	    } catch (Exception err) {
+	List<TsDomain> domains = new ArrayList<>();
+	while (domains.size() < m_spanCount && start.isNotBefore(m_domainT.getStart())) {
+	    domains.add(new TsDomain(start, length));
+	    start.move(-m_spanDistance * freq);
+	}
+	List<I> infos = m_parallel && !m_warmStart ? processParallel(domains) : processSequential(domains);
+
+	ArrayList<Node<I>> rslts = new ArrayList<>();
+	for (int i = 0; i < infos.size(); ++i) {
+	    I info = infos.get(i);
+	    if (info == null)
 		break;
-	    }
+	    Node<I> node = new Node<>();
+	    node.estimation = info;
+	    node.domain = domains.get(i);
+	    rslts.add(node);
+	}
 
 	if (rslts.size() < m_spanMin)
 	    return false;
@@ -271,6 +312,56 @@ public class SlidingSpans<I extends IProcResults> {
 	return true;
     }
 
+    /**
+     * Processes the spans one after the other, stopping at the first failure
+     *
+     * @param domains
+     * @return
+     */
+    private List<I> processSequential(List<TsDomain> domains) {
+        List<I> infos = new ArrayList<>(domains.size());
+        I prev = m_reference;
+        for (TsDomain domain : domains) {
+            I info;
+            try {
+                info = m_warmStart ? m_processing.process(domain, prev) : m_processing.process(domain);
+            } catch (Exception err) {
+                info = null;
+            }
+            infos.add(info);
+            if (info == null) {
+                break;
+            }
+            prev = info;
+        }
+        return infos;
+    }
+
+    /**
+     * Processes the spans concurrently. The failures are handled as in the
+     * sequential processing (the following spans are discarded)
+     *
+     * @param domains
+     * @return
+     */
+    private List<I> processParallel(List<TsDomain> domains) {
+        List<Callable<I>> tasks = new ArrayList<>(domains.size());
+        for (TsDomain domain : domains) {
+            tasks.add(() -> {
+                try {
+                    return m_processing.process(domain);
+                } catch (Exception err) {
+                    return null;
+                }
+            });
+        }
+        List<I> infos = new ArrayList<>(tasks.size());
+        for (Future<I> future : ParallelProcessingNode.invokeAll(tasks, true)) {
+            infos.add(ParallelProcessingNode.getResult(future));
+        }
+        return infos;
+    }
+
     /**
      * 
      * @param series
@@ -0,0 +1,416 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.timeseries.simplets;
+
+import ec.tstoolkit.data.IReadDataBlock;
+import ec.tstoolkit.design.Development;
+import ec.tstoolkit.design.Immutable;
+import ec.tstoolkit.design.NewObject;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Columnar store of time series, outside of the java heap. The observations
+ * of all the series are stored in large direct (or memory-mapped) buffers and
+ * the description of each series (frequency, start, length, position of its
+ * observations) is stored in a separate direct buffer. So, the store doesn't
+ * create any object by series.
+ *
+ * The observations are read without copy through {@link #values(int)}; the
+ * method {@link #get(int)} creates a usual (heap) TsData.
+ *
+ * A store is built by means of a {@link Builder}. It can be saved in a file
+ * and re-opened as a memory-mapped store: the file is then paged in by the
+ * operating system, on demand.
+ *
+ * The store is immutable and can be read concurrently.
+ */
+@Development(status = Development.Status.Alpha)
+@Immutable
+public final class TsDataStore {
+
+    /**
+     * Maximum number of observations in a chunk (1 GB). A series never
+     * crosses the boundaries of a chunk.
+     */
+    static final int CHUNK = 1 << 27;
+
+    // index: chunk, offset in the chunk, length, frequency, id of the start
+    private static final int CHUNKPOS = 0, OFFSETPOS = 1, LENGTHPOS = 2, FREQPOS = 3, STARTPOS = 4, ITEMSIZE = 6;
+    private static final int MAGIC = 0x54534453, VERSION = 1, HEADERSIZE = 16;
+
+    private final IntBuffer index;
+    private final DoubleBuffer[] chunks;
+    private final int count;
+
+    private TsDataStore(IntBuffer index, int count, DoubleBuffer[] chunks) {
+        this.index = index;
+        this.count = count;
+        this.chunks = chunks;
+    }
+
+    /**
+     * Creates a new builder
+     *
+     * @return
+     */
+    public static Builder builder() {
+        return new Builder(CHUNK);
+    }
+
+    /**
+     * Number of series in the store
+     *
+     * @return
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Total number of observations in the store
+     *
+     * @return
+     */
+    public long getObsCount() {
+        long n = 0;
+        for (DoubleBuffer chunk : chunks) {
+            n += chunk.limit();
+        }
+        return n;
+    }
+
+    public TsFrequency getFrequency(int i) {
+        return TsFrequency.valueOf(index.get(i * ITEMSIZE + FREQPOS));
+    }
+
+    @NewObject
+    public TsPeriod getStart(int i) {
+        int pos = i * ITEMSIZE;
+        return new TsPeriod(TsFrequency.valueOf(index.get(pos + FREQPOS)), index.get(pos + STARTPOS));
+    }
+
+    public int getLength(int i) {
+        return index.get(i * ITEMSIZE + LENGTHPOS);
+    }
+
+    @NewObject
+    public TsDomain getDomain(int i) {
+        return new TsDomain(getStart(i), getLength(i));
+    }
+
+    /**
+     * Gets a given observation
+     *
+     * @param i The position of the series
+     * @param j The position of the observation in the series
+     * @return
+     */
+    public double get(int i, int j) {
+        int pos = i * ITEMSIZE;
+        if (j < 0 || j >= index.get(pos + LENGTHPOS)) {
+            throw new IndexOutOfBoundsException();
+        }
+        return chunks[index.get(pos + CHUNKPOS)].get(index.get(pos + OFFSETPOS) + j);
+    }
+
+    /**
+     * Read-only view on the observations of a series. The data are not
+     * copied.
+     *
+     * @param i The position of the series
+     * @return
+     */
+    public IReadDataBlock values(int i) {
+        int pos = i * ITEMSIZE;
+        return new BufferBlock(chunks[index.get(pos + CHUNKPOS)], index.get(pos + OFFSETPOS), index.get(pos + LENGTHPOS));
+    }
+
+    /**
+     * Creates a (heap) copy of a series
+     *
+     * @param i The position of the series
+     * @return
+     */
+    @NewObject
+    public TsData get(int i) {
+        int pos = i * ITEMSIZE;
+        double[] data = new double[index.get(pos + LENGTHPOS)];
+        DoubleBuffer chunk = chunks[index.get(pos + CHUNKPOS)].duplicate();
+        chunk.position(index.get(pos + OFFSETPOS));
+        chunk.get(data);
+        return new TsData(getStart(i), data, false);
+    }
+
+    /**
+     * Saves the store in a file, which can be re-opened by means of
+     * {@link #open(Path)}.
+     *
+     * File layout (little endian): magic, version, number of series, number
+     * of chunks (4 ints); length of each chunk (longs); index (6 ints by
+     * series); observations of each chunk (doubles).
+     *
+     * @param file
+     * @throws IOException
+     */
+    public void save(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADERSIZE + 8 * chunks.length).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putInt(count).putInt(chunks.length);
+            for (DoubleBuffer chunk : chunks) {
+                header.putLong(chunk.limit());
+            }
+            header.flip();
+            write(channel, header);
+            ByteBuffer bindex = ByteBuffer.allocateDirect(count * ITEMSIZE * 4).order(ByteOrder.LITTLE_ENDIAN);
+            IntBuffer tmp = index.duplicate();
+            tmp.position(0).limit(count * ITEMSIZE);
+            bindex.asIntBuffer().put(tmp);
+            write(channel, bindex);
+            for (DoubleBuffer chunk : chunks) {
+                ByteBuffer bchunk = ByteBuffer.allocateDirect(Math.min(chunk.limit(), 1 << 16) * 8).order(ByteOrder.LITTLE_ENDIAN);
+                DoubleBuffer src = chunk.duplicate();
+                src.position(0);
+                while (src.hasRemaining()) {
+                    DoubleBuffer dst = bchunk.asDoubleBuffer();
+                    int n = Math.min(dst.capacity(), src.remaining());
+                    DoubleBuffer part = src.slice();
+                    part.limit(n);
+                    dst.put(part);
+                    src.position(src.position() + n);
+                    bchunk.clear().limit(n * 8);
+                    write(channel, bchunk);
+                    bchunk.clear();
+                }
+            }
+        }
+    }
+
+    /**
+     * Opens a store saved by {@link #save(Path)}. The file is memory-mapped
+     * (read-only); it can be closed by the operating system as soon as the
+     * store is no longer referenced.
+     *
+     * @param file
+     * @return
+     * @throws IOException
+     */
+    public static TsDataStore open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADERSIZE).order(ByteOrder.LITTLE_ENDIAN);
+            if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                throw new IOException("Invalid store");
+            }
+            int count = header.getInt(8), nchunks = header.getInt(12);
+            long pos = HEADERSIZE;
+            ByteBuffer lengths = channel.map(FileChannel.MapMode.READ_ONLY, pos, 8L * nchunks).order(ByteOrder.LITTLE_ENDIAN);
+            pos += 8L * nchunks;
+            long isize = (long) count * ITEMSIZE * 4;
+            if (isize > Integer.MAX_VALUE) {
+                throw new IOException("Invalid store");
+            }
+            IntBuffer index = channel.map(FileChannel.MapMode.READ_ONLY, pos, isize).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+            pos += isize;
+            DoubleBuffer[] chunks = new DoubleBuffer[nchunks];
+            for (int i = 0; i < nchunks; ++i) {
+                long len = lengths.getLong(8 * i);
+                if (len > CHUNK || pos + 8 * len > channel.size()) {
+                    throw new IOException("Invalid store");
+                }
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, pos, 8 * len).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+                pos += 8 * len;
+            }
+            return new TsDataStore(index, count, chunks);
+        }
+    }
+
+    private static void write(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Builder of a store. The observations are directly copied in direct
+     * buffers, which grow as needed.
+     */
+    public static final class Builder {
+
+        private final int chunkSize;
+        private final List<DoubleBuffer> chunks = new ArrayList<>();
+        private DoubleBuffer cur;
+        private IntBuffer index;
+        private int count;
+
+        Builder(int chunkSize) {
+            this.chunkSize = chunkSize;
+            clear();
+        }
+
+        /**
+         * Adds a series
+         *
+         * @param s
+         * @return The position of the series in the store
+         */
+        public int add(TsData s) {
+            int pos = reserve(s.getStart(), s.getLength());
+            int n = s.getLength();
+            DoubleBuffer dst = cur.duplicate();
+            dst.position(pos);
+            dst.put(s.internalStorage(), 0, n);
+            return count++;
+        }
+
+        /**
+         * Adds a series
+         *
+         * @param start The first period
+         * @param values The observations
+         * @return The position of the series in the store
+         */
+        public int add(TsPeriod start, IReadDataBlock values) {
+            int n = values.getLength();
+            int pos = reserve(start, n);
+            for (int i = 0; i < n; ++i) {
+                cur.put(pos + i, values.get(i));
+            }
+            return count++;
+        }
+
+        /**
+         * Creates the store. The builder is reset.
+         *
+         * @return
+         */
+        public TsDataStore build() {
+            if (cur != null) {
+                chunks.add(seal(cur));
+            }
+            IntBuffer idx = index.duplicate();
+            idx.position(0).limit(count * ITEMSIZE);
+            TsDataStore store = new TsDataStore(idx.slice(), count,
+                    chunks.toArray(new DoubleBuffer[chunks.size()]));
+            clear();
+            return store;
+        }
+
+        private void clear() {
+            chunks.clear();
+            cur = null;
+            index = allocateInts(ITEMSIZE * 64);
+            count = 0;
+        }
+
+        /**
+         * Reserves the space for a new series, in the current chunk (or in a
+         * new one) and fills its description
+         *
+         * @return The position of the series in the current chunk
+         */
+        private int reserve(TsPeriod start, int n) {
+            if (n > chunkSize) {
+                throw new IllegalArgumentException("Series too long");
+            }
+            int used = cur == null ? 0 : cur.position();
+            if (cur == null || used + n > chunkSize) {
+                if (cur != null) {
+                    chunks.add(seal(cur));
+                }
+                cur = allocateDoubles(Math.min(chunkSize, Math.max(n, 1024)));
+                used = 0;
+            } else if (used + n > cur.capacity()) {
+                DoubleBuffer tmp = allocateDoubles(Math.min(chunkSize, Math.max(used + n, 2 * cur.capacity())));
+                cur.flip();
+                tmp.put(cur);
+                cur = tmp;
+            }
+            cur.position(used + n);
+            int ipos = count * ITEMSIZE;
+            if (ipos + ITEMSIZE > index.capacity()) {
+                IntBuffer tmp = allocateInts(2 * index.capacity());
+                index.position(0).limit(ipos);
+                tmp.put(index);
+                tmp.clear();
+                index = tmp;
+            }
+            index.put(ipos + CHUNKPOS, chunks.size());
+            index.put(ipos + OFFSETPOS, used);
+            index.put(ipos + LENGTHPOS, n);
+            index.put(ipos + FREQPOS, start.getFrequency().intValue());
+            index.put(ipos + STARTPOS, start.id());
+            return used;
+        }
+
+        private static DoubleBuffer seal(DoubleBuffer chunk) {
+            DoubleBuffer tmp = chunk.duplicate();
+            tmp.flip();
+            return tmp.slice();
+        }
+
+        private static DoubleBuffer allocateDoubles(int n) {
+            return ByteBuffer.allocateDirect(8 * n).order(ByteOrder.nativeOrder()).asDoubleBuffer();
+        }
+
+        private static IntBuffer allocateInts(int n) {
+            return ByteBuffer.allocateDirect(4 * n).order(ByteOrder.nativeOrder()).asIntBuffer();
+        }
+    }
+
+    private static final class BufferBlock implements IReadDataBlock {
+
+        private final DoubleBuffer data;
+        private final int start, length;
+
+        BufferBlock(DoubleBuffer data, int start, int length) {
+            this.data = data;
+            this.start = start;
+            this.length = length;
+        }
+
+        @Override
+        public void copyTo(double[] buffer, int start) {
+            DoubleBuffer tmp = data.duplicate();
+            tmp.position(this.start);
+            tmp.get(buffer, start, length);
+        }
+
+        @Override
+        public double get(int idx) {
+            return data.get(start + idx);
+        }
+
+        @Override
+        public int getLength() {
+            return length;
+        }
+
+        @Override
+        public IReadDataBlock rextract(int start, int length) {
+            return new BufferBlock(data, this.start + start, length);
+        }
+    }
+}
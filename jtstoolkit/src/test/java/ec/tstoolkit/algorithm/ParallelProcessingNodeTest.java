@@ -21,7 +21,11 @@ import ec.tstoolkit.algorithm.IProcessing.Status;
 import ec.tstoolkit.information.InformationSet;
 import ec.tstoolkit.information.ProxyResults;
 import ec.tstoolkit.maths.matrices.Matrix;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
 import org.junit.AfterClass;
 import org.junit.Test;
 import static org.junit.Assert.*;
@@ -99,6 +103,78 @@ public class ParallelProcessingNodeTest {
 
     }
 
+    @Test
+    public void testInvokeAll() {
+        for (boolean parallel : new boolean[]{false, true}) {
+            List<Callable<Integer>> tasks = new ArrayList<>();
+            for (int i = 0; i < 10; ++i) {
+                final int k = i;
+                tasks.add(() -> {
+                    if (k == 3) {
+                        throw new IllegalArgumentException();
+                    }
+                    return k * k;
+                });
+            }
+            List<Future<Integer>> rslts = ParallelProcessingNode.invokeAll(tasks, parallel);
+            assertEquals(10, rslts.size());
+            for (int i = 0; i < 10; ++i) {
+                assertTrue(rslts.get(i).isDone());
+                if (i == 3) {
+                    try {
+                        ParallelProcessingNode.getResult(rslts.get(i));
+                        fail();
+                    } catch (IllegalArgumentException ex) {
+                    }
+                } else {
+                    // the failing task doesn't affect the other ones
+                    assertEquals(i * i, (int) ParallelProcessingNode.getResult(rslts.get(i)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testNested() {
+        Matrix M = new Matrix(100, 20);
+        M.randomize();
+        ParallelProcessingNode<Matrix> outer = new ParallelProcessingNode<>("outer", null);
+        for (int k = 0; k < 4; ++k) {
+            final String name = "inner" + k;
+            outer.add(new IProcessingNode<Matrix>() {
+                @Override
+                public String getName() {
+                    return name;
+                }
+
+                @Override
+                public String getPrefix() {
+                    return name;
+                }
+
+                @Override
+                public Status process(Matrix input, Map<String, IProcResults> results) {
+                    ParallelProcessingNode<Matrix> cmps = new ParallelProcessingNode<>(name, null);
+                    for (int i = 0; i < input.getColumnsCount(); ++i) {
+                        cmps.add(createNode(i));
+                    }
+                    return cmps.process(input, results);
+                }
+            });
+        }
+        SequentialProcessing<Matrix> all = new SequentialProcessing<>();
+        all.add(outer);
+        CompositeResults process = all.process(M);
+        for (int k = 0; k < 4; ++k) {
+            for (int i = 0; i < M.getColumnsCount(); ++i) {
+                assertEquals(M.column(i).ssq(), process.getData("inner" + k + ".column" + i + ".value", Double.class), 1e-9);
+            }
+            assertTrue(outer.getDuration("inner" + k) >= 0);
+        }
+        assertTrue(outer.getDuration() >= outer.getDuration("inner0"));
+        assertEquals(-1, outer.getDuration("unknown"));
+    }
+
     private static IProcessingNode<Matrix> createNode(final int pos) {
         return new IProcessingNode<Matrix>() {
 
@@ -166,6 +166,33 @@ public class IArmaFilterTest {
         }
     }
 
+    @Test
+    public void testReusedKalmanFilter() {
+        DataBlock Y = new DataBlock(240);
+        Y.randomize(1);
+        KalmanFilter single = new KalmanFilter(false), multi = new KalmanFilter(true);
+        Random rn = new Random(0);
+        for (int i = 0; i < 100; ++i) {
+            SarimaModel sarima = (i % 2 == 0) ? arma3111 : ma11;
+            sarima.setTheta(1, 2 * rn.nextDouble() - 1);
+            sarima.setBTheta(1, 2 * rn.nextDouble() - 1);
+            if (!sarima.isValid(true)) {
+                continue;
+            }
+            for (KalmanFilter reused : new KalmanFilter[]{single, multi}) {
+                KalmanFilter fresh = reused.exemplar();
+                int n = reused.initialize(sarima, Y.getLength());
+                DataBlock rE = new DataBlock(n);
+                reused.filter(Y, rE);
+                fresh.initialize(sarima, Y.getLength());
+                DataBlock fE = new DataBlock(n);
+                fresh.filter(Y, fE);
+                assertArrayEquals(fE.getData(), rE.getData(), 0);
+                assertEquals(fresh.getLogDeterminant(), reused.getLogDeterminant(), 0);
+            }
+        }
+    }
+
     //@Ignore(value = "CHARPHI@2012-09-10: this test failure blocks the next tests")
     @Test
     public void testFilter_ARMA_3_1_1_1() {
@@ -0,0 +1,109 @@
+/*
+* Copyright 2026 National Bank of Belgium
+*
+* Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+* by the European Commission - subsequent versions of the EUPL (the "Licence");
+* You may not use this work except in compliance with the Licence.
+* You may obtain a copy of the Licence at:
+*
+* http://ec.europa.eu/idabc/eupl
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the Licence is distributed on an "AS IS" basis,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the Licence for the specific language governing permissions and
+* limitations under the Licence.
+*/
+package ec.tstoolkit.arima.estimation;
+
+import ec.tstoolkit.data.DataBlock;
+import ec.tstoolkit.eco.Likelihood;
+import ec.tstoolkit.maths.matrices.LowerTriangularMatrix;
+import ec.tstoolkit.maths.matrices.Matrix;
+import ec.tstoolkit.maths.matrices.SymmetricMatrix;
+import ec.tstoolkit.sarima.SarimaModel;
+import ec.tstoolkit.sarima.SarmaSpecification;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class PanelKalmanFilterTest {
+
+    private final SarimaModel arma;
+
+    public PanelKalmanFilterTest() {
+        SarmaSpecification spec = new SarmaSpecification(12);
+        spec.setP(1);
+        spec.setQ(1);
+        spec.setBQ(1);
+        arma = new SarimaModel(spec);
+        arma.setPhi(1, -.5);
+        arma.setTheta(1, -.3);
+        arma.setBTheta(1, -.6);
+    }
+
+    @Test
+    public void testPanel() {
+        Matrix y = new Matrix(120, 5);
+        y.randomize(0);
+        y.set(10, 3, Double.NaN);
+        y.set(50, 3, Double.NaN);
+
+        PanelKalmanFilter filter = new PanelKalmanFilter(arma);
+        Matrix e = filter.filter(y.subMatrix());
+        Likelihood[] ll = filter.getLikelihoods();
+        assertEquals(5, ll.length);
+
+        for (int j = 0; j < 5; ++j) {
+            if (j == 3) {
+                continue;
+            }
+            Likelihood cur = new Likelihood();
+            new ArmaKF(arma).process(y.column(j), cur);
+            assertEquals(cur.getSsqErr(), ll[j].getSsqErr(), 1e-9);
+            assertEquals(cur.getLogDeterminant(), ll[j].getLogDeterminant(), 1e-9);
+            assertArrayEquals(cur.getResiduals(), toArray(e.column(j)), 1e-9);
+        }
+
+        // series with missing values
+        assertTrue(Double.isNaN(e.get(10, 3)));
+        assertTrue(Double.isNaN(e.get(50, 3)));
+        assertEquals(118, ll[3].getN());
+        // the observations before the first missing value are filtered as usual
+        DataBlock start = y.column(3).range(0, 10);
+        Likelihood cur = new Likelihood();
+        new ArmaKF(arma).process(start, cur);
+        assertArrayEquals(cur.getResiduals(), toArray(e.column(3).range(0, 10)), 1e-9);
+        // exact likelihood of the observed values: Cholesky factor of their
+        // covariance matrix
+        int[] obs = new int[118];
+        for (int i = 0, k = 0; i < 120; ++i) {
+            if (i != 10 && i != 50) {
+                obs[k++] = i;
+            }
+        }
+        double[] acf = arma.getAutoCovarianceFunction().values(120);
+        Matrix cov = new Matrix(obs.length, obs.length);
+        double[] x = new double[obs.length];
+        for (int i = 0; i < obs.length; ++i) {
+            x[i] = y.get(obs[i], 3);
+            for (int j = 0; j < obs.length; ++j) {
+                cov.set(i, j, acf[Math.abs(obs[i] - obs[j])]);
+            }
+        }
+        SymmetricMatrix.lcholesky(cov);
+        LowerTriangularMatrix.rsolve(cov, x);
+        double logdet = 0;
+        for (int i = 0; i < obs.length; ++i) {
+            logdet += 2 * Math.log(cov.get(i, i));
+        }
+        assertEquals(new DataBlock(x).ssq(), ll[3].getSsqErr(), 1e-9);
+        assertEquals(logdet, ll[3].getLogDeterminant(), 1e-9);
+        assertArrayEquals(x, ll[3].getResiduals(), 1e-9);
+    }
+
+    private static double[] toArray(DataBlock data) {
+        double[] x = new double[data.getLength()];
+        data.copyTo(x, 0);
+        return x;
+    }
+}
@@ -139,4 +139,41 @@ public class DataBlockTest {
         x.bshift(3);
         assertTrue(x.get(6)==10 && x.get(0)==4);
     }
+
+    @Test
+    public void testContiguous() {
+        // the contiguous code paths must give exactly the same results as
+        // the generic ones
+        DataBlock x = DataBlock.random(120), y = DataBlock.random(120), z = DataBlock.random(120);
+        DataBlock sx = strided(x), sy = strided(y), sz = strided(z);
+        assertEquals(sx.sum(), x.sum(), 0);
+        assertEquals(sx.ssq(), x.ssq(), 0);
+        assertEquals(sx.ssqc(.5), x.ssqc(.5), 0);
+        assertEquals(sx.product(), x.product(), 0);
+        assertEquals(sx.dot(sy), x.dot(y), 0);
+        assertEquals(sx.dotReverse(sy), x.dotReverse(y), 0);
+
+        DataBlock r = new DataBlock(120), sr = strided(r);
+        r.sum(x, y);
+        sr.sum(sx, sy);
+        assertTrue(r.distance(sr) == 0);
+        r.difference(x, y);
+        sr.difference(sx, sy);
+        assertTrue(r.distance(sr) == 0);
+        for (double a : new double[]{1, -1, .3}) {
+            r.addAXY(a, x, z);
+            sr.addAXY(a, sx, sz);
+            assertTrue(r.distance(sr) == 0);
+        }
+        r.apply((u, v) -> u - v, y);
+        sr.apply((u, v) -> u - v, y);
+        assertTrue(r.distance(sr) == 0);
+    }
+
+    private static DataBlock strided(DataBlock x) {
+        int n = x.getLength();
+        DataBlock s = new DataBlock(new double[3 * n], 1, 1 + 3 * n, 3);
+        s.copy(x);
+        return s;
+    }
 }
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.maths.matrices;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * The blocked kernels must give exactly the same results as the usual loops.
+ * The dimensions are chosen to cross the block boundaries.
+ */
+public class MatrixKernelsTest {
+
+    public MatrixKernelsTest() {
+    }
+
+    @Test
+    public void testProduct() {
+        Matrix a = new Matrix(300, 70), b = new Matrix(70, 13);
+        a.randomize(0);
+        b.randomize(1);
+        b.set(5, 3, 0);
+        Matrix c = a.times(b);
+        for (int i = 0; i < 300; ++i) {
+            for (int j = 0; j < 13; ++j) {
+                double s = 0;
+                for (int k = 0; k < 70; ++k) {
+                    s += a.get(i, k) * b.get(k, j);
+                }
+                assertEquals(s, c.get(i, j), 0);
+            }
+        }
+        Matrix d = new Matrix(300, 13);
+        d.subMatrix().product(a.subMatrix(), b.subMatrix());
+        assertTrue(c.equals(d));
+        // short columns
+        Matrix at = a.transpose();
+        Matrix e = at.times(a);
+        for (int i = 0; i < 70; ++i) {
+            for (int j = 0; j < 70; ++j) {
+                assertEquals(a.column(i).dot(a.column(j)), e.get(i, j), 0);
+            }
+        }
+        Matrix f = new Matrix(7, 70);
+        f.subMatrix().product(at.subMatrix(0, 7, 0, 300), a.subMatrix());
+        for (int i = 0; i < 7; ++i) {
+            assertTrue(f.row(i).distance(e.row(i)) == 0);
+        }
+    }
+
+    @Test
+    public void testNonFinite() {
+        Matrix a = new Matrix(300, 70), b = new Matrix(70, 13);
+        a.randomize(0);
+        b.randomize(1);
+        a.set(17, 5, Double.NaN);
+        a.set(260, 6, Double.POSITIVE_INFINITY);
+        // NaN * 0 and Inf * 0 give NaN, as in the usual loops
+        b.column(0).set(0);
+        Matrix c = a.times(b);
+        for (int j = 0; j < 13; ++j) {
+            assertTrue(Double.isNaN(c.get(17, j)));
+        }
+        assertTrue(Double.isNaN(c.get(260, 0)));
+        for (int j = 1; j < 13; ++j) {
+            assertTrue(Double.isInfinite(c.get(260, j)));
+        }
+        assertEquals(0, c.get(0, 0), 0);
+        Matrix d = new Matrix(300, 13);
+        d.subMatrix().product(a.subMatrix(), b.subMatrix());
+        assertTrue(Double.isNaN(d.get(17, 0)));
+        assertTrue(Double.isNaN(d.get(260, 0)));
+
+        Matrix x = new Matrix(270, 9);
+        x.randomize(0);
+        x.set(100, 3, Double.NaN);
+        x.set(5, 3, 0);
+        Matrix xx = SymmetricMatrix.XXt(x);
+        for (int i = 0; i < 270; ++i) {
+            assertTrue(Double.isNaN(xx.get(100, i)));
+            assertTrue(Double.isNaN(xx.get(i, 100)));
+        }
+        assertFalse(Double.isNaN(xx.get(5, 6)));
+    }
+
+    @Test
+    public void testXtX() {
+        Matrix x = new Matrix(300, 11);
+        x.randomize(0);
+        Matrix xx = SymmetricMatrix.XtX(x);
+        for (int i = 0; i < 11; ++i) {
+            for (int j = 0; j < 11; ++j) {
+                assertEquals(x.column(i).dot(x.column(j)), xx.get(i, j), 0);
+            }
+        }
+        // transposed storage
+        Matrix xt = x.transpose();
+        Matrix yy = new Matrix(11, 11);
+        SymmetricMatrix.XXt(xt.subMatrix(), yy.subMatrix());
+        assertTrue(xx.equals(yy));
+        Matrix zz = new Matrix(11, 11);
+        SymmetricMatrix.XtX(x.subMatrix(), zz.subMatrix());
+        assertTrue(xx.equals(zz));
+    }
+
+    @Test
+    public void testXXt() {
+        Matrix x = new Matrix(270, 9);
+        x.randomize(0);
+        Matrix xx = SymmetricMatrix.XXt(x);
+        for (int i = 0; i < 270; ++i) {
+            for (int j = 0; j < 270; ++j) {
+                assertEquals(x.row(i).dot(x.row(j)), xx.get(i, j), 0);
+            }
+        }
+        Matrix yy = new Matrix(270, 270);
+        SymmetricMatrix.XtX(x.transpose().subMatrix(), yy.subMatrix());
+        assertTrue(xx.equals(yy));
+    }
+
+    @Test
+    public void testCholesky() {
+        Matrix x = new Matrix(100, 100);
+        x.randomize(0);
+        Matrix s = SymmetricMatrix.XXt(x);
+        s.diagonal().add(100);
+        // some zeroes in the factor
+        s.set(50, 10, 0);
+        s.set(10, 50, 0);
+        Matrix l = s.clone();
+        SymmetricMatrix.lcholesky(l);
+        Matrix r = s.clone();
+        unblockedCholesky(r);
+        assertTrue(l.equals(r));
+
+        Matrix l2 = s.clone();
+        SymmetricMatrix.lcholesky(l2, 1e-9);
+        assertTrue(l.equals(l2));
+    }
+
+    private static void unblockedCholesky(Matrix m) {
+        double[] data = m.data_;
+        int n = m.nrows_;
+        for (int i = 0, idiag = 0; i < n; ++i, idiag += n + 1) {
+            double aii = data[idiag];
+            for (int j = i; j < idiag; j += n) {
+                double x = data[j];
+                aii -= x * x;
+            }
+            aii = Math.sqrt(aii);
+            data[idiag] = aii;
+            int ymax = (i + 1) * n;
+            for (int jx = i; jx < idiag; jx += n) {
+                double temp = data[jx];
+                if (temp != 0) {
+                    for (int ia = jx + 1, iy = idiag + 1; iy < ymax; ++ia, ++iy) {
+                        data[iy] -= temp * data[ia];
+                    }
+                }
+            }
+            for (int iy = idiag + 1; iy < ymax; ++iy) {
+                data[iy] /= aii;
+            }
+        }
+        m.toLower();
+    }
+}
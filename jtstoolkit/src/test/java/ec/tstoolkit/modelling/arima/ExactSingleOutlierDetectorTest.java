@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ * 
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved 
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ * 
+ * http://ec.europa.eu/idabc/eupl
+ * 
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and 
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.modelling.arima;
+
+import data.Data;
+import ec.tstoolkit.arima.IArimaModel;
+import ec.tstoolkit.arima.estimation.AnsleyFilter;
+import ec.tstoolkit.arima.estimation.IArmaFilter;
+import ec.tstoolkit.arima.estimation.RegArimaModel;
+import ec.tstoolkit.data.DataBlock;
+import ec.tstoolkit.data.IReadDataBlock;
+import ec.tstoolkit.modelling.IRobustStandardDeviationComputer;
+import ec.tstoolkit.modelling.DefaultTransformationType;
+import ec.tstoolkit.sarima.SarimaModel;
+import ec.tstoolkit.timeseries.regression.AdditiveOutlierFactory;
+import ec.tstoolkit.timeseries.regression.IOutlierVariable;
+import ec.tstoolkit.timeseries.regression.LevelShiftFactory;
+import ec.tstoolkit.timeseries.regression.SeasonalOutlierFactory;
+import ec.tstoolkit.timeseries.regression.TransitoryChangeFactory;
+import ec.tstoolkit.timeseries.simplets.TsDomain;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class ExactSingleOutlierDetectorTest {
+
+    public ExactSingleOutlierDetectorTest() {
+    }
+
+    @Test
+    public void testParallel() {
+        ModelDescription desc = new ModelDescription(Data.P, null);
+        desc.setAirline(true);
+        desc.setTransformation(DefaultTransformationType.Log);
+        RegArimaModel<SarimaModel> regarima = desc.buildRegArima();
+        TsDomain domain = desc.getEstimationDomain();
+
+        ExactSingleOutlierDetector<SarimaModel> seq = create(false);
+        ExactSingleOutlierDetector<SarimaModel> par = create(true);
+        seq.prepare(domain, null);
+        par.prepare(domain, null);
+        for (int k = 0; k < 3; ++k) {
+            assertTrue(seq.process(regarima));
+            assertTrue(par.process(regarima));
+            compare(seq, par);
+            // the largest outlier is added to the model
+            IOutlierVariable o = seq.getMaxOutlier();
+            double[] xo = new double[regarima.getObsCount()];
+            o.data(domain.getStart(), new DataBlock(xo));
+            regarima.addX(new DataBlock(xo));
+            seq.exclude(o);
+            par.exclude(o);
+        }
+    }
+
+    @Test
+    public void testIncremental() {
+        ModelDescription desc = new ModelDescription(Data.P, null);
+        desc.setAirline(true);
+        desc.setTransformation(DefaultTransformationType.Log);
+        RegArimaModel<SarimaModel> regarima = desc.buildRegArima();
+        TsDomain domain = desc.getEstimationDomain();
+        int n = regarima.getObsCount();
+
+        ExactSingleOutlierDetector<SarimaModel> full = create(false);
+        CountingFilter filter = new CountingFilter(new AnsleyFilter(), new AtomicInteger());
+        ExactSingleOutlierDetector<SarimaModel> inc = create(new ExactSingleOutlierDetector<>(IRobustStandardDeviationComputer.mad(), filter), true);
+        inc.setIncremental(true);
+        full.prepare(domain, null);
+        inc.prepare(domain, null);
+        IOutlierVariable first = null;
+        for (int k = 0; k < 4; ++k) {
+            int count = filter.count.get();
+            assertTrue(full.process(regarima));
+            assertTrue(inc.process(regarima));
+            compare(full, inc, 1e-9);
+            if (k > 0) {
+                // the outliers are not filtered again
+                assertTrue(filter.count.get() - count < n);
+            }
+            if (k == 3) {
+                break;
+            }
+            // the largest outlier is added to the model, which is not re-estimated
+            IOutlierVariable o = full.getMaxOutlier();
+            if (first == null) {
+                first = o;
+            }
+            double[] xo = new double[n];
+            o.data(domain.getStart(), new DataBlock(xo));
+            regarima.addX(new DataBlock(xo));
+            full.exclude(o);
+            inc.exclude(o);
+        }
+        // the first outlier leaves the model
+        regarima.removeX(0);
+        full.allow(first);
+        inc.allow(first);
+        int count = filter.count.get();
+        assertTrue(full.process(regarima));
+        assertTrue(inc.process(regarima));
+        compare(full, inc, 1e-9);
+        assertTrue(filter.count.get() - count < n);
+    }
+
+    private static ExactSingleOutlierDetector<SarimaModel> create(boolean parallel) {
+        return create(new ExactSingleOutlierDetector<>(), parallel);
+    }
+
+    private static ExactSingleOutlierDetector<SarimaModel> create(ExactSingleOutlierDetector<SarimaModel> sod, boolean parallel) {
+        sod.setParallelProcessing(parallel);
+        sod.addOutlierFactory(new AdditiveOutlierFactory());
+        sod.addOutlierFactory(new LevelShiftFactory());
+        sod.addOutlierFactory(new TransitoryChangeFactory());
+        sod.addOutlierFactory(new SeasonalOutlierFactory());
+        return sod;
+    }
+
+    private static void compare(ExactSingleOutlierDetector<SarimaModel> l, ExactSingleOutlierDetector<SarimaModel> r) {
+        compare(l, r, 0);
+    }
+
+    private static void compare(ExactSingleOutlierDetector<SarimaModel> l, ExactSingleOutlierDetector<SarimaModel> r, double eps) {
+        assertEquals(l.getMaxPosition(), r.getMaxPosition());
+        assertEquals(l.getMaxOutlierType(), r.getMaxOutlierType());
+        for (int i = 0; i < l.getDomain().getLength(); ++i) {
+            for (int j = 0; j < l.getOutlierFactoriesCount(); ++j) {
+                assertEquals(l.isDefined(i, j), r.isDefined(i, j));
+                assertEquals(l.T(i, j), r.T(i, j), eps * Math.max(1, Math.abs(l.T(i, j))));
+            }
+        }
+    }
+
+    // counts the filtered series (shared by the exemplars)
+    private static final class CountingFilter implements IArmaFilter {
+
+        private final IArmaFilter filter;
+        private final AtomicInteger count;
+
+        CountingFilter(IArmaFilter filter, AtomicInteger count) {
+            this.filter = filter;
+            this.count = count;
+        }
+
+        @Override
+        public void filter(IReadDataBlock inrc, DataBlock outrc) {
+            count.incrementAndGet();
+            filter.filter(inrc, outrc);
+        }
+
+        @Override
+        public double getLogDeterminant() {
+            return filter.getLogDeterminant();
+        }
+
+        @Override
+        public int initialize(IArimaModel model, int length) {
+            return filter.initialize(model, length);
+        }
+
+        @Override
+        public IArmaFilter exemplar() {
+            return new CountingFilter(filter.exemplar(), count);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved 
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and 
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.modelling.arima.tramo;
+
+import data.Data;
+import ec.tstoolkit.data.DataBlock;
+import ec.tstoolkit.modelling.arima.PreprocessingModel;
+import ec.tstoolkit.sarima.SarimaComponent;
+import ec.tstoolkit.sarima.SarmaSpecification;
+import ec.tstoolkit.sarima.estimation.HannanRissanen;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class ArmaModuleTest {
+
+    public ArmaModuleTest() {
+    }
+
+    @Test
+    public void testParallel() {
+        PreprocessingModel model = TramoSpecification.TRfull.build().process(Data.P, null);
+        SarimaComponent arima = model.description.getArimaComponent();
+        DataBlock res = model.estimation.getLinearizedData();
+        DataBlock dres = new DataBlock(res.getLength() - arima.getDifferencingOrder());
+        arima.getDifferencingFilter().filter(res, dres);
+        SarmaSpecification maxspec = new SarmaSpecification(12);
+        maxspec.setP(3);
+        maxspec.setQ(3);
+        maxspec.setBP(1);
+        maxspec.setBQ(1);
+
+        ArmaModule seq = new ArmaModule();
+        seq.setParallelProcessing(false);
+        HannanRissanen hseq = seq.tramo(dres, maxspec, arima.getD(), arima.getBD(), true);
+        ArmaModule par = new ArmaModule();
+        HannanRissanen hpar = par.tramo(dres, maxspec, arima.getD(), arima.getBD(), true);
+        assertEquals(hseq.getSpec(), hpar.getSpec());
+        assertEquals(seq.getCount(), par.getCount());
+        for (int i = 0; i < seq.getCount(); ++i) {
+            assertEquals(seq.HR(i).getSpec(), par.HR(i).getSpec());
+            assertEquals(seq.getPreferedModels()[i].getBIC(), par.getPreferedModels()[i].getBIC(), 0);
+        }
+
+        // full grid
+        int n = seq.sort(dres, maxspec);
+        assertEquals(n, par.sort(dres, maxspec));
+        for (int i = 0; i < n; ++i) {
+            assertEquals(seq.HR(i).getSpec(), par.HR(i).getSpec());
+            assertEquals(seq.getPreferedModels()[i].getBIC(), par.getPreferedModels()[i].getBIC(), 0);
+        }
+    }
+
+    @Test
+    public void testSharedInput() {
+        TsData data = Data.P.log().delta(1).delta(12);
+        DataBlock ddata = new DataBlock(data.internalStorage());
+        HannanRissanen.Input input = new HannanRissanen.Input(ddata);
+        SarmaSpecification spec = new SarmaSpecification(12);
+        spec.setP(1);
+        spec.setQ(1);
+        spec.setBQ(1);
+        HannanRissanen hr1 = new HannanRissanen(), hr2 = new HannanRissanen();
+        assertTrue(hr1.process(ddata, spec));
+        assertTrue(hr2.process(input, spec));
+        double[] p1 = new double[3], p2 = new double[3];
+        hr1.getModel().getParameters().copyTo(p1, 0);
+        hr2.getModel().getParameters().copyTo(p2, 0);
+        assertArrayEquals(p1, p2, 0);
+    }
+}
@@ -131,6 +131,33 @@ public class ISsfTest {
         System.out.println(t1 - t0);
     }
 
+    @Test
+    public void testSteadyState() {
+        SarimaSpecification spec = new SarimaSpecification(12);
+        spec.airline();
+        SarimaModel sarima = new SarimaModel(spec);
+        sarima.setTheta(1, -.3);
+        sarima.setBTheta(1, -.2);
+        SsfArima ssfarima = new SsfArima(sarima);
+        SsfData data = new SsfData(Data.X, null);
+
+        Filter<ISsf> filter = new Filter<>();
+        filter.setSsf(ssfarima);
+        PredictionErrorDecomposition full = new PredictionErrorDecomposition(true);
+        filter.process(data, full);
+        assertEquals(-1, full.getSteadyStatePosition());
+
+        filter.setSteadyStateTolerance(1e-12);
+        PredictionErrorDecomposition steady = new PredictionErrorDecomposition(true);
+        filter.process(data, steady);
+        int pos = steady.getSteadyStatePosition();
+        assertTrue(pos > 0 && pos < data.getCount());
+        assertEquals(pos, filter.getSteadyStatePosition());
+        assertEquals(full.getObsCount(), steady.getObsCount());
+        assertEquals(full.getSsqErr(), steady.getSsqErr(), 1e-9 * full.getSsqErr());
+        assertEquals(full.getLogDeterminant(), steady.getLogDeterminant(), 1e-9);
+    }
+
 //    @Test
     public void demoSsfArima() {
         SarimaSpecification spec = new SarimaSpecification(12);
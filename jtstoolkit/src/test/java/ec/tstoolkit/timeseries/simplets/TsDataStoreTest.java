@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.timeseries.simplets;
+
+import ec.tstoolkit.data.IReadDataBlock;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class TsDataStoreTest {
+
+    public TsDataStoreTest() {
+    }
+
+    private static List<TsData> series() {
+        List<TsData> all = new ArrayList<>();
+        TsFrequency[] freqs = {TsFrequency.Monthly, TsFrequency.Quarterly, TsFrequency.Yearly};
+        for (int i = 0; i < 100; ++i) {
+            TsData s = new TsData(freqs[i % 3], 1960 + i % 40, i % 3 == 1 ? i % 4 : 0, 1 + (i * 37) % 150);
+            Random rnd = new Random(i);
+            s.set(j -> rnd.nextDouble());
+            if (i % 7 == 0) {
+                s.set(0, Double.NaN);
+            }
+            all.add(s);
+        }
+        // empty series
+        all.add(new TsData(TsFrequency.Monthly, 2000, 0, 0));
+        return all;
+    }
+
+    private static void check(List<TsData> all, TsDataStore store) {
+        assertEquals(all.size(), store.size());
+        for (int i = 0; i < all.size(); ++i) {
+            TsData s = all.get(i);
+            assertEquals(s, store.get(i));
+            assertEquals(s.getDomain(), store.getDomain(i));
+            assertEquals(s.getFrequency(), store.getFrequency(i));
+            IReadDataBlock values = store.values(i);
+            assertEquals(s.getLength(), values.getLength());
+            for (int j = 0; j < s.getLength(); ++j) {
+                assertEquals(Double.doubleToLongBits(s.get(j)), Double.doubleToLongBits(values.get(j)));
+                assertEquals(Double.doubleToLongBits(s.get(j)), Double.doubleToLongBits(store.get(i, j)));
+            }
+            if (s.getLength() > 2) {
+                assertEquals(s.get(2), values.rextract(1, 2).get(1), 0);
+            }
+        }
+    }
+
+    @Test
+    public void testBuild() {
+        List<TsData> all = series();
+        TsDataStore.Builder builder = TsDataStore.builder();
+        for (int i = 0; i < all.size(); ++i) {
+            TsData s = all.get(i);
+            int pos = i % 2 == 0 ? builder.add(s) : builder.add(s.getStart(), s);
+            assertEquals(i, pos);
+        }
+        TsDataStore store = builder.build();
+        check(all, store);
+        long n = all.stream().mapToLong(s -> s.getLength()).sum();
+        assertEquals(n, store.getObsCount());
+        // the builder is reset
+        assertEquals(0, builder.build().size());
+    }
+
+    @Test
+    public void testChunks() {
+        List<TsData> all = series();
+        // small chunks, to cross their boundaries
+        TsDataStore.Builder builder = new TsDataStore.Builder(200);
+        all.forEach(builder::add);
+        TsDataStore store = builder.build();
+        check(all, store);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooLong() {
+        new TsDataStore.Builder(10).add(new TsData(TsFrequency.Monthly, 2000, 0, 11));
+    }
+
+    @Test
+    public void testSaveOpen() throws IOException {
+        List<TsData> all = series();
+        TsDataStore.Builder builder = new TsDataStore.Builder(500);
+        all.forEach(builder::add);
+        TsDataStore store = builder.build();
+        // mapped files can't be deleted while they are mapped (Windows)
+        Path file = Files.createTempFile("tsdata", ".store");
+        file.toFile().deleteOnExit();
+        store.save(file);
+        TsDataStore mapped = TsDataStore.open(file);
+        check(all, mapped);
+        // mapped stores can be saved too
+        Path file2 = Files.createTempFile("tsdata", ".store");
+        file2.toFile().deleteOnExit();
+        mapped.save(file2);
+        check(all, TsDataStore.open(file2));
+    }
+}
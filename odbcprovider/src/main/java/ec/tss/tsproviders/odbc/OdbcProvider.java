@@ -65,6 +65,12 @@ public class OdbcProvider extends JdbcProvider<OdbcBean> implements IFileLoader
         return connectionSupplier.isDriverAvailable();
     }
 
+    @Override
+    public void dispose() {
+        super.dispose();
+        connectionSupplier.close();
+    }
+
     @Override
     public String getDisplayName() {
         return "ODBC DSNs";
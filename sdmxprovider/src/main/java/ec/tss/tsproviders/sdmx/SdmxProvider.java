@@ -44,6 +44,7 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map.Entry;
+import java.util.stream.Stream;
 import nbbrd.service.ServiceProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -113,6 +114,13 @@ public class SdmxProvider extends AbstractFileLoader<SdmxSource, SdmxBean> {
         throw new Exception("Unknown factory '" + bean.factory + "'");
     }
 
+    @Override
+    protected int getWeight(SdmxSource data) {
+        return getWeight(data.items.stream()
+                .flatMap(o -> o instanceof SdmxGroup ? ((SdmxGroup) o).series.stream() : Stream.of((SdmxSeries) o))
+                .map(o -> o.data));
+    }
+
     private MetaData getMetaData(SdmxSeries series) {
         MetaData result = new MetaData();
         if (compactNaming) {
@@ -20,8 +20,6 @@ import com.google.common.base.Strings;
 import ec.tss.tsproviders.sdmx.model.SdmxSource;
 import java.io.File;
 import java.io.IOException;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import org.w3c.dom.Document;
 
 /**
@@ -32,20 +30,24 @@ public class CunningPlanFactory implements ISdmxSourceFactory {
 
     public static final String NAME = "Cunning plan";
     final AbstractDocumentFactory[] strategies = {new GenericDocFactory(), new GuessingCompactFactory()};
+    final StreamingSdmxFactory streaming = new StreamingSdmxFactory();
 
     @Override
     public String getName() {
         return NAME;
     }
 
+    /**
+     * Reads a file with the streaming engine, which guesses the format like
+     * the strategies of this factory without loading the whole document.
+     *
+     * @param file
+     * @return
+     * @throws Exception
+     */
     @Override
     public SdmxSource create(File file) throws Exception {
-        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-        factory.setNamespaceAware(true);
-        DocumentBuilder builder = factory.newDocumentBuilder();
-        Document doc = builder.parse(file);
-        doc.getDocumentElement().normalize();
-        return find(doc).create(doc);
+        return streaming.create(file);
     }
 
     public AbstractDocumentFactory find(Document doc) throws IOException {
@@ -0,0 +1,407 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.tsproviders.sdmx.engine;
+
+import com.google.common.collect.ImmutableList;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import com.google.common.collect.Maps;
+import ec.tss.tsproviders.sdmx.model.SdmxGroup;
+import ec.tss.tsproviders.sdmx.model.SdmxItem;
+import ec.tss.tsproviders.sdmx.model.SdmxSeries;
+import ec.tss.tsproviders.sdmx.model.SdmxSource;
+import ec.tss.tsproviders.utils.DataFormat;
+import ec.tss.tsproviders.utils.IParser;
+import ec.tss.tsproviders.utils.ObsGathering;
+import ec.tss.tsproviders.utils.OptionalTsData;
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import nbbrd.io.xml.Stax;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Reads SDMX files with a pull parser instead of a DOM. The series and their
+ * observations are collected while the file is read, so that the memory used
+ * by the parsing doesn't depend on the size of the file.
+ *
+ * The format (generic or compact) is guessed from the first elements of the
+ * data set, with the same rules and the same results as GenericDocFactory and
+ * GuessingCompactFactory.
+ *
+ * @since 2.2.4
+ */
+public class StreamingSdmxFactory implements ISdmxSourceFactory {
+
+    public static final String NAME = "Streaming";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public SdmxSource create(File file) throws Exception {
+        try (InputStream stream = new BufferedInputStream(Files.newInputStream(file.toPath()))) {
+            return create(stream, file.toString());
+        }
+    }
+
+    @NonNull
+    public SdmxSource create(@NonNull InputStream stream, @NonNull String systemId) throws IOException {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        Stax.preventXXE(factory);
+        try {
+            XMLStreamReader reader = factory.createXMLStreamReader(systemId, stream);
+            try {
+                return parse(reader, systemId);
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException ex) {
+            throw Stax.toIOException(ex);
+        }
+    }
+
+    private static SdmxSource parse(XMLStreamReader reader, String systemId) throws XMLStreamException, IOException {
+        // root element
+        while (reader.hasNext() && reader.next() != XMLStreamConstants.START_ELEMENT) {
+        }
+        if (reader.isStartElement()) {
+            while (nextChild(reader)) {
+                if (DATA_SET.equals(reader.getLocalName())) {
+                    return parseDataSet(reader);
+                }
+                skip(reader);
+            }
+        }
+        throw new IOException("Cannot find a suitable SDMX strategy for '" + systemId + "'");
+    }
+
+    private static SdmxSource parseDataSet(XMLStreamReader reader) throws XMLStreamException {
+        Calendar cal = new GregorianCalendar();
+        SdmxSource.Type type = null;
+        List<SdmxItem> items = new ArrayList<>();
+        while (nextChild(reader)) {
+            String name = reader.getLocalName();
+            if (type == null) {
+                if (KEY_FAMILY_REF.equals(name)) {
+                    type = SdmxSource.Type.GENERIC;
+                } else if (SERIES.equals(name) || GROUP.equals(name)) {
+                    type = SdmxSource.Type.COMPACT;
+                }
+            }
+            if (type == SdmxSource.Type.GENERIC && GROUP.equals(name)) {
+                items.add(parseGenericGroup(reader, cal));
+            } else if (type == SdmxSource.Type.GENERIC && SERIES.equals(name)) {
+                items.add(parseGenericSeries(reader, o -> true, cal));
+            } else if (type == SdmxSource.Type.COMPACT && SERIES.equals(name)) {
+                items.add(parseCompactSeries(reader, cal));
+            } else {
+                skip(reader);
+            }
+        }
+        return new SdmxSource(type != null ? type : SdmxSource.Type.COMPACT, ImmutableList.copyOf(items));
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Generic">
+    private static SdmxGroup parseGenericGroup(XMLStreamReader reader, Calendar cal) throws XMLStreamException {
+        List<Map.Entry<String, String>> key = new ArrayList<>();
+        List<Map.Entry<String, String>> attributes = new ArrayList<>();
+        List<SdmxSeries> series = new ArrayList<>();
+        while (nextChild(reader)) {
+            switch (reader.getLocalName()) {
+                case GROUP_KEY:
+                    parseConcepts(reader, key);
+                    break;
+                case ATTRIBUTES:
+                    parseConcepts(reader, attributes);
+                    break;
+                case SERIES:
+                    series.add(parseGenericSeries(reader, o -> !key.contains(o), cal));
+                    break;
+                default:
+                    skip(reader);
+                    break;
+            }
+        }
+        return new SdmxGroup(ImmutableList.copyOf(key), ImmutableList.copyOf(attributes), ImmutableList.copyOf(series));
+    }
+
+    private static SdmxSeries parseGenericSeries(XMLStreamReader reader, Predicate<Map.Entry<String, String>> keyFilter, Calendar cal) throws XMLStreamException {
+        List<Map.Entry<String, String>> key = new ArrayList<>();
+        List<Map.Entry<String, String>> attributes = new ArrayList<>();
+        ObsCollector data = null;
+        while (nextChild(reader)) {
+            switch (reader.getLocalName()) {
+                case SERIES_KEY:
+                    parseConcepts(reader, key);
+                    break;
+                case ATTRIBUTES:
+                    parseConcepts(reader, attributes);
+                    break;
+                case OBS:
+                    if (data == null) {
+                        // the key and the attributes precede the observations
+                        data = new ObsCollector(getGenericTimeFormat(key, attributes), cal);
+                    }
+                    parseGenericObs(reader, data);
+                    break;
+                default:
+                    skip(reader);
+                    break;
+            }
+        }
+        if (data == null) {
+            data = new ObsCollector(getGenericTimeFormat(key, attributes), cal);
+        }
+        return new SdmxSeries(
+                key.stream().filter(keyFilter).collect(toImmutableList()),
+                attributes.stream().filter(keyFilter).collect(toImmutableList()),
+                data.timeFormat, data.build());
+    }
+
+    private static void parseGenericObs(XMLStreamReader reader, ObsCollector data) throws XMLStreamException {
+        String period = null;
+        String value = null;
+        while (nextChild(reader)) {
+            switch (reader.getLocalName()) {
+                case TIME:
+                    period = reader.getElementText();
+                    break;
+                case OBS_VALUE:
+                    value = reader.getAttributeValue(null, VALUE_ATTRIBUTE);
+                    skip(reader);
+                    break;
+                default:
+                    skip(reader);
+                    break;
+            }
+        }
+        data.add(period, value);
+    }
+
+    private static void parseConcepts(XMLStreamReader reader, List<Map.Entry<String, String>> result) throws XMLStreamException {
+        while (nextChild(reader)) {
+            if (VALUE.equals(reader.getLocalName())) {
+                String concept = reader.getAttributeValue(null, CONCEPT_ATTRIBUTE);
+                String value = reader.getAttributeValue(null, VALUE_ATTRIBUTE);
+                if (concept != null && value != null) {
+                    result.add(Maps.immutableEntry(concept, value));
+                }
+            }
+            skip(reader);
+        }
+    }
+
+    private static TimeFormat getGenericTimeFormat(List<Map.Entry<String, String>> key, List<Map.Entry<String, String>> attributes) {
+        String value;
+
+        value = lookupConcept(TIME_FORMAT_ATTRIBUTE, key, attributes);
+        if (value != null) {
+            return TimeFormat.parseByTimeFormat(value);
+        }
+
+        value = lookupConcept(FREQ_ATTRIBUTE, key, attributes);
+        if (value != null) {
+            return TimeFormat.parseByFrequencyCodeId(value);
+        }
+
+        return TimeFormat.UNDEFINED;
+    }
+
+    private static String lookupConcept(String concept, List<Map.Entry<String, String>> key, List<Map.Entry<String, String>> attributes) {
+        for (Map.Entry<String, String> o : key) {
+            if (concept.equals(o.getKey())) {
+                return o.getValue();
+            }
+        }
+        for (Map.Entry<String, String> o : attributes) {
+            if (concept.equals(o.getKey())) {
+                return o.getValue();
+            }
+        }
+        return null;
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Compact">
+    private static SdmxSeries parseCompactSeries(XMLStreamReader reader, Calendar cal) throws XMLStreamException {
+        List<Map.Entry<String, String>> key = new ArrayList<>();
+        String timeFormat = null;
+        String freq = null;
+        // namespace declarations are attributes in a dom
+        for (int i = 0; i < reader.getNamespaceCount(); ++i) {
+            String prefix = reader.getNamespacePrefix(i);
+            String name = prefix == null || prefix.isEmpty() ? XMLNS : XMLNS + ":" + prefix;
+            key.add(Maps.immutableEntry(name, reader.getNamespaceURI(i)));
+        }
+        for (int i = 0; i < reader.getAttributeCount(); ++i) {
+            String name = getAttributeName(reader, i);
+            String value = reader.getAttributeValue(i);
+            if (TIME_FORMAT_ATTRIBUTE.equals(name)) {
+                timeFormat = value;
+            } else {
+                if (FREQ_ATTRIBUTE.equals(name)) {
+                    freq = value;
+                }
+                key.add(Maps.immutableEntry(name, value));
+            }
+        }
+        // attributes are sorted by name in a dom
+        key.sort(Comparator.comparing(Map.Entry::getKey));
+
+        ObsCollector data = new ObsCollector(getCompactTimeFormat(timeFormat, freq), cal);
+        while (nextChild(reader)) {
+            if (OBS.equals(reader.getLocalName())) {
+                String period = null;
+                String value = null;
+                for (int i = 0; i < reader.getAttributeCount(); ++i) {
+                    String name = getAttributeName(reader, i);
+                    if (TIME_PERIOD_ATTRIBUTE.equals(name)) {
+                        period = reader.getAttributeValue(i);
+                    } else if (OBS_VALUE_ATTRIBUTE.equals(name)) {
+                        value = reader.getAttributeValue(i);
+                    }
+                }
+                data.add(period, value);
+            }
+            skip(reader);
+        }
+        return new SdmxSeries(ImmutableList.copyOf(key), ImmutableList.of(), data.timeFormat, data.build());
+    }
+
+    private static TimeFormat getCompactTimeFormat(String timeFormat, String freq) {
+        if (timeFormat != null) {
+            return TimeFormat.parseByTimeFormat(timeFormat);
+        }
+        if (freq != null) {
+            return TimeFormat.parseByFrequencyCodeId(freq);
+        }
+        return TimeFormat.UNDEFINED;
+    }
+
+    private static String getAttributeName(XMLStreamReader reader, int index) {
+        String prefix = reader.getAttributePrefix(index);
+        String localName = reader.getAttributeLocalName(index);
+        return prefix == null || prefix.isEmpty() ? localName : prefix + ":" + localName;
+    }
+    //</editor-fold>
+
+    /**
+     * Moves to the next child of the current element.
+     *
+     * @param reader a reader positioned on the start of an element or on the
+     * end of one of its children
+     * @return true if the reader is positioned on the start of a child, false
+     * if it is positioned on the end of the element
+     * @throws XMLStreamException
+     */
+    private static boolean nextChild(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    return true;
+                case XMLStreamConstants.END_ELEMENT:
+                    return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Skips the current element.
+     *
+     * @param reader a reader positioned on the start of an element; it is
+     * positioned on its end after the call
+     * @throws XMLStreamException
+     */
+    private static void skip(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    ++depth;
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    --depth;
+                    break;
+            }
+        }
+    }
+
+    private static final class ObsCollector {
+
+        final TimeFormat timeFormat;
+        final IParser<Date> toPeriod;
+        final IParser<Number> toValue;
+        final OptionalTsData.Builder2<Date> builder;
+
+        ObsCollector(TimeFormat timeFormat, Calendar cal) {
+            this.timeFormat = timeFormat;
+            this.toPeriod = timeFormat.getParser();
+            this.toValue = DEFAULT_DATA_FORMAT.numberParser();
+            this.builder = OptionalTsData.builderByDate(cal, ObsGathering.includingMissingValues(timeFormat.getFrequency(), timeFormat.getAggregationType()));
+        }
+
+        void add(String period, String value) {
+            Date date = period != null ? toPeriod.parse(period) : null;
+            builder.add(date, date != null && value != null ? toValue.parse(value) : null);
+        }
+
+        OptionalTsData build() {
+            return builder.build();
+        }
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Resources">
+    private static final String DATA_SET = "DataSet";
+    private static final String KEY_FAMILY_REF = "KeyFamilyRef";
+    private static final String GROUP = "Group";
+    private static final String GROUP_KEY = "GroupKey";
+    private static final String SERIES = "Series";
+    private static final String SERIES_KEY = "SeriesKey";
+    private static final String ATTRIBUTES = "Attributes";
+    private static final String VALUE = "Value";
+    private static final String OBS = "Obs";
+    private static final String TIME = "Time";
+    private static final String OBS_VALUE = "ObsValue";
+    private static final String XMLNS = "xmlns";
+
+    private static final String CONCEPT_ATTRIBUTE = "concept";
+    private static final String VALUE_ATTRIBUTE = "value";
+    private static final String TIME_FORMAT_ATTRIBUTE = "TIME_FORMAT";
+    private static final String FREQ_ATTRIBUTE = "FREQ";
+    private static final String TIME_PERIOD_ATTRIBUTE = "TIME_PERIOD";
+    private static final String OBS_VALUE_ATTRIBUTE = "OBS_VALUE";
+
+    private static final DataFormat DEFAULT_DATA_FORMAT = DataFormat.ROOT;
+    //</editor-fold>
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.tsproviders.sdmx.engine;
+
+import com.google.common.collect.Maps;
+import static ec.tss.tsproviders.sdmx.engine.Utils.load;
+import ec.tss.tsproviders.sdmx.model.SdmxGroup;
+import ec.tss.tsproviders.sdmx.model.SdmxItem;
+import ec.tss.tsproviders.sdmx.model.SdmxSeries;
+import ec.tss.tsproviders.sdmx.model.SdmxSource;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import static org.junit.Assert.*;
+import org.junit.Test;
+import org.w3c.dom.Document;
+
+public class StreamingSdmxFactoryTest {
+
+    private static SdmxSource stream(String name) throws IOException {
+        try (InputStream stream = StreamingSdmxFactoryTest.class.getResourceAsStream(name)) {
+            return new StreamingSdmxFactory().create(stream, name);
+        }
+    }
+
+    private static SdmxSource dom(String name) throws Exception {
+        Document doc = load(name);
+        return new CunningPlanFactory().find(doc).create(doc);
+    }
+
+    @Test
+    public void testSameAsDom() throws Exception {
+        for (String name : new String[]{"/sdmx-generic-sample.xml", "/sdmx-compact-sample.xml", "generic-P1Y.xml", "generic-P1M.xml"}) {
+            assertSourceEquals(dom(name), stream(name));
+        }
+    }
+
+    @Test
+    public void testDetection() throws Exception {
+        assertEquals(SdmxSource.Type.GENERIC, stream("/sdmx-generic-sample.xml").type);
+        assertEquals(SdmxSource.Type.COMPACT, stream("/sdmx-compact-sample.xml").type);
+    }
+
+    @Test(expected = IOException.class)
+    public void testNoDataSet() throws Exception {
+        new StreamingSdmxFactory().create(new ByteArrayInputStream("<root><Header/></root>".getBytes(StandardCharsets.UTF_8)), "test");
+    }
+
+    private static void assertSourceEquals(SdmxSource expected, SdmxSource actual) {
+        assertEquals(expected.type, actual.type);
+        assertEquals(expected.items.size(), actual.items.size());
+        for (int i = 0; i < expected.items.size(); ++i) {
+            assertItemEquals(expected.items.get(i), actual.items.get(i));
+        }
+    }
+
+    private static List<Map.Entry<String, String>> entries(List<? extends Map.Entry<String, String>> list) {
+        return list.stream().map(o -> Maps.immutableEntry(o.getKey(), o.getValue())).collect(Collectors.toList());
+    }
+
+    private static void assertItemEquals(SdmxItem expected, SdmxItem actual) {
+        assertEquals(expected.getClass(), actual.getClass());
+        assertEquals(expected.id, actual.id);
+        assertEquals(entries(expected.key), entries(actual.key));
+        assertEquals(entries(expected.attributes), entries(actual.attributes));
+        if (expected instanceof SdmxGroup) {
+            SdmxGroup eg = (SdmxGroup) expected, ag = (SdmxGroup) actual;
+            assertEquals(eg.series.size(), ag.series.size());
+            for (int i = 0; i < eg.series.size(); ++i) {
+                assertItemEquals(eg.series.get(i), ag.series.get(i));
+            }
+        } else {
+            SdmxSeries es = (SdmxSeries) expected, as = (SdmxSeries) actual;
+            assertEquals(es.timeFormat, as.timeFormat);
+            assertEquals(es.data, as.data);
+        }
+    }
+}
@@ -20,9 +20,11 @@ import com.google.common.collect.ImmutableList;
 import ec.tss.tsproviders.spreadsheet.engine.SpreadSheetSource;
 import ec.tss.tsproviders.spreadsheet.facade.Book;
 import ec.tss.tsproviders.spreadsheet.facade.Book.Factory;
+import ec.tss.tsproviders.spreadsheet.facade.utils.BookFactoryAdapter;
 import java.io.File;
 import java.io.FileFilter;
 import java.io.IOException;
+import java.util.Comparator;
 import java.util.ServiceLoader;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -44,7 +46,7 @@ public final class SpreadSheetAccessor implements FileFilter {
 
     public synchronized ImmutableList<Factory> getFactories() {
         if (factories == null) {
-            factories = ImmutableList.copyOf(ServiceLoader.load(Book.Factory.class));
+            factories = ImmutableList.sortedCopyOf(BY_RANK, ServiceLoader.load(Book.Factory.class));
         }
         return factories;
     }
@@ -62,6 +64,16 @@ public final class SpreadSheetAccessor implements FileFilter {
         return null;
     }
 
+    // same order as in BookFactoryLoader: the native readers (such as xlsx)
+    // come before the wrapped ones (such as poi) that accept the same files
+    private static final Comparator<Book.Factory> BY_RANK = Comparator.comparingInt(SpreadSheetAccessor::getRank).reversed();
+
+    private static int getRank(Book.Factory factory) {
+        return factory instanceof BookFactoryAdapter
+                ? ((BookFactoryAdapter) factory).getRank()
+                : ec.util.spreadsheet.Book.Factory.UNKNOWN_RANK;
+    }
+
     @Override
     public boolean accept(File file) {
         return getFactoryByFile(file) != null;
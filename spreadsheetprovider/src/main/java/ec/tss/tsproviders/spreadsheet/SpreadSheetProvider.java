@@ -95,6 +95,11 @@ public class SpreadSheetProvider extends AbstractFileLoader<SpreadSheetSource, S
         }
     }
 
+    @Override
+    protected int getWeight(SpreadSheetSource data) {
+        return getWeight(data.collections.values().stream().flatMap(o -> o.series.stream()).map(o -> o.data));
+    }
+
     @Override
     public String getDisplayName() {
         return "Spreadsheets";
@@ -43,25 +43,23 @@ abstract class Engine {
     //<editor-fold defaultstate="collapsed" desc="Internal implementation">
     @VisibleForTesting
     static SpreadSheetSource parseSource(Book book, DataFormat df, TsFrequency freq, TsAggregationType aggregation, boolean clean) throws IOException {
-        return parseSource(book, df.dateParser(), df.numberParser(), freq, aggregation, clean);
+        int sheetCount = book.getSheetCount();
+        SpreadSheetCollection[] result = new SpreadSheetCollection[sheetCount];
+        // the parsers of the data format are not thread-safe; each sheet gets its own
+        book.parallelForEach((sheet, i) -> result[i] = parseCollection(sheet, i, CellParser.onStringType(), toDate(df.dateParser()), toNumber(df.numberParser()), freq, aggregation, clean));
+        return new SpreadSheetSource(Arrays.asList(result), book.getFactoryName());
     }
 
     @VisibleForTesting
     static SpreadSheetSource parseSource(Book book, IParser<Date> dateParser, IParser<Number> numberParser, TsFrequency freq, TsAggregationType aggregation, boolean clean) throws IOException {
-        CellParser<String> toName = CellParser.onStringType();
-        CellParser<Date> toDate = CellParser.onDateType().or(CellParser.fromParser(dateParser));
-        CellParser<Number> toNumber = CellParser.onNumberType().or(CellParser.fromParser(numberParser));
-
-        return parseSource(book, toName, toDate, toNumber, freq, aggregation, clean);
+        return parseSource(book, CellParser.onStringType(), toDate(dateParser), toNumber(numberParser), freq, aggregation, clean);
     }
 
     @VisibleForTesting
     static SpreadSheetSource parseSource(Book book, CellParser<String> toName, CellParser<Date> toDate, CellParser<Number> toNumber, TsFrequency frequency, TsAggregationType aggregationType, boolean clean) throws IOException {
         int sheetCount = book.getSheetCount();
         SpreadSheetCollection[] result = new SpreadSheetCollection[sheetCount];
-        for (int i = 0; i < result.length; i++) {
-            result[i] = parseCollection(book.getSheet(i), i, toName, toDate, toNumber, frequency, aggregationType, clean);
-        }
+        book.forEach((sheet, i) -> result[i] = parseCollection(sheet, i, toName, toDate, toNumber, frequency, aggregationType, clean));
         return new SpreadSheetSource(Arrays.asList(result), book.getFactoryName());
     }
 
@@ -95,6 +93,14 @@ abstract class Engine {
         return SpreadSheetCollection.AlignType.UNKNOWN;
     }
 
+    private static CellParser<Date> toDate(IParser<Date> dateParser) {
+        return CellParser.onDateType().or(CellParser.fromParser(dateParser));
+    }
+
+    private static CellParser<Number> toNumber(IParser<Number> numberParser) {
+        return CellParser.onNumberType().or(CellParser.fromParser(numberParser));
+    }
+
     private static final int FIRST_DATA_ROW_IDX = 1;
     private static final int FIRST_DATA_COL_IDX = 1;
     private static final int DATE_COL_IDX = 0;
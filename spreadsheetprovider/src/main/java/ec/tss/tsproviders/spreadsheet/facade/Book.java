@@ -29,6 +29,7 @@ import java.io.OutputStream;
 import java.net.URL;
 import java.util.AbstractList;
 import java.util.List;
+import java.util.function.ObjIntConsumer;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 /**
@@ -75,6 +76,34 @@ public abstract class Book implements Closeable {
     @NonNull
     abstract public String getFactoryName();
 
+    /**
+     * Performs an action on each sheet of this book, in the order of the
+     * sheets.
+     *
+     * @param action a non-null action
+     * @throws IOException if something goes wrong during loading
+     * @since 2.2.4
+     */
+    public void forEach(@NonNull ObjIntConsumer<? super Sheet> action) throws IOException {
+        int sheetCount = getSheetCount();
+        for (int i = 0; i < sheetCount; i++) {
+            action.accept(getSheet(i), i);
+        }
+    }
+
+    /**
+     * Performs an action on each sheet of this book. Some implementations
+     * load the sheets concurrently, so that the action must be thread-safe.
+     * The default implementation is sequential.
+     *
+     * @param action a non-null thread-safe action
+     * @throws IOException if something goes wrong during loading
+     * @since 2.2.4
+     */
+    public void parallelForEach(@NonNull ObjIntConsumer<? super Sheet> action) throws IOException {
+        forEach(action);
+    }
+
     /**
      * Closes this book and releases any resources associated with it.
      *
@@ -25,6 +25,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URL;
 import java.util.Date;
+import java.util.function.ObjIntConsumer;
 
 /**
  *
@@ -44,6 +45,17 @@ public class BookFactoryAdapter extends Book.Factory {
         return adaptee.getName();
     }
 
+    /**
+     * Returns the rank of the adapted factory.
+     *
+     * @return a rank
+     * @see ec.util.spreadsheet.Book.Factory#getRank()
+     * @since 2.2.4
+     */
+    public int getRank() {
+        return adaptee.getRank();
+    }
+
     @Override
     public boolean canLoad() {
         return adaptee.canLoad();
@@ -226,6 +238,16 @@ public class BookFactoryAdapter extends Book.Factory {
             return factoryName;
         }
 
+        @Override
+        public void forEach(ObjIntConsumer<? super Sheet> action) throws IOException {
+            adaptee.forEach((sheet, index) -> action.accept(new ToSheetAdapter(sheet), index));
+        }
+
+        @Override
+        public void parallelForEach(ObjIntConsumer<? super Sheet> action) throws IOException {
+            adaptee.parallelForEach((sheet, index) -> action.accept(new ToSheetAdapter(sheet), index));
+        }
+
         @Override
         public void close() throws IOException {
             adaptee.close();
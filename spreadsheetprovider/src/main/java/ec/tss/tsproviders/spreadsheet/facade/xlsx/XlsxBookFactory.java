@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.tsproviders.spreadsheet.facade.xlsx;
+
+import ec.tss.tsproviders.spreadsheet.facade.Book;
+import ec.tss.tsproviders.spreadsheet.facade.utils.BookFactoryAdapter;
+import nbbrd.service.ServiceProvider;
+
+/**
+ * Read-only factory of xlsx books. The shared strings and the sheets are
+ * parsed event by event (SAX) instead of through the POI user model, and the
+ * sheets can be parsed concurrently with {@link Book#parallelForEach}.
+ *
+ * @since 2.2.4
+ */
+@Deprecated
+@ServiceProvider(Book.Factory.class)
+public class XlsxBookFactory extends BookFactoryAdapter {
+
+    public XlsxBookFactory() {
+        super(new spreadsheet.xlsx.XlsxBookFactory());
+    }
+
+}
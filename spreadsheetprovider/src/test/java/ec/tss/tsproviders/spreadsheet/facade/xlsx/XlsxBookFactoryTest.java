@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.tsproviders.spreadsheet.facade.xlsx;
+
+import ec.tss.tsproviders.spreadsheet.SpreadSheetAccessor;
+import ec.tss.tsproviders.spreadsheet.engine.SpreadSheetCollection;
+import ec.tss.tsproviders.spreadsheet.engine.SpreadSheetSeries;
+import ec.tss.tsproviders.spreadsheet.engine.SpreadSheetSource;
+import ec.tss.tsproviders.spreadsheet.facade.Book;
+import ec.tss.tsproviders.spreadsheet.facade.poi.ExcelBookFactory;
+import ec.tss.tsproviders.utils.DataFormat;
+import ec.tstoolkit.timeseries.TsAggregationType;
+import ec.tstoolkit.timeseries.simplets.TsFrequency;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.GregorianCalendar;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class XlsxBookFactoryTest {
+
+    private static File file;
+
+    @BeforeClass
+    public static void beforeClass() throws IOException {
+        file = File.createTempFile("xlsx", ".xlsx");
+        file.deleteOnExit();
+        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd"));
+            for (int s = 0; s < 4; s++) {
+                Sheet sheet = workbook.createSheet("Sheet " + s);
+                Row header = sheet.createRow(0);
+                header.createCell(0).setCellValue("Date");
+                for (int j = 1; j <= 3; j++) {
+                    header.createCell(j).setCellValue("S" + s + "-" + j);
+                }
+                for (int i = 1; i <= 120; i++) {
+                    Row row = sheet.createRow(i);
+                    row.createCell(0).setCellValue(new GregorianCalendar(2000, i - 1, 1).getTime());
+                    row.getCell(0).setCellStyle(dateStyle);
+                    for (int j = 1; j <= 3; j++) {
+                        if ((i + j) % 17 != 0) {
+                            row.createCell(j).setCellValue(s * 1000 + i * j / 4.0);
+                        }
+                    }
+                }
+            }
+            try (OutputStream stream = new FileOutputStream(file)) {
+                workbook.write(stream);
+            }
+        }
+    }
+
+    @Test
+    public void testSameAsPoi() throws IOException {
+        SpreadSheetSource expected = load(new ExcelBookFactory());
+        SpreadSheetSource actual = load(new XlsxBookFactory());
+
+        assertThat(actual.collections.keySet()).containsExactlyElementsOf(expected.collections.keySet());
+        for (SpreadSheetCollection o : expected.collections.values()) {
+            SpreadSheetCollection other = actual.collections.get(o.sheetName);
+            assertThat(other.alignType).isEqualTo(o.alignType);
+            assertThat(other.ordering).isEqualTo(o.ordering);
+            assertThat(other.series).hasSize(o.series.size());
+            for (int i = 0; i < o.series.size(); i++) {
+                SpreadSheetSeries series = o.series.get(i);
+                assertThat(other.series.get(i).seriesName).isEqualTo(series.seriesName);
+                assertThat(other.series.get(i).data).isEqualTo(series.data);
+            }
+        }
+        assertThat(actual.collections.get("Sheet 2").series.get(0).data.get().getLength()).isEqualTo(120);
+    }
+
+    @Test
+    public void testReadOnly() {
+        XlsxBookFactory factory = new XlsxBookFactory();
+        assertThat(factory.canLoad()).isTrue();
+        assertThat(factory.canStore()).isFalse();
+        assertThat(factory.accept(file)).isTrue();
+    }
+
+    @Test
+    public void testAccessorPrefersXlsx() {
+        assertThat(SpreadSheetAccessor.INSTANCE.getFactories().stream().filter(o -> o.canLoad() && o.accept(file)).findFirst())
+                .containsInstanceOf(XlsxBookFactory.class);
+    }
+
+    private static SpreadSheetSource load(Book.Factory factory) throws IOException {
+        try (Book book = factory.load(file)) {
+            return SpreadSheetSource.load(book, DataFormat.DEFAULT, TsFrequency.Undefined, TsAggregationType.None, false);
+        }
+    }
+}
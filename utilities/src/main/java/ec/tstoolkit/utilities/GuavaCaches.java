@@ -61,6 +61,26 @@ public final class GuavaCaches {
         return GuavaCaches.<K, V>softValuesCache().asMap();
     }
 
+    /**
+     * Creates a cache that evicts the least recently used entries once it
+     * reaches a maximum number of entries.
+     *
+     * @param <K>
+     * @param <V>
+     * @param maxSize the maximum number of entries
+     * @return a non-null cache
+     * @since 2.2.4
+     */
+    @NonNull
+    public static <K, V> Cache<K, V> lruCache(long maxSize) {
+        return CacheBuilder.newBuilder().maximumSize(maxSize).build();
+    }
+
+    @NonNull
+    public static <K, V> ConcurrentMap<K, V> lruCacheAsMap(long maxSize) {
+        return GuavaCaches.<K, V>lruCache(maxSize).asMap();
+    }
+
     @NonNull
     public static <K, V> V getOrThrowIOException(@NonNull LoadingCache<K, V> cache, @NonNull K key) throws IOException {
         try {